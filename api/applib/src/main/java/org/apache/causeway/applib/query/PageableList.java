@@ -0,0 +1,71 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.List;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+
+import lombok.NonNull;
+
+/**
+ * A {@link List} of the instances matching a {@link Query}, that allows for its elements
+ * to be paged and counted at the source (the database), rather than loading them all.
+ *
+ * <p>
+ *     When returned from a collection's getter, viewers rendering the collection as a table
+ *     fetch just the page of instances to be shown (pushing down offset and limit to the
+ *     repository) and count the instances with a SELECT COUNT, for as long as the table is
+ *     neither sorted nor filtered. The elements of the list as such are only loaded (once)
+ *     on first access via any of the {@link List} methods other than {@link #size()}.
+ * </p>
+ *
+ * <p>
+ *     <b>Note:</b> as paging is done by the database, elements are filtered for visibility (if so configured)
+ *     page by page as these are fetched, but not before being counted. Pages may hence hold fewer elements than
+ *     requested, and the count may include instances the user may not see; ideally, the query matches only
+ *     instances the user may see.
+ * </p>
+ *
+ * @see RepositoryService#allMatchesPageable(Query)
+ * @since 2.0 {@index}
+ */
+public interface PageableList<T> extends List<T> {
+
+    /**
+     * Returns the instances of given {@link QueryRange range}, relative to this list
+     * (that is, within the range of the underlying query, if any).
+     */
+    List<T> page(@NonNull QueryRange range);
+
+    /**
+     * Returns the number of instances, as counted by the database, unless already loaded.
+     */
+    @Override
+    int size();
+
+    // -- FACTORIES
+
+    static <T> PageableList<T> ofQuery(
+            final @NonNull RepositoryService repositoryService,
+            final @NonNull Query<T> query) {
+        return new _PageableListDefault<>(repositoryService, query);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.internal.base._Lazy;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+final class _PageableListDefault<T>
+extends AbstractList<T>
+implements PageableList<T> {
+
+    private final @NonNull RepositoryService repositoryService;
+    private final @NonNull Query<T> query;
+
+    private final _Lazy<List<T>> elements = _Lazy.threadSafe(this::loadAll);
+    private final _Lazy<Integer> count = _Lazy.threadSafe(this::countAll);
+
+    @Override
+    public List<T> page(final @NonNull QueryRange range) {
+        if(elements.isMemoized()) {
+            var all = elements.get();
+            var from = (int) Math.min(range.getStart(), all.size());
+            var to = range.hasLimit()
+                    ? (int) Math.min(range.getEnd(), all.size())
+                    : all.size();
+            return all.subList(from, to);
+        }
+        var baseRange = query.getRange();
+        var start = baseRange.getStart() + range.getStart();
+        var limit = range.getLimit();
+        if(baseRange.hasLimit()) {
+            var remaining = Math.max(0L, baseRange.getLimit() - range.getStart());
+            limit = range.hasLimit()
+                    ? Math.min(range.getLimit(), remaining)
+                    : remaining;
+            if(limit==0L) {
+                // a limit of zero would mean unconstrained
+                return Collections.emptyList();
+            }
+        }
+        return repositoryService.allMatches(query.withRange(start, limit));
+    }
+
+    @Override
+    public int size() {
+        return elements.isMemoized()
+                ? elements.get().size()
+                : count.get();
+    }
+
+    @Override
+    public T get(final int index) {
+        return elements.get().get(index);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        // don't count, just to iterate
+        return elements.get().iterator();
+    }
+
+    // -- HELPER
+
+    private List<T> loadAll() {
+        return Collections.unmodifiableList(repositoryService.allMatches(query));
+    }
+
+    private int countAll() {
+        return Math.toIntExact(repositoryService.count(query));
+    }
+
+}
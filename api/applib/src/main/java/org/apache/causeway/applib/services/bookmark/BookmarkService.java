@@ -20,6 +20,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
 
@@ -83,6 +84,20 @@ public interface BookmarkService {
      */
     Optional<Object> lookup(@Nullable Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #lookup(Bookmark)}, fetching entities of the same type
+     * within a single round trip.
+     *
+     * @param bookmarks - representing domain objects
+     * @return - the corresponding domain objects, same size and order as {@code bookmarks};
+     *      with an empty {@link Optional} for each that could not be found (or is {@code null})
+     */
+    default List<Optional<Object>> lookupAll(@NonNull final List<Bookmark> bookmarks) {
+        return bookmarks.stream()
+                .map(this::lookup)
+                .collect(Collectors.toList());
+    }
+
     // -- SHORTCUTS
 
     /**
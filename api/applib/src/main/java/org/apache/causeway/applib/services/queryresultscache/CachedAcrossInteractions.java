@@ -0,0 +1,63 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts the results that a method caches using {@link QueryResultsCache} in to being cached
+ * application-wide, that is, across interactions, rather than just for the duration of a single interaction.
+ *
+ * <p>
+ *     Intended for queries of reference data that rarely changes. The annotated method is the one whose name
+ *     is passed in to {@link QueryResultsCache#execute(java.util.concurrent.Callable, Class, String, Object...)}
+ *     as the <code>methodName</code>, and the arguments passed in as <code>keys</code> should be values
+ *     (rather than entities). Overloads are told apart by those keys, which hence must correspond to the
+ *     annotated method's parameters, in number and type.
+ * </p>
+ *
+ * <p>
+ *     Results are shared across interactions, hence are only cached if they consist of immutable values
+ *     and (bookmarkable) entities; the latter are looked up again for each interaction.
+ * </p>
+ *
+ * <p>
+ *     Has no effect unless a {@link QueryResultsCacheApplicationWide} implementation is available and enabled
+ *     (for the framework's default implementation, see
+ *     <code>causeway.core.runtime-services.query-results-cache.application-wide.enabled</code>).
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedAcrossInteractions {
+
+    /**
+     * The entity types the cached results depend upon: entries are evicted whenever an entity of any of these types
+     * (or a subtype) is persisted, updated or removed.
+     */
+    Class<?>[] evictOn();
+
+}
@@ -60,6 +60,11 @@
  * algorithm of the business logic can remain easy to understand.
  * </p>
  *
+ * <p>
+ * Methods annotated with {@link CachedAcrossInteractions} additionally have their results cached
+ * application-wide, if a {@link QueryResultsCacheApplicationWide} implementation is available.
+ * </p>
+ *
  * @since 1.x {@index}
  */
 @Component
@@ -185,8 +190,10 @@ private <T> T executeWithCaching(final Callable<T> callable, final Key cacheKey)
                 return _Casts.uncheckedCast(cacheValue.getResult());
             }
 
-            // cache miss, so get the result...
-            T result = callable.call();
+            // cache miss, so get the result (possibly cached across interactions) ...
+            T result = isCachedAcrossInteractions(cacheKey)
+                    ? applicationWideCache.execute(callable, cacheKey)
+                    : callable.call();
 
             // ... and cache
             //
@@ -236,9 +243,17 @@ public void destroy() throws Exception {
     @Autowired(required = false)
     protected List<QueryResultsCacheControl> cacheControl;
 
+    @Autowired(required = false)
+    protected QueryResultsCacheApplicationWide applicationWideCache;
+
     private boolean isIgnoreCache() {
         return _NullSafe.stream(cacheControl)
                 .anyMatch(c->c.isIgnoreCache());
     }
 
+    private boolean isCachedAcrossInteractions(final Key cacheKey) {
+        return applicationWideCache != null
+                && applicationWideCache.isCachedAcrossInteractions(cacheKey);
+    }
+
 }
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.queryresultscache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * SPI for an optional second tier of the {@link QueryResultsCache}, shared across interactions,
+ * for methods annotated with {@link CachedAcrossInteractions}.
+ *
+ * <p>
+ *     The {@link QueryResultsCache} consults this tier on a miss of its own (interaction-scoped) cache.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface QueryResultsCacheApplicationWide {
+
+    /**
+     * Whether results for given key are to be cached across interactions.
+     */
+    boolean isCachedAcrossInteractions(QueryResultsCache.Key cacheKey);
+
+    /**
+     * Returns the result for given key cached across interactions, else executes the callable and caches its result.
+     */
+    <T> T execute(Callable<T> callable, QueryResultsCache.Key cacheKey) throws Exception;
+
+}
@@ -22,9 +22,11 @@
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.query.PageableList;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
 
@@ -180,9 +182,46 @@ default void persistAndFlush(final Object... domainObjects) {
      * <p>
      *     Intended primarily for testing purposes.
      * </p>
+     *
+     * <p>
+     *     Same as {@link #removeAll(Query)} for {@link Query#allInstances(Class)}, hence
+     *     if entity change publishing is disabled for the type, <i>no</i> lifecycle callbacks
+     *     (such as {@code removing} lifecycle events or JPA's {@code @PreRemove})
+     *     are triggered for any of the removed instances.
+     * </p>
      */
     <T> void removeAll(Class<T> cls);
 
+    /**
+     * Removes all instances that match the given {@link Query}, whose
+     * {@link Query#getRange() range} (if any) must be unconstrained.
+     *
+     * <p>
+     *     If entity change publishing is disabled for the type, the instances are
+     *     deleted set-based (typically using a single DELETE statement), that is,
+     *     without being loaded and without any per-object lifecycle callbacks.
+     *     Otherwise they are removed one by one, as per {@link #remove(Object)}.
+     * </p>
+     *
+     * <p>
+     *     Pending changes are flushed before deleting set-based. Afterwards instances of the type
+     *     held on to are no longer attached.
+     *     Types, that the ORM cannot delete set-based (eg. those mapping collections, cascading removal
+     *     or dependent objects), are loaded and deleted one by one instead.
+     * </p>
+     *
+     * @return the number of instances removed
+     * @implSpec the default implementation removes the result of {@link #allMatches(Query)} one by one,
+     *      as per {@link #remove(Object)}
+     * @see #removeAll(Class)
+     * @since 2.0
+     */
+    default <T> long removeAll(final Query<T> query) {
+        var instances = allMatches(query);
+        instances.forEach(this::remove);
+        return instances.size();
+    }
+
     /**
      * Returns all persisted instances of specified type (including subtypes).
      *
@@ -301,6 +340,83 @@ <T> List<T> allMatches(
      */
     <T> List<T> allMatches(Query<T> query);
 
+    /**
+     * Streaming variant of {@link #allMatches(Query)}, for queries with potentially large results,
+     * using the configured default fetch size.
+     *
+     * <p>
+     *     Instances are fetched from the database in batches as the stream is consumed,
+     *     rather than all being loaded up-front. The stream must be consumed (and should be
+     *     closed) within the current transaction.
+     * </p>
+     *
+     * @implSpec the default implementation is not lazy, but streams the result of {@link #allMatches(Query)}
+     * @see #streamMatches(Query, int)
+     * @since 2.0
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query) {
+        return allMatches(query).stream();
+    }
+
+    /**
+     * Overload of {@link #streamMatches(Query)}, with given {@code fetchSize}, that is the
+     * number of rows to be fetched from the database per round trip.
+     *
+     * @implSpec the default implementation ignores the {@code fetchSize}
+     *      and delegates to {@link #streamMatches(Query)}
+     * @since 2.0
+     */
+    default <T> Stream<T> streamMatches(final Query<T> query, final int fetchSize) {
+        return streamMatches(query);
+    }
+
+    /**
+     * Returns the number of instances that match the given {@link Query}, taking its
+     * {@link Query#getRange() range} into account.
+     *
+     * <p>
+     *     Where supported by the ORM (JDO or JPA), this is counted by the database
+     *     (SELECT COUNT), without loading any instances:
+     * </p>
+     * <ul>
+     *     <li>for all-instances queries;</li>
+     *     <li>for JDOQL named queries without a result, grouping or range clause (any ordering is ignored);</li>
+     *     <li>for JPA named queries, that have a companion named query (declared with {@code @NamedQuery}
+     *     on any entity) of same name suffixed with {@code .count}, taking the same parameters and
+     *     returning a single {@link Long}, eg. {@code Customer.findByName.count} for
+     *     {@code Customer.findByName}.</li>
+     * </ul>
+     * <p>
+     *     Otherwise all matching rows are fetched from the database just to be counted
+     *     (though not adapted), which is logged as a warning.
+     * </p>
+     *
+     * @implSpec the default implementation counts the result of {@link #allMatches(Query)}
+     * @since 2.0
+     */
+    default long count(final Query<?> query) {
+        return allMatches(query).size();
+    }
+
+    /**
+     * Returns the instances that match the given {@link Query} as a {@link PageableList},
+     * that is loaded lazily and allows for its elements to be paged and counted
+     * by the database.
+     *
+     * <p>
+     *     Intended to be returned from collection getters with potentially large results,
+     *     so that viewers can push down offset and limit (and the counting) to this repository,
+     *     rather than loading all instances.
+     * </p>
+     *
+     * @see #allMatches(Query)
+     * @see #count(Query)
+     * @since 2.0
+     */
+    default <T> PageableList<T> allMatchesPageable(final Query<T> query) {
+        return PageableList.ofQuery(this, query);
+    }
+
     /**
      * Finds the only instance of the specified type (including subtypes) that
      * satifies the (client-side) predicate.
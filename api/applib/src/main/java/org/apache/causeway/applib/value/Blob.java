@@ -20,15 +20,21 @@
 
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.ref.Cleaner;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
@@ -47,6 +53,7 @@
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.image._Images;
 import org.apache.causeway.commons.io.DataSource;
+import org.apache.causeway.commons.io.FileUtils;
 import org.apache.causeway.commons.io.HashUtils;
 import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
 import org.apache.causeway.commons.io.ZipUtils;
@@ -74,6 +81,13 @@
  *         a mime type
  *     </li>
  * </ul>
+ * <p>
+ * The bytes are either held in memory, or - for large content - by a file
+ * (see {@link #ofFile(String, MimeType, File)} and
+ * {@link #tryRead(String, MimeType, DataSource, long)}), in which case they are only
+ * read into memory on demand (eg. by {@link #getBytes()}).
+ * Large content is best consumed via {@link #asDataSource()}, {@link #getContentLength()}
+ * or {@link #writeBytesTo(OutputStream)}, which don't materialize a byte[].
  *
  * @see Clob
  * @since 1.x {@index}
@@ -86,6 +100,17 @@ public final class Blob implements NamedWithMimeType {
 
     private static final long serialVersionUID = SerializationProxy.serialVersionUID;
 
+    /**
+     * Content larger than this is spooled to a temporary file by
+     * {@link #tryRead(String, MimeType, DataSource, long)}, if not specified otherwise.
+     */
+    public static final long DEFAULT_IN_MEMORY_THRESHOLD_IN_BYTES = 1024 * 1024;
+
+    /**
+     * Deletes temporary files, once their (spooled) {@link Blob} has become unreachable.
+     */
+    private static final Cleaner TEMP_FILE_CLEANER = Cleaner.create();
+
     // -- FACTORIES
 
     /**
@@ -133,10 +158,76 @@ public static Try<Blob> tryRead(final String name, final CommonMimeType mimeType
         return tryRead(name, mimeType, DataSource.ofFile(file));
     }
 
+    /**
+     * Returns a new {@link Blob} of given {@code name}, {@code mimeType} and content from {@code dataSource},
+     * wrapped with a {@link Try}.
+     * <p>
+     * Content not exceeding {@code inMemoryThresholdInBytes} is held in memory,
+     * otherwise it is spooled to a temporary file, which is deleted once the resulting {@link Blob}
+     * has become unreachable. Unlike with {@link #tryRead(String, CommonMimeType, DataSource)},
+     * the content is never read into a single byte[] in the latter case.
+     *
+     * @param name - used as is
+     * @param mimeType
+     * @param dataSource - the {@link DataSource} to be opened for reading
+     * @param inMemoryThresholdInBytes - see {@link #DEFAULT_IN_MEMORY_THRESHOLD_IN_BYTES}
+     * @return new {@link Blob}
+     */
+    public static Try<Blob> tryRead(
+            final String name,
+            final MimeType mimeType,
+            final DataSource dataSource,
+            final long inMemoryThresholdInBytes) {
+        return dataSource.tryReadAndApply(inputStream->{
+            var head = inputStream.readNBytes((int) Math.min(inMemoryThresholdInBytes + 1, Integer.MAX_VALUE - 8));
+            if(head.length <= inMemoryThresholdInBytes) {
+                return new Blob(name, mimeType, head);
+            }
+            var tempFile = File.createTempFile("causeway-blob", ".tmp");
+            try(var os = new FileOutputStream(tempFile)) {
+                os.write(head);
+                inputStream.transferTo(os);
+            } catch (IOException e) {
+                Files.deleteIfExists(tempFile.toPath());
+                throw e;
+            }
+            var blob = new Blob(name, mimeType, tempFile);
+            var tempPath = tempFile.toPath();
+            TEMP_FILE_CLEANER.register(blob, ()->{
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException e) {
+                    log.warn("failed to delete temporary file {}", tempPath, e);
+                }
+            });
+            return blob;
+        });
+    }
+
+    /**
+     * Returns a new {@link Blob} of given {@code name} and {@code mimeType},
+     * that has its content backed by given {@code file}, which hence must neither be modified nor
+     * deleted while in use.
+     * <p>
+     * The content is only read into memory on demand.
+     *
+     * @param name - used as is
+     * @param mimeType
+     * @param file - must exist
+     * @return new {@link Blob}
+     */
+    public static Blob ofFile(final String name, final MimeType mimeType, final File file) {
+        return new Blob(name, mimeType, FileUtils.existingFileElseFail(file));
+    }
+
      // --
 
     private final MimeType mimeType;
-    private final byte[] bytes;
+    /**
+     * either {@code bytes} or {@code file} is set, but not both
+     */
+    private final @Nullable byte[] bytes;
+    private final @Nullable File file;
     private final String name;
 
     public Blob(final String name, final String primaryType, final String subtype, final byte[] bytes) {
@@ -163,6 +254,23 @@ public Blob(final String name, final MimeType mimeType, final byte[] bytes) {
         this.name = name;
         this.mimeType = mimeType;
         this.bytes = bytes;
+        this.file = null;
+    }
+
+    private Blob(final String name, final MimeType mimeType, final File file) {
+        if(name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        if(mimeType == null) {
+            throw new IllegalArgumentException("MimeType cannot be null");
+        }
+        if(name.contains(":")) {
+            throw new IllegalArgumentException("Name cannot contain ':'");
+        }
+        this.name = name;
+        this.mimeType = mimeType;
+        this.bytes = null;
+        this.file = file;
     }
 
     @Override
@@ -175,8 +283,24 @@ public MimeType getMimeType() {
         return mimeType;
     }
 
+    /**
+     * Returns the content as byte[], which for file backed {@link Blob}s
+     * involves reading the entire file into memory (on each call).
+     * @see #asDataSource()
+     */
     public byte[] getBytes() {
-        return bytes;
+        return bytes!=null
+                ? bytes
+                : DataSource.ofFile(file).bytes();
+    }
+
+    /**
+     * Returns the number of bytes of the content, without reading it into memory.
+     */
+    public long getContentLength() {
+        return bytes!=null
+                ? bytes.length
+                : file.length();
     }
 
     // -- UTILITIES
@@ -199,6 +323,8 @@ public void writeBytesTo(final @Nullable OutputStream os) {
         }
         if(bytes!=null) {
             os.write(bytes);
+        } else {
+            Files.copy(file.toPath(), os);
         }
     }
 
@@ -224,11 +350,33 @@ public void writeTo(final @Nullable File file) {
     }
 
     /**
-     * Returns a new {@link DataSource} for underlying byte array.
+     * Returns a new {@link DataSource} for underlying byte array or file.
+     * <p>
+     * For file backed {@link Blob}s, {@link DataSource#getFile()} provides the backing file,
+     * which is guaranteed to exist for as long as the returned {@link DataSource} is reachable.
      * @see DataSource
      */
     public DataSource asDataSource() {
-        return DataSource.ofBytes(_NullSafe.toNonNull(getBytes()));
+        if(bytes!=null) {
+            return DataSource.ofBytes(_NullSafe.toNonNull(bytes));
+        }
+        final Blob blob = this; // keeps a spooled temporary file from being deleted, while the DataSource is in use
+        return new DataSource() {
+            @Override public <T> Try<T> tryReadAll(final @NonNull Function<InputStream, Try<T>> consumingMapper) {
+                return Try.call(()->{
+                    try(final InputStream is = new FileInputStream(blob.file)) {
+                        return consumingMapper.apply(is);
+                    }
+                })
+                .mapSuccessAsNullable(wrappedTry->wrappedTry.valueAsNullableElseFail());
+            }
+            @Override public Optional<File> getFile() {
+                return Optional.of(blob.file);
+            }
+            @Override public String getDescription() {
+                return String.format("Blob[name=%s] backed by file %s", blob.name, blob.file.getAbsolutePath());
+            }
+        };
     }
 
     /**
@@ -269,7 +417,9 @@ public Blob unZip(final @NonNull CommonMimeType resultingMimeType, final @NonNul
     // -- HASHING
 
     public Try<HashUtils.Hash> tryHash(final @NonNull HashAlgorithm hashAlgorithm) {
-        return HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024); // 4k default
+        return bytes!=null
+                ? HashUtils.tryDigest(hashAlgorithm, bytes, 4*1024) // 4k default
+                : HashUtils.tryDigest(hashAlgorithm, asDataSource(), 4*1024);
     }
 
     public String md5Hex() {
@@ -294,20 +444,71 @@ public boolean equals(final Object o) {
             return false;
         final Blob blob = (Blob) o;
         return Objects.equals(mimeType.toString(), blob.mimeType.toString()) &&
-                Arrays.equals(bytes, blob.bytes) &&
-                Objects.equals(name, blob.name);
+                Objects.equals(name, blob.name) &&
+                contentEquals(blob);
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(mimeType.toString(), name);
-        result = 31 * result + Arrays.hashCode(bytes);
+        result = 31 * result + contentHashCode();
         return result;
     }
 
     @Override
     public String toString() {
-        return getName() + " [" + getMimeType().getBaseType() + "]: " + getBytes().length + " bytes";
+        return getName() + " [" + getMimeType().getBaseType() + "]: " + getContentLength() + " bytes";
+    }
+
+    private boolean contentEquals(final Blob other) {
+        if(bytes!=null
+                && other.bytes!=null) {
+            return Arrays.equals(bytes, other.bytes);
+        }
+        if(getContentLength()!=other.getContentLength()) {
+            return false;
+        }
+        return asDataSource().tryReadAndApply(is->
+                    other.asDataSource().tryReadAndApply(otherIs->contentEquals(is, otherIs))
+                    .valueAsNonNullElseFail())
+                .valueAsNonNullElseFail();
+    }
+
+    private static boolean contentEquals(final InputStream a, final InputStream b) throws IOException {
+        var bufferA = new byte[8 * 1024];
+        var bufferB = new byte[bufferA.length];
+        while(true) {
+            var readA = a.readNBytes(bufferA, 0, bufferA.length);
+            var readB = b.readNBytes(bufferB, 0, bufferB.length);
+            if(readA!=readB
+                    || !Arrays.equals(bufferA, 0, readA, bufferB, 0, readB)) {
+                return false;
+            }
+            if(readA<bufferA.length) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link Arrays#hashCode(byte[])} of the content, but without reading a file into memory.
+     */
+    private int contentHashCode() {
+        if(bytes!=null) {
+            return Arrays.hashCode(bytes);
+        }
+        return asDataSource().tryReadAndApply(is->{
+                    var buffer = new byte[8 * 1024];
+                    int result = 1;
+                    int read;
+                    while((read = is.read(buffer))>=0) {
+                        for(int i = 0; i < read; i++) {
+                            result = 31 * result + buffer[i];
+                        }
+                    }
+                    return result;
+                })
+                .valueAsNonNullElseFail();
     }
 
     /**
@@ -396,6 +597,9 @@ private static class SerializationProxy implements Serializable {
         private final String mimeTypeBase;
         private final byte[] bytes;
 
+        /**
+         * @implNote materializes the content of file backed {@link Blob}s
+         */
         private SerializationProxy(final Blob blob) {
             this.name = blob.getName();
             this.mimeTypeBase = blob.getMimeType().getBaseType();
@@ -212,6 +212,22 @@ public Blob toBlobUtf8() {
         return toBlob(StandardCharsets.UTF_8);
     }
 
+    /**
+     * Returns a new {@link DataSource} for the underlying chars, encoded with given {@link Charset}
+     * while being read, that is, without creating the entire encoded byte[] up front (as {@link #toBlob(Charset)} does).
+     * @see DataSource
+     */
+    public DataSource asDataSource(final @NonNull Charset charset) {
+        return DataSource.ofCharSequence(getChars(), charset);
+    }
+
+    /**
+     * Shortcut for {@link #asDataSource(Charset)} using {@link StandardCharsets#UTF_8}.
+     */
+    public DataSource asDataSourceUtf8() {
+        return asDataSource(StandardCharsets.UTF_8);
+    }
+
     public void writeCharsTo(final Writer wr) throws IOException {
         if(wr!=null && chars!=null){
             wr.append(chars);
@@ -0,0 +1,131 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.repository.RepositoryService;
+
+class PageableListTest {
+
+    private final static List<Long> ALL = LongStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    private RepositoryService repositoryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repositoryService = Mockito.mock(RepositoryService.class);
+        // simulates the database, honoring the query's range
+        when(repositoryService.allMatches(any(Query.class))).thenAnswer(invocation->{
+            var range = ((Query<?>)invocation.getArgument(0)).getRange();
+            return ALL.stream()
+                    .skip(range.getStart())
+                    .limit(range.hasLimit() ? range.getLimit() : Long.MAX_VALUE)
+                    .collect(Collectors.toList());
+        });
+        when(repositoryService.count(any(Query.class))).thenAnswer(invocation->{
+            var range = ((Query<?>)invocation.getArgument(0)).getRange();
+            return (long) ALL.stream()
+                    .skip(range.getStart())
+                    .limit(range.hasLimit() ? range.getLimit() : Long.MAX_VALUE)
+                    .count();
+        });
+    }
+
+    @Test
+    void page_pushesDownRange_withoutLoadingAll() {
+        var list = PageableList.ofQuery(repositoryService, Query.named(Long.class, "findAll"));
+
+        assertThat(list.page(QueryRange.of(20, 10)), is(ALL.subList(20, 30)));
+        assertThat(list.size(), is(100));
+
+        var queryCaptor = queryCaptor();
+        verify(repositoryService, times(1)).allMatches(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().getRange(), is(QueryRange.of(20, 10)));
+        verify(repositoryService, times(1)).count(any());
+    }
+
+    @Test
+    void page_isRelativeToRangeOfQuery() {
+        var list = PageableList.ofQuery(repositoryService,
+                Query.named(Long.class, "findAll").withRange(QueryRange.of(10, 25)));
+
+        assertThat(list.size(), is(25));
+        assertThat(list.page(QueryRange.of(0, 10)), is(ALL.subList(10, 20)));
+        // last page is truncated to the range of the query
+        assertThat(list.page(QueryRange.of(20, 10)), is(ALL.subList(30, 35)));
+        assertThat(list.page(QueryRange.start(20)), is(ALL.subList(30, 35)));
+        // beyond the range of the query
+        assertThat(list.page(QueryRange.of(30, 10)).isEmpty(), is(true));
+    }
+
+    @Test
+    void listAccess_loadsOnce_thenPagesInMemory() {
+        var list = PageableList.ofQuery(repositoryService, Query.named(Long.class, "findAll"));
+
+        assertThat(list.get(42), is(42L));
+        assertThat(list.size(), is(100));
+        assertThat(list.page(QueryRange.of(95, 10)), is(ALL.subList(95, 100)));
+
+        verify(repositoryService, times(1)).allMatches(any());
+        verify(repositoryService, never()).count(any());
+    }
+
+    @Test
+    void iteration_doesNotCount() {
+        var list = PageableList.ofQuery(repositoryService, Query.named(Long.class, "findAll"));
+
+        assertThat(list.stream().collect(Collectors.toList()), is(ALL));
+
+        verify(repositoryService, never()).count(any());
+    }
+
+    @Test
+    void allMatchesPageable_isBackedByRepository() {
+        when(repositoryService.allMatchesPageable(any())).thenCallRealMethod();
+
+        var list = repositoryService.allMatchesPageable(Query.named(Long.class, "findAll"));
+
+        assertThat(list.page(QueryRange.of(0, 3)), is(ALL.subList(0, 3)));
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static ArgumentCaptor<Query<?>> queryCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(Query.class);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.services.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import org.apache.causeway.applib.query.Query;
+
+class RepositoryServiceTest {
+
+    static class Customer {}
+
+    private RepositoryService repositoryService;
+    private Query<Customer> query;
+    private List<Customer> customers;
+
+    @BeforeEach
+    void setUp() {
+        // only the default methods are real
+        repositoryService = Mockito.mock(RepositoryService.class, Mockito.CALLS_REAL_METHODS);
+        query = Query.allInstances(Customer.class).withLimit(2);
+        customers = List.of(new Customer(), new Customer());
+        doReturn(customers).when(repositoryService).allMatches(query);
+    }
+
+    @Test
+    void streamMatches_fallsBackToAllMatches() {
+        assertEquals(customers, repositoryService.streamMatches(query).collect(Collectors.toList()));
+        verify(repositoryService).allMatches(query);
+    }
+
+    @Test
+    void streamMatches_withFetchSize_fallsBackToAllMatches() {
+        assertEquals(customers, repositoryService.streamMatches(query, 10).collect(Collectors.toList()));
+        verify(repositoryService).allMatches(query);
+    }
+
+    @Test
+    void count_fallsBackToAllMatches() {
+        assertEquals(2L, repositoryService.count(query));
+        verify(repositoryService).allMatches(query);
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.applib.value;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.io.DataSource;
+
+class Blob_tryRead_Test {
+
+    private byte[] bytes;
+
+    @BeforeEach
+    void setup() {
+        var rd = new Random(9999); // fixed seed - reproducible tests
+        this.bytes = new byte[16*1024];
+        rd.nextBytes(bytes);
+    }
+
+    @Test
+    void contentNotExceedingThreshold_isHeldInMemory() {
+        var blob = Blob.tryRead("name.bin", CommonMimeType.BIN.getMimeType(), DataSource.ofBytes(bytes), bytes.length)
+                .valueAsNonNullElseFail();
+
+        assertFalse(blob.asDataSource().getFile().isPresent());
+        assertArrayEquals(bytes, blob.getBytes());
+    }
+
+    @Test
+    void contentExceedingThreshold_isSpooledToFile() {
+        var blob = Blob.tryRead("name.bin", CommonMimeType.BIN.getMimeType(), DataSource.ofBytes(bytes), 1024)
+                .valueAsNonNullElseFail();
+
+        var file = blob.asDataSource().getFile().orElseThrow();
+        assertTrue(file.exists());
+        assertEquals(bytes.length, file.length());
+        assertEquals(bytes.length, blob.getContentLength());
+        assertArrayEquals(bytes, blob.getBytes());
+
+        var os = new ByteArrayOutputStream();
+        blob.writeBytesTo(os);
+        assertArrayEquals(bytes, os.toByteArray());
+    }
+
+    @Test
+    void fileBackedBlob_equalsInMemoryBlob_ofSameContent() {
+        var inMemory = new Blob("name.bin", CommonMimeType.BIN.getMimeType(), bytes);
+        var spooled = Blob.tryRead("name.bin", CommonMimeType.BIN.getMimeType(), DataSource.ofBytes(bytes), 0)
+                .valueAsNonNullElseFail();
+
+        assertEquals(inMemory, spooled);
+        assertEquals(spooled, inMemory);
+        assertEquals(inMemory.hashCode(), spooled.hashCode());
+        assertEquals(inMemory.md5Hex(), spooled.md5Hex());
+    }
+
+}
@@ -48,6 +48,13 @@ public T getValue() {
             return lazyValue.get();
         }
 
+        /**
+         * Whether the value was already computed (and not invalidated since).
+         */
+        public boolean isMemoized() {
+            return lazyValue.isMemoized();
+        }
+
         public void invalidate() {
             lazyValue.clear();
             super.fireValueChanged();
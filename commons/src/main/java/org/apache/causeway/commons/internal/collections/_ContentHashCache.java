@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * <h1>- internal use only -</h1>
+ * <p>
+ * Bounded, thread-safe cache of values derived from (possibly large) text content,
+ * for example rendered HTML. Entries are keyed by the content's SHA-256 digest,
+ * such that the content itself is not retained.
+ * The cache is bounded by the (estimated) weight in bytes of its entries, rather than
+ * their number, as values may vary greatly in size: once {@code maxWeightInBytes} is exceeded,
+ * least recently used entries are evicted.
+ * </p>
+ * <p>
+ * <b>WARNING</b>: Do <b>NOT</b> use any of the classes provided by this package! <br/>
+ * These may be changed or removed without notice!
+ * </p>
+ *
+ * @since 2.0
+ */
+public final class _ContentHashCache {
+
+    /**
+     * Estimated weight of an entry, not counting its value's characters:
+     * the digest (key) and the overhead of the entry, the key's buffer and the value's string.
+     */
+    static final int ENTRY_OVERHEAD_IN_BYTES = 32 + 128;
+
+    public static _ContentHashCache ofMaxWeightInBytes(final long maxWeightInBytes) {
+        return new _ContentHashCache(maxWeightInBytes);
+    }
+
+    @Getter private final long maxWeightInBytes;
+    private final LinkedHashMap<ByteBuffer, String> entries;
+    private long weightInBytes; // guarded by entries
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private _ContentHashCache(final long maxWeightInBytes) {
+        this.maxWeightInBytes = maxWeightInBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, /*accessOrder*/true);
+    }
+
+    /**
+     * Returns the cached value for given {@code content}, else computes it using given {@code mappingFunction}.
+     * <p>
+     * The mapping function is called without holding any lock, hence concurrent calls for the same
+     * (not yet cached) content might both compute it.
+     * Values that on their own exceed {@code maxWeightInBytes} are not cached.
+     */
+    public String computeIfAbsent(
+            final @Nullable String content,
+            final @NonNull UnaryOperator<String> mappingFunction) {
+        if(content==null
+                || maxWeightInBytes<1) {
+            return mappingFunction.apply(content);
+        }
+        var key = digest(content);
+        String value;
+        synchronized(entries) {
+            value = entries.get(key);
+        }
+        if(value!=null) {
+            hitCount.incrementAndGet();
+            return value;
+        }
+        missCount.incrementAndGet();
+        value = mappingFunction.apply(content);
+        if(value!=null
+                && weightOf(value)<=maxWeightInBytes) {
+            synchronized(entries) {
+                var replaced = entries.put(key, value);
+                weightInBytes += weightOf(value) - (replaced!=null ? weightOf(replaced) : 0L);
+                evictWhileOverweight();
+            }
+        }
+        return value;
+    }
+
+    public void clear() {
+        synchronized(entries) {
+            entries.clear();
+            weightInBytes = 0L;
+        }
+    }
+
+    // -- METRICS
+
+    public int size() {
+        synchronized(entries) {
+            return entries.size();
+        }
+    }
+
+    public long getWeightInBytes() {
+        synchronized(entries) {
+            return weightInBytes;
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ContentHashCache[size=%d,weightInBytes=%d,maxWeightInBytes=%d,hits=%d,misses=%d]",
+                size(), getWeightInBytes(), maxWeightInBytes, getHitCount(), getMissCount());
+    }
+
+    // -- HELPER
+
+    /**
+     * Estimates the weight of an entry with given value, assuming 2 bytes per character
+     * (that is, not accounting for compact strings).
+     */
+    static long weightOf(final String value) {
+        return ENTRY_OVERHEAD_IN_BYTES + 2L * value.length();
+    }
+
+    // guarded by entries
+    private void evictWhileOverweight() {
+        var iterator = entries.values().iterator(); // least recently used first
+        while(weightInBytes>maxWeightInBytes
+                && iterator.hasNext()) {
+            weightInBytes -= weightOf(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static ByteBuffer digest(final String content) {
+        return ByteBuffer.wrap(HashAlgorithm.SHA256.tryGetMessageDigest()
+                .valueAsNonNullElseFail()
+                .digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
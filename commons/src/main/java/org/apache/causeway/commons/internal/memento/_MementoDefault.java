@@ -114,7 +114,20 @@ static Memento parse(
         if(_NullSafe.isEmpty(str)) {
             return null;
         }
-        try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(codec.decode(str))) {
+        try {
+            return parse(codec, serializer, codec.decode(str));
+        } catch (Exception e) {
+            throw _Exceptions.illegalArgument(e,
+                    "failed to parse memento from serialized string '%s'",
+                    _Strings.ellipsifyAtEnd(str, 200, "..."));
+        }
+    }
+
+    static Memento parse(
+            final @NonNull EncoderDecoder codec,
+            final SerializingAdapter serializer,
+            final @NonNull byte[] decoded) {
+        try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(decoded)) {
             //override ObjectInputStream's class-loading
             @Override
             protected Class<?> resolveClass(ObjectStreamClass desc)
@@ -128,9 +141,7 @@ protected Class<?> resolveClass(ObjectStreamClass desc)
             final HashMap<String, Serializable> valuesByKey = _Casts.uncheckedCast(ois.readObject());
             return new _MementoDefault(codec, serializer, valuesByKey);
         } catch (Exception e) {
-            throw _Exceptions.illegalArgument(e,
-                    "failed to parse memento from serialized string '%s'",
-                    _Strings.ellipsifyAtEnd(str, 200, "..."));
+            throw _Exceptions.illegalArgument(e, "failed to parse memento from %d bytes", decoded.length);
         }
     }
 
@@ -158,6 +158,29 @@ public static Memento parse(
         return _MementoDefault.parse(codec, serializer, input);
     }
 
+    /**
+     * Variant of {@link #parse(EncoderDecoder, SerializingAdapter, String)},
+     * for when the caller already has the input decoded,
+     * that is, as returned by {@link EncoderDecoder#decode(String)}.
+     *
+     * @param codec (required)
+     * @param serializer (required)
+     * @param decoded (required)
+     * @return {@code empty()} if {@code decoded} is empty
+     *
+     * @throws IllegalArgumentException if parsing fails
+     */
+    public static Memento parse(
+            final EncoderDecoder codec,
+            final SerializingAdapter serializer,
+            final byte[] decoded) {
+
+        if(decoded.length==0) {
+            return empty();
+        }
+        return _MementoDefault.parse(codec, serializer, decoded);
+    }
+
     // -- EMPTY MEMENTO
 
     private static final class EmptyMemento implements Memento {
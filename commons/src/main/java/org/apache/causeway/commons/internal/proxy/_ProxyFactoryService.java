@@ -33,6 +33,13 @@ <T> _ProxyFactory<T> factory(
 
     <T> _ProxyFactory<T> factory(Class<T> toProxyClass, Class<?> additionalClass);
 
+    /**
+     * Releases any cached proxy factories or generated proxy classes,
+     * eg. when the metamodel gets disposed.
+     */
+    default void clearCache() {
+    }
+
     /**
      * Marker interface for entities/services that have been enhanced with
      * the framework's proxy factory.
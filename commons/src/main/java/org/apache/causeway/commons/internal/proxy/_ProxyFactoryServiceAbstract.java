@@ -47,6 +47,11 @@ public <T> _ProxyFactory<T> factory(final Class<T> classToBeProxied, final Class
         return proxyFactory;
     }
 
+    @Override
+    public void clearCache() {
+        proxyFactoryByClass.clear();
+    }
+
     private <T> _ProxyFactory<T> createFactory(
             final Class<T> classToBeProxied,
             final Class<?> additionalClass) {
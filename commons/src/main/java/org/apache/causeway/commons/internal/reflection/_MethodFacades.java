@@ -23,10 +23,13 @@
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.internal._Constants;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -34,6 +37,9 @@
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedType;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
@@ -159,6 +165,15 @@ default ResolvedConstructor asConstructorElseFail() {
         }
         boolean isAnnotatedAsNullable();
 
+        /**
+         * Returns the invocation helper for the underlying method, as created by given {@code factory}
+         * on first call and then memoized by this facade,
+         * such that it is dropped along with the meta-model holding this facade.
+         * <p>
+         * Concurrent first calls may each invoke the {@code factory}, but all of them get the same helper.
+         */
+        <T> T getInvocationHelper(@NonNull Function<MethodFacade, T> factory);
+
         default ResolvedType resolveMethodReturn() {
             return _GenericResolver.forMethodReturn(this.asMethodForIntrospection());
         }
@@ -183,6 +198,9 @@ private final static class RegularMethod implements MethodFacade {
 
         private final ResolvedMethod method;
 
+        @Getter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+        private final AtomicReference<Object> invocationHelper = new AtomicReference<>();
+
         @Override public Class<?> getDeclaringClass() {
             return method.method().getDeclaringClass();
         }
@@ -232,6 +250,14 @@ private final static class RegularMethod implements MethodFacade {
                     .map(annot->annot.annotationType().getSimpleName())
                     .anyMatch(name->name.equals("Nullable"));
         }
+        @Override public <T> T getInvocationHelper(final @NonNull Function<MethodFacade, T> factory) {
+            var helper = invocationHelper.get();
+            if(helper==null) {
+                invocationHelper.compareAndSet(null, factory.apply(this));
+                helper = invocationHelper.get();
+            }
+            return _Casts.uncheckedCast(helper);
+        }
         @Override public String toString() {
             return method.method().toString();
         }
@@ -243,6 +269,9 @@ private final static class ParamsAsTupleMethod implements MethodFacade {
         private final ResolvedConstructor patConstructor;
         private final ResolvedMethod method;
 
+        @Getter(AccessLevel.NONE) @EqualsAndHashCode.Exclude
+        private final AtomicReference<Object> invocationHelper = new AtomicReference<>();
+
         @Override public Class<?>[] getParameterTypes() {
             return patConstructor.paramTypes();
         }
@@ -295,6 +324,14 @@ public Object[] getArguments(final Object[] executionParameters, ParameterConver
                     .map(annot->annot.annotationType().getSimpleName())
                     .anyMatch(name->name.equals("Nullable"));
         }
+        @Override public <T> T getInvocationHelper(final @NonNull Function<MethodFacade, T> factory) {
+            var helper = invocationHelper.get();
+            if(helper==null) {
+                invocationHelper.compareAndSet(null, factory.apply(this));
+                helper = invocationHelper.get();
+            }
+            return _Casts.uncheckedCast(helper);
+        }
         @Override public String toString() {
             return method.method().toString();
         }
@@ -0,0 +1,96 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+import lombok.NonNull;
+
+/**
+ * {@link InputStream} that encodes a {@link CharSequence} on the fly, one buffer at a time,
+ * rather than converting it into a byte array (or a {@link String}) up front.
+ * <p>
+ * Malformed or unmappable characters are replaced, as {@link String#getBytes(Charset)} does.
+ */
+final class CharSequenceInputStream extends InputStream {
+
+    private final CharBuffer chars;
+    private final CharsetEncoder encoder;
+    /** encoded bytes, ready to be read */
+    private final ByteBuffer bytes;
+    private boolean flushed;
+
+    CharSequenceInputStream(final @NonNull CharSequence chars, final @NonNull Charset charset, final int bufferSize) {
+        this.chars = CharBuffer.wrap(chars);
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(Math.max(bufferSize, (int) Math.ceil(encoder.maxBytesPerChar()) * 2));
+        this.bytes.flip(); // nothing encoded yet
+    }
+
+    @Override
+    public int read() {
+        return fill()
+                ? bytes.get() & 0xFF
+                : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        if(len==0) {
+            return 0;
+        }
+        if(!fill()) {
+            return -1;
+        }
+        var n = Math.min(len, bytes.remaining());
+        bytes.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return bytes.remaining();
+    }
+
+    /**
+     * @return whether there are bytes left to read
+     */
+    private boolean fill() {
+        while(!bytes.hasRemaining()) {
+            if(flushed) {
+                return false;
+            }
+            bytes.clear();
+            // all of the input is available, hence endOfInput is always true
+            if(encoder.encode(chars, bytes, true).isUnderflow()) {
+                flushed = encoder.flush(bytes).isUnderflow();
+            }
+            bytes.flip();
+        }
+        return true;
+    }
+
+}
@@ -335,6 +335,20 @@ static DataSource ofStringUtf8(final @Nullable String string) {
         return ofString(string, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Creates a {@link DataSource} for given {@link CharSequence},
+     * encoding it on the fly each time it is read,
+     * hence without ever holding its entire encoded form in memory.
+     * If <code>null</code> or empty, an 'empty' DataSource is returned.
+     */
+    static DataSource ofCharSequence(final @Nullable CharSequence chars, final @NonNull Charset charset) {
+        return _Strings.isNullOrEmpty(chars)
+                ? empty()
+                : ofInputStreamSupplierInternal(
+                        descriptionForString(chars.subSequence(0, Math.min(chars.length(), 26)).toString()),
+                        ()->new CharSequenceInputStream(chars, charset, 8 * 1024));
+    }
+
     /**
      * Creates a {@link DataSource} for given byte array.
      * If <code>null</code> or empty, an 'empty' DataSource is returned.
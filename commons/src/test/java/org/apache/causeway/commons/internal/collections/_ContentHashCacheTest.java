@@ -0,0 +1,116 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.internal.collections;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class _ContentHashCacheTest {
+
+    private AtomicInteger renderCount;
+    private UnaryOperator<String> renderer;
+
+    @BeforeEach
+    void setup() {
+        renderCount = new AtomicInteger();
+        renderer = content->{
+            renderCount.incrementAndGet();
+            return "<p>" + content + "</p>";
+        };
+    }
+
+    @Test
+    void shouldRenderOncePerContent() {
+        var cache = _ContentHashCache.ofMaxWeightInBytes(10_000);
+
+        assertEquals("<p>a</p>", cache.computeIfAbsent("a", renderer));
+        assertEquals("<p>a</p>", cache.computeIfAbsent(new String("a"), renderer));
+        assertEquals("<p>b</p>", cache.computeIfAbsent("b", renderer));
+
+        assertEquals(2, renderCount.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(2L, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenOverweight() {
+        // room for 2 entries, each the rendering of a single character
+        var cache = _ContentHashCache.ofMaxWeightInBytes(2 * _ContentHashCache.weightOf("<p>a</p>"));
+
+        cache.computeIfAbsent("a", renderer);
+        cache.computeIfAbsent("b", renderer);
+        cache.computeIfAbsent("a", renderer); // 'a' now most recently used
+        cache.computeIfAbsent("c", renderer); // evicts 'b'
+
+        assertEquals(2, cache.size());
+        assertEquals(3, renderCount.get());
+        assertEquals(2 * _ContentHashCache.weightOf("<p>a</p>"), cache.getWeightInBytes());
+
+        cache.computeIfAbsent("a", renderer);
+        assertEquals(3, renderCount.get());
+        cache.computeIfAbsent("b", renderer);
+        assertEquals(4, renderCount.get());
+    }
+
+    @Test
+    void shouldEvictByWeight_notByCount() {
+        var cache = _ContentHashCache.ofMaxWeightInBytes(3 * _ContentHashCache.weightOf("<p>a</p>"));
+
+        cache.computeIfAbsent("a", renderer);
+        cache.computeIfAbsent("b", renderer);
+        cache.computeIfAbsent("c", renderer);
+        assertEquals(3, cache.size());
+
+        // a single heavy entry, evicts as many light ones as needed
+        cache.computeIfAbsent("d".repeat(_ContentHashCache.ENTRY_OVERHEAD_IN_BYTES), renderer);
+        assertEquals(1, cache.size());
+        assertTrue(cache.getWeightInBytes() <= cache.getMaxWeightInBytes());
+    }
+
+    @Test
+    void shouldNotCacheValuesHeavierThanMaxWeight() {
+        var cache = _ContentHashCache.ofMaxWeightInBytes(_ContentHashCache.weightOf("<p>a</p>"));
+
+        cache.computeIfAbsent("a", renderer);
+        cache.computeIfAbsent("too heavy", renderer);
+        cache.computeIfAbsent("too heavy", renderer);
+
+        assertEquals(3, renderCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() {
+        var cache = _ContentHashCache.ofMaxWeightInBytes(0);
+
+        cache.computeIfAbsent("a", renderer);
+        cache.computeIfAbsent("a", renderer);
+
+        assertEquals(2, renderCount.get());
+        assertEquals(0, cache.size());
+    }
+
+}
@@ -19,10 +19,12 @@
 package org.apache.causeway.commons.io;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.springframework.core.io.FileSystemResource;
@@ -58,6 +60,15 @@ void string() {
         assertEquals(Optional.empty(), ds.getFile());
     }
     
+    @Test
+    void charSequence() {
+        // multi-byte chars (incl. a surrogate pair) crossing the internal buffer boundaries
+        var text = "Grüße, \uD83D\uDE00 ".repeat(2_000);
+        var ds = DataSource.ofCharSequence(new StringBuilder(text), StandardCharsets.UTF_8);
+        assertEquals("String-Resource[Grüße, \uD83D\uDE00 Grüße, \uD83D\uDE00 Gr...]", ds.getDescription());
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), ds.bytes());
+    }
+
     @Test
     void classResource() {
         var ds = DataSource.ofResource(getClass(), "/path/to/resource");
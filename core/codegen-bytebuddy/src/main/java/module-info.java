@@ -20,6 +20,7 @@
     exports org.apache.causeway.core.codegen.bytebuddy.services;
     exports org.apache.causeway.core.codegen.bytebuddy;
 
+    requires java.annotation;
     requires net.bytebuddy;
     requires org.apache.causeway.commons;
     requires spring.context;
@@ -20,10 +20,16 @@
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.util.function.Function;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
 
 import org.springframework.lang.Nullable;
 import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.objenesis.instantiator.ObjectInstantiator;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.commons.internal._Constants;
@@ -33,16 +39,47 @@
 import org.apache.causeway.commons.internal.proxy._ProxyFactory;
 import org.apache.causeway.commons.internal.proxy._ProxyFactoryServiceAbstract;
 
+import lombok.NonNull;
+import lombok.Value;
+
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.NamingStrategy;
-import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ImplementationDefinition;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
 
+/**
+ * Generates proxy classes once per (base type, interfaces) combination and
+ * caches them, such that creating a proxy instance is just an instantiation,
+ * followed by binding the {@link InvocationHandler} to the instance.
+ * <p>
+ * The handler is stored in a per instance field of the generated class,
+ * hence it is bound only after the instance was created. Proxy methods
+ * invoked from within a constructor (when using
+ * {@link _ProxyFactory#createInstance(InvocationHandler, Object[])}) are not
+ * supported.
+ */
 @Service
 public class ProxyFactoryServiceByteBuddy extends _ProxyFactoryServiceAbstract {
 
+    /**
+     * Implemented by all proxy classes generated by this service,
+     * allowing to bind the {@link InvocationHandler} per instance.
+     */
+    public static interface InvocationHandlerBinding {
+        void __causeway_bindInvocationHandler(InvocationHandler handler);
+    }
+
+    private static final String HANDLER_FIELD_NAME = "__causeway_invocationHandler";
+
     private final ClassLoadingStrategyAdvisor strategyAdvisor = new ClassLoadingStrategyAdvisor();
+    /**
+     * Not caching instantiators itself, as that would hold on to the proxy classes (and their class loaders)
+     * beyond {@link #clearCache()}; instead these are cached along with the proxy classes.
+     */
+    private final ObjenesisStd objenesis = new ObjenesisStd(false);
+    private final Map<ProxyClassKey, ProxyClass> proxyClassByKey = new ConcurrentHashMap<>();
 
     @Override
     public <T> _ProxyFactory<T> factory(
@@ -50,15 +87,7 @@ public <T> _ProxyFactory<T> factory(
             final Class<?>[] interfaces,
             final Class<?>[] constructorArgTypes) {
 
-        var objenesis = new ObjenesisStd();
-
-        final Function<InvocationHandler, Class<? extends T>> proxyClassFactory = handler->
-        nextProxyDef(base, interfaces)
-        .intercept(InvocationHandlerAdapter.of(handler))
-        .make()
-        .load(_Context.getDefaultClassLoader(),
-                strategyAdvisor.getSuitableStrategy(base))
-        .getLoaded();
+        final ProxyClassKey proxyClassKey = ProxyClassKey.of(base, interfaces);
 
         return new _ProxyFactory<T>() {
 
@@ -98,35 +127,87 @@ public T createInstance(final InvocationHandler handler, final Object[] construc
             // -- HELPER (create w/o initialize)
 
             private Object createNotUsingConstructor(final InvocationHandler invocationHandler) {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                final Object object = objenesis.newInstance(proxyClass);
-                return object;
+                final Object object = proxyClass(proxyClassKey).getInstantiator().newInstance();
+                return bind(object, invocationHandler);
             }
 
             // -- HELPER (create with initialize)
 
             private Object createUsingConstructor(final InvocationHandler invocationHandler, @Nullable final Object[] constructorArgs)
                     throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-                final Class<? extends T> proxyClass = proxyClassFactory.apply(invocationHandler);
-                return proxyClass
+                final Class<?> proxyClass = proxyClass(proxyClassKey).getProxyClass();
+                final Object object = proxyClass
                         .getConstructor(constructorArgTypes==null ? _Constants.emptyClasses : constructorArgTypes)
                         .newInstance(constructorArgs==null ? _Constants.emptyObjects : constructorArgs);
+                return bind(object, invocationHandler);
             }
 
         };
 
     }
 
+    /**
+     * Releases all cached proxy classes (and proxy factories),
+     * eg. when the metamodel gets disposed.
+     */
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        proxyClassByKey.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clearCache();
+    }
+
     // -- HELPER
 
-    private static <T> ImplementationDefinition<T> nextProxyDef(
-            final Class<T> base,
-            final Class<?>[] interfaces) {
-        return new ByteBuddy()
+    @Value(staticConstructor = "of")
+    private static class ProxyClassKey {
+        private final @NonNull Class<?> base;
+        private final @NonNull List<Class<?>> interfaces;
+        static ProxyClassKey of(final Class<?> base, final @Nullable Class<?>[] interfaces) {
+            return of(base, interfaces==null
+                    ? List.of()
+                    : List.copyOf(Arrays.asList(interfaces)));
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ProxyClass {
+        private final @NonNull Class<?> proxyClass;
+        private final @NonNull ObjectInstantiator<?> instantiator;
+    }
+
+    private ProxyClass proxyClass(final ProxyClassKey key) {
+        final ProxyClass proxyClass = proxyClassByKey.get(key);
+        return proxyClass!=null
+                ? proxyClass
+                : proxyClassByKey.computeIfAbsent(key, this::generateProxyClass);
+    }
+
+    private ProxyClass generateProxyClass(final ProxyClassKey key) {
+        final Class<?> base = key.getBase();
+        final Class<?> proxyClass = new ByteBuddy()
                 .with(new NamingStrategy.SuffixingRandom("bb"))
                 .subclass(base)
-                .implement(interfaces)
-                .method(ElementMatchers.any());
+                .implement(key.getInterfaces())
+                .defineField(HANDLER_FIELD_NAME, InvocationHandler.class, Visibility.PRIVATE)
+                .method(ElementMatchers.any())
+                .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD_NAME))
+                .implement(InvocationHandlerBinding.class)
+                .intercept(FieldAccessor.ofField(HANDLER_FIELD_NAME))
+                .make()
+                .load(_Context.getDefaultClassLoader(),
+                        strategyAdvisor.getSuitableStrategy(base))
+                .getLoaded();
+        return ProxyClass.of(proxyClass, objenesis.getInstantiatorOf(proxyClass));
+    }
+
+    private static Object bind(final Object proxy, final InvocationHandler handler) {
+        ((InvocationHandlerBinding) proxy).__causeway_bindInvocationHandler(handler);
+        return proxy;
     }
 
     private static void ensureSameSize(final Class<?>[] a, final Object[] b) {
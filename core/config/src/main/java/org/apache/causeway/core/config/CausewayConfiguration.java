@@ -2034,6 +2034,47 @@ public boolean isDisableAutoFlush() {
                 }
             }
 
+            private final QueryResultsCache queryResultsCache = new QueryResultsCache();
+            @Data
+            public static class QueryResultsCache {
+
+                private final ApplicationWide applicationWide = new ApplicationWide();
+                @Data
+                public static class ApplicationWide {
+
+                    /**
+                     * Whether the results of methods annotated with
+                     * {@link org.apache.causeway.applib.services.queryresultscache.CachedAcrossInteractions} should be
+                     * cached application-wide, that is, across interactions.
+                     *
+                     * <p>
+                     *     Entries are evicted whenever an entity of any of the types they depend upon is persisted,
+                     *     updated or removed.
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * Duration that entries remain in the cache, in minutes; this bounds the staleness of results
+                     * with respect to changes not made through the framework (eg. by other applications).
+                     *
+                     * <p>
+                     *     Default is 60 mins.
+                     * </p>
+                     */
+                    private int expiryDurationInMinutes = 60;
+
+                    /**
+                     * Maximum number of entries (one per method and arguments) in the cache.
+                     *
+                     * <p>
+                     *     Default is 1000
+                     * </p>
+                     */
+                    private int maxSizeInEntries = 1000;
+                }
+            }
+
             private final ExceptionRecognizer exceptionRecognizer = new ExceptionRecognizer();
             @Data
             public static class ExceptionRecognizer {
@@ -2149,6 +2190,13 @@ public static class RepositoryService {
                  * </p>
                  */
                 private boolean disableAutoFlush = false;
+
+                /**
+                 * The number of rows to be fetched from the database per round trip, for queries submitted to
+                 * {@link org.apache.causeway.applib.services.repository.RepositoryService#streamMatches(Query)}
+                 * (unless specified explicitly).
+                 */
+                private int streamFetchSize = 100;
             }
 
             private final EntityChangeTracker entityChangeTracker = new EntityChangeTracker();
@@ -2835,6 +2883,27 @@ public static class Authentication {
              */
             private boolean strictAcceptChecking = false;
 
+            /**
+             * If set, then representations are written directly to the HTTP response's output stream,
+             * rather than first being serialized into an (in-memory) string.
+             *
+             * <p>
+             *     Moreover, the elements of lists (eg. returned by actions) and of collections (of objects,
+             *     either standalone or inline) are then rendered only while being written, one at a time,
+             *     directly through Jackson's <code>JsonGenerator</code>, including any followed links
+             *     (<code>x-ro-follow-links</code>).  Hence only a single element's representation is held
+             *     in memory, and the response starts to be sent before all elements are rendered.
+             * </p>
+             *
+             * <p>
+             *     However, a failure rendering an element can then no longer be reported as an error
+             *     response, once the response is committed (it is truncated instead).  Also, the entity of
+             *     the JAX-RS <code>Response</code> is a <code>StreamingOutput</code> rather than a
+             *     <code>String</code>, which might not be expected by custom filters.
+             * </p>
+             */
+            private boolean streamingOutput = false;
+
             /**
              * If set, then the representations returned will omit any links to the formal domain-type representations.
              */
@@ -3695,6 +3764,30 @@ public static class Kroki {
             private Duration requestTimeout = Duration.ofMillis(5000);
         }
 
+        private final Asciidoc asciidoc = new Asciidoc();
+        @Data
+        public static class Asciidoc {
+            /**
+             * Upper bound on the (estimated) size of the HTML rendered from AsciiDoc values, that is cached
+             * and shared by all viewers, keyed by the source's content hash.
+             * Least recently used entries are evicted once exceeded; <code>0</code> disables the cache.
+             * (default: 16 MiB)
+             */
+            private long htmlCacheMaxWeightInBytes = 16L * 1024 * 1024;
+        }
+
+        private final Markdown markdown = new Markdown();
+        @Data
+        public static class Markdown {
+            /**
+             * Upper bound on the (estimated) size of the HTML rendered from Markdown values, that is cached
+             * and shared by all viewers, keyed by the source's content hash.
+             * Least recently used entries are evicted once exceeded; <code>0</code> disables the cache.
+             * (default: 16 MiB)
+             */
+            private long htmlCacheMaxWeightInBytes = 16L * 1024 * 1024;
+        }
+
     }
 
     private final Testing testing = new Testing();
@@ -3896,6 +3989,71 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            private final WriteBehind writeBehind = new WriteBehind();
+            @Data
+            public static class WriteBehind {
+
+                /**
+                 * Whether audit trail entries are persisted asynchronously (write-behind), once the
+                 * originating transaction has committed, rather than synchronously as part of that transaction.
+                 *
+                 * <p>
+                 *     Property changes are buffered in a bounded in-memory queue and persisted by a background
+                 *     worker in batches, each within its own transaction.  This removes the audit trail inserts
+                 *     from the latency of the user's transaction, at the cost of the entries becoming visible
+                 *     slightly later.
+                 * </p>
+                 *
+                 * <p>
+                 *     This is <i>not</i> durable: changes are only enqueued once the originating transaction has
+                 *     committed, so any that are still in memory when the JVM crashes are lost, even if a
+                 *     {@link #getJournalDirectory() journal} is kept.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Maximum number of property changes buffered in memory.  If exceeded, the committing thread
+                 * persists its changes itself (in a new transaction), rather than being blocked.
+                 */
+                @Min(1)
+                private int queueCapacity = 10_000;
+
+                /**
+                 * Maximum number of audit trail entries persisted (and flushed) per transaction.
+                 */
+                @Min(1)
+                private int batchSize = 500;
+
+                /**
+                 * Number of attempts to persist a batch, before giving up on it.  The entries of a batch given up
+                 * on are appended to a dead-letter file in the {@link #getJournalDirectory() journal directory},
+                 * if configured, or else logged (at error level, in journal format).
+                 */
+                @Min(1)
+                private int maxAttempts = 5;
+
+                /**
+                 * How often the background worker checks for pending property changes.
+                 */
+                private Duration flushInterval = Duration.ofSeconds(1);
+
+                /**
+                 * If set, the directory in which a journal of not yet persisted property changes is kept,
+                 * so that these can be recovered (on next start-up) after the application was stopped or has
+                 * failed, before the queue was drained.  Also holds the dead-letter file of batches that could
+                 * not be persisted.
+                 *
+                 * <p>
+                 *     The journal does not make the write-behind durable: changes are appended only after the
+                 *     originating transaction has committed, so a crash in between still loses them.
+                 *     Recovery is <i>at least once</i>: changes that were persisted just before the crash
+                 *     may be persisted a second time.
+                 * </p>
+                 */
+                private Optional<String> journalDirectory = Optional.empty();
+            }
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3938,6 +4096,38 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            /**
+             * As per {@link CommandLog#getCommandDtoFormat()}.
+             */
+            public enum CommandDtoFormat {
+                /**
+                 * The <code>CommandDto</code> is stored as (human-readable) XML.  This is the default.
+                 */
+                XML,
+                /**
+                 * The <code>CommandDto</code> is stored as gzip compressed XML, Base64 encoded.
+                 *
+                 * <p>
+                 *     This is neither a binary format nor compact JSON: the Base64 encoding (adding a third to
+                 *     the size of the compressed bytes) is what allows the existing character (CLOB) column to be
+                 *     used, so that no schema change is needed and entries in either format can be mixed.  Even
+                 *     so, this typically takes up a fraction of the space of the XML.  The stored value is no
+                 *     longer human-readable, nor can it be queried using SQL.
+                 * </p>
+                 */
+                COMPRESSED_XML;
+            }
+
+            /**
+             * The format in which the <code>CommandDto</code> of each <code>CommandLogEntry</code> is stored.
+             *
+             * <p>
+             *     This only applies to entries as they are written; entries in either format can always be read,
+             *     so the format of an existing database can be changed without migrating its data.
+             * </p>
+             */
+            private CommandDtoFormat commandDtoFormat = CommandDtoFormat.XML;
+
             private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
             @Data
             public static class RunBackgroundCommands {
@@ -3984,6 +4174,54 @@ public enum OnFailurePolicy {
                  * If there is an exception executing one of the commands, what should be done?
                  */
                 private OnFailurePolicy onFailurePolicy = OnFailurePolicy.STOP_THE_LINE;
+
+                private final WorkerPool workerPool = new WorkerPool();
+                @Data
+                public static class WorkerPool {
+
+                    /**
+                     * Whether the <code>RunBackgroundCommandsJob</code> should claim its batch of pending commands
+                     * (marking each as claimed in the database) and then execute them using a pool of threads,
+                     * rather than executing them one at a time.
+                     *
+                     * <p>
+                     *     Because commands are claimed atomically, this mode also allows the job to be run
+                     *     concurrently on multiple nodes.  Commands against the same target are still executed
+                     *     in the order that they were created.  If the <code>CommandLogEntryRepository</code> in use
+                     *     does not support atomic claims, then this setting is ignored (with a warning) and the
+                     *     commands are executed one at a time.
+                     * </p>
+                     *
+                     * <p>
+                     *     If the <code>onFailurePolicy</code> is to stop the line, then a failure stops the line for
+                     *     all targets, not just the target of the failed command; any commands already executing on
+                     *     other threads are allowed to complete.  The commands that remain claimed but not started
+                     *     are picked up again once their claim has gone stale.
+                     * </p>
+                     *
+                     * <p>
+                     *     This mode requires the <code>claimedBy</code> and <code>claimedAt</code> columns of the
+                     *     <code>CommandLogEntry</code> table; existing databases whose schema is not created
+                     *     automatically must be migrated to add them (both nullable).
+                     * </p>
+                     */
+                    private boolean enabled = false;
+
+                    /**
+                     * The maximum number of threads used to execute the claimed commands.
+                     */
+                    private int threads = 4;
+
+                    /**
+                     * How long a claimed command may remain not started before its claim is considered stale (for
+                     * example, because the node that claimed it went down) and it can be claimed again.
+                     *
+                     * <p>
+                     *     Should be longer than the longest-running background command.
+                     * </p>
+                     */
+                    private Duration claimTimeout = Duration.ofMinutes(10);
+                }
             }
         }
 
@@ -4498,6 +4736,40 @@ public enum AutoCreatePolicy {
 
             }
 
+            private final PermissionCache permissionCache = new PermissionCache();
+            @Data
+            public static class PermissionCache {
+
+                /**
+                 * Whether the permission set of each user should be cached application-wide, that is, across
+                 * interactions, rather than being looked up from the database for every interaction.
+                 *
+                 * <p>
+                 *     Entries are invalidated whenever any of secman's users, roles, permissions or tenancies
+                 *     are persisted, updated or removed, so that changes still take effect immediately.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Duration that entries remain in the cache, in minutes.
+                 *
+                 * <p>
+                 *     Default is 10 mins.
+                 * </p>
+                 */
+                private int expiryDurationInMinutes = 10;
+
+                /**
+                 * Maximum number of entries (one per user and tenancy) in the cache.
+                 *
+                 * <p>
+                 *     Default is 1000
+                 * </p>
+                 */
+                private int maxSizeInEntries = 1000;
+            }
+
             public enum PermissionsEvaluationPolicy {
                 ALLOW_BEATS_VETO,
                 VETO_BEATS_ALLOW
@@ -48,6 +48,18 @@ default Stream<Class<?>> streamMixinTypes() {
         return getMixinTypes().keySet().stream();
     }
 
+    /**
+     * Streams those mixin types, that potentially contribute to given {@code mixeeType},
+     * that is, whose mixee (as declared by the mixin's single argument constructor)
+     * is the {@code mixeeType} itself or one of its super types.
+     * <p>
+     * The result may contain false positives (eg. mixins with ill-formed constructors),
+     * hence callers still need to check the actual mixin facet.
+     */
+    default Stream<Class<?>> streamMixinTypesFor(final @NonNull Class<?> mixeeType) {
+        return streamMixinTypes();
+    }
+
     // -- LOOKUPS
 
     /**
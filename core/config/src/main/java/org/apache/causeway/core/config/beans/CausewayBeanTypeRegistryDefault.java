@@ -18,9 +18,13 @@
  */
 package org.apache.causeway.core.config.beans;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javax.annotation.Priority;
@@ -29,12 +33,14 @@
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.config.CausewayModuleCoreConfig;
+import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -70,6 +76,22 @@
     @Getter(onMethod_ = {@Override})
     private final Map<Class<?>, CausewayBeanMetaData> discoveredValueTypes = new HashMap<>();
 
+    /**
+     * mixin types by the mixee type declared with their constructor
+     */
+    private final Map<Class<?>, List<Class<?>>> mixinTypesByDeclaredMixeeType = new HashMap<>();
+
+    /**
+     * mixin types for which the mixee type cannot be determined up front,
+     * these are candidates for any mixee
+     */
+    private final List<Class<?>> mixinTypesWithUnknownMixeeType = new ArrayList<>();
+
+    /**
+     * memoized results of {@link #streamMixinTypesFor(Class)}
+     */
+    private final Map<Class<?>, Can<Class<?>>> mixinTypesByMixeeType = new ConcurrentHashMap<>();
+
     // -- LOOKUPS
 
     @Override
@@ -77,6 +99,13 @@ public Optional<CausewayBeanMetaData> lookupIntrospectableType(final Class<?> ty
         return Optional.ofNullable(introspectableTypesByClass.get(type));
     }
 
+    @Override
+    public Stream<Class<?>> streamMixinTypesFor(final @NonNull Class<?> mixeeType) {
+        return mixinTypesByMixeeType
+                .computeIfAbsent(mixeeType, this::collectMixinTypesFor)
+                .stream();
+    }
+
     // -- ITERATORS
 
     @Override
@@ -102,6 +131,7 @@ public CausewayBeanTypeRegistryDefault(final @NonNull Can<CausewayBeanMetaData>
                 return;
             case MIXIN:
                 mixinTypes.put(cls, typeMeta);
+                indexByDeclaredMixeeType(cls);
                 return;
             case ENTITY:
                 entityTypes.put(cls, typeMeta);
@@ -125,4 +155,37 @@ public CausewayBeanTypeRegistryDefault(final @NonNull Can<CausewayBeanMetaData>
 
     }
 
+    // -- HELPER
+
+    private void indexByDeclaredMixeeType(final Class<?> mixinType) {
+        ProgrammingModelConstants.MixinConstructor.PUBLIC_SINGLE_ARG_RECEIVING_MIXEE
+            .getConstructors(mixinType)
+            .getSingleton() // empty if cardinality!=1
+            .map(constructor->constructor.getParameterTypes()[0])
+            .ifPresentOrElse(
+                    mixeeType->mixinTypesByDeclaredMixeeType
+                        .computeIfAbsent(mixeeType, __->new ArrayList<>())
+                        .add(mixinType),
+                    ()->mixinTypesWithUnknownMixeeType.add(mixinType));
+    }
+
+    private Can<Class<?>> collectMixinTypesFor(final Class<?> mixeeType) {
+        var candidates = new HashSet<Class<?>>(mixinTypesWithUnknownMixeeType);
+        for(Class<?> type = mixeeType; type != null; type = type.getSuperclass()) {
+            candidates.addAll(mixinTypesByDeclaredMixeeType.getOrDefault(type, List.of()));
+        }
+        for(var interfaceType : ClassUtils.getAllInterfacesForClassAsSet(mixeeType)) {
+            candidates.addAll(mixinTypesByDeclaredMixeeType.getOrDefault(interfaceType, List.of()));
+        }
+        // interface types do not have Object as superclass, yet are assignable to Object
+        candidates.addAll(mixinTypesByDeclaredMixeeType.getOrDefault(Object.class, List.of()));
+        if(candidates.isEmpty()) {
+            return Can.empty();
+        }
+        // preserve the order as given by streamMixinTypes(); memoized, so this is once per mixee type
+        return streamMixinTypes()
+                .filter(candidates::contains)
+                .collect(Can.toCan());
+    }
+
 }
@@ -0,0 +1,104 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.config.beans;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+
+class CausewayBeanTypeRegistryDefault_streamMixinTypesFor_Test {
+
+    interface Named {}
+    static class Customer implements Named {}
+    static class PreferredCustomer extends Customer {}
+    static class Order {}
+
+    public static class Customer_orders {
+        public Customer_orders(final Customer mixee) {}
+    }
+    public static class Named_rename {
+        public Named_rename(final Named mixee) {}
+    }
+    public static class Object_inspect {
+        public Object_inspect(final Object mixee) {}
+    }
+    public static class Order_cancel {
+        public Order_cancel(final Order mixee) {}
+    }
+    /** ill-formed, hence not indexed by mixee type */
+    public static class Ambiguous_mixin {
+        public Ambiguous_mixin(final Customer mixee) {}
+        public Ambiguous_mixin(final Order mixee) {}
+    }
+
+    private CausewayBeanTypeRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CausewayBeanTypeRegistryDefault(
+                Can.of(
+                        Customer_orders.class,
+                        Named_rename.class,
+                        Object_inspect.class,
+                        Order_cancel.class,
+                        Ambiguous_mixin.class)
+                .map(mixinType->CausewayBeanMetaData.notManaged(BeanSort.MIXIN, mixinType)));
+    }
+
+    @Test
+    void mixee_receivesMixinsOfItsTypeHierarchy() {
+        assertEquals(
+                Set.of(Customer_orders.class, Named_rename.class, Object_inspect.class, Ambiguous_mixin.class),
+                mixinTypesFor(PreferredCustomer.class));
+        assertEquals(
+                Set.of(Order_cancel.class, Object_inspect.class, Ambiguous_mixin.class),
+                mixinTypesFor(Order.class));
+    }
+
+    @Test
+    void interfaceMixee_receivesObjectMixins() {
+        assertEquals(
+                Set.of(Named_rename.class, Object_inspect.class, Ambiguous_mixin.class),
+                mixinTypesFor(Named.class));
+    }
+
+    @Test
+    void indexIsConsistentWithStreamMixinTypes() {
+        assertEquals(
+                registry.streamMixinTypes()
+                    .filter(mixinTypesFor(PreferredCustomer.class)::contains)
+                    .collect(Collectors.toList()),
+                registry.streamMixinTypesFor(PreferredCustomer.class)
+                    .collect(Collectors.toList()));
+    }
+
+    // -- HELPER
+
+    private Set<Class<?>> mixinTypesFor(final Class<?> mixeeType) {
+        return registry.streamMixinTypesFor(mixeeType).collect(Collectors.toSet());
+    }
+
+}
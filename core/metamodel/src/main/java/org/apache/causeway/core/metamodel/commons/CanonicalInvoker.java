@@ -32,6 +32,7 @@
 import org.apache.causeway.commons.internal.reflection._Reflect;
 
 import lombok.NonNull;
+import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -64,6 +65,14 @@ public Object invoke(
             final Object targetPojo, 
             final Object[] executionParameters) {
         var method = methodFacade.asMethodForIntrospection().method();
+        if(methodFacade.asMethod().isPresent()) {
+            // regular method, argument conversion is covered by the method's invocation plan
+            var invoker = MethodInvoker.lookup(methodFacade).orElse(null);
+            var convertedExecutionParameters = invoker!=null
+                    ? invoker.convertArgs(executionParameters)
+                    : ParameterConverters.DEFAULT.convertAll(method, executionParameters);
+            return invokeWithConvertedArgs(invoker, method, targetPojo, convertedExecutionParameters);
+        }
         var args = methodFacade.getArguments(executionParameters, ParameterConverters.DEFAULT);
         return invokeWithConvertedArgs(method, targetPojo, args);
     }
@@ -73,22 +82,49 @@ public void invokeAll(final Iterable<Method> methods, final Object object) {
         methods.forEach(method->invokeWithConvertedArgs(method, object));
     }
 
+    /**
+     * Also used for supporting methods (hide, disable, choices, default, ...),
+     * sharing the memoized invocation plan of the {@link MethodFacade} variant.
+     */
     public Object invoke(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... executionParameters) {
-        var convertedExecutionParameters = ParameterConverters.DEFAULT.convertAll(method, executionParameters);
-        return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
-            .mapFailure(ex->toVerboseException(ex,
-                    method,
-                    convertedExecutionParameters))
-            .valueAsNullableElseFail();
+        var invoker = MethodInvoker.lookup(method).orElse(null);
+        var convertedExecutionParameters = invoker!=null
+                ? invoker.convertArgs(executionParameters)
+                : ParameterConverters.DEFAULT.convertAll(method, executionParameters);
+        return invokeWithConvertedArgs(invoker, method, targetPojo, convertedExecutionParameters);
     }
-    
+
     public Object invokeWithConvertedArgs(
             final Method method,
             final Object targetPojo,
             final @Nullable Object ... convertedExecutionParameters) {
+        return invokeWithConvertedArgs(MethodInvoker.lookup(method).orElse(null),
+                method, targetPojo, convertedExecutionParameters);
+    }
+
+    // -- HELPER
+
+    /**
+     * Uses the method's {@link MethodInvoker} if available and applicable,
+     * otherwise falls back to reflective invocation.
+     */
+    @SneakyThrows
+    private Object invokeWithConvertedArgs(
+            final @Nullable MethodInvoker invoker,
+            final Method method,
+            final Object targetPojo,
+            final @Nullable Object[] convertedExecutionParameters) {
+        if(invoker!=null
+                && invoker.isInvocableWith(targetPojo, convertedExecutionParameters)) {
+            try {
+                return invoker.invoke(targetPojo, convertedExecutionParameters);
+            } catch (Throwable ex) {
+                throw toVerboseException(ex, method, convertedExecutionParameters);
+            }
+        }
         return _Reflect.invokeMethodOn(method, targetPojo, convertedExecutionParameters)
             .mapFailure(ex->toVerboseException(ex,
                     method,
@@ -96,8 +132,6 @@ public Object invokeWithConvertedArgs(
             .valueAsNullableElseFail();
     }
 
-    // -- HELPER
-
     private Throwable toVerboseException(
             final Throwable e,
             final Executable executable,
@@ -0,0 +1,190 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.commons.internal._Constants;
+import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
+import org.apache.causeway.commons.semantics.CollectionSemantics;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Invocation plan for a {@link Method}, created once per method and then reused:
+ * <ul>
+ * <li>a {@link MethodHandle}, that takes the target and an argument array, avoiding reflective access checks</li>
+ * <li>the parameter types and the indexes of those parameters, that require argument conversion</li>
+ * </ul>
+ * Helper for {@link CanonicalInvoker}.
+ */
+@Log4j2
+final class MethodInvoker {
+
+    /**
+     * Optionally the {@link MethodInvoker} for given regular {@link MethodFacade},
+     * based on whether a {@link MethodHandle} could be created for it.
+     * <p>
+     * Additionally memoized by the {@link MethodFacade} itself, saving the per method lookup.
+     */
+    static Optional<MethodInvoker> lookup(final @NonNull MethodFacade methodFacade) {
+        return methodFacade.getInvocationHelper(facade->
+            lookup(facade.asMethodForIntrospection().method()));
+    }
+
+    /**
+     * Optionally the {@link MethodInvoker} for given {@link Method},
+     * based on whether a {@link MethodHandle} could be created for it.
+     * <p>
+     * Memoized per declaring class (via {@link ClassValue}), not in a global map,
+     * such that invokers are dropped along with the class, rather than keeping it reachable.
+     */
+    static Optional<MethodInvoker> lookup(final @NonNull Method method) {
+        return invokersByDeclaringClass.get(method.getDeclaringClass())
+                .computeIfAbsent(method, MethodInvoker::create);
+    }
+
+    private static final ClassValue<Map<Method, Optional<MethodInvoker>>> invokersByDeclaringClass =
+            new ClassValue<>() {
+                @Override protected Map<Method, Optional<MethodInvoker>> computeValue(final Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final Method method;
+    private final boolean isStatic;
+    private final Class<?>[] parameterTypes;
+    private final int[] convertingParamIndexes;
+    /** of type {@code (Object, Object[])Object} */
+    private final MethodHandle spreadingHandle;
+
+    private MethodInvoker(final Method method, final MethodHandle spreadingHandle) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.parameterTypes = method.getParameterTypes();
+        this.convertingParamIndexes = IntStream.range(0, parameterTypes.length)
+                .filter(i->parameterTypes[i].isPrimitive()
+                        || CollectionSemantics.valueOf(parameterTypes[i]).isPresent())
+                .toArray();
+        this.spreadingHandle = spreadingHandle;
+    }
+
+    /**
+     * Same semantics as {@link ParameterConverters#DEFAULT},
+     * but only allocates a new argument array if any conversion is required.
+     */
+    Object[] convertArgs(final @Nullable Object[] executionParameters) {
+        final int paramCount = parameterTypes.length;
+        if(paramCount==0) {
+            return _Constants.emptyObjects;
+        }
+        final int argCount = executionParameters!=null
+                ? executionParameters.length
+                : 0;
+        if(argCount==paramCount
+                && convertingParamIndexes.length==0) {
+            return executionParameters; // nothing to convert
+        }
+        var args = new Object[paramCount];
+        System.arraycopy(executionParameters!=null
+                ? executionParameters
+                : _Constants.emptyObjects, 0, args, 0, Math.min(argCount, paramCount));
+        for(int i : convertingParamIndexes) {
+            args[i] = ParameterConverters.DEFAULT.convert(parameterTypes[i], args[i]);
+        }
+        return args;
+    }
+
+    /**
+     * Whether target and arguments are compatible with the method's signature.
+     * If not, the caller should fall back to reflective invocation,
+     * which reports any mismatch in detail.
+     */
+    boolean isInvocableWith(final @Nullable Object target, final @Nullable Object[] args) {
+        if(!isStatic
+                && !method.getDeclaringClass().isInstance(target)) {
+            return false;
+        }
+        if(args==null) {
+            return parameterTypes.length==0;
+        }
+        if(args.length!=parameterTypes.length) {
+            return false;
+        }
+        for(int i = 0; i < args.length; i++) {
+            var arg = args[i];
+            var paramType = parameterTypes[i];
+            if(arg==null) {
+                if(paramType.isPrimitive()) {
+                    return false;
+                }
+            } else if(!ClassUtils.resolvePrimitiveIfNecessary(paramType).isInstance(arg)) {
+                // also rejects primitive widening, which reflective invocation does support
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Object invoke(final @Nullable Object target, final Object[] args) throws Throwable {
+        return (Object) spreadingHandle.invokeExact(target, args);
+    }
+
+    // -- HELPER
+
+    private static Optional<MethodInvoker> create(final Method method) {
+        try {
+            return Optional.of(new MethodInvoker(method, spreadingHandle(method)));
+        } catch (Throwable e) {
+            // falls back to reflective invocation
+            log.debug("cannot create method handle for {}", method, e);
+            return Optional.empty();
+        }
+    }
+
+    private static MethodHandle spreadingHandle(final Method method) throws IllegalAccessException {
+        var lookup = MethodHandles.lookup();
+        if(!Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), lookup);
+        }
+        var handle = lookup.unreflect(method).asFixedArity();
+        if(Modifier.isStatic(method.getModifiers())) {
+            // ignore the target
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        final int paramCount = method.getParameterCount();
+        return handle
+                .asType(MethodType.genericMethodType(1 + paramCount))
+                .asSpreader(Object[].class, paramCount);
+    }
+
+}
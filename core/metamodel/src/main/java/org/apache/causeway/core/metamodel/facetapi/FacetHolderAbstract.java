@@ -18,18 +18,17 @@
  */
 package org.apache.causeway.core.metamodel.facetapi;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.Identifier;
-import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 
 import static org.apache.causeway.commons.internal.base._Casts.uncheckedCast;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -37,7 +36,6 @@
 /**
  * For base subclasses or, more likely, to help write tests.
  */
-@AllArgsConstructor
 @RequiredArgsConstructor
 //@Log4j2
 abstract class FacetHolderAbstract
@@ -50,14 +48,19 @@
     // not private nor final, as featureIdentifier might depend on lazily provided LogicalTypeFacet
     @Getter(onMethod_ = {@Override}) protected Identifier featureIdentifier;
 
+    protected FacetHolderAbstract(
+            final @NonNull MetaModelContext metaModelContext,
+            final Identifier featureIdentifier) {
+        this.metaModelContext = metaModelContext;
+        this.featureIdentifier = featureIdentifier;
+    }
+
     private final Map<Class<? extends Facet>, FacetRanking> rankingByType = _Maps.newHashMap();
     private final Object $lock = new Object();
 
     @Override
     public final boolean containsFacet(final Class<? extends Facet> facetType) {
-        synchronized($lock) {
-            return snapshot.get().containsKey(facetType);
-        }
+        return snapshot().containsKey(facetType);
     }
 
     @Override
@@ -67,7 +70,7 @@ public final void addFacet(final @NonNull Facet facet) {
             var ranking = rankingByType.computeIfAbsent(facet.facetType(), FacetRanking::new);
             var needsInvalidate = ranking.add(facet);
             if(needsInvalidate) {
-                snapshot.clear(); //invalidate
+                snapshot = null; //invalidate
             }
         }
     }
@@ -76,24 +79,17 @@ public final void addFacet(final @NonNull Facet facet) {
     // which potentially leads to inconsistent behavior with facet and facet-ranking streaming
     @Override
     public /*final*/ <T extends Facet> T getFacet(final Class<T> facetType) {
-        synchronized($lock) {
-            return uncheckedCast(snapshot.get().get(facetType));
-        }
+        return uncheckedCast(snapshot().get(facetType));
     }
 
     @Override
     public final Stream<Facet> streamFacets() {
-        synchronized($lock) {
-            // consumers should play nice and don't take too long (as we have a lock)
-            return snapshot.get().values().stream();
-        }
+        return snapshot().values().stream();
     }
 
     @Override
     public final int getFacetCount() {
-        synchronized($lock) {
-            return snapshot.get().size();
-        }
+        return snapshot().size();
     }
 
     // -- VALIDATION SUPPORT
@@ -110,10 +106,28 @@ public final Optional<FacetRanking> getFacetRanking(final Class<? extends Facet>
 
     // -- HELPER
 
-    private final _Lazy<Map<Class<? extends Facet>, Facet>> snapshot = _Lazy.threadSafe(this::snapshot);
+    /**
+     * Immutable once published, hence can be read without locking.
+     * Only ever replaced (or invalidated) while holding the {@code $lock},
+     * which after introspection has completed is no longer contended.
+     */
+    private volatile Map<Class<? extends Facet>, Facet> snapshot;
 
-    // collect all facet information provided with the top-level facets (contributed facets and aliases)
     private Map<Class<? extends Facet>, Facet> snapshot() {
+        var snapshot = this.snapshot;
+        if(snapshot!=null) {
+            return snapshot; // fast path, lock-free
+        }
+        synchronized($lock) {
+            if(this.snapshot==null) {
+                this.snapshot = Collections.unmodifiableMap(createSnapshot());
+            }
+            return this.snapshot;
+        }
+    }
+
+    // collect all facet information provided with the top-level facets (contributed facets and aliases)
+    private Map<Class<? extends Facet>, Facet> createSnapshot() {
         var snapshot = _Maps.<Class<? extends Facet>, Facet>newHashMap();
         rankingByType.values()
         .stream()
@@ -20,6 +20,7 @@
 
 import java.util.function.BiConsumer;
 
+import org.apache.causeway.applib.query.PageableList;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
@@ -65,9 +66,18 @@ public Object getProperty(
             return null;
         }
 
+        final boolean filterForVisibility = getConfiguration().getCore().getMetaModel().isFilterVisibility();
+
+        if(collectionOrArray instanceof PageableList) {
+            // paged and counted at the source, so filter each page as fetched, rather than loading all its elements
+            return filterForVisibility
+                    ? MmVisibilityUtils.visiblePageable(
+                            (PageableList<?>) collectionOrArray, getObjectManager()::adapt, interactionInitiatedBy)
+                    : collectionOrArray;
+        }
+
         var collectionAdapter = getObjectManager().adapt(collectionOrArray);
 
-        final boolean filterForVisibility = getConfiguration().getCore().getMetaModel().isFilterVisibility();
         if(filterForVisibility) {
 
             var autofittedObjectContainer = MmVisibilityUtils
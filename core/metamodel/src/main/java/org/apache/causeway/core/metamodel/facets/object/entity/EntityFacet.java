@@ -21,11 +21,13 @@
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.IdStringifier;
 import org.apache.causeway.applib.services.repository.EntityState;
@@ -141,14 +143,66 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * Bulk variant of {@link #fetchByBookmark(Bookmark)}, for bookmarks that all refer to
+     * this facet's entity type.
+     * <p>
+     * The result is aligned with given {@code bookmarks}, that is, same size and order,
+     * with an empty {@link Optional} for each entity that could not be found.
+     *
+     * @implNote the default implementation falls back to fetching one by one,
+     *      implementations are expected to fetch all entities within a single round trip
+     */
+    default Can<Optional<Object>> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        return bookmarks.map(this::fetchByBookmark);
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
+    /**
+     * Streaming variant of {@link #fetchByQuery(Query)}, fetching {@code fetchSize} rows per round trip
+     * as the stream is consumed. The stream must be consumed within the current transaction.
+     *
+     * @implNote the default implementation falls back to {@link #fetchByQuery(Query)},
+     *      implementations are expected to not load all results up-front
+     */
+    default Stream<ManagedObject> streamByQuery(final @NonNull Query<?> query, final int fetchSize) {
+        return fetchByQuery(query).stream();
+    }
+
+    /**
+     * The number of instances matching given query, <i>ignoring</i> its {@link Query#getRange() range}.
+     *
+     * @implNote the default implementation falls back to {@link #fetchByQuery(Query)},
+     *      implementations are expected to have the database count the rows (without loading them)
+     */
+    default long countByQuery(final @NonNull Query<?> query) {
+        return fetchByQuery(query.withRange(QueryRange.unconstrained())).size();
+    }
+
     void persist(Object pojo);
 
     void refresh(Object pojo);
 
     void delete(Object pojo);
 
+    /**
+     * Deletes all instances matching given query, <i>ignoring</i> its {@link Query#getRange() range}.
+     * <p>
+     * Where supported, issues a single (set-based) delete statement, bypassing any lifecycle callbacks,
+     * and without loading any instances. Pending changes are flushed before, and instances of the type
+     * are evicted from any caches afterwards, such that deleted instances are not handed out anymore.
+     *
+     * @return the number of instances deleted
+     * @implNote the default implementation falls back to fetching and deleting one by one,
+     *      implementations are expected to have the database delete the rows (without loading them)
+     */
+    default long deleteByQuery(final @NonNull Query<?> query) {
+        var entities = fetchByQuery(query.withRange(QueryRange.unconstrained()));
+        entities.forEach(entity->delete(entity.getPojo()));
+        return entities.size();
+    }
+
     EntityState getEntityState(Object pojo);
 
     Object versionOf(Object pojo);
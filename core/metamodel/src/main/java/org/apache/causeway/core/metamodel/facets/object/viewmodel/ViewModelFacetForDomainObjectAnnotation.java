@@ -26,6 +26,8 @@
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.metamodel.BeanSort;
 import org.apache.causeway.applib.services.urlencoding.UrlEncodingService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.memento._Mementos;
 import org.apache.causeway.commons.internal.memento._Mementos.SerializingAdapter;
@@ -33,6 +35,7 @@
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.properties.update.modify.PropertySetterFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
@@ -80,6 +83,7 @@ public static Optional<ViewModelFacetForDomainObjectAnnotation> create(
 
     private UrlEncodingService codec;
     private SerializingAdapter serializer;
+    private volatile ViewModelMementoCodec mementoCodec;
 
     protected ViewModelFacetForDomainObjectAnnotation(
             final FacetHolder holder) {
@@ -94,7 +98,20 @@ protected ManagedObject createViewmodel(
 
         var viewmodel = viewmodelSpec.createObject();
 
-        var memento = parseMemento(bookmark);
+        ensureDependenciesInited();
+        var bytes = Try.call(()->codec.decode(bookmark.getIdentifier()))
+                .getValue()
+                .orElse(null);
+        if(ViewModelMementoCodec.isCompact(bytes)) {
+            mementoCodec(viewmodelSpec).decodeInto(getObjectManager(), viewmodel, bytes);
+            return viewmodel;
+        }
+
+        // fallback, as created by versions prior to the compact memento format, or for exotic property types;
+        // reusing the already decoded bytes if any
+        var memento = bytes!=null
+                ? _Mementos.parse(codec, serializer, bytes)
+                : parseMemento(bookmark);
         var mementoKeys = memento.keySet();
 
         if(mementoKeys.isEmpty()) {
@@ -125,10 +142,16 @@ protected ManagedObject createViewmodel(
     @Override
     public String serialize(final ManagedObject viewModel) {
 
-        final _Mementos.Memento memento = newMemento();
-
         var viewmodelSpec = viewModel.getSpecification();
 
+        ensureDependenciesInited();
+        var compactMemento = mementoCodec(viewmodelSpec).encode(codec, viewModel);
+        if(compactMemento.isPresent()) {
+            return compactMemento.get();
+        }
+
+        final _Mementos.Memento memento = newMemento();
+
         streamPersistableProperties(viewmodelSpec)
         .forEach(property->{
 
@@ -155,6 +178,25 @@ private Stream<OneToOneAssociation> streamPersistableProperties(
                 .filter(property->property.isIncludedWithSnapshots());
     }
 
+    /**
+     * The facet is bound to a single (concrete) view model type,
+     * hence the persistable properties can be memoized, once the type is fully introspected.
+     * <p>
+     * Created lazily on first use, which is after the facet was installed (while the type was
+     * still being introspected), hence making sure introspection is complete.
+     */
+    private ViewModelMementoCodec mementoCodec(final ObjectSpecification viewmodelSpec) {
+        var mementoCodec = this.mementoCodec;
+        if(mementoCodec==null
+                || mementoCodec.getViewmodelClass()!=viewmodelSpec.getCorrespondingClass()) {
+            viewmodelSpec.introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+            mementoCodec = new ViewModelMementoCodec(viewmodelSpec,
+                    Can.ofStream(streamPersistableProperties(viewmodelSpec)));
+            this.mementoCodec = mementoCodec;
+        }
+        return mementoCodec;
+    }
+
     private void initDependencies() {
         var serviceRegistry = getServiceRegistry();
         this.codec = serviceRegistry.lookupServiceElseFail(UrlEncodingService.class);
@@ -0,0 +1,295 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.viewmodel;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.IdStringifier;
+import org.apache.causeway.applib.value.semantics.ValueDecomposition;
+import org.apache.causeway.applib.value.semantics.ValueSemanticsProvider;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.memento._Mementos.EncoderDecoder;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.facets.object.value.ValueFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Compact binary memento of a view model's persistable properties, as used for its {@link Bookmark}.
+ * <p>
+ * Properties are written in the order given by the view model's specification, without any names
+ * or class descriptors, each as a tag byte followed by a length-prefixed UTF-8 string:
+ * <ul>
+ * <li>values are written using their {@link ValueSemanticsProvider#getIdStringifier() IdStringifier} if any
+ * and {@link IdStringifier.EntityAgnostic entity agnostic},
+ * otherwise as their {@link ValueDecomposition#toJson() decomposition};</li>
+ * <li>references (entities and other view models) are written as their {@link Bookmark}.</li>
+ * </ul>
+ * The payload is prefixed by a format version and a (CRC-32) fingerprint of the property layout,
+ * such that a memento created for a different layout is rejected rather than mis-read,
+ * and followed by a CRC-32 checksum of all preceding bytes, such that a corrupt memento is rejected
+ * rather than yielding different property values.
+ * <p>
+ * Mementos created by the Java serialization based {@link org.apache.causeway.commons.internal.memento._Mementos}
+ * are told apart by {@link #isCompact(byte[])}.
+ */
+final class ViewModelMementoCodec {
+
+    static final byte FORMAT_VERSION_1 = 1;
+    private static final int HEADER_LENGTH = 5;
+    private static final int CHECKSUM_LENGTH = 4;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_ID_STRINGIFIED = 1;
+    private static final byte TAG_DECOMPOSED = 2;
+    private static final byte TAG_BOOKMARK = 3;
+
+    @Getter private final Class<?> viewmodelClass;
+    private final Can<OneToOneAssociation> properties;
+    private final int fingerprint;
+
+    ViewModelMementoCodec(
+            final @NonNull ObjectSpecification viewmodelSpec,
+            final @NonNull Can<OneToOneAssociation> properties) {
+        this.viewmodelClass = viewmodelSpec.getCorrespondingClass();
+        this.properties = properties;
+        this.fingerprint = fingerprint(properties);
+    }
+
+    /**
+     * Whether given (decoded) bytes were created by this codec.
+     * (Java serialization streams always start with <code>0xACED</code>.)
+     */
+    static boolean isCompact(final @Nullable byte[] bytes) {
+        return bytes!=null
+                && bytes.length>=HEADER_LENGTH + CHECKSUM_LENGTH
+                && bytes[0]==FORMAT_VERSION_1;
+    }
+
+    /**
+     * @return empty if any of the property values cannot be written in compact form,
+     *      in which case the caller is expected to fall back to the Java serialization based memento
+     */
+    Optional<String> encode(
+            final @NonNull EncoderDecoder codec,
+            final @NonNull ManagedObject viewModel) {
+        var out = new ByteArrayOutputStream(64);
+        out.write(FORMAT_VERSION_1);
+        out.write(fingerprint >>> 24);
+        out.write(fingerprint >>> 16);
+        out.write(fingerprint >>> 8);
+        out.write(fingerprint);
+        for(var property : properties) {
+            var propertyValue = property.get(viewModel, InteractionInitiatedBy.PASS_THROUGH);
+            if(!writeValue(out, property.getElementType(), propertyValue)) {
+                return Optional.empty();
+            }
+        }
+        var checksum = checksum(out.toByteArray(), out.size());
+        out.write(checksum >>> 24);
+        out.write(checksum >>> 16);
+        out.write(checksum >>> 8);
+        out.write(checksum);
+        return Optional.of(codec.encode(out.toByteArray()));
+    }
+
+    /**
+     * Sets all persistable properties of given view model, including <code>null</code> ones.
+     * @param bytes - as decoded from the bookmark's identifier, required to be {@link #isCompact(byte[]) compact}
+     * @throws IllegalArgumentException if the memento was created for a different property layout or is corrupt
+     */
+    void decodeInto(
+            final @NonNull ObjectManager objectManager,
+            final @NonNull ManagedObject viewModel,
+            final @NonNull byte[] bytes) {
+        var in = ByteBuffer.wrap(bytes);
+        in.get(); // format version
+        var actualFingerprint = in.getInt();
+        if(actualFingerprint!=fingerprint) {
+            throw _Exceptions.illegalArgument(
+                    "memento of %s was created for a different set of properties (fingerprint %08x, expected %08x)",
+                    viewmodelClass.getName(), actualFingerprint, fingerprint);
+        }
+        var payloadLength = bytes.length - CHECKSUM_LENGTH;
+        var actualChecksum = ByteBuffer.wrap(bytes, payloadLength, CHECKSUM_LENGTH).getInt();
+        if(actualChecksum!=checksum(bytes, payloadLength)) {
+            throw _Exceptions.illegalArgument(
+                    "memento of %s is corrupt (checksum mismatch)", viewmodelClass.getName());
+        }
+        try {
+            in.limit(payloadLength);
+            for(var property : properties) {
+                var propertySpec = property.getElementType();
+                var propertyValue = readValue(in, objectManager, propertySpec);
+                property.set(viewModel, propertyValue, InteractionInitiatedBy.PASS_THROUGH);
+            }
+        } catch (RuntimeException e) {
+            throw _Exceptions.illegalArgument(e, "failed to parse memento of %s", viewmodelClass.getName());
+        }
+    }
+
+    // -- VALUES
+
+    private boolean writeValue(
+            final ByteArrayOutputStream out,
+            final ObjectSpecification propertySpec,
+            final @Nullable ManagedObject propertyValue) {
+
+        var pojo = propertyValue!=null
+                ? propertyValue.getPojo()
+                : null;
+        if(pojo==null) {
+            out.write(TAG_NULL);
+            return true;
+        }
+        if(propertySpec.isValue()) {
+            var valueSemantics = valueSemantics(propertySpec).orElse(null);
+            if(valueSemantics==null
+                    || !ClassUtils.resolvePrimitiveIfNecessary(propertySpec.getCorrespondingClass()).isInstance(pojo)) {
+                return false;
+            }
+            var idStringifier = valueSemantics.getIdStringifier();
+            // only entity agnostic ones, as others need the (unknown) target entity class to destring
+            if(idStringifier instanceof IdStringifier.EntityAgnostic) {
+                out.write(TAG_ID_STRINGIFIED);
+                writeString(out, idStringifier.enstring(pojo));
+            } else {
+                out.write(TAG_DECOMPOSED);
+                writeString(out, valueSemantics.decompose(pojo).toJson());
+            }
+            return true;
+        }
+        var bookmark = propertyValue.getBookmark().orElse(null);
+        if(bookmark==null) {
+            return false;
+        }
+        out.write(TAG_BOOKMARK);
+        writeString(out, bookmark.stringify());
+        return true;
+    }
+
+    private ManagedObject readValue(
+            final ByteBuffer in,
+            final ObjectManager objectManager,
+            final ObjectSpecification propertySpec) {
+        var tag = in.get();
+        switch (tag) {
+        case TAG_NULL:
+            return ManagedObject.empty(propertySpec);
+        case TAG_ID_STRINGIFIED:
+            return objectManager.adapt(
+                    _Casts.<IdStringifier.EntityAgnostic<Object>>uncheckedCast(
+                            valueSemanticsElseFail(propertySpec).getIdStringifier())
+                    .destring(readString(in)));
+        case TAG_DECOMPOSED: {
+            var valueSemantics = valueSemanticsElseFail(propertySpec);
+            return objectManager.adapt(valueSemantics.compose(
+                    ValueDecomposition.fromJson(valueSemantics.getSchemaValueType(), readString(in))));
+        }
+        case TAG_BOOKMARK:
+            return objectManager.loadObject(Bookmark.parseElseFail(readString(in)))
+                    .orElseGet(()->ManagedObject.empty(propertySpec));
+        default:
+            throw _Exceptions.unmatchedCase(tag);
+        }
+    }
+
+    private static Optional<ValueSemanticsProvider<Object>> valueSemantics(final ObjectSpecification propertySpec) {
+        return propertySpec.valueFacet()
+                .map(ValueFacet.class::cast)
+                .flatMap(valueFacet->_Casts.<ValueFacet<Object>>uncheckedCast(valueFacet).selectDefaultSemantics());
+    }
+
+    private static ValueSemanticsProvider<Object> valueSemanticsElseFail(final ObjectSpecification propertySpec) {
+        return valueSemantics(propertySpec)
+                .orElseThrow(()->_Exceptions.illegalArgument("no value semantics for %s", propertySpec));
+    }
+
+    // -- ENCODING
+
+    private static void writeString(final ByteArrayOutputStream out, final String str) {
+        var bytes = str.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(final ByteBuffer in) {
+        var length = readVarInt(in);
+        var str = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return str;
+    }
+
+    private static void writeVarInt(final ByteArrayOutputStream out, final int value) {
+        var remaining = value;
+        while((remaining & ~0x7F)!=0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarInt(final ByteBuffer in) {
+        var value = 0;
+        for(var shift = 0; shift < 32; shift += 7) {
+            var b = in.get();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80)==0) {
+                return value;
+            }
+        }
+        throw _Exceptions.illegalArgument("malformed length");
+    }
+
+    private static int checksum(final byte[] bytes, final int length) {
+        var crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Changes whenever properties are added, removed, renamed, re-ordered or change their type.
+     */
+    private static int fingerprint(final Can<OneToOneAssociation> properties) {
+        var crc = new CRC32();
+        for(var property : properties) {
+            crc.update(property.getId().getBytes(StandardCharsets.UTF_8));
+            crc.update(':');
+            crc.update(property.getElementType().getCorrespondingClass().getName().getBytes(StandardCharsets.UTF_8));
+            crc.update(';');
+        }
+        return (int) crc.getValue();
+    }
+
+}
@@ -23,10 +23,14 @@
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PageableList;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Either;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
+import org.apache.causeway.core.metamodel.facets.propcoll.accessor.PropertyOrCollectionAccessorFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.MixedInMember;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
@@ -106,6 +110,33 @@ public Stream<ManagedObject> streamElements() {
         return streamElements(InteractionInitiatedBy.USER);
     }
 
+    /**
+     * Either the {@link PageableList} as returned by the collection's getter,
+     * which allows for its elements to be paged and counted at the source (eg. the database),
+     * or else this collection's element values, as with {@link #streamElements()}.
+     * <p>
+     * Mixed-in collections always resolve to their element values.
+     */
+    public Either<PageableList<?>, Can<ManagedObject>> getPageableListOrElements() {
+        var collection = getCollection();
+        if(collection instanceof MixedInMember) {
+            return Either.right(streamElements().collect(Can.toCan()));
+        }
+        var collectionPojo = collection.lookupFacet(PropertyOrCollectionAccessorFacet.class)
+                .map(accessor->accessor.getProperty(getOwner(), InteractionInitiatedBy.USER))
+                .orElse(null);
+        if(collectionPojo instanceof PageableList) {
+            return Either.left((PageableList<?>) collectionPojo);
+        }
+        if(collectionPojo == null) {
+            return Either.right(Can.empty());
+        }
+        collection.getServiceInjector().injectServicesInto(collectionPojo);
+        return Either.right(CollectionFacet.streamAdapters(
+                    collection.getObjectManager().adapt(collectionPojo, collection::getElementType))
+                .collect(Can.toCan()));
+    }
+
     public DataTableInteractive createDataTableModel() {
         return DataTableInteractive.forCollection(this);
     }
@@ -18,10 +18,12 @@
  */
 package org.apache.causeway.core.metamodel.object;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PageableList;
 import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
@@ -29,6 +31,7 @@
 import org.apache.causeway.core.metamodel.interactions.ObjectVisibilityContext;
 import org.apache.causeway.core.metamodel.interactions.VisibilityContext;
 
+import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -81,6 +84,23 @@ public static Object visiblePojosAutofit(
         return autofittedObjectContainer;
     }
 
+    /**
+     * Returns a {@link PageableList}, that filters the elements of given {@link PageableList} for visibility,
+     * page by page as these are fetched (rather than loading all its elements up front).
+     * <p>
+     * Its count, as long as not all elements have been loaded, is that of given {@link PageableList},
+     * hence may include elements that are not visible.
+     * @param pageableList - as returned by a getter of a collection
+     * @param adapter - adapts each element pojo
+     * @param interactionInitiatedBy
+     */
+    public static <T> PageableList<T> visiblePageable(
+            final @NonNull PageableList<T> pageableList,
+            final @NonNull Function<Object, ManagedObject> adapter,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return new _VisiblePageableList<>(pageableList, adapter, interactionInitiatedBy);
+    }
+
     /**
      * @param adapter - wrapper of domain object whose visibility is being checked,
      *      must not be a mixin
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.object;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.causeway.applib.query.PageableList;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Filters the elements of a {@link PageableList} for visibility, page by page as these are fetched.
+ * <p>
+ * The count is that of the underlying list (as counted at the source), until all elements have been loaded;
+ * it may hence include elements that are not visible.
+ *
+ * @see MmVisibilityUtils#visiblePageable(PageableList, Function, InteractionInitiatedBy)
+ */
+@RequiredArgsConstructor
+final class _VisiblePageableList<T>
+extends AbstractList<T>
+implements PageableList<T> {
+
+    private final @NonNull PageableList<T> pageableList;
+    private final @NonNull Function<Object, ManagedObject> adapter;
+    private final @NonNull InteractionInitiatedBy interactionInitiatedBy;
+
+    private final _Lazy<List<T>> elements = _Lazy.threadSafe(this::loadAll);
+
+    @Override
+    public List<T> page(final @NonNull QueryRange range) {
+        return visible(pageableList.page(range));
+    }
+
+    @Override
+    public int size() {
+        return elements.isMemoized()
+                ? elements.get().size()
+                : pageableList.size();
+    }
+
+    @Override
+    public T get(final int index) {
+        return elements.get().get(index);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        // don't count, just to iterate
+        return elements.get().iterator();
+    }
+
+    // -- HELPER
+
+    private List<T> loadAll() {
+        return Collections.unmodifiableList(visible(pageableList));
+    }
+
+    private List<T> visible(final List<T> pojos) {
+        return pojos.stream()
+                .filter(pojo->MmVisibilityUtils.isVisible(adapter.apply(pojo), interactionInitiatedBy))
+                .collect(Collectors.toList());
+    }
+
+}
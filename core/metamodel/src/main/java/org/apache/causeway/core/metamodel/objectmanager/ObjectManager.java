@@ -30,6 +30,7 @@
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
@@ -112,6 +113,21 @@ default Optional<ManagedObject> loadObject(final @Nullable Bookmark bookmark) {
                 .map(this::loadObject);
     }
 
+    /**
+     * Bulk variant of {@link #loadObject(Bookmark)}.
+     * <p>
+     * Entities are fetched with one round trip per entity type,
+     * using {@link EntityFacet#fetchByBookmarks(Can)}.
+     * <p>
+     * The result is aligned with given {@code bookmarks}, that is, same size and order.
+     * Entities that could not be found are represented by an empty {@link ManagedObject},
+     * bookmarks that cannot be resolved to any {@link ObjectSpecification}
+     * by {@link ManagedObject#unspecified()}.
+     * <p>
+     * Resolves injection-points for the result. (Handles service injection.)
+     */
+    Can<ManagedObject> loadObjects(@Nullable Can<Bookmark> bookmarks);
+
     /**
      * Introduced for serializing action parameter values to bookmarks and vice versa.
      * <p>
@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -28,15 +34,18 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ProtoObject;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForScalar;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -91,9 +100,7 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
              * as the latter can be ambiguous, when shared in a type hierarchy*/
             var elementSpec = getSpecificationLoader().specForLogicalTypeElseFail(logicalType);
 
-            var objects = objectMementoCollection.unwrapList().stream()
-                    .map(this::demementify)
-                    .collect(Can.toCan());
+            var objects = demementifyAll(objectMementoCollection.unwrapList());
 
             return ManagedObject.packed(elementSpec, objects);
         }
@@ -106,6 +113,91 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
         throw _Exceptions.unrecoverable("unsupported ObjectMemento type %s", memento.getClass());
     }
 
+    @Override
+    public Can<ManagedObject> loadObjects(final @Nullable Can<Bookmark> bookmarks) {
+        if(bookmarks==null
+                || bookmarks.isEmpty()) {
+            return Can.empty();
+        }
+
+        var specLoader = getSpecificationLoader();
+        var loaded = new ManagedObject[bookmarks.size()];
+
+        // entities are grouped by type, such that each type requires only a single round trip
+        var entityIndexesBySpec = new LinkedHashMap<ObjectSpecification, List<Integer>>();
+
+        for(int i = 0; i < loaded.length; ++i) {
+            var bookmark = bookmarks.getElseFail(i);
+            var protoObject = ProtoObject.resolve(specLoader, bookmark).orElse(null);
+            if(protoObject==null) {
+                loaded[i] = ManagedObject.unspecified();
+                continue;
+            }
+            var spec = protoObject.getObjectSpecification();
+            if(spec.isEntity()) {
+                entityIndexesBySpec.computeIfAbsent(spec, __->new ArrayList<>()).add(i);
+            } else {
+                loaded[i] = loadObject(protoObject);
+            }
+        }
+
+        entityIndexesBySpec.forEach((spec, indexes)->{
+            var entityBookmarks = indexes.stream()
+                    .map(bookmarks::getElseFail)
+                    .collect(Can.toCan());
+            var entityPojos = spec.entityFacetElseFail().fetchByBookmarks(entityBookmarks);
+            for(int j = 0; j < indexes.size(); ++j) {
+                var bookmark = entityBookmarks.getElseFail(j);
+                loaded[indexes.get(j)] = entityPojos.getElseFail(j)
+                        .map(entityPojo->ManagedObject.entity(spec, entityPojo, Optional.of(bookmark)))
+                        .orElseGet(()->ManagedObject.empty(spec));
+            }
+        });
+
+        return Can.ofArray(loaded);
+    }
+
+    // -- HELPER
+
+    /**
+     * Entities referenced by given mementos are fetched in bulk,
+     * while any other memento is recovered one by one.
+     */
+    private Can<ManagedObject> demementifyAll(final List<ObjectMemento> mementos) {
+        var specLoader = getSpecificationLoader();
+
+        var entityBookmarks = mementos.stream()
+                .filter(ObjectMementoForScalar.class::isInstance)
+                .map(ObjectMemento::getBookmark)
+                .filter(bookmark->bookmark!=null
+                        && specLoader.specForBookmark(bookmark)
+                            .map(ObjectSpecification::isEntity)
+                            .orElse(false))
+                .distinct()
+                .collect(Can.toCan());
+
+        if(entityBookmarks.size()<2) {
+            return mementos.stream()
+                    .map(this::demementify)
+                    .collect(Can.toCan());
+        }
+
+        var entitiesByBookmark = new HashMap<Bookmark, ManagedObject>();
+        entityBookmarks.zip(loadObjects(entityBookmarks), entitiesByBookmark::put);
+
+        return mementos.stream()
+                .map(memento->{
+                    var entity = memento instanceof ObjectMementoForScalar
+                            ? entitiesByBookmark.get(memento.getBookmark())
+                            : null;
+                    return entity!=null
+                            && entity.getSpecialization().isEntity()
+                        ? entity
+                        : demementify(memento); // not found or not an entity: same as one by one
+                })
+                .collect(Can.toCan());
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         var objectManager = new ObjectManagerDefault(metaModelContext);
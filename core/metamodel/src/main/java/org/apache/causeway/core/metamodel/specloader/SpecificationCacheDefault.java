@@ -20,47 +20,49 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.collections.Can;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections.snapshot._VersionedList;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 
 import lombok.NonNull;
 
+/**
+ * Lookups are lock-free, backed by a {@link ConcurrentHashMap};
+ * only structural modifications (additions, removals) synchronize on this cache,
+ * so that the mapping function of {@link #computeIfAbsent(Class, Function)}
+ * is applied at most once per class and may reentrantly load other specs.
+ */
 class SpecificationCacheDefault<T extends ObjectSpecification> implements SpecificationCache<T> {
 
-    private final Map<Class<?>, T> specByClass = _Maps.newHashMap();
+    private final Map<Class<?>, T> specByClass = new ConcurrentHashMap<>();
 
     // optimization: specialized list to keep track of any additions to the cache fast
     private final _VersionedList<T> vList = new _VersionedList<>();
 
     @Override
     public Optional<T> lookup(final Class<?> cls) {
-        synchronized(this) {
-            return Optional.ofNullable(specByClass.get(cls));
-        }
+        return Optional.ofNullable(specByClass.get(cls));
     }
 
     @Override
     public T computeIfAbsent(
             final Class<?> cls,
             final Function<Class<?>, T> mappingFunction) {
+        final T existing = specByClass.get(cls);
+        if(existing!=null) {
+            return existing;
+        }
         synchronized(this) {
             T spec = specByClass.get(cls);
             if(spec==null) {
                 spec = mappingFunction.apply(cls);
                 internalPut(spec);
-
-//debug
-//                if(cls.getSimpleName().equals("MarkupStream")) {
-//                    System.out.println("!!! MarkupStream");
-//                }
-
             }
             return spec;
         }
@@ -76,9 +78,7 @@ public void clear() {
 
     @Override
     public Can<T> snapshotSpecs() {
-        synchronized(this) {
-            return Can.ofCollection(specByClass.values());
-        }
+        return Can.ofCollection(specByClass.values());
     }
 
     @Override
@@ -56,6 +56,7 @@
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.proxy._ProxyFactoryService;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeClassifier;
@@ -346,6 +347,8 @@ public void disposeMetaModel() {
         logicalTypeResolver.clear();
         cache.clear();
         validationResult.clear();
+        serviceRegistry.lookupService(_ProxyFactoryService.class)
+            .ifPresent(_ProxyFactoryService::clearCache);
         serviceRegistry.clearRegisteredBeans();
         log.info("Metamodel disposed.");
     }
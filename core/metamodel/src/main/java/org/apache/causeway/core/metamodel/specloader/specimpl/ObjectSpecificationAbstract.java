@@ -18,16 +18,22 @@
  */
 package org.apache.causeway.core.metamodel.specloader.specimpl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.causeway.core.metamodel.spi.EntityTitleSubscriber;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 
 import org.apache.causeway.applib.Identifier;
@@ -164,6 +170,16 @@ public Can<ObjectSpecification> snapshot() {
     private final ListMultimap<ActionScope, ObjectAction> objectActionsByType =
             _Multimaps.newConcurrentListMultimap();
 
+    // -- MEMBER INDEXES
+
+    /*
+     * Immutable once built, hence read without locking; invalidated when members are replaced.
+     * Values hold all members sharing the same id (normally just one, unless clashing),
+     * in the same order as they are streamed by streamDeclaredAssociations/-Actions.
+     */
+    private volatile Map<String, Can<ObjectAssociation>> associationsById;
+    private volatile Map<String, Can<ObjectAction>> actionsById;
+
     // -- INTERFACES
 
     private final List<ObjectSpecification> interfaces = _Lists.newArrayList();
@@ -376,6 +392,7 @@ protected final void replaceAssociations(final Stream<ObjectAssociation> associa
             this.associations.clear();
             this.associations.addAll(orderedAssociations);
             unmodifiableAssociations.clear(); // invalidate
+            associationsById = null; // invalidate
         }
     }
 
@@ -385,6 +402,7 @@ protected final void replaceActions(final Stream<ObjectAction> objectActions) {
             this.objectActions.clear();
             this.objectActions.addAll(orderedActions);
             unmodifiableActions.clear(); // invalidate
+            actionsById = null; // invalidate
 
             // rebuild objectActionsByType multi-map
             for (var actionType : ActionScope.values()) {
@@ -729,8 +747,10 @@ public Optional<ObjectAssociation> getDeclaredAssociation(final String id, final
             return Optional.empty();
         }
 
-        return streamDeclaredAssociations(mixedIn)
-                .filter(objectAssociation->objectAssociation.getId().equals(id))
+        mixedInAssociationAdder.trigger(this::createMixedInAssociationsAndResort); // only if not already
+
+        return stream(associationsById().get(id))
+                .filter(mixedIn.toFilter())
                 .findFirst();
     }
 
@@ -753,6 +773,75 @@ public Stream<ObjectAction> streamDeclaredActions(
                 .filter(mixedIn.toFilter());
     }
 
+    @Override
+    public Optional<ObjectAction> getDeclaredAction(
+            final @Nullable String id,
+            final ImmutableEnumSet<ActionScope> actionScopes,
+            final MixedIn mixedIn) {
+
+        introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+
+        if(_Strings.isEmpty(id)) {
+            return Optional.empty();
+        }
+
+        mixedInActionAdder.trigger(this::createMixedInActionsAndResort); // only if not already
+
+        return stream(actionsById().get(id))
+                .filter(action->actionScopes.contains(action.getScope()))
+                .filter(mixedIn.toFilter())
+                .findFirst();
+    }
+
+    // -- MEMBER INDEXES
+
+    private Map<String, Can<ObjectAssociation>> associationsById() {
+        var associationsById = this.associationsById;
+        if(associationsById!=null) {
+            return associationsById; // fast path, lock-free
+        }
+        synchronized(unmodifiableAssociations) {
+            if(this.associationsById==null) {
+                this.associationsById = indexById(
+                        stream(unmodifiableAssociations.get()),
+                        association->Stream.of(association.getId()));
+            }
+            return this.associationsById;
+        }
+    }
+
+    private Map<String, Can<ObjectAction>> actionsById() {
+        var actionsById = this.actionsById;
+        if(actionsById!=null) {
+            return actionsById; // fast path, lock-free
+        }
+        synchronized(unmodifiableActions) {
+            if(this.actionsById==null) {
+                // actions can be looked up either by their identity string or by their logical name
+                this.actionsById = indexById(
+                        ActionScope.ANY.stream()
+                            .flatMap(actionScope->stream(objectActionsByType.get(actionScope))),
+                        action->Stream.of(
+                                action.getFeatureIdentifier().getMemberNameAndParameterClassNamesIdentityString(),
+                                action.getFeatureIdentifier().getMemberLogicalName())
+                            .distinct());
+            }
+            return this.actionsById;
+        }
+    }
+
+    private static <T extends ObjectMember> Map<String, Can<T>> indexById(
+            final Stream<T> members,
+            final Function<T, Stream<String>> idsOf) {
+        var membersById = new HashMap<String, List<T>>();
+        members.forEach(member->
+            idsOf.apply(member)
+                .forEach(id->membersById.computeIfAbsent(id, __->new ArrayList<>(1)).add(member)));
+        var index = new HashMap<String, Can<T>>(membersById.size() * 4 / 3 + 1);
+        membersById.forEach((id, membersWithId)->index.put(id, Can.ofCollection(membersWithId)));
+        return Collections.unmodifiableMap(index);
+    }
+
     // -- mixin associations (properties and collections)
     /**
      * Creates all mixed in properties and collections for this spec.
@@ -761,7 +850,7 @@ private Stream<ObjectAssociation> createMixedInAssociations() {
         if (isInjectable() || isValue()) {
             return Stream.empty();
         }
-        return getCausewayBeanTypeRegistry().streamMixinTypes()
+        return getCausewayBeanTypeRegistry().streamMixinTypesFor(getCorrespondingClass())
                 .flatMap(this::createMixedInAssociation);
     }
 
@@ -795,7 +884,7 @@ private Stream<ObjectAssociation> createMixedInAssociation(final Class<?> mixinT
      * Creates all mixed in actions for this spec.
      */
     private Stream<ObjectActionMixedIn> createMixedInActions() {
-        return getCausewayBeanTypeRegistry().streamMixinTypes()
+        return getCausewayBeanTypeRegistry().streamMixinTypesFor(getCorrespondingClass())
             .flatMap(this::createMixedInAction);
     }
 
@@ -26,6 +26,7 @@
 
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.binding.Observable;
 import org.apache.causeway.commons.collections.Can;
@@ -114,6 +115,14 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
 
     int getPageSize(int pageSizeDefault);
 
+    /**
+     * Returns the page of {@link #getDataRowsFilteredAndSorted()} as specified by given {@link QueryRange}.
+     * <p>
+     * Unless already memoized, avoids materializing all filtered and sorted rows,
+     * such that only the rows of the requested page are produced.
+     */
+    Can<DataRow> getDataRowsFilteredAndSorted(QueryRange range);
+
     // -- SORTING
 
     Bindable<ColumnSort> getColumnSort();
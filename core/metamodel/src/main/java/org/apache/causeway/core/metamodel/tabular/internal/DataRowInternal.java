@@ -19,15 +19,15 @@
 package org.apache.causeway.core.metamodel.tabular.internal;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.causeway.applib.annotation.Where;
 
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 
-import org.springframework.lang.Nullable;
-
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Bindables.BooleanBindable;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -46,13 +46,14 @@
     private final ManagedObject rowElement;
     @Getter private final BooleanBindable selectToggle;
     @Getter private final DataTableInternal parentTable;
-    @Getter final Optional<CollectionFilterService.Tokens> filterTokens;
+    // tokenized on first filter use only, as tokenizing might involve title rendering
+    private final _Lazy<Optional<CollectionFilterService.Tokens>> filterTokens;
 
     DataRowInternal(
             final int rowIndex,
             final @NonNull DataTableInternal parentTable,
             final @NonNull ManagedObject rowElement,
-            final @Nullable CollectionFilterService.Tokens filterTokens) {
+            final @NonNull Supplier<CollectionFilterService.Tokens> filterTokens) {
         this.rowIndex = rowIndex;
         this.parentTable = parentTable;
         this.rowElement = rowElement;
@@ -62,7 +63,12 @@
             //_ToggleDebug.onSelectRowToggle(rowElement, o, n, parentTable.isToggleAllEvent.get());
             parentTable.handleRowSelectToggle();
         });
-        this.filterTokens = Optional.ofNullable(filterTokens);
+        this.filterTokens = _Lazy.threadSafe(()->Optional.ofNullable(filterTokens.get()));
+    }
+
+    @Override
+    public Optional<CollectionFilterService.Tokens> getFilterTokens() {
+        return filterTokens.get();
     }
 
     @Override
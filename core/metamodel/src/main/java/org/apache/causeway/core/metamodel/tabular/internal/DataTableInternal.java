@@ -18,23 +18,33 @@
  */
 package org.apache.causeway.core.metamodel.tabular.internal;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.TableDecorator;
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PageableList;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.functional.IndexedFunction;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -68,15 +78,17 @@
     // -- FACTORIES
 
     public static DataTableInternal empty(final ManagedMember managedMember, final Where where) {
-        return new DataTableInternal(managedMember, where, Can.empty());
+        return new DataTableInternal(managedMember, where, null, Can::empty);
     }
 
     public static DataTableInternal forCollection(
             final ManagedCollection managedCollection) {
-        return new DataTableInternal(managedCollection, managedCollection.getWhere(),
-            managedCollection
-            .streamElements()
-            .collect(Can.toCan()));
+        return managedCollection.getPageableListOrElements()
+            .fold(
+                pageableList->new DataTableInternal(managedCollection, managedCollection.getWhere(),
+                        pageableList, ()->adaptAll(managedCollection, pageableList)),
+                elements->new DataTableInternal(managedCollection, managedCollection.getWhere(),
+                        null, ()->elements));
     }
 
     public static DataTableInternal forAction(
@@ -84,7 +96,7 @@ public static DataTableInternal forAction(
             final ManagedObject actionResult) {
 
         if(actionResult==null) {
-            new DataTableInternal(managedAction, managedAction.getWhere(), Can.empty());
+            new DataTableInternal(managedAction, managedAction.getWhere(), null, Can::empty);
         }
         if(!(actionResult instanceof PackedManagedObject)) {
             throw _Exceptions.unexpectedCodeReach();
@@ -93,9 +105,14 @@ public static DataTableInternal forAction(
         var elements = ((PackedManagedObject)actionResult).unpack();
         elements.forEach(ManagedObject::getBookmark);
 
-        return new DataTableInternal(managedAction, managedAction.getWhere(), elements);
+        return new DataTableInternal(managedAction, managedAction.getWhere(), null, ()->elements);
     }
 
+    /**
+     * Number of elements fetched per round trip, when exporting a table that is paged at the source.
+     */
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     // -- CONSTRUCTION
 
     // as this is a layer of abstraction, don't expose via getter
@@ -116,6 +133,19 @@ public static DataTableInternal forAction(
 
     private final Optional<FilterHandler> filterHandler;
 
+    /**
+     * If the collection's getter returned a {@link PageableList}, allows to fetch and count
+     * the rows of a page at the source, for as long as the table is neither sorted nor filtered
+     * and its elements have not been loaded otherwise.
+     */
+    private final @Nullable PageableList<?> pageableList;
+
+    /**
+     * All data rows created so far, either for a page (fetched at the source) or for all the
+     * {@link #dataRows}, such that any row (and its selection state) is created once only.
+     */
+    private final Map<Integer, DataRowInternal> rowsByIndex = new ConcurrentHashMap<>();
+
     /**
      * On data row selection changes (originating from UI),
      * the framework updates this {@link Bindable},
@@ -127,7 +157,8 @@ private DataTableInternal(
             // we need access to the owner in support of imperative title and referenced column detection
             final ManagedMember managedMember,
             final Where where,
-            final Can<ManagedObject> elements) {
+            final @Nullable PageableList<?> pageableList,
+            final Supplier<Can<ManagedObject>> elements) {
 
         var elementType = managedMember.getElementType();
         //var mmc = elementType.getMetaModelContext();
@@ -135,18 +166,19 @@ private DataTableInternal(
         this.managedMember = managedMember;
         this.where = where;
         this.filterHandler = _FilterUtils.createFilterHandler(elementType);
+        this.pageableList = pageableList;
 
         this.searchArgument = _Bindables.forValue("");
         this.columnSort = _Bindables.forValue(null);
 
-        this.dataElements = _Observables.lazy(()->elements
+        this.dataElements = _Observables.lazy(()->elements.get()
                 //.map(mmc::injectServicesInto) // I believe is redundant, has major performance impact
                 //.filter(this::ignoreHidden) // I believe is redundant, has major performance impact
                 );
 
         this.dataRows = _Observables.lazy(()->
             dataElements.getValue().stream()
-                .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
+                .map(IndexedFunction.zeroBased(this::dataRow))
                 .collect(Can.toCan()));
 
         this.dataRowsFilteredAndSorted = _Observables.lazy(()->
@@ -156,9 +188,11 @@ private DataTableInternal(
                         .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
                 .collect(Can.toCan()));
 
+        // only rows created so far can be selected
         this.dataRowsSelected = _Observables.lazy(()->
-            dataRows.getValue().stream()
+            rowsByIndex.values().stream()
                 .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
+                .sorted(Comparator.comparingInt(DataRow::getRowIndex))
                 .collect(Can.toCan()));
 
         this.selectionChanges = _Bindables.forValue(Boolean.FALSE);
@@ -212,7 +246,9 @@ public Optional<TableDecorator> getTableDecoratorIfAny() {
      * Count all data rows (the user is allowed to see).
      */
     public int getVisibleElementCount() {
-        return dataElements.getValue().size();
+        return isPageableAtSource()
+                ? pageableList.size() // counted at the source
+                : dataElements.getValue().size();
     }
 
     /**
@@ -220,7 +256,12 @@ public int getVisibleElementCount() {
      */
     @Override
     public int getFilteredElementCount() {
-        return dataRowsFilteredAndSorted.getValue().size();
+        if(dataRowsFilteredAndSorted.isMemoized()) {
+            return dataRowsFilteredAndSorted.getValue().size();
+        }
+        return isSearchActive()
+                ? Math.toIntExact(dataRows.getValue().stream().filter(adaptSearchPredicate()).count())
+                : getVisibleElementCount(); // no need to sort, just for counting
     }
 
     @Override
@@ -234,10 +275,118 @@ public ObjectSpecification getElementType() {
 
     @Override
     public Optional<DataRow> lookupDataRow(final int rowIndex) {
+        var dataRow = rowsByIndex.get(rowIndex);
+        if(dataRow!=null) {
+            return Optional.of(dataRow);
+        }
+        if(isPageableAtSource()) {
+            return dataRowsOfPageAtSource(QueryRange.of(rowIndex, 1)).getFirst();
+        }
         return getDataRows().getValue().get(rowIndex)
                 .map(DataRow.class::cast);
     }
 
+    // -- PAGING
+
+    @Override
+    public Can<DataRow> getDataRowsFilteredAndSorted(final @NonNull QueryRange range) {
+        if(range.isUnconstrained()
+                || dataRowsFilteredAndSorted.isMemoized()) {
+            return page(dataRowsFilteredAndSorted.getValue(), range);
+        }
+        var sortingComparator = sortingComparator();
+        if(sortingComparator.isEmpty()
+                && range.hasLimit()
+                && !isSearchActive()
+                && isPageableAtSource()) {
+            // offset and limit are pushed down to the source, eg. the database
+            return dataRowsOfPageAtSource(range);
+        }
+        if(sortingComparator.isEmpty()) {
+            // unsorted: rows beyond the requested page are neither filtered nor collected
+            var rows = dataRows.getValue().stream()
+                    .filter(adaptSearchPredicate())
+                    .skip(range.getStart());
+            return (range.hasLimit()
+                    ? rows.limit(range.getLimit())
+                    : rows)
+                    .collect(Can.toCan());
+        }
+        if(!range.hasLimit()) {
+            return page(dataRowsFilteredAndSorted.getValue(), range);
+        }
+        // sorted: partial sort, retaining only the rows up to the end of the requested page
+        return topRows(
+                dataRows.getValue().stream().filter(adaptSearchPredicate()),
+                sortingComparator.get(),
+                range.getEndAsInt())
+                .subCan(range.getStartAsInt());
+    }
+
+    /**
+     * Whether the elements can be paged and counted at the source,
+     * that is, the collection's getter returned a {@link PageableList},
+     * whose elements have not been loaded by this table yet.
+     */
+    private boolean isPageableAtSource() {
+        return pageableList!=null
+                && !dataElements.isMemoized();
+    }
+
+    private Can<DataRow> dataRowsOfPageAtSource(final QueryRange range) {
+        var objectManager = getElementType().getObjectManager();
+        return pageableList.page(range).stream()
+                .map(IndexedFunction.zeroBased((pageIndex, pojo)->
+                    (DataRow) rowsByIndex.computeIfAbsent(range.getStartAsInt() + pageIndex,
+                            rowIndex->newDataRow(rowIndex, objectManager.adapt(pojo)))))
+                .collect(Can.toCan());
+    }
+
+    private DataRow dataRow(final int rowIndex, final ManagedObject element) {
+        return rowsByIndex.computeIfAbsent(rowIndex, __->newDataRow(rowIndex, element));
+    }
+
+    private DataRowInternal newDataRow(final int rowIndex, final ManagedObject element) {
+        return new DataRowInternal(rowIndex, this, element, ()->tokens(element));
+    }
+
+    private static Can<ManagedObject> adaptAll(
+            final ManagedCollection managedCollection,
+            final PageableList<?> pageableList) {
+        var objectManager = managedCollection.getElementType().getObjectManager();
+        return pageableList.stream()
+                .map(objectManager::adapt)
+                .collect(Can.toCan());
+    }
+
+    private static Can<DataRow> page(final Can<DataRow> rows, final QueryRange range) {
+        return range.hasLimit()
+                ? rows.subCan(range.getStartAsInt(), Math.min(range.getEndAsInt(), rows.size()))
+                : rows.subCan(range.getStartAsInt());
+    }
+
+    /**
+     * Returns the first {@code maxSize} rows as ordered by given comparator,
+     * consistent with a (stable) full sort, as ties are broken by row index.
+     */
+    private static Can<DataRow> topRows(
+            final Stream<DataRow> rows,
+            final Comparator<DataRow> comparator,
+            final int maxSize) {
+        var stableComparator = comparator.thenComparingInt(DataRow::getRowIndex);
+        // max-heap, such that the largest row is evicted first
+        var heap = new PriorityQueue<DataRow>(stableComparator.reversed());
+        rows.forEach(row->{
+            heap.add(row);
+            if(heap.size()>maxSize) {
+                heap.poll();
+            }
+        });
+        var topRows = new ArrayList<DataRow>(heap);
+        topRows.sort(stableComparator);
+        return Can.ofCollection(topRows);
+    }
+
     // -- FILTER
 
     @Override
@@ -246,6 +395,14 @@ public String getSearchPromptPlaceholderText() {
                 .orElse("");
     }
 
+    /**
+     * Whether there is a non-blank search argument, that is, rows are actually filtered.
+     */
+    private boolean isSearchActive() {
+        return filterHandler.isPresent()
+                && _Strings.blankToNullOrTrim(searchArgument.getValue())!=null;
+    }
+
     private Predicate<DataRow> adaptSearchPredicate() {
         return filterHandler.isEmpty()
                 ? dataRow->true
@@ -367,6 +524,18 @@ public ActionInteraction startAssociatedActionInteraction(final String actionId,
 
     @Override
     public DataTable export() {
+        if(sortingComparator().isEmpty()
+                && !isSearchActive()
+                && isPageableAtSource()) {
+            // rows are streamed from the source page by page, rather than all being loaded
+            return new DataTable(
+                    getElementType(),
+                    getTitle().getValue(),
+                    getDataColumns().getValue()
+                        .map(DataColumn::getAssociationMetaModel),
+                    Can.empty())
+                .setDataElementStream(this::streamElementsPageByPageAtSource);
+        }
         return new DataTable(
                 getElementType(),
                 getTitle().getValue(),
@@ -378,6 +547,15 @@ public DataTable export() {
                     .collect(Can.toCan()));
     }
 
+    private Stream<ManagedObject> streamElementsPageByPageAtSource() {
+        var objectManager = getElementType().getObjectManager();
+        return IntStream.iterate(0, start->start + EXPORT_PAGE_SIZE)
+                .mapToObj(start->pageableList.page(QueryRange.of(start, EXPORT_PAGE_SIZE)))
+                .takeWhile(page->!page.isEmpty())
+                .flatMap(List::stream)
+                .map(objectManager::adapt);
+    }
+
     // used internally for serialization
     private DataTable exportAll() {
         return new DataTable(
@@ -414,7 +592,10 @@ static Memento create(
             return new Memento(
                     tableInteractive.managedMember.getIdentifier(),
                     tableInteractive.where,
-                    tableInteractive.exportAll(),
+                    // pageable tables re-evaluate the collection on recreation, rather than serializing all elements
+                    tableInteractive.pageableList!=null
+                        ? null
+                        : tableInteractive.exportAll(),
                     tableInteractive.searchArgument.getValue(),
                     tableInteractive.getSelectedRowIndexes(),
                     tableInteractive.getColumnSort().getValue());
@@ -422,7 +603,7 @@ static Memento create(
 
         private final @NonNull Identifier featureId;
         private final @NonNull Where where;
-        private final @NonNull DataTable dataTable;
+        private final @Nullable DataTable dataTable;
 
         private @Nullable String searchArgument;
         private @NonNull Set<Integer> selectedRowIndexes;
@@ -444,23 +625,27 @@ public DataTableInternal getDataTableModel(final ManagedObject owner) {
                     : ActionInteraction.start(owner, memberId, where)
                         .getManagedActionElseFail();
 
-            var dataTableInteractive = new DataTableInternal(managedMember, where,
-                    dataTable.streamDataElements()
-                    .peek(obj->{
-                        if(obj.getSpecialization().isViewmodel()) {
-                            // make sure any referenced entities are made live if currently hollow
-                            ManagedObjects.refreshViewmodel(obj, /*bookmark supplier*/ null);
-                        }
-                    })
-                    .collect(Can.toCan()));
+            var dataTableInteractive = dataTable==null
+                    ? forCollection((ManagedCollection) managedMember)
+                    : new DataTableInternal(managedMember, where, null, ()->
+                        dataTable.streamDataElements()
+                        .peek(obj->{
+                            if(obj.getSpecialization().isViewmodel()) {
+                                // make sure any referenced entities are made live if currently hollow
+                                ManagedObjects.refreshViewmodel(obj, /*bookmark supplier*/ null);
+                            }
+                        })
+                        .collect(Can.toCan()));
 
             if(columnSort!=null)  {
                 dataTableInteractive.columnSort.setValue(columnSort);
             }
             dataTableInteractive.searchArgument.setValue(searchArgument);
             dataTableInteractive.doProgrammaticToggle(()->{
-                dataTableInteractive.dataRows.getValue().stream()
-                    .filter(dataRow->selectedRowIndexes.contains(dataRow.getRowIndex()))
+                selectedRowIndexes.stream()
+                    .sorted()
+                    .map(dataTableInteractive::lookupDataRow)
+                    .flatMap(Optional::stream)
                     .forEach(dataRow->dataRow.getSelectToggle().setValue(true));
             });
             return dataTableInteractive;
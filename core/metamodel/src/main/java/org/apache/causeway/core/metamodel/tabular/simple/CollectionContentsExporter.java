@@ -19,6 +19,7 @@
 package org.apache.causeway.core.metamodel.tabular.simple;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.nio.file.Files;
 
 import org.springframework.lang.Nullable;
@@ -71,8 +72,32 @@ default void createExport(final DataTable dataTable, final File tempFile) {
     void createExport(DataTable dataTable, File tempFile, @Nullable AccessMode accessMode);
 
     /**
-     * Writes given tabular data into a {@link Blob} of given name.
+     * Writes given tabular data from {@link DataTable} directly to given {@link OutputStream},
+     * which is not closed by this method.
+     * <p>
+     * The default implementation writes to a temporary file first, then copies its contents over.
+     * Exporters that are able to stream should override.
      *
+     * @param dataTable data model for the table
+     * @param out destination, this exporter writes its data to
+     */
+    @SneakyThrows
+    default void createExport(final DataTable dataTable, final OutputStream out, final @Nullable AccessMode accessMode) {
+        var tempFile = File.createTempFile(this.getClass().getCanonicalName(), ".tmp");
+        try {
+            createExport(dataTable, tempFile, accessMode);
+            Files.copy(tempFile.toPath(), out);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath()); // cleanup
+        }
+    }
+
+    /**
+     * Writes given tabular data into a {@link Blob} of given name.
+     * <p>
+     * The export is written to a temporary file first, but the resulting {@link Blob}
+     * holds all of its bytes in memory. For large exports, consider
+     * {@link #createExport(DataTable, OutputStream, AccessMode)} instead.
      */
     default Blob exportToBlob(final DataTable dataTable, final String name) {
         return exportToBlob(dataTable, name, AccessMode.USER);
@@ -23,6 +23,7 @@
 import java.io.Serializable;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
@@ -30,6 +31,7 @@
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
@@ -63,9 +65,16 @@ public class DataTable implements Serializable {
 
     @Getter private final @NonNull ObjectSpecification elementType;
     @Getter private final @NonNull Can<DataColumn> dataColumns;
-    @Getter private @NonNull Can<DataRow> dataRows;
+    private @NonNull Can<DataRow> dataRows;
     @Getter private @NonNull String tableFriendlyName;
 
+    /**
+     * If set, the data-elements are not held by this table, but streamed each time the rows
+     * are traversed.
+     * @see #setDataElementStream(Supplier)
+     */
+    private transient @Nullable Supplier<Stream<ManagedObject>> dataElementStreamSupplier;
+
     /**
      * Returns an empty {@link DataTable} for given domain object type,
      * with all properties as columns, excluding mixed-in ones.
@@ -170,15 +179,48 @@ public String getLogicalName() {
         return getElementType().getLogicalTypeName();
     }
 
+    /**
+     * Returns the data rows of this table.
+     * <p>
+     * If the data-elements are {@link #setDataElementStream(Supplier) streamed}, these are
+     * collected (once) into memory; consider {@link #streamDataRows()} instead.
+     */
+    public Can<DataRow> getDataRows() {
+        if(dataElementStreamSupplier!=null) {
+            try(var dataRowStream = streamDataRows()) {
+                this.dataRows = dataRowStream.collect(Can.toCan());
+            }
+            this.dataElementStreamSupplier = null;
+        }
+        return dataRows;
+    }
+
     /**
      * Count data rows.
+     * <p>
+     * If the data-elements are {@link #setDataElementStream(Supplier) streamed}, these are
+     * collected (once) into memory.
      */
     public int getElementCount() {
-        return dataRows.size();
+        return getDataRows().size();
+    }
+
+    /**
+     * Streams the data rows of this table, without collecting these into memory,
+     * if the data-elements are {@link #setDataElementStream(Supplier) streamed}.
+     * <p>
+     * The returned {@link Stream} should be closed after use,
+     * as it might be backed by a database cursor.
+     */
+    public Stream<DataRow> streamDataRows() {
+        return dataElementStreamSupplier!=null
+                ? dataElementStreamSupplier.get()
+                    .map(domainObject->new DataRow(this, domainObject))
+                : dataRows.stream();
     }
 
     public Stream<ManagedObject> streamDataElements() {
-        return dataRows.stream()
+        return streamDataRows()
             .map(DataRow::getRowElement);
     }
 
@@ -197,8 +239,9 @@ public DataTable addDataElementsFrom(final @Nullable DataTable otherTable) {
                             otherType,
                             thisType));
         }
-        if(otherTable.dataRows.isNotEmpty()) {
-            this.dataRows = this.dataRows.addAll(otherTable.dataRows);
+        var otherDataRows = otherTable.getDataRows();
+        if(otherDataRows.isNotEmpty()) {
+            this.dataRows = this.getDataRows().addAll(otherDataRows);
         }
         return this;
     }
@@ -209,10 +252,24 @@ public DataTable addDataElementsFrom(final @Nullable DataTable otherTable) {
      * Sets the data-elements of this table, which make up the rows of this table.
      */
     public DataTable setDataElements(final @Nullable Iterable<ManagedObject> dataElements) {
+        this.dataElementStreamSupplier = null;
         this.dataRows = Can.ofIterable(dataElements)
                 .map(domainObject->new DataRow(this, domainObject));
         return this;
     }
+
+    /**
+     * Sets the data-elements of this table to be streamed from given supplier,
+     * each time the rows of this table are traversed (eg. when exported),
+     * such that these are not held in memory.
+     * @see #streamDataRows()
+     * @see #streamEntities(Query)
+     */
+    public DataTable setDataElementStream(final @NonNull Supplier<Stream<ManagedObject>> dataElementStreamSupplier) {
+        this.dataRows = Can.empty();
+        this.dataElementStreamSupplier = dataElementStreamSupplier;
+        return this;
+    }
     /**
      * Sets the data-elements of this table from given pojos, that are adapted to {@link ManagedObject}(s).
      * @see #setDataElements(Iterable)
@@ -252,6 +309,29 @@ public DataTable populateEntities(final Query<?> query) {
         return setDataElements(allMatching);
     }
 
+    /**
+     * Populates this table from the underlying (default) persistence layer,
+     * using given {@link Query} to refine the result, such that the entities are
+     * {@link RepositoryService#streamMatches(Query) streamed} (fetched in batches),
+     * each time the rows of this table are traversed.
+     * <p>
+     * Rows must be traversed within a transaction.
+     * @see #setDataElementStream(Supplier)
+     */
+    public DataTable streamEntities(final Query<?> query) {
+        { // sanity check
+            var requestType = query.getResultType();
+            var resultType = getElementType().getCorrespondingClass();
+            _Assert.assertEquals(requestType, resultType, ()->
+                    String.format("Query's result-type %s must match the table's element-type %s.",
+                            requestType,
+                            resultType));
+        }
+        var repositoryService = getElementType().getRepositoryService();
+        return setDataElementStream(()->repositoryService.streamMatches(query)
+                .map(objectManager()::adapt));
+    }
+
     // -- TRAVERSAL
 
     public static interface CellVisitor {
@@ -266,13 +346,15 @@ public DataTable visit(final CellVisitor visitor) {
     public DataTable visit(final CellVisitor visitor, final Predicate<DataColumn> columnFilter) {
         var columnsOfInterest = getDataColumns().filter(columnFilter);
         if(columnsOfInterest.isNotEmpty()) {
-            getDataRows().forEach(row->{
-                visitor.onRowEnter(row);
-                columnsOfInterest.forEach(col->{
-                    visitor.onCell(col, row.getCellElements(col, InteractionInitiatedBy.PASS_THROUGH));
+            try(var dataRowStream = streamDataRows()) {
+                dataRowStream.forEach(row->{
+                    visitor.onRowEnter(row);
+                    columnsOfInterest.forEach(col->{
+                        visitor.onCell(col, row.getCellElements(col, InteractionInitiatedBy.PASS_THROUGH));
+                    });
+                    visitor.onRowLeave(row);
                 });
-                visitor.onRowLeave(row);
-            });
+            }
         }
         return this;
     }
@@ -335,9 +417,9 @@ private static class SerializationProxy implements Serializable {
 
         private SerializationProxy(final DataTable dataTable) {
             this.elementTypeClass = dataTable.getElementType().getCorrespondingClass();
-            this.rowElementBookmarks = dataTable.streamDataElements()
-                    .map(ManagedObject::getBookmarkElseFail)
-                    .collect(Can.toCan());
+            this.rowElementBookmarks = dataTable.getDataRows()
+                    .map(DataRow::getRowElement)
+                    .map(ManagedObject::getBookmarkElseFail);
             this.tableFriendlyName = dataTable.getTableFriendlyName();
             this.columnIds = dataTable.getDataColumns().map(DataColumn::getColumnId);
         }
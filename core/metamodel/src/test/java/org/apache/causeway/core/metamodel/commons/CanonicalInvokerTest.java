@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.commons;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.reflection._MethodFacades;
+
+import lombok.SneakyThrows;
+
+class CanonicalInvokerTest {
+
+    public static class Customer {
+        String lastVoidCall;
+        public String greet(final String name, final int times) {
+            return name.repeat(times);
+        }
+        public int size(final List<String> names) {
+            return names.size();
+        }
+        public void touch(final String arg) {
+            lastVoidCall = arg;
+        }
+        public static String staticEcho(final String arg) {
+            return arg;
+        }
+        private String hidden() {
+            return "hidden";
+        }
+        public String fail() {
+            throw new IllegalStateException("domain failure");
+        }
+    }
+
+    private final Customer customer = new Customer();
+
+    @Test
+    void invocationPlan_isCreatedAndMemoizedPerMethodFacade() {
+        var method = method("greet", String.class, int.class);
+        var methodFacade = _MethodFacades.testing.regular(method);
+        assertTrue(MethodInvoker.lookup(methodFacade).isPresent());
+        assertSame(MethodInvoker.lookup(methodFacade).get(), MethodInvoker.lookup(methodFacade).get());
+    }
+
+    @Test
+    void invocationPlan_isSharedByMethodFacadesAndMethod() {
+        // eg. supporting methods, that are invoked by Method rather than MethodFacade
+        var method = method("greet", String.class, int.class);
+        var invoker = MethodInvoker.lookup(method).get();
+        assertSame(invoker, MethodInvoker.lookup(method("greet", String.class, int.class)).get());
+        assertSame(invoker, MethodInvoker.lookup(_MethodFacades.testing.regular(method)).get());
+        assertSame(invoker, MethodInvoker.lookup(_MethodFacades.testing.regular(method)).get());
+    }
+
+    @Test
+    void primitiveArgs_areDefaulted() {
+        var greet = method("greet", String.class, int.class);
+        assertEquals("", invoke(greet, "a", null));
+        assertEquals("aaa", invoke(greet, "a", 3));
+        assertEquals("", CanonicalInvoker.invoke(greet, customer, "a", null));
+        assertEquals("aaa", CanonicalInvoker.invoke(greet, customer, "a", 3));
+    }
+
+    @Test
+    void collectionArgs_areConverted() {
+        assertEquals(2, invoke(method("size", List.class), Set.of("a", "b")));
+        assertEquals(2, CanonicalInvoker.invoke(method("size", List.class), customer, Set.of("a", "b")));
+    }
+
+    @Test
+    void voidStaticAndNonPublicMethods() {
+        assertNull(invoke(method("touch", String.class), "x"));
+        assertEquals("x", customer.lastVoidCall);
+        assertEquals("y", invoke(method("staticEcho", String.class), "y"));
+        assertEquals("hidden", invoke(method("hidden")));
+        assertEquals("hidden", CanonicalInvoker.invoke(method("hidden"), customer));
+    }
+
+    @Test
+    void domainExceptions_arePropagated() {
+        var ex = assertThrows(Exception.class, ()->invoke(method("fail")));
+        assertTrue(ex.getMessage().contains("domain failure"));
+    }
+
+    @Test
+    void incompatibleArgs_areReportedVerbosely() {
+        var ex = assertThrows(IllegalArgumentException.class,
+                ()->CanonicalInvoker.invokeWithConvertedArgs(
+                        method("greet", String.class, int.class), customer, 1, 2));
+        assertTrue(ex.getMessage().contains("param-type[0]"));
+    }
+
+    // -- HELPER
+
+    private Object invoke(final java.lang.reflect.Method method, final Object... args) {
+        return CanonicalInvoker.invoke(_MethodFacades.testing.regular(method), customer, args);
+    }
+
+    @SneakyThrows
+    private static java.lang.reflect.Method method(final String name, final Class<?>... paramTypes) {
+        return Customer.class.getDeclaredMethod(name, paramTypes);
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facetapi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+
+class FacetHolderAbstractTest {
+
+    static interface FooFacet extends Facet {
+    }
+
+    static interface BarFacet extends Facet {
+    }
+
+    static class ConcreteFacet extends FacetAbstract {
+        public ConcreteFacet(final Class<? extends Facet> facetType, final FacetHolder holder, final Precedence precedence) {
+            super(facetType, holder, precedence);
+        }
+    }
+
+    private FacetHolder facetHolder;
+
+    @BeforeEach
+    void setUp() {
+        facetHolder = FacetHolder.forTesting(MetaModelContext_forTesting.buildDefault());
+    }
+
+    @Test
+    void addingFacet_invalidatesSnapshot() {
+        assertNull(facetHolder.getFacet(FooFacet.class));
+        assertEquals(0, facetHolder.getFacetCount());
+
+        var fooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(fooFacet);
+
+        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+        assertTrue(facetHolder.containsFacet(FooFacet.class));
+        assertFalse(facetHolder.containsFacet(BarFacet.class));
+        assertEquals(1, facetHolder.getFacetCount());
+
+        var higherRankedFooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.HIGH);
+        facetHolder.addFacet(higherRankedFooFacet);
+
+        assertSame(higherRankedFooFacet, facetHolder.getFacet(FooFacet.class));
+        assertEquals(1, facetHolder.getFacetCount());
+    }
+
+    @Test
+    void concurrentLookup_whileAddingFacets() {
+        var fooFacet = new ConcreteFacet(FooFacet.class, facetHolder, Facet.Precedence.DEFAULT);
+        facetHolder.addFacet(fooFacet);
+
+        var readers = IntStream.range(0, 16)
+                .mapToObj(__->CompletableFuture.runAsync(()->{
+                    for (int i = 0; i < 10_000; i++) {
+                        // a concurrently added facet must never hide an already present one
+                        assertSame(fooFacet, facetHolder.getFacet(FooFacet.class));
+                    }
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        facetHolder.addFacet(new ConcreteFacet(BarFacet.class, facetHolder, Facet.Precedence.DEFAULT));
+        CompletableFuture.allOf(readers).join();
+
+        assertTrue(facetHolder.containsFacet(BarFacet.class));
+        assertEquals(2, facetHolder.streamFacets().count());
+    }
+
+}
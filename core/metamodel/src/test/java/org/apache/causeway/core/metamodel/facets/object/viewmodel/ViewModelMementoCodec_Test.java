@@ -0,0 +1,173 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.facets.object.viewmodel;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.DomainObject;
+import org.apache.causeway.applib.annotation.Nature;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.urlencoding.UrlEncodingService;
+import org.apache.causeway.commons.internal.memento._Mementos;
+import org.apache.causeway.commons.internal.memento._Mementos.SerializingAdapter;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.execution.PropertyModifier;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.valuesemantics.BigDecimalValueSemantics;
+import org.apache.causeway.core.metamodel.valuesemantics.IntValueSemantics;
+import org.apache.causeway.core.metamodel.valuesemantics.StringValueSemantics;
+import org.apache.causeway.core.metamodel.valuesemantics.UUIDValueSemantics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+class ViewModelMementoCodec_Test implements HasMetaModelContext {
+
+    private UrlEncodingService codec = Mockito.spy(UrlEncodingService.forTesting());
+    private SerializingAdapter serializer = new SerializingAdapter() {
+        @Override public Serializable write(final Object value) {
+            return (Serializable) value;
+        }
+        @Override public <T> T read(final Class<T> cls, final Serializable value) {
+            return cls.cast(value);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        // pass-through property modification, as done by the framework's default
+        var memberExecutorService = Mockito.mock(MemberExecutorService.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doAnswer(invocation->{
+                var propertyModifier = invocation.<PropertyModifier>getArgument(0);
+                propertyModifier.executeClearOrSetWithoutEvents(propertyModifier.getNewValue());
+                return propertyModifier.getHead().getTarget();
+            })
+            .when(memberExecutorService).setOrClearProperty(Mockito.any());
+
+        MetaModelContext_forTesting.builder()
+            .valueSemantic(new StringValueSemantics())
+            .valueSemantic(new IntValueSemantics())
+            .valueSemantic(new BigDecimalValueSemantics())
+            .valueSemantic(new UUIDValueSemantics())
+            .singleton(codec)
+            .singleton(serializer)
+            .singleton(memberExecutorService)
+            .build();
+    }
+
+    @DomainObject(nature = Nature.VIEW_MODEL)
+    @Named("ViewModelMementoCodec_Test.Customer")
+    public static class Customer {
+        @Property @Getter @Setter private String name;
+        @Property @Getter @Setter private int age;
+        @Property @Getter @Setter private BigDecimal balance;
+        @Property @Getter @Setter private UUID uuid;
+        @Property @Getter @Setter private String nickname;
+    }
+
+    @Test
+    void roundtrip() {
+        var customer = new Customer();
+        customer.setName("Fred Smith");
+        customer.setAge(42);
+        customer.setBalance(new BigDecimal("123.45"));
+        customer.setUuid(UUID.randomUUID());
+
+        var bookmark = bookmarkFor(customer);
+        assertTrue(ViewModelMementoCodec.isCompact(codec.decode(bookmark.getIdentifier())));
+
+        var afterRoundtrip = (Customer) instantiate(bookmark).getPojo();
+        assertEquals(customer.getName(), afterRoundtrip.getName());
+        assertEquals(customer.getAge(), afterRoundtrip.getAge());
+        assertEquals(customer.getBalance(), afterRoundtrip.getBalance());
+        assertEquals(customer.getUuid(), afterRoundtrip.getUuid());
+        assertNull(afterRoundtrip.getNickname());
+    }
+
+    @Test
+    void legacyMemento_isStillParsed() {
+        var legacy = Bookmark.forLogicalTypeNameAndIdentifier(
+                "ViewModelMementoCodec_Test.Customer",
+                _Mementos.create(codec, serializer).put("name", "Fred Smith").asString());
+
+        Mockito.clearInvocations(codec);
+        var customer = (Customer) instantiate(legacy).getPojo();
+        assertEquals("Fred Smith", customer.getName());
+        // the bookmark's identifier is decoded once only
+        Mockito.verify(codec, Mockito.times(1)).decode(legacy.getIdentifier());
+    }
+
+    @Test
+    void mementoOfDifferentLayout_isRejected() {
+        var otherLayout = Bookmark.forLogicalTypeNameAndIdentifier(
+                "ViewModelMementoCodec_Test.Customer",
+                codec.encode(new byte[] {ViewModelMementoCodec.FORMAT_VERSION_1, 1, 2, 3, 4, 0, 0, 0, 0}));
+        var ex = assertThrows(IllegalArgumentException.class, ()->instantiate(otherLayout));
+        assertTrue(ex.getMessage().contains("fingerprint 01020304"));
+    }
+
+    @Test
+    void corruptMemento_isRejected() {
+        var customer = new Customer();
+        customer.setName("Fred Smith");
+        var bytes = codec.decode(bookmarkFor(customer).getIdentifier());
+
+        // flip a bit of the name's first character, past the header (version and fingerprint)
+        var index = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("Fred");
+        assertTrue(index>5);
+        bytes[index] ^= 0x01;
+        var corrupt = Bookmark.forLogicalTypeNameAndIdentifier(
+                "ViewModelMementoCodec_Test.Customer",
+                codec.encode(bytes));
+
+        var ex = assertThrows(IllegalArgumentException.class, ()->instantiate(corrupt));
+        assertTrue(ex.getMessage().contains("checksum mismatch"));
+    }
+
+    // -- HELPER
+
+    private Bookmark bookmarkFor(final Customer customer) {
+        var spec = getSpecificationLoader().specForTypeElseFail(Customer.class);
+        return spec.viewmodelFacetElseFail().serializeToBookmark(getObjectManager().adapt(customer));
+    }
+
+    private ManagedObject instantiate(final Bookmark bookmark) {
+        var spec = getSpecificationLoader().specForTypeElseFail(Customer.class);
+        return spec.viewmodelFacetElseFail().instantiate(spec, Optional.of(bookmark));
+    }
+
+}
@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -108,4 +111,34 @@ public void getByObjectType_whenSet() {
         assertSame(objectSpec, customerSpec);
     }
 
+    @Test
+    public void computeIfAbsent_whenReentrant() {
+
+        var spec = specificationCache.computeIfAbsent(Customer.class, __->{
+            // creating one spec may trigger loading of another
+            specificationCache.computeIfAbsent(Order.class, ___->orderSpec);
+            return customerSpec;
+        });
+
+        assertSame(customerSpec, spec);
+        assertSame(orderSpec, specificationCache.lookup(Order.class).orElse(null));
+        assertThat(specificationCache.snapshotSpecs().size(), is(2));
+    }
+
+    @Test
+    public void computeIfAbsent_whenConcurrent_shouldApplyMappingFunctionOnlyOnce() {
+
+        var mappingFunctionCalls = new AtomicInteger();
+
+        IntStream.range(0, 1000).parallel().forEach(__->{
+            var spec = specificationCache.computeIfAbsent(Customer.class, ___->{
+                mappingFunctionCalls.incrementAndGet();
+                return customerSpec;
+            });
+            assertSame(customerSpec, spec);
+        });
+
+        assertThat(mappingFunctionCalls.get(), is(1));
+    }
+
 }
@@ -0,0 +1,252 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Collection;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.PageableList;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+class DataTableInternalPagingTest implements HasMetaModelContext {
+
+    @BeforeEach
+    final void setUp() throws Exception {
+        var memberExecutorService = Mockito.mock(MemberExecutorService.class);
+        MetaModelContext_forTesting.builder()
+            .singleton(memberExecutorService)
+            .build();
+    }
+
+    @Named("DataTableInternalPagingTest.Customer")
+    @AllArgsConstructor
+    public static class Customer implements ViewModel {
+
+        @Property
+        @Getter @Setter
+        private String memento;
+
+        @Override
+        public String viewModelMemento() {
+            return memento;
+        }
+
+        public boolean hidden() {
+            return memento.endsWith("-secret");
+        }
+
+    }
+
+    @Named("DataTableInternalPagingTest.Shop")
+    @NoArgsConstructor
+    public static class Shop implements ViewModel {
+
+        @Getter @Setter
+        private CustomerPageableList customerList = new CustomerPageableList(20);
+
+        @Collection
+        public List<Customer> getCustomers() {
+            return customerList;
+        }
+
+        @Override
+        public String viewModelMemento() {
+            return "shop";
+        }
+
+    }
+
+    /**
+     * Counts round trips, as if to a database.
+     */
+    @AllArgsConstructor
+    static class CustomerPageableList
+    extends AbstractList<Customer>
+    implements PageableList<Customer> {
+
+        private final int size;
+        /** index of the (only) customer to be hidden, if any */
+        private final int secretIndex;
+        final AtomicInteger pageCount = new AtomicInteger();
+        final AtomicInteger countCount = new AtomicInteger();
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        CustomerPageableList(final int size) {
+            this(size, -1);
+        }
+
+        @Override
+        public List<Customer> page(final QueryRange range) {
+            pageCount.incrementAndGet();
+            return IntStream.range(
+                        Math.min(range.getStartAsInt(), size),
+                        range.hasLimit()
+                            ? Math.min(range.getEndAsInt(), size)
+                            : size)
+                    .mapToObj(this::customer)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public int size() {
+            countCount.incrementAndGet();
+            return size;
+        }
+
+        @Override
+        public Customer get(final int index) {
+            loadCount.incrementAndGet();
+            return customer(index);
+        }
+
+        Customer customer(final int index) {
+            return new Customer("cus-" + index + (index == secretIndex ? "-secret" : ""));
+        }
+    }
+
+    @Test
+    void unsortedTable_isPagedAndCountedAtSource() {
+        var shop = new Shop();
+        var customerList = shop.getCustomerList();
+        var table = customerTable(shop);
+
+        assertEquals(20, table.getFilteredElementCount());
+
+        var page = table.getDataRowsFilteredAndSorted(QueryRange.of(5, 3));
+        assertEquals(List.of("cus-5", "cus-6", "cus-7"), page.map(this::memento).toList());
+        assertEquals(List.of(5, 6, 7), page.map(DataRow::getRowIndex).toList());
+
+        assertEquals(1, customerList.countCount.get());
+        assertEquals(1, customerList.pageCount.get());
+        assertEquals(0, customerList.loadCount.get());
+    }
+
+    @Test
+    void hiddenElements_areFilteredFromEachPage() {
+        var shop = new Shop();
+        shop.setCustomerList(new CustomerPageableList(20, 6));
+        var customerList = shop.getCustomerList();
+        var table = customerTable(shop);
+
+        var page = table.getDataRowsFilteredAndSorted(QueryRange.of(5, 3));
+        assertEquals(List.of("cus-5", "cus-7"), page.map(this::memento).toList());
+
+        assertEquals(1, customerList.pageCount.get());
+        assertEquals(0, customerList.loadCount.get());
+    }
+
+    @Test
+    void selection_isRetained_acrossPages_andMementoRoundtrip() {
+        var shop = new Shop();
+        var customerList = shop.getCustomerList();
+        var table = customerTable(shop);
+
+        table.getDataRowsFilteredAndSorted(QueryRange.of(5, 3))
+            .getElseFail(1).getSelectToggle().setValue(true);
+        table.getDataRowsFilteredAndSorted(QueryRange.of(10, 3))
+            .getElseFail(0).getSelectToggle().setValue(true);
+        // revisiting a page reuses its rows, including their selection state
+        assertTrue(table.getDataRowsFilteredAndSorted(QueryRange.of(5, 3))
+            .getElseFail(1).getSelectToggle().getValue());
+        assertEquals(Set.of(6, 10), table.getSelectedRowIndexes());
+        assertEquals(List.of("cus-6", "cus-10"), table.getSelected().map(obj->((Customer)obj.getPojo()).getMemento()).toList());
+
+        var recreated = table.createMemento().getDataTableModel(getObjectManager().adapt(shop));
+        assertEquals(Set.of(6, 10), recreated.getSelectedRowIndexes());
+
+        assertEquals(0, customerList.loadCount.get());
+    }
+
+    @Test
+    void loadingAll_endsPagingAtSource() {
+        var shop = new Shop();
+        var customerList = shop.getCustomerList();
+        var table = customerTable(shop);
+
+        var pagedRow = table.getDataRowsFilteredAndSorted(QueryRange.of(0, 3)).getElseFail(2);
+        // once all elements are loaded, these are no longer paged at the source
+        assertEquals(20, table.getDataElements().getValue().size());
+        assertEquals(List.of("cus-18", "cus-19"),
+                table.getDataRowsFilteredAndSorted(QueryRange.of(18, 5)).map(this::memento).toList());
+        assertEquals(1, customerList.pageCount.get());
+        assertTrue(customerList.loadCount.get() > 0);
+        // rows already created for a page are reused
+        assertEquals(pagedRow, table.lookupDataRow(2).orElseThrow());
+    }
+
+    @Test
+    void export_streamsPageByPageAtSource() {
+        var shop = new Shop();
+        var customerList = shop.getCustomerList();
+        var table = customerTable(shop);
+
+        var dataTable = table.export();
+        assertEquals(0, customerList.pageCount.get());
+
+        try(var dataElements = dataTable.streamDataElements()) {
+            assertEquals(
+                    IntStream.range(0, 20).mapToObj(i->"cus-" + i).collect(Collectors.toList()),
+                    dataElements.map(obj->((Customer)obj.getPojo()).getMemento()).collect(Collectors.toList()));
+        }
+        // the last page is empty, which ends the stream
+        assertEquals(2, customerList.pageCount.get());
+        assertEquals(0, customerList.loadCount.get());
+    }
+
+    // -- HELPER
+
+    private DataTableInternal customerTable(final Shop shop) {
+        var managedCollection = ManagedCollection
+                .lookupCollection(getObjectManager().adapt(shop), "customers", Where.ANYWHERE)
+                .orElseThrow();
+        return DataTableInternal.forCollection(managedCollection);
+    }
+
+    private String memento(final DataRow dataRow) {
+        return ((Customer)dataRow.getRowElement().getPojo()).getMemento();
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.simple;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Named;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+class DataTableStreamingTest implements HasMetaModelContext {
+
+    @BeforeEach
+    final void setUp() throws Exception {
+        var memberExecutorService = Mockito.mock(MemberExecutorService.class);
+        MetaModelContext_forTesting.builder()
+            .singleton(memberExecutorService)
+            .build();
+    }
+
+    @Named("DataTableStreamingTest.Customer")
+    @AllArgsConstructor
+    public static class Customer implements ViewModel {
+
+        @Property
+        @Getter @Setter
+        private String memento;
+
+        @Override
+        public String viewModelMemento() {
+            return memento;
+        }
+
+    }
+
+    private final AtomicInteger streamCount = new AtomicInteger();
+    private final AtomicInteger closeCount = new AtomicInteger();
+
+    @Test
+    void streamedRows_areNotHeld_butStreamedOnEachTraversal() {
+        var dataTable = streamedTable(3);
+
+        assertEquals(List.of("cus-0", "cus-1", "cus-2"), mementos(dataTable));
+        assertEquals(List.of("cus-0", "cus-1", "cus-2"), mementos(dataTable));
+
+        var visitedRows = new AtomicInteger();
+        dataTable.visit(new DataTable.CellVisitor() {
+            @Override public void onRowEnter(final DataRow row) { visitedRows.incrementAndGet(); }
+            @Override public void onCell(final DataColumn column, final Can<ManagedObject> cellValues) {}
+        });
+        assertEquals(3, visitedRows.get());
+
+        assertEquals(3, streamCount.get());
+        assertEquals(3, closeCount.get());
+    }
+
+    @Test
+    void streamedRows_areCollectedOnce_whenAccessedAsCan() {
+        var dataTable = streamedTable(3);
+
+        assertEquals(3, dataTable.getElementCount());
+        assertEquals(3, dataTable.getDataRows().size());
+        assertEquals(List.of("cus-0", "cus-1", "cus-2"), mementos(dataTable));
+
+        assertEquals(1, streamCount.get());
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    void streamedRows_roundtrip() {
+        var afterRoundtrip = _SerializationTester.roundtrip(streamedTable(2));
+
+        assertEquals(List.of("cus-0", "cus-1"), mementos(afterRoundtrip));
+    }
+
+    // -- HELPER
+
+    private DataTable streamedTable(final int size) {
+        return DataTable.forDomainType(Customer.class)
+                .setDataElementStream(()->{
+                    streamCount.incrementAndGet();
+                    return Stream.iterate(0, i->i+1)
+                            .limit(size)
+                            .map(i->getObjectManager().adapt(new Customer("cus-" + i)))
+                            .onClose(closeCount::incrementAndGet);
+                });
+    }
+
+    private static List<String> mementos(final DataTable dataTable) {
+        try(var dataElements = dataTable.streamDataElements()) {
+            return dataElements
+                    .map(obj->((Customer)obj.getPojo()).getMemento())
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
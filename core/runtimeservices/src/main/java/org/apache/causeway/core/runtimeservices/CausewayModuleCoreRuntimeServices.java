@@ -55,6 +55,7 @@
 import org.apache.causeway.core.runtimeservices.publish.ExecutionPublisherDefault;
 import org.apache.causeway.core.runtimeservices.publish.LifecycleCallbackNotifier;
 import org.apache.causeway.core.runtimeservices.publish.ObjectLifecyclePublisherDefault;
+import org.apache.causeway.core.runtimeservices.queryresultscache.QueryResultsCacheApplicationWideDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.ExceptionRecognizerServiceDefault;
 import org.apache.causeway.core.runtimeservices.recognizer.dae.ExceptionRecognizerForDataAccessException;
 import org.apache.causeway.core.runtimeservices.routing.RoutingServiceDefault;
@@ -108,6 +109,7 @@
         ObjectIconServiceDefault.class,
         ObjectLifecyclePublisherDefault.class,
         PlaceholderRenderServiceDefault.class,
+        QueryResultsCacheApplicationWideDefault.class,
         LifecycleCallbackNotifier.class,
         SchemaValueMarshallerDefault.class,
         ScratchpadDefault.class,
@@ -49,6 +49,8 @@
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
 
+import lombok.NonNull;
+
 /**
  * Default implementation of {@link BookmarkService}.
  *
@@ -103,6 +105,17 @@ public Optional<Object> lookup(final @Nullable Bookmark bookmark) {
         }
     }
 
+    @Override
+    public List<Optional<Object>> lookupAll(final @NonNull List<Bookmark> bookmarks) {
+        var loaded = objectManager.loadObjects(Can.ofCollection(bookmarks)) // skips nulls
+                .iterator();
+        return bookmarks.stream()
+                .map(bookmark->bookmark!=null
+                        ? Optional.ofNullable(loaded.next().getPojo())
+                        : Optional.empty())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Bookmark> bookmarkFor(final @Nullable Object domainObject) {
         if(domainObject == null) {
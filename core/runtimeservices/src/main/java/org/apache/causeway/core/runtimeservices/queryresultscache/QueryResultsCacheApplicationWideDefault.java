@@ -0,0 +1,453 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.CachedAcrossInteractions;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCacheApplicationWide;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.runtimeservices.CausewayModuleCoreRuntimeServices;
+import org.apache.causeway.core.transaction.changetracking.events.BulkRemoveEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Default implementation of {@link QueryResultsCacheApplicationWide}, if enabled via
+ * {@link CausewayConfiguration.Core.RuntimeServices.QueryResultsCache.ApplicationWide#isEnabled()}.
+ * <p>
+ * Bounded in size, with entries expiring after a configurable duration.
+ * Entries are evicted whenever an entity of any of the types they depend upon
+ * (as declared by {@link CachedAcrossInteractions#evictOn()}) is persisted, updated or removed,
+ * or whenever instances of such a type (or of a supertype) are deleted in bulk
+ * (and again once the corresponding transaction has completed).
+ * <p>
+ * Entities are never shared across interactions: those contained in results
+ * (directly, or as elements of a {@link List}, {@link Set} or {@link Optional}) are cached as {@link Bookmark}s,
+ * and looked up again on every hit. Any other elements are shared as they are, hence results are only cached
+ * if those are immutable values (value types as recognized by the metamodel, other than arrays and dates).
+ * <p>
+ * The annotated method is identified by the cache key's calling class, method name and (the types of) its keys,
+ * which are expected to correspond to the method's parameters.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(CausewayModuleCoreRuntimeServices.NAMESPACE + ".QueryResultsCacheApplicationWideDefault")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class QueryResultsCacheApplicationWideDefault implements QueryResultsCacheApplicationWide {
+
+    private enum Shape {
+        SINGLE,
+        OPTIONAL,
+        LIST,
+        SET
+    }
+
+    @Value
+    private static class EntityRef {
+        private final Bookmark bookmark;
+    }
+
+    @Value
+    private static class Entry {
+        private final Shape shape;
+        /** values as they are, entities as {@link EntityRef}s */
+        private final List<Object> elements;
+        private final Can<Class<?>> evictOn;
+        /** of the evictOn types, as it was before the result was queried */
+        private final long generation;
+        private final long expiresAtMillis;
+    }
+
+    @Value
+    private static class MethodKey {
+        private final Class<?> callingClass;
+        private final String methodName;
+        /** types of the cache key's keys, with <code>null</code> for <code>null</code> keys */
+        private final List<Class<?>> keyTypes;
+
+        static MethodKey of(final QueryResultsCache.Key cacheKey) {
+            var keys = cacheKey.getKeys()!=null
+                    ? cacheKey.getKeys()
+                    : new Object[0];
+            return new MethodKey(cacheKey.getCallingClass(), cacheKey.getMethodName(),
+                    Collections.unmodifiableList(Stream.of(keys)
+                            .map(key->key!=null ? key.getClass() : null)
+                            .collect(Collectors.toList())));
+        }
+
+        boolean isSignatureOf(final Method method) {
+            if(!method.getName().equals(methodName)
+                    || method.getParameterCount() != keyTypes.size()) {
+                return false;
+            }
+            var parameterTypes = method.getParameterTypes();
+            for(int i = 0; i < parameterTypes.length; i++) {
+                var keyType = keyTypes.get(i);
+                if(keyType == null
+                        ? parameterTypes[i].isPrimitive()
+                        : !ClassUtils.resolvePrimitiveIfNecessary(parameterTypes[i]).isAssignableFrom(keyType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Map<QueryResultsCache.Key, Entry> entriesByKey = new ConcurrentHashMap<>();
+    private final Map<MethodKey, Optional<Can<Class<?>>>> evictOnByMethod = new ConcurrentHashMap<>();
+    /** keys are all the types that entries might depend upon */
+    private final Map<Class<?>, AtomicLong> generationByEvictOnType = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final boolean enabled;
+    private final long expiryDurationMillis;
+    private final int maxSizeInEntries;
+    private final SpecificationLoader specificationLoader;
+    private final BookmarkService bookmarkService;
+
+    @Inject
+    public QueryResultsCacheApplicationWideDefault(
+            final CausewayConfiguration causewayConfiguration,
+            final SpecificationLoader specificationLoader,
+            final BookmarkService bookmarkService) {
+        var config = causewayConfiguration.getCore().getRuntimeServices().getQueryResultsCache().getApplicationWide();
+        this.enabled = config.isEnabled();
+        this.expiryDurationMillis = TimeUnit.MINUTES.toMillis(config.getExpiryDurationInMinutes());
+        this.maxSizeInEntries = config.getMaxSizeInEntries();
+        this.specificationLoader = specificationLoader;
+        this.bookmarkService = bookmarkService;
+    }
+
+    @Override
+    public boolean isCachedAcrossInteractions(final QueryResultsCache.Key cacheKey) {
+        return enabled
+                && evictOnFor(cacheKey).isPresent();
+    }
+
+    @Override
+    public <T> T execute(final Callable<T> callable, final QueryResultsCache.Key cacheKey) throws Exception {
+        var evictOn = evictOnFor(cacheKey).orElse(null);
+        if(!enabled
+                || evictOn == null) {
+            return callable.call();
+        }
+
+        final long now = System.currentTimeMillis();
+        var entry = entriesByKey.get(cacheKey);
+        if(entry != null
+                && entry.getExpiresAtMillis() > now
+                // not evicted since the result was queried (even if put after the eviction)
+                && entry.getGeneration() == generationOf(entry.getEvictOn())) {
+            // fails if any of the cached entities no longer exists, in which case treated as a miss
+            var resolved = resolve(entry);
+            if(resolved.isSuccess()) {
+                hitCount.incrementAndGet();
+                return _Casts.uncheckedCast(resolved.getValue().orElse(null));
+            }
+        }
+        missCount.incrementAndGet();
+
+        // stale entries, because evicted while executing (or before being put), are never read
+        final long generationBeforeCall = generationOf(evictOn);
+        var result = callable.call();
+        if(generationBeforeCall == generationOf(evictOn)) {
+            toEntry(result, evictOn, generationBeforeCall, now + expiryDurationMillis)
+            .ifPresent(newEntry->{
+                makeRoomIfRequired(now);
+                entriesByKey.put(cacheKey, newEntry);
+            });
+        }
+
+        if(log.isDebugEnabled()) {
+            log.debug("application-wide query results cache miss for {} (hits: {}, misses: {})",
+                    cacheKey, hitCount.get(), missCount.get());
+        }
+        return result;
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    @EventListener(PostStoreEvent.class)
+    public void onPostStore(final PostStoreEvent event) {
+        onChanged(event.getPersistableObject());
+    }
+
+    @EventListener(PreRemoveEvent.class)
+    public void onPreRemove(final PreRemoveEvent event) {
+        onChanged(event.getPersistableObject());
+    }
+
+    /**
+     * Instances deleted in bulk don't trigger a {@link PreRemoveEvent} each.
+     */
+    @EventListener(BulkRemoveEvent.class)
+    public void onBulkRemove(final BulkRemoveEvent event) {
+        onChanged(event.getEntityType(), true);
+    }
+
+    // -- HELPER
+
+    private void onChanged(final @Nullable Object entity) {
+        if(entity == null) {
+            return;
+        }
+        onChanged(entity.getClass(), false);
+    }
+
+    /**
+     * @param includingSubtypes - whether instances of subtypes of given entity type have changed as well
+     */
+    private void onChanged(final Class<?> entityClass, final boolean includingSubtypes) {
+        if(!enabled
+                || generationByEvictOnType.keySet().stream()
+                    .noneMatch(type->isAffected(type, entityClass, includingSubtypes))) {
+            return;
+        }
+        evict(entityClass, includingSubtypes);
+        // other interactions might have re-populated the cache, before the change got committed
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    evict(entityClass, includingSubtypes);
+                }
+            });
+        }
+    }
+
+    private void evict(final Class<?> entityClass, final boolean includingSubtypes) {
+        // first invalidates, then cleans up
+        generationByEvictOnType.forEach((type, generation)->{
+            if(isAffected(type, entityClass, includingSubtypes)) {
+                generation.incrementAndGet();
+            }
+        });
+        entriesByKey.values().removeIf(entry->
+            entry.getEvictOn().stream().anyMatch(type->isAffected(type, entityClass, includingSubtypes)));
+    }
+
+    private static boolean isAffected(
+            final Class<?> evictOnType,
+            final Class<?> entityClass,
+            final boolean includingSubtypes) {
+        return evictOnType.isAssignableFrom(entityClass)
+                || (includingSubtypes
+                        && entityClass.isAssignableFrom(evictOnType));
+    }
+
+    private long generationOf(final Can<Class<?>> evictOn) {
+        // the sum changes whenever any of the (monotonic) generations does
+        long sum = 0;
+        for(var type : evictOn) {
+            sum += generationByEvictOnType.get(type).get();
+        }
+        return sum;
+    }
+
+    private Optional<Can<Class<?>>> evictOnFor(final QueryResultsCache.Key cacheKey) {
+        if(cacheKey.getCallingClass() == null
+                || cacheKey.getMethodName() == null) {
+            return Optional.empty();
+        }
+        return evictOnByMethod.computeIfAbsent(MethodKey.of(cacheKey), this::lookupEvictOn);
+    }
+
+    private Optional<Can<Class<?>>> lookupEvictOn(final MethodKey methodKey) {
+        // also finds annotations of overridden methods (eg. if the calling class is a proxy)
+        var candidates = Stream.of(ReflectionUtils.getUniqueDeclaredMethods(methodKey.getCallingClass()))
+                .filter(methodKey::isSignatureOf)
+                .collect(Collectors.toList());
+        if(candidates.size() != 1) {
+            if(candidates.size() > 1) {
+                log.warn("not caching across interactions, as ambiguous which of {} is called with keys of type {}",
+                        candidates, methodKey.getKeyTypes());
+            }
+            return Optional.empty();
+        }
+        var evictOn = Optional.ofNullable(
+                    AnnotatedElementUtils.findMergedAnnotation(candidates.get(0), CachedAcrossInteractions.class))
+                .map(annotation->Can.<Class<?>>ofArray(annotation.evictOn()));
+        evictOn.ifPresent(types->types.forEach(type->generationByEvictOnType.computeIfAbsent(type, __->new AtomicLong())));
+        return evictOn;
+    }
+
+    /**
+     * @return empty if given result cannot be cached across interactions,
+     *      eg. a stream or a collection type other than {@link List} or {@link Set},
+     *      or if it contains entities that are not (yet) bookmarkable, or any other objects
+     *      that are not {@link #isImmutableValue(Object) immutable values}
+     */
+    private Optional<Entry> toEntry(
+            final @Nullable Object result,
+            final Can<Class<?>> evictOn,
+            final long generation,
+            final long expiresAtMillis) {
+        final Shape shape;
+        final Collection<?> elements;
+        if(result instanceof Optional) {
+            shape = Shape.OPTIONAL;
+            elements = ((Optional<?>) result).stream().collect(Collectors.toList());
+        } else if(result instanceof List) {
+            shape = Shape.LIST;
+            elements = (List<?>) result;
+        } else if(result instanceof Set) {
+            shape = Shape.SET;
+            elements = (Set<?>) result;
+        } else if(result instanceof Iterable
+                || result instanceof Iterator
+                || result instanceof Stream) {
+            return Optional.empty();
+        } else {
+            shape = Shape.SINGLE;
+            elements = Collections.singletonList(result);
+        }
+        var cachedElements = new ArrayList<Object>(elements.size());
+        for(var element : elements) {
+            if(element == null
+                    || isImmutableValue(element)) {
+                cachedElements.add(element);
+                continue;
+            }
+            if(!isEntity(element)) {
+                return Optional.empty();
+            }
+            var bookmark = bookmarkService.bookmarkFor(element).orElse(null);
+            if(bookmark == null) {
+                return Optional.empty();
+            }
+            cachedElements.add(new EntityRef(bookmark));
+        }
+        return Optional.of(new Entry(shape, cachedElements, evictOn, generation, expiresAtMillis));
+    }
+
+    private Try<Object> resolve(final Entry entry) {
+        return Try.call(()->{
+            var elements = new ArrayList<Object>(entry.getElements().size());
+            for(var element : entry.getElements()) {
+                elements.add(element instanceof EntityRef
+                        ? bookmarkService.lookup(((EntityRef) element).getBookmark()).orElseThrow()
+                        : element);
+            }
+            switch(entry.getShape()) {
+            case SINGLE:
+                return elements.get(0);
+            case OPTIONAL:
+                return elements.stream().findFirst();
+            case LIST:
+                return elements;
+            case SET:
+                return new LinkedHashSet<>(elements);
+            default:
+                throw _Exceptions.unmatchedCase(entry.getShape());
+            }
+        });
+    }
+
+    private boolean isEntity(final Object pojo) {
+        return specificationLoader.specForType(pojo.getClass())
+                    .map(ObjectSpecification::isEntity)
+                    .orElse(false);
+    }
+
+    /**
+     * Whether given pojo can be shared across interactions as it is:
+     * value types as recognized by the metamodel (eg. strings, numbers, enums, <code>java.time</code> types),
+     * except for those known to be mutable (arrays, {@link Date} and {@link Calendar}).
+     */
+    private boolean isImmutableValue(final Object pojo) {
+        if(pojo.getClass().isArray()
+                || pojo instanceof Date
+                || pojo instanceof Calendar) {
+            return false;
+        }
+        return specificationLoader.specForType(pojo.getClass())
+                    .map(ObjectSpecification::isValue)
+                    .orElse(false);
+    }
+
+    private void makeRoomIfRequired(final long now) {
+        if(entriesByKey.size() < maxSizeInEntries) {
+            return;
+        }
+        entriesByKey.values().removeIf(entry->entry.getExpiresAtMillis() <= now);
+        if(entriesByKey.size() < maxSizeInEntries) {
+            return;
+        }
+        // evict the entry closest to expiry (which is also the one cached the longest)
+        entriesByKey.entrySet().stream()
+            .min((a, b)->Long.compare(a.getValue().getExpiresAtMillis(), b.getValue().getExpiresAtMillis()))
+            .ifPresent(eldest->entriesByKey.remove(eldest.getKey()));
+    }
+
+}
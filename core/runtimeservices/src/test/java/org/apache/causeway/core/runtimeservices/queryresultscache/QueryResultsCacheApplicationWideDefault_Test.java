@@ -0,0 +1,254 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.queryresultscache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.queryresultscache.CachedAcrossInteractions;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.transaction.changetracking.events.BulkRemoveEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+
+class QueryResultsCacheApplicationWideDefault_Test {
+
+    static class Country {
+    }
+
+    static class City {
+    }
+
+    static class CountryRepository {
+        @CachedAcrossInteractions(evictOn = Country.class)
+        public List<String> findCountryNames() {
+            return List.of("France", "Germany");
+        }
+        @CachedAcrossInteractions(evictOn = Country.class)
+        public Country findByCode(final String code) {
+            return new Country();
+        }
+        public List<String> findUncached() {
+            return List.of("France");
+        }
+        @CachedAcrossInteractions(evictOn = Country.class)
+        public List<String> findNames(final String prefix) {
+            return List.of("France");
+        }
+        public List<String> findNames(final int limit) {
+            return List.of("France");
+        }
+        @CachedAcrossInteractions(evictOn = Country.class)
+        public List<Object> findMutable() {
+            return List.of(new StringBuilder("France"));
+        }
+    }
+
+    private QueryResultsCacheApplicationWideDefault applicationWideCache;
+    private BookmarkService mockBookmarkService;
+    private AtomicInteger callCount;
+
+    @BeforeEach
+    void setUp() {
+        var config = CausewayConfiguration.builder().build();
+        config.getCore().getRuntimeServices().getQueryResultsCache().getApplicationWide().setEnabled(true);
+
+        var countrySpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(countrySpec.isEntity()).thenReturn(true);
+        var stringSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(stringSpec.isValue()).thenReturn(true);
+        var mockSpecificationLoader = Mockito.mock(SpecificationLoader.class);
+        Mockito.when(mockSpecificationLoader.specForType(Country.class)).thenReturn(Optional.of(countrySpec));
+        Mockito.when(mockSpecificationLoader.specForType(String.class)).thenReturn(Optional.of(stringSpec));
+
+        mockBookmarkService = Mockito.mock(BookmarkService.class);
+        applicationWideCache = new QueryResultsCacheApplicationWideDefault(
+                config, mockSpecificationLoader, mockBookmarkService);
+        callCount = new AtomicInteger();
+    }
+
+    @Test
+    void values_areCachedAcrossInteractions() {
+        var repository = new CountryRepository();
+
+        assertEquals(List.of("France", "Germany"), findCountryNames(newInteraction(), repository));
+        assertEquals(List.of("France", "Germany"), findCountryNames(newInteraction(), repository));
+
+        assertEquals(1, callCount.get());
+        assertEquals(1, applicationWideCache.getHitCount());
+        assertEquals(1, applicationWideCache.getMissCount());
+    }
+
+    @Test
+    void unannotatedMethods_areNotCachedAcrossInteractions() {
+        var repository = new CountryRepository();
+
+        newInteraction().execute(()->count(repository.findUncached()), CountryRepository.class, "findUncached");
+        newInteraction().execute(()->count(repository.findUncached()), CountryRepository.class, "findUncached");
+
+        assertEquals(2, callCount.get());
+        assertEquals(0, applicationWideCache.getMissCount());
+    }
+
+    @Test
+    void changesToDependedUponTypes_evict() {
+        var repository = new CountryRepository();
+
+        findCountryNames(newInteraction(), repository);
+        applicationWideCache.onPostStore(PostStoreEvent.of(new City()));
+        findCountryNames(newInteraction(), repository);
+        assertEquals(1, callCount.get());
+
+        applicationWideCache.onPostStore(PostStoreEvent.of(new Country()));
+        findCountryNames(newInteraction(), repository);
+        assertEquals(2, callCount.get());
+    }
+
+    @Test
+    void bulkRemovalOfDependedUponTypes_evicts() {
+        var repository = new CountryRepository();
+
+        findCountryNames(newInteraction(), repository);
+        applicationWideCache.onBulkRemove(BulkRemoveEvent.of(City.class));
+        findCountryNames(newInteraction(), repository);
+        assertEquals(1, callCount.get());
+
+        applicationWideCache.onBulkRemove(BulkRemoveEvent.of(Country.class));
+        findCountryNames(newInteraction(), repository);
+        assertEquals(2, callCount.get());
+
+        // deleting all instances of a supertype also deletes those of its subtypes
+        applicationWideCache.onBulkRemove(BulkRemoveEvent.of(Object.class));
+        findCountryNames(newInteraction(), repository);
+        assertEquals(3, callCount.get());
+    }
+
+    @Test
+    void evictionWhileQuerying_isNotCached() {
+        var repository = new CountryRepository();
+
+        newInteraction().execute(()->{
+                applicationWideCache.onPostStore(PostStoreEvent.of(new Country()));
+                return count(repository.findCountryNames());
+            }, CountryRepository.class, "findCountryNames");
+        findCountryNames(newInteraction(), repository);
+
+        assertEquals(2, callCount.get());
+        assertEquals(0, applicationWideCache.getHitCount());
+    }
+
+    @Test
+    void overloads_areToldApartByKeys() {
+        var repository = new CountryRepository();
+
+        newInteraction().execute(()->count(repository.findNames("F")), CountryRepository.class, "findNames", "F");
+        newInteraction().execute(()->count(repository.findNames("F")), CountryRepository.class, "findNames", "F");
+        assertEquals(1, callCount.get());
+
+        // the overload taking an int is not annotated
+        newInteraction().execute(()->count(repository.findNames(1)), CountryRepository.class, "findNames", 1);
+        newInteraction().execute(()->count(repository.findNames(1)), CountryRepository.class, "findNames", 1);
+        assertEquals(3, callCount.get());
+
+        // keys not matching any of the overloads
+        newInteraction().execute(()->count(repository.findNames("F")), CountryRepository.class, "findNames");
+        newInteraction().execute(()->count(repository.findNames("F")), CountryRepository.class, "findNames");
+        assertEquals(5, callCount.get());
+    }
+
+    @Test
+    void mutableValues_areNotCachedAcrossInteractions() {
+        var repository = new CountryRepository();
+
+        var first = newInteraction().execute(()->count(repository.findMutable()), CountryRepository.class, "findMutable");
+        var second = newInteraction().execute(()->count(repository.findMutable()), CountryRepository.class, "findMutable");
+
+        assertEquals(2, callCount.get());
+        assertNotSame(first.get(0), second.get(0));
+        assertEquals(0, applicationWideCache.getHitCount());
+    }
+
+    @Test
+    void entities_areLookedUpAgainOnHit() {
+        var repository = new CountryRepository();
+        var bookmark = Bookmark.forLogicalTypeNameAndIdentifier("test.Country", "uk");
+        var cached = new Country();
+        var lookedUp = new Country();
+        Mockito.when(mockBookmarkService.bookmarkFor(cached)).thenReturn(Optional.of(bookmark));
+        Mockito.when(mockBookmarkService.lookup(bookmark)).thenReturn(Optional.of(lookedUp));
+
+        var first = newInteraction().execute(()->count(cached), CountryRepository.class, "findByCode", "uk");
+        var second = newInteraction().execute(()->count(cached), CountryRepository.class, "findByCode", "uk");
+
+        assertEquals(cached, first);
+        assertEquals(lookedUp, second);
+        assertNotSame(first, second);
+        assertEquals(1, callCount.get());
+    }
+
+    @Test
+    void entitiesNoLongerExisting_areTreatedAsMiss() {
+        var repository = new CountryRepository();
+        var bookmark = Bookmark.forLogicalTypeNameAndIdentifier("test.Country", "uk");
+        var cached = new Country();
+        Mockito.when(mockBookmarkService.bookmarkFor(cached)).thenReturn(Optional.of(bookmark));
+        Mockito.when(mockBookmarkService.lookup(bookmark)).thenReturn(Optional.empty());
+
+        newInteraction().execute(()->count(repository.findByCode("uk")), CountryRepository.class, "findByCode", "uk");
+        newInteraction().execute(()->count(cached), CountryRepository.class, "findByCode", "uk");
+        newInteraction().execute(()->count(cached), CountryRepository.class, "findByCode", "uk");
+
+        assertEquals(3, callCount.get());
+        assertEquals(0, applicationWideCache.getHitCount());
+    }
+
+    // -- HELPER
+
+    private List<String> findCountryNames(final QueryResultsCache queryResultsCache, final CountryRepository repository) {
+        return queryResultsCache.execute(()->count(repository.findCountryNames()), CountryRepository.class, "findCountryNames");
+    }
+
+    private <T> T count(final T result) {
+        callCount.incrementAndGet();
+        return result;
+    }
+
+    /**
+     * Each interaction has its own (interaction scoped) {@link QueryResultsCache}.
+     */
+    private QueryResultsCache newInteraction() {
+        var sharedCache = applicationWideCache;
+        return new QueryResultsCache() {{
+            this.applicationWideCache = sharedCache;
+        }};
+    }
+
+}
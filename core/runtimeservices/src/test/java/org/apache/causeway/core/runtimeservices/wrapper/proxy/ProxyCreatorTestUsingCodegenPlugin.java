@@ -29,18 +29,23 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.causeway.applib.services.wrapper.WrappingObject;
 import org.apache.causeway.core.codegen.bytebuddy.services.ProxyFactoryServiceByteBuddy;
 import org.apache.causeway.core.runtimeservices.wrapper.handlers.DelegatingInvocationHandler;
 
 class ProxyCreatorTestUsingCodegenPlugin {
 
+    private ProxyFactoryServiceByteBuddy proxyFactoryService;
     private ProxyCreator proxyCreator;
 
     @BeforeEach
     void setUp() throws Exception {
-        proxyCreator = new ProxyCreator(new ProxyFactoryServiceByteBuddy());
+        proxyFactoryService = new ProxyFactoryServiceByteBuddy();
+        proxyCreator = new ProxyCreator(proxyFactoryService);
     }
 
     public static class Employee {
@@ -100,4 +105,37 @@ void proxyShouldDelegateCalls() {
 
     }
 
+    @Test
+    void proxyClassShouldBeReusedWhileHandlersAreBoundPerInstance() {
+
+        final DelegatingInvocationHandlerForTest handler1 = new DelegatingInvocationHandlerForTest();
+        final DelegatingInvocationHandlerForTest handler2 = new DelegatingInvocationHandlerForTest();
+
+        final Employee proxy1 = proxyFactoryService
+                .factory(Employee.class, new Class<?>[] {WrappingObject.class}, null)
+                .createInstance(handler1, false);
+        final Employee proxy2 = proxyFactoryService
+                .factory(Employee.class, new Class<?>[] {WrappingObject.class}, null)
+                .createInstance(handler2, true);
+
+        assertNotSame(proxy1, proxy2);
+        assertSame(proxy1.getClass(), proxy2.getClass());
+
+        assertEquals("hi", proxy1.getName());
+
+        assertTrue(handler1.wasInvoked("getName"));
+        assertFalse(handler2.wasInvoked("getName"));
+    }
+
+    @Test
+    void proxyClassShouldBeRegeneratedAfterClearingTheCache() {
+
+        final Class<?> proxyClass = proxyCreator.instantiateProxy(new DelegatingInvocationHandlerForTest()).getClass();
+
+        proxyFactoryService.clearCache();
+
+        assertNotSame(proxyClass,
+                proxyCreator.instantiateProxy(new DelegatingInvocationHandlerForTest()).getClass());
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.dom;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.commons.internal.base._Bytes;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Encodes the {@link CommandDto} of a {@link CommandLogEntry} for storage, using a given {@link CommandDtoFormat},
+ * and decodes it again.
+ *
+ * <p>
+ * Decoding detects the format that was used, so entries stored in any of the formats can be read.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@UtilityClass
+public class CommandDtoCodec {
+
+    public String encode(
+            final @Nullable CommandDto commandDto,
+            final @NonNull CommandDtoFormat format) {
+        if(commandDto == null) {
+            return null;
+        }
+        var xml = CommandDtoUtils.dtoMapper().toString(commandDto);
+        switch (format) {
+        case XML:
+            return xml;
+        case COMPRESSED_XML:
+            return _Strings.ofBytes(
+                    _Bytes.asCompressedBase64.apply(_Strings.toBytes(xml, StandardCharsets.UTF_8)),
+                    StandardCharsets.US_ASCII);
+        default:
+            throw _Exceptions.unmatchedCase(format);
+        }
+    }
+
+    public CommandDto decode(final @Nullable String encoded) {
+        if(_Strings.isNullOrEmpty(encoded)) {
+            return null;
+        }
+        var xml = isXml(encoded)
+                ? encoded
+                : _Strings.ofBytes(
+                        _Bytes.ofCompressedBase64.apply(_Strings.toBytes(encoded, StandardCharsets.US_ASCII)),
+                        StandardCharsets.UTF_8);
+        return CommandDtoUtils.dtoMapper().read(xml);
+    }
+
+    // -- LAZY
+
+    /**
+     * Holds on to the {@link CommandDto} of an entity, so that it is only decoded when first asked for (rather than
+     * whenever the entity is loaded), and then only once for each stored value.
+     */
+    public static final class Lazy {
+
+        private String encoded;
+        private CommandDto commandDto;
+
+        public CommandDto decode(final @Nullable String encoded) {
+            // identity check suffices, a different value is only ever stored by the persistence layer (eg on refresh)
+            if(encoded != this.encoded) {
+                this.commandDto = CommandDtoCodec.decode(encoded);
+                this.encoded = encoded;
+            }
+            return commandDto;
+        }
+
+        public String encode(
+                final @Nullable CommandDto commandDto,
+                final @NonNull CommandDtoFormat format) {
+            this.encoded = CommandDtoCodec.encode(commandDto, format);
+            this.commandDto = commandDto;
+            return encoded;
+        }
+
+    }
+
+    // -- HELPER
+
+    private boolean isXml(final String encoded) {
+        // the Base64 alphabet does not include '<'
+        for (int i = 0; i < encoded.length(); i++) {
+            var c = encoded.charAt(i);
+            if(!Character.isWhitespace(c)) {
+                return c == '<';
+            }
+        }
+        return false;
+    }
+
+}
@@ -65,6 +65,7 @@
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.base._Temporals;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.commandlog.applib.CausewayModuleExtCommandLogApplib;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 import org.apache.causeway.schema.cmd.v2.MapDto;
@@ -149,6 +150,23 @@ public static class Nq {
         public static final String FIND_MOST_RECENT_COMPLETED           = LOGICAL_TYPE_NAME + ".findMostRecentCompleted";
         public static final String FIND_BY_REPLAY_STATE                 = LOGICAL_TYPE_NAME + ".findNotYetReplayed";
         public static final String FIND_BACKGROUND_AND_NOT_YET_STARTED  = LOGICAL_TYPE_NAME + ".findBackgroundAndNotYetStarted";
+        /**
+         * Background commands not yet started, and either not claimed or whose claim has gone stale.
+         */
+        public static final String FIND_BACKGROUND_AND_CLAIMABLE        = LOGICAL_TYPE_NAME + ".findBackgroundAndClaimable";
+        /**
+         * Background commands not yet started, but (still) claimed by some worker.
+         */
+        public static final String FIND_BACKGROUND_AND_CLAIMED          = LOGICAL_TYPE_NAME + ".findBackgroundAndClaimed";
+        /**
+         * Conditional update, claiming a single background command provided it is still claimable.
+         */
+        public static final String CLAIM_BACKGROUND                     = LOGICAL_TYPE_NAME + ".claimBackground";
+        /**
+         * Conditional update, renewing the claim on a single background command provided it is still claimed by the
+         * same worker and not yet started.
+         */
+        public static final String RENEW_CLAIM_BACKGROUND               = LOGICAL_TYPE_NAME + ".renewClaimBackground";
         public static final String FIND_RECENT_BACKGROUND_BY_TARGET     = LOGICAL_TYPE_NAME + ".findRecentBackgroundByTarget";
     }
 
@@ -403,6 +421,78 @@ class DomainEvent extends PropertyDomainEvent<CommandDto> {}
     public abstract CommandDto getCommandDto();
     public abstract void setCommandDto(CommandDto commandDto);
 
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    /**
+     * The format in which to store the {@link #getCommandDto() CommandDto}, as per {@link CommandDtoCodec}.
+     *
+     * <p>
+     * Falls back to {@link CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat#XML XML} if services have not
+     * (yet) been injected, eg when instantiated using the replay constructor.
+     * </p>
+     */
+    protected CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat commandDtoFormat() {
+        return causewayConfiguration != null
+                ? causewayConfiguration.getExtensions().getCommandLog().getCommandDtoFormat()
+                : CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat.XML;
+    }
+
+    @Property(
+            domainEvent = ClaimedBy.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL,
+            maxLength = ClaimedBy.MAX_LENGTH
+    )
+    @PropertyLayout(
+            hidden = Where.ALL_TABLES
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL,
+            maxLength = ClaimedBy.MAX_LENGTH
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimedBy {
+        class DomainEvent extends PropertyDomainEvent<String> {}
+        int MAX_LENGTH = 255;
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * For a {@link org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn#BACKGROUND background} command
+     * run by the <code>RunBackgroundCommandsJob</code> in worker pool mode, identifies the worker that has claimed
+     * it for execution.
+     */
+    @ClaimedBy
+    public abstract String getClaimedBy();
+    public abstract void setClaimedBy(String claimedBy);
+
+    @Property(
+            domainEvent = ClaimedAt.DomainEvent.class,
+            editing = Editing.DISABLED,
+            optionality = Optionality.OPTIONAL
+    )
+    @PropertyLayout(
+            hidden = Where.ALL_TABLES
+    )
+    @Parameter(
+            optionality = Optionality.OPTIONAL
+    )
+    @java.lang.annotation.Target({ ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface ClaimedAt {
+        class DomainEvent extends PropertyDomainEvent<java.sql.Timestamp> {}
+        boolean NULLABLE = true;
+        String ALLOWS_NULL = "true";
+    }
+    /**
+     * When the {@link #getClaimedBy() claim} was made; a claim on a command that has still not started after the
+     * configured claim timeout is considered stale, and the command can be claimed by another worker.
+     */
+    @ClaimedAt
+    public abstract java.sql.Timestamp getClaimedAt();
+    public abstract void setClaimedAt(java.sql.Timestamp claimedAt);
+
     @Property(
             domainEvent = StartedAt.DomainEvent.class,
             editing = Editing.DISABLED,
@@ -126,6 +126,69 @@ List<CommandLogEntry> findByTargetAndFromAndTo(
      */
     List<CommandLogEntry> findBackgroundAndNotYetStarted();
 
+    /**
+     * As per {@link #findBackgroundAndNotYetStarted()}, but with the number of commands returned limited by the
+     * database (rather than in memory).
+     */
+    List<CommandLogEntry> findBackgroundAndNotYetStarted(final int limit);
+
+    /**
+     * Claims (up to) the specified number of not yet started background commands on behalf of the worker identified
+     * by <code>claimedBy</code>, returning those that were successfully claimed.
+     *
+     * <p>
+     * Each command is claimed using a conditional update that only succeeds if the command is not yet started and is
+     * either unclaimed, or has a claim made before <code>staleBefore</code>.  Multiple workers (possibly on different
+     * nodes) can therefore call this concurrently, and each command will be claimed by at most one of them.
+     * </p>
+     *
+     * <p>
+     * So that commands against the same target are executed in the order that they were created, any target for
+     * which another worker holds a (non-stale) claim, or for which a claim failed, is skipped.
+     * </p>
+     *
+     * @param claimedBy - identifies the worker
+     * @param claimedAt - the time of the claim
+     * @param staleBefore - claims made before this time are considered abandoned, and can be claimed again
+     * @param batchSize - the maximum number of commands to claim
+     */
+    List<CommandLogEntry> claimBackgroundAndNotYetStarted(
+            final String claimedBy,
+            final java.sql.Timestamp claimedAt,
+            final java.sql.Timestamp staleBefore,
+            final int batchSize);
+
+    /**
+     * Renews the claim on the (not yet started) background command with the specified interaction id, provided that
+     * it is still claimed by the worker identified by <code>claimedBy</code>, returning whether it was.
+     *
+     * <p>
+     * Called within the transaction that then executes the command.  Where the claim is
+     * {@link #isClaimAtomic() atomic}, this is a conditional update which also locks the row until that transaction
+     * completes; so another worker cannot claim the command in the meantime, even if the original claim had gone
+     * stale.
+     * </p>
+     *
+     * @param interactionId - identifies the command
+     * @param claimedBy - identifies the worker
+     * @param claimedAt - the time of the renewed claim
+     */
+    boolean renewClaim(
+            final UUID interactionId,
+            final String claimedBy,
+            final java.sql.Timestamp claimedAt);
+
+    /**
+     * Whether {@link #claimBackgroundAndNotYetStarted(String, java.sql.Timestamp, java.sql.Timestamp, int) claims}
+     * and {@link #renewClaim(UUID, String, java.sql.Timestamp) renewals} are made atomically (using a conditional
+     * update), and are therefore safe for concurrent workers.
+     *
+     * <p>
+     * The <code>RunBackgroundCommandsJob</code> will only run in worker pool mode if they are.
+     * </p>
+     */
+    boolean isClaimAtomic();
+
     List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target);
 
     /**
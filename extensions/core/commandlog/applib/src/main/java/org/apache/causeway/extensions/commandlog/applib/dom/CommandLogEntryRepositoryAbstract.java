@@ -24,8 +24,10 @@
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import javax.inject.Inject;
@@ -289,6 +291,95 @@ public List<CommandLogEntry> findBackgroundAndNotYetStarted() {
                     Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)));
     }
 
+    @Override
+    public List<CommandLogEntry> findBackgroundAndNotYetStarted(final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                    Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_NOT_YET_STARTED)
+                        .withLimit(limit)));
+    }
+
+    @Override
+    public List<CommandLogEntry> claimBackgroundAndNotYetStarted(
+            final String claimedBy,
+            final Timestamp claimedAt,
+            final Timestamp staleBefore,
+            final int batchSize) {
+
+        // targets with commands in flight elsewhere are skipped, so that commands against a target run in order
+        final Set<Bookmark> skippedTargets = new HashSet<>();
+        repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_CLAIMED)
+                    .withParameter("staleBefore", staleBefore))
+            .forEach(claimedElsewhere -> skippedTargets.add(claimedElsewhere.getTarget()));
+
+        var candidates = repositoryService().allMatches(
+                Query.named(commandLogEntryClass, CommandLogEntry.Nq.FIND_BACKGROUND_AND_CLAIMABLE)
+                    .withParameter("staleBefore", staleBefore)
+                    .withLimit(batchSize));
+
+        final List<CommandLogEntry> claimed = new ArrayList<>();
+        for (var candidate : candidates) {
+            if(skippedTargets.contains(candidate.getTarget())) {
+                continue;
+            }
+            if(claim(candidate, claimedBy, claimedAt, staleBefore)) {
+                claimed.add(candidate);
+            } else {
+                // lost the race to another worker
+                skippedTargets.add(candidate.getTarget());
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Claims the given (not yet started) background command on behalf of the worker identified by
+     * <code>claimedBy</code>, returning whether the claim succeeded.
+     *
+     * <p>
+     * This default implementation simply updates the entity, which is <i>not</i> safe against concurrent workers;
+     * implementations should override using a conditional update, as per
+     * {@link CommandLogEntry.Nq#CLAIM_BACKGROUND}.
+     * </p>
+     */
+    protected boolean claim(
+            final C candidate,
+            final String claimedBy,
+            final Timestamp claimedAt,
+            final Timestamp staleBefore) {
+        candidate.setClaimedBy(claimedBy);
+        candidate.setClaimedAt(claimedAt);
+        repositoryService().persistAndFlush(candidate);
+        return true;
+    }
+
+    /**
+     * This default implementation simply updates the entity, which is <i>not</i> safe against concurrent workers;
+     * implementations should override using a conditional update, as per
+     * {@link CommandLogEntry.Nq#RENEW_CLAIM_BACKGROUND}.
+     */
+    @Override
+    public boolean renewClaim(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp claimedAt) {
+        var commandLogEntryIfAny = findByInteractionId(interactionId)
+                .filter(commandLogEntry -> commandLogEntry.getStartedAt() == null)
+                .filter(commandLogEntry -> claimedBy.equals(commandLogEntry.getClaimedBy()));
+        commandLogEntryIfAny.ifPresent(commandLogEntry -> commandLogEntry.setClaimedAt(claimedAt));
+        return commandLogEntryIfAny.isPresent();
+    }
+
+    /**
+     * Returns <code>false</code>; implementations that override {@link #claim(CommandLogEntry, String, Timestamp, Timestamp)}
+     * and {@link #renewClaim(UUID, String, Timestamp)} using conditional updates should return <code>true</code>.
+     */
+    @Override
+    public boolean isClaimAtomic() {
+        return false;
+    }
+
     public List<CommandLogEntry> findRecentBackgroundByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService().allMatches(
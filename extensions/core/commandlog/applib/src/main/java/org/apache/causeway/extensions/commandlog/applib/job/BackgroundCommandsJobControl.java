@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.Programmatic;
@@ -33,6 +39,11 @@
  *     dashboard.
  * </p>
  *
+ * <p>
+ *     Also holds the pool of threads used by {@link RunBackgroundCommandsJob} (if its worker pool is enabled),
+ *     such that it is reused across runs, as a new instance of the job is created for each run.
+ * </p>
+ *
  * @see RunBackgroundCommandsJob
  */
 @Service
@@ -67,4 +78,37 @@ public boolean isRunning() {
         return state == State.RUNNING;
     }
 
+    private ExecutorService workerPool; // guarded by this
+    private int workerPoolThreads;
+
+    /**
+     * Returns the pool of (daemon) threads, that {@link RunBackgroundCommandsJob} executes claimed commands with,
+     * creating it on first use, or if the number of threads has changed since.
+     */
+    @Programmatic
+    public synchronized ExecutorService workerPool(final int threads) {
+        if(workerPool == null
+                || workerPoolThreads != threads) {
+            if(workerPool != null) {
+                workerPool.shutdown(); // lets commands already submitted complete
+            }
+            var threadCounter = new AtomicInteger();
+            workerPool = Executors.newFixedThreadPool(threads, runnable->{
+                var thread = new Thread(runnable, "causeway-background-commands-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            workerPoolThreads = threads;
+        }
+        return workerPool;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if(workerPool != null) {
+            workerPool.shutdownNow();
+            workerPool = null;
+        }
+    }
+
 }
@@ -18,10 +18,17 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.job;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -32,9 +39,11 @@
 import org.quartz.PersistJobDataAfterExecution;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.clock.ClockService;
 import org.apache.causeway.applib.services.command.CommandExecutorService;
 import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
@@ -43,6 +52,8 @@
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.applib.util.schema.CommandDtoUtils;
 import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.concurrent._ThreadSleep;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.services.deadlock.DeadlockRecognizer;
 import org.apache.causeway.core.runtimeservices.transaction.TransactionServiceSpring;
@@ -65,6 +76,12 @@
  *     the control is managed through the injected {@link BackgroundCommandsJobControl}
  * </p>
  *
+ * <p>
+ *     If the {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.WorkerPool worker pool} is
+ *     enabled, then the pending commands are first claimed (so that this job can also run concurrently on other
+ *     nodes), and are then executed by a pool of threads, each executing the commands for a given target in order.
+ * </p>
+ *
  * @see BackgroundCommandsJobControl
  *
  * @since 2.0 {@index}
@@ -76,7 +93,8 @@
 public class RunBackgroundCommandsJob implements Job {
 
     final static int RETRY_COUNT = 3;
-    final static long RETRY_INTERVAL_MILLIS = 1000;
+    final static long RETRY_INITIAL_INTERVAL_MILLIS = 250;
+    final static long RETRY_MAX_INTERVAL_MILLIS = 4000;
 
     @Inject InteractionService interactionService;
     @Inject TransactionService transactionService;
@@ -100,37 +118,129 @@ public void execute(final JobExecutionContext quartzContext) {
         var userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
         var interactionContext = InteractionContext.builder().user(userMemento).build();
 
+        if (runBackgroundCommandsConfig().getWorkerPool().isEnabled()) {
+            if (commandLogEntryRepository.isClaimAtomic()) {
+                executeUsingWorkerPool(interactionContext);
+                return;
+            }
+            log.warn("Worker pool mode is enabled, but {} does not claim commands atomically; "
+                    + "executing commands sequentially instead", commandLogEntryRepository.getClass().getName());
+        }
+
         // we obtain the list of Commands first; we use their CommandDto as it is serializable across transactions
         final Optional<List<CommandDto>> commandDtosIfAny = pendingCommandDtos(interactionContext);
 
         // for each command, we execute within its own transaction.  Failure of one should not impact the next.
         commandDtosIfAny.ifPresent(commandDtos -> {
-            List<CommandAndResult> commandResults = new ArrayList<>();
-            for (CommandDto dto : commandDtos) {
-                Try<?> attempt = executeCommandWithinTransaction(dto, interactionContext);
-                if(attempt.isFailure()) {
-                    var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
-                    if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
-                        break;
-                    }
+            var commandResults = executeInOrder(commandDtos, null, new AtomicBoolean(), interactionContext);
+            notifyListeners(commandResults, interactionContext);
+        });
+    }
+
+    /**
+     * Claims a batch of pending commands, then executes them using a pool of threads; the commands for any given
+     * target are executed by a single thread, in the order that they were created.
+     *
+     * <p>
+     * If a command fails and the {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getOnFailurePolicy() onFailurePolicy}
+     * is to stop the line, then no further commands are started, for any target.  Commands already executing on
+     * other threads are allowed to complete.
+     * </p>
+     */
+    private void executeUsingWorkerPool(final InteractionContext interactionContext) {
+
+        var claimedBy = newClaimToken();
+        final Optional<Map<Bookmark, List<CommandDto>>> commandDtosByTargetIfAny =
+                claimPendingCommandDtosByTarget(claimedBy, interactionContext);
+
+        commandDtosByTargetIfAny
+        .filter(commandDtosByTarget -> !commandDtosByTarget.isEmpty())
+        .ifPresent(commandDtosByTarget -> {
+            // reused across runs, as a new instance of this job is created for each run
+            var executorService = backgroundCommandsJobControl.workerPool(
+                    Math.max(1, runBackgroundCommandsConfig().getWorkerPool().getThreads()));
+            var lineStopped = new AtomicBoolean();
+            var futures = commandDtosByTarget.values().stream()
+                    .map(commandDtos -> CompletableFuture.supplyAsync(
+                            () -> executeInOrder(commandDtos, claimedBy, lineStopped, interactionContext), executorService))
+                    .collect(Collectors.toList());
+            var commandResults = futures.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            notifyListeners(commandResults, interactionContext);
+        });
+    }
+
+    /**
+     * Executes the commands one by one, each within its own transaction.
+     *
+     * <p>
+     * If a command fails and the {@link CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands#getOnFailurePolicy() onFailurePolicy}
+     * is to stop the line, then the remaining commands are not executed, and the line is flagged as stopped.
+     * </p>
+     *
+     * @param claimedBy - if not <code>null</code>, then only commands still claimed by this worker are executed;
+     *                  the others are {@link Skipped skipped}, and not included in the result
+     * @param lineStopped - shared by all threads executing the commands of this run; once set, no further commands
+     *                    are executed
+     */
+    private List<CommandAndResult> executeInOrder(
+            final List<CommandDto> commandDtos,
+            final @Nullable String claimedBy,
+            final AtomicBoolean lineStopped,
+            final InteractionContext interactionContext) {
+        List<CommandAndResult> commandResults = new ArrayList<>();
+        for (CommandDto dto : commandDtos) {
+            if (lineStopped.get()) {
+                break;
+            }
+            Try<?> attempt = executeCommandWithinTransaction(dto, claimedBy, interactionContext);
+            if(isSkipped(attempt)) {
+                continue;
+            }
+            if(attempt.isFailure()) {
+                var onFailurePolicy = runBackgroundCommandsConfig().getOnFailurePolicy();
+                if (onFailurePolicy == CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands.OnFailurePolicy.STOP_THE_LINE) {
+                    lineStopped.set(true);
+                    break;
                 }
-                CommandAndResult apply = CommandAndResult.of(dto, attempt);
-                commandResults.add(apply);
             }
+            CommandAndResult apply = CommandAndResult.of(dto, attempt);
+            commandResults.add(apply);
+        }
+        return commandResults;
+    }
 
-            // an enhancement for the listener interface would be to say whether each interaction succeeded or not
-            // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
-            var interactionIds = commandResults.stream()
-                    .filter(commandAndResult -> commandAndResult.getExecutionResult().isSuccess())  // only the successes
-                    .map(CommandAndResult::getCommandDto)
-                    .map(CommandDto::getInteractionId)
-                    .collect(Collectors.toList());
-            listeners.forEach(listener -> {
-                invokeListenerCallbackWithinTransaction(listener, interactionIds, interactionContext);
-            });
+    private void notifyListeners(final List<CommandAndResult> commandResults, final InteractionContext interactionContext) {
+        // an enhancement for the listener interface would be to say whether each interaction succeeded or not
+        // whether his is relevant depends on the onFailurePolicy (if it's set to STOP_THE_LINE, then everything passed on will have succeeded)
+        var interactionIds = commandResults.stream()
+                .filter(commandAndResult -> commandAndResult.getExecutionResult().isSuccess())  // only the successes
+                .map(CommandAndResult::getCommandDto)
+                .map(CommandDto::getInteractionId)
+                .collect(Collectors.toList());
+        listeners.forEach(listener -> {
+            invokeListenerCallbackWithinTransaction(listener, interactionIds, interactionContext);
         });
     }
 
+    /**
+     * Outcome of a command that was not executed (by this worker), as opposed to having executed successfully.
+     */
+    enum Skipped {
+        /**
+         * our claim went stale, and the command has been claimed (or executed) by another worker
+         */
+        NO_LONGER_CLAIMED
+    }
+
+    private static boolean isSkipped(final Try<?> attempt) {
+        return attempt.getValue()
+                .filter(Skipped.class::isInstance)
+                .isPresent();
+    }
+
     @Getter
     @RequiredArgsConstructor(staticName = "of")
     static class CommandAndResult {
@@ -141,10 +251,9 @@ static class CommandAndResult {
     private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext interactionContext) {
         return interactionService.callAndCatch(interactionContext, () ->
             transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
-                commandLogEntryRepository.findBackgroundAndNotYetStarted()
+                commandLogEntryRepository.findBackgroundAndNotYetStarted(runBackgroundCommandsConfig().getBatchSize())
                         .stream()
                         .map(CommandLogEntry::getCommandDto)
-                        .limit(causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getBatchSize())
                         .collect(Collectors.toList())
                 )
                 .ifFailureFail()
@@ -154,20 +263,71 @@ private Optional<List<CommandDto>> pendingCommandDtos(final InteractionContext i
             .getValue();
     }
 
+    private Optional<Map<Bookmark, List<CommandDto>>> claimPendingCommandDtosByTarget(
+            final String claimedBy,
+            final InteractionContext interactionContext) {
+        return interactionService.callAndCatch(interactionContext, () ->
+            transactionService.callTransactional(Propagation.REQUIRES_NEW, () -> {
+                var now = clockService.getClock().nowAsJavaSqlTimestamp();
+                var staleBefore = new java.sql.Timestamp(
+                        now.getTime() - runBackgroundCommandsConfig().getWorkerPool().getClaimTimeout().toMillis());
+                // claimed in timestamp order, so each target's commands remain in order
+                final Map<Bookmark, List<CommandDto>> commandDtosByTarget = new LinkedHashMap<>();
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted(
+                            claimedBy, now, staleBefore, runBackgroundCommandsConfig().getBatchSize())
+                    .forEach(commandLogEntry ->
+                        commandDtosByTarget
+                            .computeIfAbsent(commandLogEntry.getTarget(), target -> new ArrayList<>())
+                            .add(commandLogEntry.getCommandDto()));
+                return commandDtosByTarget;
+            })
+            .ifFailureFail()
+            .valueAsNonNullElseFail()
+        )
+        .ifFailureFail()    // we give up if unable to claim these
+        .getValue();
+    }
+
+    /**
+     * Identifies this run of the job (on this node) as the claimant of the commands it executes.
+     */
+    private static String newClaimToken() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "localhost";
+        }
+        return _Strings.trimmed(hostName, 200) + ":" + UUID.randomUUID();
+    }
+
     @Inject TransactionServiceSpring transactionServiceSpring;
 
     private Try<?> executeCommandWithinTransaction(
             final CommandDto commandDto,
+            final @Nullable String claimedBy,
             final InteractionContext interactionContext
     ) {
-        int remainingAttempts = RETRY_COUNT;
+        int attempt = 0;
         Try<?> result;
         while(true) {
             result = interactionService.call(interactionContext, () -> {
 
                 // previously we were creating a new transaction here with REQUIRES_NEW, but this isn't necessary
                 // (and massively complicates things) since each interaction will implictly creates its own transaction
-                var commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(UUID.fromString(commandDto.getInteractionId()));
+                var interactionId = UUID.fromString(commandDto.getInteractionId());
+
+                // renewing the claim (a conditional update) locks the row until this transaction completes, so that
+                // no other worker can claim the command while we execute it, even if our original claim went stale
+                if(claimedBy != null
+                        && !commandLogEntryRepository.renewClaim(
+                                interactionId, claimedBy, clockService.getClock().nowAsJavaSqlTimestamp())) {
+                    // our claim went stale, and the command has been claimed (or executed) by another worker
+                    log.debug("No longer claimed by {}, skipping command: {}", claimedBy, commandDto.getInteractionId());
+                    return Try.success(Skipped.NO_LONGER_CLAIMED);
+                }
+
+                var commandLogEntryIfAny = commandLogEntryRepository.findByInteractionId(interactionId);
                 if(commandLogEntryIfAny.isEmpty()) {
                     return Try.empty();
                 }
@@ -187,16 +347,16 @@ private Try<?> executeCommandWithinTransaction(
             if (! isEncounteredDeadlock(result)) {
                 break;
             }
-            if (--remainingAttempts <= 0) {
+            if (++attempt >= RETRY_COUNT) {
                 log.debug("Deadlock occurred too many times, giving up on command: " + CommandDtoUtils.dtoMapper().toString(commandDto));
                 break;
             }
             log.debug("Deadlock occurred, retrying command: " + CommandDtoUtils.dtoMapper().toString(commandDto));
-            sleep(RETRY_INTERVAL_MILLIS);
+            _ThreadSleep.millis(retryIntervalMillis(attempt));
         }
 
         // a failure has occurred
-        var onFailurePolicy = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getOnFailurePolicy();
+        var onFailurePolicy = runBackgroundCommandsConfig().getOnFailurePolicy();
         switch (onFailurePolicy) {
             case CONTINUE_WITH_NEXT:
                 // the result _will_ contain a failure
@@ -279,11 +439,18 @@ private boolean isEncounteredDeadlock(final Try<?> result) {
                 .orElse(false);
     }
 
-    private static void sleep(final long retryIntervalMs) {
-        try {
-            Thread.sleep(retryIntervalMs);
-        } catch (InterruptedException e) {
-            // do nothing - continue
-        }
+    /**
+     * Exponential backoff with jitter, so that workers that deadlocked against each other do not then retry in
+     * lock-step.
+     *
+     * @param attempt - the number of attempts made so far (1 or more)
+     */
+    static long retryIntervalMillis(final int attempt) {
+        var ceiling = Math.min(RETRY_MAX_INTERVAL_MILLIS, RETRY_INITIAL_INTERVAL_MILLIS << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private CausewayConfiguration.Extensions.CommandLog.RunBackgroundCommands runBackgroundCommandsConfig() {
+        return causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands();
     }
 }
@@ -0,0 +1,113 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.dom;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat;
+import org.apache.causeway.schema.cmd.v2.ActionDto;
+import org.apache.causeway.schema.cmd.v2.CommandDto;
+import org.apache.causeway.schema.common.v2.InteractionType;
+import org.apache.causeway.schema.common.v2.OidDto;
+
+class CommandDtoCodec_Test {
+
+    private CommandDto commandDto;
+
+    @BeforeEach
+    void setUp() {
+        commandDto = newCommandDto(UUID.randomUUID());
+    }
+
+    @ParameterizedTest
+    @EnumSource(CommandDtoFormat.class)
+    void roundtrip(final CommandDtoFormat format) {
+        var encoded = CommandDtoCodec.encode(commandDto, format);
+        assertThat(xmlOf(CommandDtoCodec.decode(encoded))).isEqualTo(xmlOf(commandDto));
+    }
+
+    @Test
+    void nulls() {
+        assertThat(CommandDtoCodec.encode(null, CommandDtoFormat.COMPRESSED_XML)).isNull();
+        assertThat(CommandDtoCodec.decode(null)).isNull();
+        assertThat(CommandDtoCodec.decode("")).isNull();
+    }
+
+    @Test
+    void compressed_isSmallerThanXml() {
+        var xml = CommandDtoCodec.encode(commandDto, CommandDtoFormat.XML);
+        var compressed = CommandDtoCodec.encode(commandDto, CommandDtoFormat.COMPRESSED_XML);
+        assertThat(compressed.length()).isLessThan(xml.length());
+    }
+
+    @Test
+    void lazy_decodesOnlyOnFirstAccess() {
+        var encoded = CommandDtoCodec.encode(commandDto, CommandDtoFormat.COMPRESSED_XML);
+        var lazy = new CommandDtoCodec.Lazy();
+
+        var first = lazy.decode(encoded);
+        var second = lazy.decode(encoded);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void lazy_decodesAgainWhenStoredValueChanges() {
+        var lazy = new CommandDtoCodec.Lazy();
+        var first = lazy.decode(CommandDtoCodec.encode(commandDto, CommandDtoFormat.XML));
+        var second = lazy.decode(CommandDtoCodec.encode(commandDto, CommandDtoFormat.COMPRESSED_XML));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(xmlOf(second)).isEqualTo(xmlOf(first));
+    }
+
+    // -- HELPER
+
+    private static String xmlOf(final CommandDto commandDto) {
+        return CommandDtoUtils.dtoMapper().toString(commandDto);
+    }
+
+    private static CommandDto newCommandDto(final UUID interactionId) {
+        var dto = new CommandDto();
+        dto.setInteractionId(interactionId.toString());
+        dto.setUsername("sven");
+
+        var oidDto = new OidDto();
+        oidDto.setType("commandlog.test.Counter");
+        oidDto.setId(interactionId.toString());
+        CommandDtoUtils.targetsFor(dto).getOid().add(oidDto);
+
+        var actionDto = new ActionDto();
+        actionDto.setLogicalMemberIdentifier("commandlog.test.Counter#bumpUsingMixin");
+        actionDto.setInteractionType(InteractionType.ACTION_INVOCATION);
+        dto.setMember(actionDto);
+
+        CommandDtoUtils.setUserData(dto, "someKey", "someValue");
+        return dto;
+    }
+
+}
@@ -40,6 +40,7 @@
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.wrapper.control.AsyncControl;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
 import org.apache.causeway.extensions.commandlog.applib.dom.BackgroundService;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -209,6 +210,120 @@ void using_background_service() {
 
     }
 
+    @Test
+    void claiming_background_commands() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        persistBackgroundCommands(2);
+
+        var claimedAt = new java.sql.Timestamp(System.currentTimeMillis());
+        var staleBefore = new java.sql.Timestamp(claimedAt.getTime() - 60_000);
+
+        // when
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimed = commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-1", claimedAt, staleBefore, 10);
+            // then
+            assertThat(claimed).hasSize(2);
+        }).ifFailureFail();
+
+        // then cannot be claimed by another worker
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimed = commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-2", claimedAt, staleBefore, 10);
+            assertThat(claimed).isEmpty();
+        }).ifFailureFail();
+
+        // unless the claims have gone stale
+        var claimedLaterAt = new java.sql.Timestamp(claimedAt.getTime() + 60_000);
+        var staleBeforeLater = new java.sql.Timestamp(claimedAt.getTime() + 1);
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var claimed = commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-2", claimedLaterAt, staleBeforeLater, 1);
+            assertThat(claimed).hasSize(1);
+        }).ifFailureFail();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findAll())
+                    .extracting(CommandLogEntry::getClaimedBy)
+                    .containsExactlyInAnyOrder("worker-1", "worker-2");
+        }).ifFailureFail();
+    }
+
+    @Test
+    void renewing_claims_on_background_commands() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        persistBackgroundCommands(1);
+        assertThat(commandLogEntryRepository.isClaimAtomic()).isTrue();
+
+        var claimedAt = new java.sql.Timestamp(System.currentTimeMillis());
+        var staleBefore = new java.sql.Timestamp(claimedAt.getTime() - 60_000);
+        var renewedAt = new java.sql.Timestamp(claimedAt.getTime() + 1_000);
+
+        var interactionId = transactionService.callTransactional(Propagation.REQUIRES_NEW, () ->
+                commandLogEntryRepository.claimBackgroundAndNotYetStarted("worker-1", claimedAt, staleBefore, 10)
+                        .get(0).getInteractionId())
+                .valueAsNonNullElseFail();
+
+        // when, then cannot be renewed by another worker
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.renewClaim(interactionId, "worker-2", renewedAt)).isFalse();
+        }).ifFailureFail();
+
+        // but can be by the claimant
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.renewClaim(interactionId, "worker-1", renewedAt)).isTrue();
+        }).ifFailureFail();
+
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var commandLogEntry = commandLogEntryRepository.findByInteractionId(interactionId).orElseThrow();
+            assertThat(commandLogEntry.getClaimedBy()).isEqualTo("worker-1");
+            assertThat(commandLogEntry.getClaimedAt()).isEqualTo(renewedAt);
+        }).ifFailureFail();
+    }
+
+    @Test
+    void using_background_service_with_worker_pool() {
+
+        // given
+        removeAllCommandLogEntriesAndCounters();
+        persistBackgroundCommands(3);
+
+        var workerPool = causewayConfiguration.getExtensions().getCommandLog().getRunBackgroundCommands().getWorkerPool();
+        workerPool.setEnabled(true);
+        try {
+            // when (simulate quartz running in the background)
+            runBackgroundCommandsJob.execute(mockQuartzJobExecutionContext);
+            interactionService.nextInteraction();
+        } finally {
+            workerPool.setEnabled(false);
+        }
+
+        // then bumped
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            assertThat(counter.getNum()).isEqualTo(3L);
+        }).ifFailureFail();
+
+        // and marked as claimed, started and completed
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            assertThat(commandLogEntryRepository.findAll())
+                    .hasSize(3)
+                    .allSatisfy(x -> assertThat(x.getClaimedBy()).isNotNull())
+                    .allSatisfy(x -> assertThat(x.getStartedAt()).isNotNull())
+                    .allSatisfy(x -> assertThat(x.getCompletedAt()).isNotNull());
+        }).ifFailureFail();
+    }
+
+    private void persistBackgroundCommands(final int count) {
+        transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
+            var counter = bookmarkService.lookup(bookmark, Counter.class).orElseThrow();
+            for (int i = 0; i < count; i++) {
+                backgroundService.execute(counter).bumpUsingDeclaredAction();
+            }
+        }).ifFailureFail();
+    }
+
     private void removeAllCommandLogEntriesAndCounters() {
         transactionService.runTransactional(Propagation.REQUIRES_NEW, () -> {
             commandLogEntryRepository.removeAll();
@@ -225,5 +340,6 @@ private void removeAllCommandLogEntriesAndCounters() {
     @Inject RunBackgroundCommandsJob runBackgroundCommandsJob;
     @Inject BookmarkService bookmarkService;
     @Inject CounterRepository counterRepository;
+    @Inject CausewayConfiguration causewayConfiguration;
 
 }
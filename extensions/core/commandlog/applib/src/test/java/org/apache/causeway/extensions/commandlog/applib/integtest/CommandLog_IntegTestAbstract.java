@@ -18,16 +18,24 @@
  */
 package org.apache.causeway.extensions.commandlog.applib.integtest;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
+import javax.sql.DataSource;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,6 +50,8 @@
 import org.apache.causeway.applib.services.sudo.SudoService;
 import org.apache.causeway.applib.services.user.UserMemento;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.util.schema.CommandDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.beans.CausewayBeanTypeRegistry;
 import org.apache.causeway.core.config.presets.CausewayPresets;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry;
@@ -56,8 +66,13 @@
 import org.apache.causeway.schema.cmd.v2.PropertyDto;
 import org.apache.causeway.testing.integtestsupport.applib.CausewayIntegrationTestAbstract;
 
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
 public abstract class CommandLog_IntegTestAbstract extends CausewayIntegrationTestAbstract {
 
+    private static final int ROW_COUNT = 10_000;
+
     @BeforeAll
     static void beforeAll() {
         CausewayPresets.forcePrototyping();
@@ -260,8 +275,89 @@ void roundtrip_CLE_bookmarks() {
         CommandLogEntry cle2 = (CommandLogEntry) cle2IfAny.get();
         CommandDto commandDto2 = cle2.getCommandDto();
 
-        assertThat(commandDto2).isEqualTo(commandDto);
+        // decoded afresh (lazily) by the looked up entity, so compare by value
+        assertThat(CommandDtoUtils.dtoMapper().toString(commandDto2))
+            .isEqualTo(CommandDtoUtils.dtoMapper().toString(commandDto));
+
+    }
+
+    @Test
+    void roundtrip_CLE_with_compressed_CommandDto() {
+
+        // given
+        var commandLog = causewayConfiguration.getExtensions().getCommandLog();
+        commandLog.setCommandDtoFormat(CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat.COMPRESSED_XML);
+        try {
+            wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+            interactionService.nextInteraction();
+        } finally {
+            commandLog.setCommandDtoFormat(CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat.XML);
+        }
+
+        // when
+        var commandLogEntry = commandLogEntryRepository.findMostRecentCompleted().orElseThrow();
+
+        // then
+        assertThat(commandLogEntry.getCommandDto()).isNotNull();
+        assertThat(commandLogEntry.getCommandDto().getMember().getLogicalMemberIdentifier())
+            .isEqualTo("commandlog.test.Counter#bumpUsingMixin");
+
+        // and stored compressed (Base64 encoded gzip, rather than XML)
+        var stored = storedCommandDtos();
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0)).doesNotStartWith("<");
+        var compressed = Base64.getDecoder().decode(stored.get(0));
+        assertThat(compressed[0]).isEqualTo((byte) 1); // prefix for gzip, as per _Bytes.compress(...)
+        assertThat(compressed[1] & 0xff).isEqualTo(0x1f); // gzip magic number
+        assertThat(compressed[2] & 0xff).isEqualTo(0x8b);
+    }
+
+    /**
+     * Loads {@value #ROW_COUNT} rows without accessing their {@link CommandDto}s (as a list view does), then accesses
+     * them all, logging how long each took.
+     */
+    @ParameterizedTest
+    @EnumSource(CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat.class)
+    void loading_many_rows(final CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat format) {
+
+        // given
+        wrapperFactory.wrapMixin(Counter_bumpUsingMixin.class, counter1).act();
+        interactionService.nextInteraction();
+
+        var xml = CommandDtoUtils.dtoMapper().toString(
+                commandLogEntryRepository.findMostRecentCompleted().orElseThrow().getCommandDto());
+
+        var commandLog = causewayConfiguration.getExtensions().getCommandLog();
+        commandLog.setCommandDtoFormat(format);
+        try {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                var commandDto = CommandDtoUtils.dtoMapper().read(xml);
+                commandDto.setInteractionId(UUID.randomUUID().toString());
+                CommandDtoUtils.setUserData(commandDto, "replayed", "true");
+                commandLogEntryRepository.saveForReplay(commandDto);
+            }
+            interactionService.nextInteraction();
+        } finally {
+            commandLog.setCommandDtoFormat(CausewayConfiguration.Extensions.CommandLog.CommandDtoFormat.XML);
+        }
 
+        // when
+        var loadStartedAt = System.nanoTime();
+        var commandLogEntries = commandLogEntryRepository.findAll();
+        var loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadStartedAt);
+
+        var accessStartedAt = System.nanoTime();
+        var commandDtos = commandLogEntries.stream()
+                .map(CommandLogEntry::getCommandDto)
+                .collect(Collectors.toList());
+        var accessMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - accessStartedAt);
+
+        log.info("{}: loading {} rows took {}ms, then accessing their CommandDtos took {}ms",
+                format, commandLogEntries.size(), loadMillis, accessMillis);
+
+        // then
+        assertThat(commandLogEntries).hasSize(ROW_COUNT + 1);
+        assertThat(commandDtos).allSatisfy(commandDto -> assertThat(commandDto).isNotNull());
     }
 
     @Test
@@ -472,5 +568,25 @@ void test_all_the_repository_methods() {
     @Inject WrapperFactory wrapperFactory;
     @Inject BookmarkService bookmarkService;
     @Inject CausewayBeanTypeRegistry causewayBeanTypeRegistry;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject DataSource dataSource;
+
+    /**
+     * The {@link CommandDto}s as stored in the database, read directly using JDBC (bypassing the JPA/JDO mapping).
+     */
+    private List<String> storedCommandDtos() {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(
+                     "SELECT COMMANDDTO FROM " + CommandLogEntry.SCHEMA + "." + CommandLogEntry.TABLE)) {
+            var storedCommandDtos = new ArrayList<String>();
+            while (resultSet.next()) {
+                storedCommandDtos.add(resultSet.getString(1));
+            }
+            return storedCommandDtos;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
 }
@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.commandlog.applib.job;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BackgroundCommandsJobControl_Test {
+
+    private BackgroundCommandsJobControl control;
+
+    @BeforeEach
+    void setUp() {
+        control = new BackgroundCommandsJobControl();
+    }
+
+    @AfterEach
+    void tearDown() {
+        control.shutdown();
+    }
+
+    @Test
+    void workerPool_isReusedAcrossRuns() {
+        var workerPool = control.workerPool(2);
+
+        assertThat(control.workerPool(2)).isSameAs(workerPool);
+        assertThat(workerPool.isShutdown()).isFalse();
+    }
+
+    @Test
+    void workerPool_isReplaced_whenNumberOfThreadsChanges() {
+        var workerPool = control.workerPool(2);
+        var resizedWorkerPool = control.workerPool(3);
+
+        assertThat(resizedWorkerPool).isNotSameAs(workerPool);
+        assertThat(workerPool.isShutdown()).isTrue();
+        assertThat(resizedWorkerPool.isShutdown()).isFalse();
+    }
+
+    @Test
+    void workerPool_isShutDown_withControl() {
+        var workerPool = control.workerPool(2);
+        control.shutdown();
+
+        assertThat(workerPool.isShutdown()).isTrue();
+    }
+
+}
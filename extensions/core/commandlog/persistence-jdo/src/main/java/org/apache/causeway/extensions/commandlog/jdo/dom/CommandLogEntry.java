@@ -25,6 +25,7 @@
 import javax.jdo.annotations.IdentityType;
 import javax.jdo.annotations.Index;
 import javax.jdo.annotations.Indices;
+import javax.jdo.annotations.NotPersistent;
 import javax.jdo.annotations.PersistenceCapable;
 import javax.jdo.annotations.Persistent;
 import javax.jdo.annotations.PrimaryKey;
@@ -38,6 +39,7 @@
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandDtoCodec;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
@@ -180,6 +182,37 @@
                   + " WHERE executeIn == 'BACKGROUND' "
                   + "    && startedAt == null "
                   + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_CLAIMABLE,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && (claimedAt == null || claimedAt < :staleBefore) "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.FIND_BACKGROUND_AND_CLAIMED,
+            value = "SELECT "
+                  + "  FROM " + CommandLogEntry.FQCN + " "
+                  + " WHERE executeIn == 'BACKGROUND' "
+                  + "    && startedAt == null "
+                  + "    && claimedAt >= :staleBefore "
+                  + " ORDER BY timestamp ASC "),
+    @Query(
+            name  = Nq.CLAIM_BACKGROUND,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET claimedBy = :claimant, "
+                  + "       claimedAt = :claimTimestamp "
+                  + " WHERE interactionId == :candidateInteractionId "
+                  + "    && startedAt == null "
+                  + "    && (claimedAt == null || claimedAt < :staleBefore) "),
+    @Query(
+            name  = Nq.RENEW_CLAIM_BACKGROUND,
+            value = "UPDATE " + CommandLogEntry.FQCN + " "
+                  + "   SET claimedAt = :claimTimestamp "
+                  + " WHERE interactionId == :candidateInteractionId "
+                  + "    && startedAt == null "
+                  + "    && claimedBy == :claimant "),
     @Query(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             value = "SELECT "
@@ -276,11 +309,35 @@ public CommandLogEntry(
     @Getter @Setter
     private String logicalMemberIdentifier;
 
-    @Persistent
+    /**
+     * As encoded by {@link CommandDtoCodec}; not in the default fetch group, so only loaded when first accessed.
+     */
+    @Persistent(defaultFetchGroup="false")
     @Column(allowsNull = CommandDtoAnnot.ALLOWS_NULL, jdbcType = "CLOB")
+    private String commandDto;
+
+    @NotPersistent
+    private final CommandDtoCodec.Lazy lazyCommandDto = new CommandDtoCodec.Lazy();
+
     @CommandDtoAnnot
+    @Override
+    public CommandDto getCommandDto() {
+        return lazyCommandDto.decode(commandDto);
+    }
+    @Override
+    public void setCommandDto(final CommandDto commandDto) {
+        this.commandDto = lazyCommandDto.encode(commandDto, commandDtoFormat());
+    }
+
+    @Column(allowsNull = ClaimedBy.ALLOWS_NULL, length = ClaimedBy.MAX_LENGTH)
+    @ClaimedBy
+    @Getter @Setter
+    private String claimedBy;
+
+    @Column(allowsNull = ClaimedAt.ALLOWS_NULL)
+    @ClaimedAt
     @Getter @Setter
-    private CommandDto commandDto;
+    private java.sql.Timestamp claimedAt;
 
     @Column(allowsNull = StartedAt.ALLOWS_NULL)
     @StartedAt
@@ -18,14 +18,23 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.datanucleus.PropertyNames;
+
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +49,63 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims the command using a conditional (bulk) update, so that concurrent workers cannot both claim it.
+     */
+    @Override
+    protected boolean claim(
+            final CommandLogEntry candidate,
+            final String claimedBy,
+            final Timestamp claimedAt,
+            final Timestamp staleBefore) {
+        return executeUpdate(Nq.CLAIM_BACKGROUND, Map.of(
+                "claimant", claimedBy,
+                "claimTimestamp", claimedAt,
+                "candidateInteractionId", candidate.getInteractionId(),
+                "staleBefore", staleBefore)) == 1L;
+    }
+
+    /**
+     * Renews the claim using a conditional (bulk) update, which also locks the row until the transaction completes.
+     */
+    @Override
+    public boolean renewClaim(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp claimedAt) {
+        return executeUpdate(Nq.RENEW_CLAIM_BACKGROUND, Map.of(
+                "claimant", claimedBy,
+                "claimTimestamp", claimedAt,
+                "candidateInteractionId", interactionId)) == 1L;
+    }
+
+    @Override
+    public boolean isClaimAtomic() {
+        return true;
+    }
+
+    private long executeUpdate(final String queryName, final Map<String, ?> parameters) {
+        var persistenceManager = jdoSupportService.getPersistenceManager();
+        // UPDATE statements are only accepted by the JDOQL parser, if explicitly allowed
+        var allowAllBefore = persistenceManager.getProperties().get(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL);
+        persistenceManager.setProperty(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL, true);
+        try {
+            var query = persistenceManager.newNamedQuery(CommandLogEntry.class, queryName);
+            return ((Number) query.executeWithMap(parameters)).longValue();
+        } finally {
+            persistenceManager.setProperty(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL,
+                    allowAllBefore!=null
+                        ? allowAllBefore
+                        : false);
+        }
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
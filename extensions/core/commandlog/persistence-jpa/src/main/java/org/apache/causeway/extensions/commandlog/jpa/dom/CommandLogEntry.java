@@ -44,11 +44,11 @@
 import org.apache.causeway.applib.annotation.Publishing;
 import org.apache.causeway.applib.jaxb.PersistentEntityAdapter;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandDtoCodec;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.persistence.jpa.applib.integration.CausewayEntityListener;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.applib.CausewayBookmarkConverter;
 import org.apache.causeway.persistence.jpa.integration.typeconverters.java.util.JavaUtilUuidConverter;
-import org.apache.causeway.persistence.jpa.integration.typeconverters.schema.v2.CausewayCommandDtoConverter;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 
 import lombok.Getter;
@@ -187,6 +187,37 @@
                   + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
                   + "   AND cl.startedAt is null "
                   + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_CLAIMABLE,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.claimedAt is null OR cl.claimedAt < :staleBefore) "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.FIND_BACKGROUND_AND_CLAIMED,
+            query = "SELECT cl "
+                  + "  FROM CommandLogEntry cl "
+                  + " WHERE cl.executeIn = org.apache.causeway.extensions.commandlog.applib.dom.ExecuteIn.BACKGROUND "
+                  + "   AND cl.startedAt is null "
+                  + "   AND cl.claimedAt >= :staleBefore "
+                  + " ORDER BY cl.timestamp ASC"),
+    @NamedQuery(
+            name  = Nq.CLAIM_BACKGROUND,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.claimedBy = :claimant, "
+                  + "       cl.claimedAt = :claimTimestamp "
+                  + " WHERE cl.pk.interactionId = :candidateInteractionId "
+                  + "   AND cl.startedAt is null "
+                  + "   AND (cl.claimedAt is null OR cl.claimedAt < :staleBefore)"),
+    @NamedQuery(
+            name  = Nq.RENEW_CLAIM_BACKGROUND,
+            query = "UPDATE CommandLogEntry cl "
+                  + "   SET cl.claimedAt = :claimTimestamp "
+                  + " WHERE cl.pk.interactionId = :candidateInteractionId "
+                  + "   AND cl.startedAt is null "
+                  + "   AND cl.claimedBy = :claimant"),
         @NamedQuery(
             name  = Nq.FIND_RECENT_BACKGROUND_BY_TARGET,
             query = "SELECT cl "
@@ -286,12 +317,35 @@ public void setInteractionId(final UUID interactionId) {
     @Getter @Setter
     private String logicalMemberIdentifier;
 
-    @Convert(converter = CausewayCommandDtoConverter.class)
+    /**
+     * As encoded by {@link CommandDtoCodec}.
+     */
     @Lob @Basic(fetch = FetchType.LAZY)
     @Column(nullable = CommandDtoAnnot.NULLABLE, columnDefinition = "CLOB")
+    private String commandDto;
+
+    @Transient
+    private final CommandDtoCodec.Lazy lazyCommandDto = new CommandDtoCodec.Lazy();
+
     @CommandDtoAnnot
+    @Override
+    public CommandDto getCommandDto() {
+        return lazyCommandDto.decode(commandDto);
+    }
+    @Override
+    public void setCommandDto(final CommandDto commandDto) {
+        this.commandDto = lazyCommandDto.encode(commandDto, commandDtoFormat());
+    }
+
+    @Column(nullable = ClaimedBy.NULLABLE, length = ClaimedBy.MAX_LENGTH)
+    @ClaimedBy
+    @Getter @Setter
+    private String claimedBy;
+
+    @Column(nullable = ClaimedAt.NULLABLE)
+    @ClaimedAt
     @Getter @Setter
-    private CommandDto commandDto;
+    private java.sql.Timestamp claimedAt;
 
     @Column(nullable = StartedAt.NULLABLE)
     @StartedAt
@@ -18,14 +18,20 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry.Nq;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +46,49 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    /**
+     * Claims the command using a conditional (bulk) update, so that concurrent workers cannot both claim it.
+     */
+    @Override
+    protected boolean claim(
+            final CommandLogEntry candidate,
+            final String claimedBy,
+            final Timestamp claimedAt,
+            final Timestamp staleBefore) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.CLAIM_BACKGROUND)
+                .setParameter("claimant", claimedBy)
+                .setParameter("claimTimestamp", claimedAt)
+                .setParameter("candidateInteractionId", candidate.getInteractionId())
+                .setParameter("staleBefore", staleBefore)
+                .executeUpdate() == 1;
+    }
+
+    /**
+     * Renews the claim using a conditional (bulk) update, which also locks the row until the transaction completes.
+     */
+    @Override
+    public boolean renewClaim(
+            final UUID interactionId,
+            final String claimedBy,
+            final Timestamp claimedAt) {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class)
+                .createNamedQuery(Nq.RENEW_CLAIM_BACKGROUND)
+                .setParameter("claimant", claimedBy)
+                .setParameter("claimTimestamp", claimedAt)
+                .setParameter("candidateInteractionId", interactionId)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public boolean isClaimAtomic() {
+        return true;
+    }
+
 }
@@ -19,9 +19,8 @@
 package org.apache.causeway.extensions.excel.applib.service;
 
 import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -29,7 +28,6 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -81,8 +79,6 @@
 
 class _ExcelConverter {
 
-    private static final String XLSX_SUFFIX = ".xlsx";
-
     private static final Predicate<ObjectAssociation> VISIBLE_PROPERTIES =
             ObjectAssociation.Predicates.PROPERTIES.and(
             ObjectAssociation.Predicates.staticallyVisible(Where.STANDALONE_TABLES));
@@ -120,7 +116,17 @@ public Row newRow() {
 
     // //////////////////////////////////////
 
-    File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkbook workbook) throws IOException {
+    /**
+     * Appends a sheet per {@link WorksheetContent} to given workbook, then writes the workbook to given
+     * {@link OutputStream}, which is not closed by this method.
+     * <p>
+     * Supports streaming workbooks ({@link org.apache.poi.xssf.streaming.SXSSFWorkbook}), as rows
+     * are written strictly in sequence and never read back.
+     */
+    void appendSheet(
+            final List<WorksheetContent> worksheetContents,
+            final Workbook workbook,
+            final OutputStream out) throws IOException {
         final Set<String> worksheetNames = worksheetContents.stream()
                 .map(x -> x.getSpec().getSheetName())
                 .collect(Collectors.toSet());
@@ -135,29 +141,19 @@ File appendSheet(final List<WorksheetContent> worksheetContents, final XSSFWorkb
             }
         }
 
-        final File tempFile =
-                File.createTempFile(_ExcelConverter.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
-        try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
-
-            for (WorksheetContent worksheetContent : worksheetContents) {
-                final WorksheetSpec spec = worksheetContent.getSpec();
-                appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
-            }
-            workbook.write(fos);
+        for (WorksheetContent worksheetContent : worksheetContents) {
+            final WorksheetSpec spec = worksheetContent.getSpec();
+            appendSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
         }
-        return tempFile;
+        workbook.write(out);
     }
 
     private Sheet appendSheet(
-            final XSSFWorkbook workbook,
+            final Workbook workbook,
             final List<?> domainObjects,
             final WorksheetSpec.RowFactory<?> factory,
             final String sheetName) throws IOException {
 
-        final List<ManagedObject> adapters = domainObjects.stream()
-                .map(objectManager::adapt)
-                .collect(Collectors.toList());
-
         final List<OneToOneAssociation> propertyList = _Lists.newArrayList();
 
         specificationLoader.specForType(factory.getCls())
@@ -172,7 +168,7 @@ private Sheet appendSheet(
                     .forEach(annotatedAsHyperlink::add);
         }
 
-        final Sheet sheet = ((Workbook) workbook).createSheet(sheetName);
+        final Sheet sheet = workbook.createSheet(sheetName);
 
         final RowFactory rowFactory = new RowFactory(sheet);
         final Row headerRow = rowFactory.newRow();
@@ -186,8 +182,9 @@ private Sheet appendSheet(
 
         final _CellMarshaller cellMarshaller = newCellMarshaller(workbook);
 
-        // detail rows
-        for (final ManagedObject objectAdapter : adapters) {
+        // detail rows (adapted one at a time)
+        for (final Object domainObject : domainObjects) {
+            final ManagedObject objectAdapter = objectManager.adapt(domainObject);
             final Row detailRow = rowFactory.newRow();
             i = 0;
             for (var property : propertyList) {
@@ -206,7 +203,13 @@ private Sheet appendSheet(
         return sheet;
     }
 
-    File appendPivotSheet(final List<WorksheetContent> worksheetContents) throws IOException {
+    /**
+     * Writes a workbook with a pivot sheet per {@link WorksheetContent} to given
+     * {@link OutputStream}, which is not closed by this method.
+     */
+    void appendPivotSheet(
+            final List<WorksheetContent> worksheetContents,
+            final OutputStream out) throws IOException {
 
         var worksheetNames = _NullSafe.stream(worksheetContents)
         .map(worksheetContent->worksheetContent==null
@@ -227,18 +230,13 @@ File appendPivotSheet(final List<WorksheetContent> worksheetContents) throws IOE
             }
         }
 
+        // pivoting reads back the source sheet, hence not streamed
         try(final XSSFWorkbook workbook = new XSSFWorkbook()) {
-            final File tempFile =
-                    File.createTempFile(_ExcelConverter.class.getName(), UUID.randomUUID().toString() + XLSX_SUFFIX);
-            try(final FileOutputStream fos = new FileOutputStream(tempFile)) {
-
-                for (WorksheetContent worksheetContent : worksheetContents) {
-                    final WorksheetSpec spec = worksheetContent.getSpec();
-                    appendPivotSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
-                }
-                workbook.write(fos);
+            for (WorksheetContent worksheetContent : worksheetContents) {
+                final WorksheetSpec spec = worksheetContent.getSpec();
+                appendPivotSheet(workbook, worksheetContent.getDomainObjects(), spec.getFactory(), spec.getSheetName());
             }
-            return tempFile;
+            workbook.write(out);
         }
     }
 
@@ -18,13 +18,18 @@
  */
 package org.apache.causeway.extensions.excel.applib.service;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.Collections;
 import java.util.List;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
@@ -44,6 +49,13 @@
 
 class _ExcelServiceHelper {
 
+    /**
+     * Number of rows kept in memory per sheet, when streaming.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private static final String XLSX_SUFFIX = ".xlsx";
+
     private final ExcelFileBlobConverter excelFileBlobConverter = new ExcelFileBlobConverter();
 
     /**
@@ -103,12 +115,7 @@ <T> Blob toExcel(final WorksheetContent worksheetContent, final String fileName,
      * As {@link #toExcel(WorksheetContent, String)}, but with multiple sheets.
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName) {
-        try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook());
-            return excelFileBlobConverter.toBlob(fileName, file);
-        } catch (final IOException ex) {
-            throw new ExcelServiceDefault.Exception(ex);
-        }
+        return toExcelStreaming(worksheetContents, fileName, new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE));
     }
 
     /**
@@ -116,8 +123,9 @@ Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileNa
      */
     Blob toExcel(final List<WorksheetContent> worksheetContents, final String fileName, final InputStream in) {
         try {
-            final File file = newExcelConverter().appendSheet(worksheetContents, new XSSFWorkbook(in));
-            return excelFileBlobConverter.toBlob(fileName, file);
+            // existing sheets are kept as is, appended sheets are streamed
+            return toExcelStreaming(worksheetContents, fileName,
+                    new SXSSFWorkbook(new XSSFWorkbook(in), ROW_ACCESS_WINDOW_SIZE));
         } catch (final IOException ex) {
             throw new ExcelServiceDefault.Exception(ex);
         }
@@ -164,12 +172,8 @@ <T> Blob toExcelPivot(final WorksheetContent worksheetContent, final String file
     }
 
     <T> Blob toExcelPivot(final List<WorksheetContent> worksheetContents, final String fileName) {
-        try {
-            final File file = newExcelConverter().appendPivotSheet(worksheetContents);
-            return excelFileBlobConverter.toBlob(fileName, file);
-        } catch (final IOException ex) {
-            throw new ExcelServiceDefault.Exception(ex);
-        }
+        return toBlobViaTempFile(fileName, out->
+            newExcelConverter().appendPivotSheet(worksheetContents, out));
     }
 
     /**
@@ -219,6 +223,49 @@ List<List<?>> fromExcel(
 
     // -- HELPER
 
+    /**
+     * Streams the workbook to a temporary file, while rows beyond the window are flushed (compressed)
+     * to disk, such that memory use while writing does not grow with the number of rows.
+     * Only the resulting {@link Blob} holds the (compressed) spreadsheet in memory.
+     */
+    private Blob toExcelStreaming(
+            final List<WorksheetContent> worksheetContents,
+            final String fileName,
+            final SXSSFWorkbook workbook) {
+        workbook.setCompressTempFiles(true);
+        try(workbook) {
+            return toBlobViaTempFile(fileName, out->
+                newExcelConverter().appendSheet(worksheetContents, workbook, out));
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        } finally {
+            workbook.dispose(); // deletes the temporary files backing the flushed rows
+        }
+    }
+
+    @FunctionalInterface
+    private interface WorkbookWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private Blob toBlobViaTempFile(
+            final String fileName,
+            final WorkbookWriter writer) {
+        try {
+            final File tempFile = File.createTempFile(_ExcelServiceHelper.class.getName(), XLSX_SUFFIX);
+            try {
+                try(final OutputStream out = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+                    writer.writeTo(out);
+                }
+                return excelFileBlobConverter.toBlob(fileName, tempFile);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath()); // cleanup
+            }
+        } catch (final IOException ex) {
+            throw new ExcelServiceDefault.Exception(ex);
+        }
+    }
+
     @SneakyThrows
     private _ExcelConverter newExcelConverter() {
         return new _ExcelConverter(specificationLoader, objectManager, bookmarkService, serviceInjector);
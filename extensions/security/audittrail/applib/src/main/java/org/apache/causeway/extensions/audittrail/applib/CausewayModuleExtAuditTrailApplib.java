@@ -27,12 +27,14 @@
 import org.apache.causeway.extensions.audittrail.applib.contributions.HasInteractionId_auditTrailEntries;
 import org.apache.causeway.extensions.audittrail.applib.contributions.Object_createdByCommand;
 import org.apache.causeway.extensions.audittrail.applib.contributions.Object_recentAuditTrailEntries;
+import org.apache.causeway.extensions.audittrail.applib.spiimpl.AuditTrailWriteBehindQueue;
 import org.apache.causeway.extensions.audittrail.applib.spiimpl.EntityPropertyChangeSubscriberForAuditTrail;
 
 @Configuration
 @Import({
         AuditTrailMenu.class,
         EntityPropertyChangeSubscriberForAuditTrail.class,
+        AuditTrailWriteBehindQueue.class,
 
         HasInteractionId_auditTrailEntries.class,
         Object_recentAuditTrailEntries.class,
@@ -66,9 +66,24 @@ public AuditTrailEntry createFor(final EntityPropertyChange change) {
         return repositoryService.persistAndFlush(entry);
     }
 
+    /**
+     * Persists all entries, then flushes once (when leaving the bulk execution),
+     * allowing the ORM to batch the inserts.
+     */
     @Override
-    public Can<AuditTrailEntry> createFor(Can<EntityPropertyChange> entityPropertyChanges) {
-        return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
+    public Can<AuditTrailEntry> createFor(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if(entityPropertyChanges.isEmpty()) {
+            return Can.empty();
+        }
+        return repositoryService.execInBulk(() -> {
+            final Can<AuditTrailEntry> entries = entityPropertyChanges.map(change -> {
+                E entry = factoryService.detachedEntity(auditTrailEntryClass);
+                entry.init(change);
+                return entry;
+            });
+            entries.forEach(repositoryService::persist);
+            return entries;
+        });
     }
 
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
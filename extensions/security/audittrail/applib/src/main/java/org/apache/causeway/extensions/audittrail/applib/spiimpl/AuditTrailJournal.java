@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Append-only file of {@link EntityPropertyChange}s that are not yet persisted,
+ * one line per change, to recover from after a crash;
+ * also used as dead-letter file for changes that failed to persist.
+ * <p>
+ * Each line holds the change's fields, separated by tabs, each either Base64 (URL-safe) encoded
+ * or {@value #NULL} if <code>null</code>.
+ * A line prefixed with {@value #DISCARDED} marks an earlier line holding the same change as discarded
+ * (eg. because its transaction rolled back).
+ * <p>
+ * Not thread-safe, callers must synchronize.
+ *
+ * @see AuditTrailWriteBehindQueue
+ */
+@Log4j2
+final class AuditTrailJournal implements AutoCloseable {
+
+    static final String FILE_NAME = "audittrail-journal.txt";
+    /** same format as the journal, but neither truncated nor recovered automatically */
+    static final String DEAD_LETTER_FILE_NAME = "audittrail-dead-letter.txt";
+    private static final String NULL = "~";
+    private static final String DISCARDED = "-";
+    private static final String SEPARATOR = "\t";
+    private static final int FIELD_COUNT = 9;
+
+    private final Path file;
+    private BufferedWriter writer;
+    private boolean dirty;
+
+    static AuditTrailJournal open(final @NonNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new AuditTrailJournal(directory.resolve(FILE_NAME));
+    }
+
+    /**
+     * Opens the file of changes that could not be persisted (after retries),
+     * for an administrator to inspect and replay.
+     */
+    static AuditTrailJournal openDeadLetters(final @NonNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new AuditTrailJournal(directory.resolve(DEAD_LETTER_FILE_NAME));
+    }
+
+    private AuditTrailJournal(final Path file) throws IOException {
+        this.file = file;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.dirty = Files.size(file)>0L;
+    }
+
+    /**
+     * Changes left over from a previous run, that might not have been persisted.
+     * Lines that cannot be decoded (eg. partially written on crash) are skipped.
+     */
+    List<EntityPropertyChange> recover() throws IOException {
+        var changes = new ArrayList<EntityPropertyChange>();
+        for(var line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if(line.isEmpty()) {
+                continue;
+            }
+            try {
+                if(line.startsWith(DISCARDED + SEPARATOR)) {
+                    changes.remove(decodeChange(line.substring(DISCARDED.length() + SEPARATOR.length())));
+                } else {
+                    changes.add(decodeChange(line));
+                }
+            } catch (Exception e) {
+                log.warn("skipping corrupt audit trail journal entry '{}'", line, e);
+            }
+        }
+        return changes;
+    }
+
+    void append(final @NonNull Can<EntityPropertyChange> changes) throws IOException {
+        for(var change : changes) {
+            writer.write(encodeChange(change));
+            writer.newLine();
+        }
+        writer.flush();
+        dirty = true;
+    }
+
+    /**
+     * Marks given (previously appended) changes as discarded, such that these are not recovered.
+     */
+    void discard(final @NonNull Can<EntityPropertyChange> changes) throws IOException {
+        for(var change : changes) {
+            writer.write(DISCARDED + SEPARATOR + encodeChange(change));
+            writer.newLine();
+        }
+        writer.flush();
+        dirty = true;
+    }
+
+    /**
+     * Discards all entries, to be called once every journaled change got persisted.
+     */
+    void truncate() throws IOException {
+        if(!dirty) {
+            return;
+        }
+        writer.close();
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        dirty = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    // -- CODEC
+
+    static String encodeChange(final EntityPropertyChange change) {
+        return String.join(SEPARATOR,
+                encodeField(change.getInteractionId().toString()),
+                encodeField(Integer.toString(change.getSequence())),
+                encodeField(change.getTarget().stringify()),
+                encodeField(change.getLogicalMemberIdentifier()),
+                encodeField(change.getPropertyId()),
+                encodeField(change.getPreValue()),
+                encodeField(change.getPostValue()),
+                encodeField(change.getUsername()),
+                encodeField(change.getTimestamp()!=null
+                        ? change.getTimestamp().toInstant().toString()
+                        : null));
+    }
+
+    static EntityPropertyChange decodeChange(final String line) {
+        var fields = line.split(SEPARATOR, -1);
+        if(fields.length!=FIELD_COUNT) {
+            throw new IllegalArgumentException(
+                    String.format("expected %d fields, got %d", FIELD_COUNT, fields.length));
+        }
+        var timestamp = decodeField(fields[8]);
+        return EntityPropertyChange.of(
+                UUID.fromString(decodeField(fields[0])),
+                Integer.parseInt(decodeField(fields[1])),
+                Bookmark.parseElseFail(decodeField(fields[2])),
+                decodeField(fields[3]),
+                decodeField(fields[4]),
+                decodeField(fields[5]),
+                decodeField(fields[6]),
+                decodeField(fields[7]),
+                timestamp!=null
+                    ? Timestamp.from(Instant.parse(timestamp))
+                    : null);
+    }
+
+    private static String encodeField(final @Nullable String str) {
+        return str!=null
+                ? Base64.getUrlEncoder().encodeToString(str.getBytes(StandardCharsets.UTF_8))
+                : NULL;
+    }
+
+    private static @Nullable String decodeField(final String field) {
+        return NULL.equals(field)
+                ? null
+                : new String(Base64.getUrlDecoder().decode(field), StandardCharsets.UTF_8);
+    }
+
+}
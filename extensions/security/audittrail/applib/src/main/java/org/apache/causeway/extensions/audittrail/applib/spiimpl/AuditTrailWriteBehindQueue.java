@@ -0,0 +1,412 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Write-behind buffer for {@link AuditTrailEntry audit trail entries}, used by
+ * {@link EntityPropertyChangeSubscriberForAuditTrail} if enabled via
+ * <code>causeway.extensions.audit-trail.write-behind.enabled</code>.
+ *
+ * <p>
+ *     Property changes are enqueued once their originating transaction has committed, and are persisted by
+ *     a single background worker, in batches, each within its own transaction.  If the queue is full, the
+ *     committing thread persists its changes itself.  A batch that still fails after the configured number
+ *     of attempts is given up on and written to a dead-letter file (or else logged).
+ * </p>
+ *
+ * <p>
+ *     If a journal directory is configured, changes are also appended to a journal file as they are enqueued,
+ *     that is, still within their originating transaction, and marked as discarded if that transaction rolls back.
+ *     The journal is truncated whenever the queue has been drained, and replayed on next start-up otherwise.
+ *     Hence changes survive a crash after their transaction committed; a crash between journaling and commit
+ *     may replay changes of a transaction that did not commit.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(AuditTrailWriteBehindQueue.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class AuditTrailWriteBehindQueue {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtAuditTrailApplib.NAMESPACE + ".AuditTrailWriteBehindQueue";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    final InteractionService interactionService;
+    final TransactionService transactionService;
+    final AuditTrailEntryRepository auditTrailEntryRepository;
+    final CausewayConfiguration causewayConfiguration;
+
+    private final Object lock = new Object();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong failedBatchCount = new AtomicLong();
+    private final AtomicLong deadLetterCount = new AtomicLong();
+
+    private BlockingQueue<EntityPropertyChange> queue;
+    private @Nullable AuditTrailJournal journal;
+    private @Nullable AuditTrailJournal deadLetters;
+    private ScheduledExecutorService worker;
+    private int batchSize;
+    private int maxAttempts;
+
+    /** batch taken from the queue, but not yet persisted; only written by the worker */
+    private volatile List<EntityPropertyChange> inFlight = List.of();
+    /** number of failed attempts to persist the {@link #inFlight} batch; only accessed by the worker */
+    private int inFlightFailedAttempts;
+    /** number of journaled changes, whose transaction has not yet completed; guarded by {@link #lock} */
+    private int pendingJournaledCount;
+
+    @PostConstruct
+    public void init() {
+        var settings = causewayConfiguration.getExtensions().getAuditTrail().getWriteBehind();
+        if(!settings.isEnabled()) {
+            return;
+        }
+        this.batchSize = settings.getBatchSize();
+        this.maxAttempts = settings.getMaxAttempts();
+        var recovered = new ArrayList<EntityPropertyChange>();
+        settings.getJournalDirectory().ifPresent(journalDirectory->{
+            this.journal = Try.call(()->AuditTrailJournal.open(Paths.get(journalDirectory)))
+                    .valueAsNonNullElseFail();
+            this.deadLetters = Try.call(()->AuditTrailJournal.openDeadLetters(Paths.get(journalDirectory)))
+                    .valueAsNonNullElseFail();
+            recovered.addAll(Try.call(journal::recover).valueAsNonNullElseFail());
+            if(!recovered.isEmpty()) {
+                log.info("recovered {} audit trail entries from journal in {}", recovered.size(), journalDirectory);
+            }
+        });
+        this.queue = new LinkedBlockingQueue<>(Math.max(settings.getQueueCapacity(), recovered.size()));
+        queue.addAll(recovered);
+
+        var flushIntervalMillis = Math.max(1L, settings.getFlushInterval().toMillis());
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable->{
+            var thread = new Thread(runnable, "causeway-audittrail-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(this::drain, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(worker==null) {
+            return;
+        }
+        worker.submit(this::drain);
+        worker.shutdown();
+        try {
+            if(!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("audit trail write-behind did not complete within {}s, {} entries pending",
+                        SHUTDOWN_TIMEOUT_SECONDS, getQueueDepth());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized(lock) {
+            if(journal!=null) {
+                Try.run(journal::close);
+            }
+            if(deadLetters!=null) {
+                Try.run(deadLetters::close);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return worker!=null;
+    }
+
+    /**
+     * Enqueues given property changes for persistence, once the current transaction (if any) has committed.
+     * <p>
+     * If journaling, the changes are journaled right away, that is, before the transaction commits,
+     * and discarded from the journal, if it rolls back.
+     */
+    public void enqueue(final @NonNull Can<EntityPropertyChange> entityPropertyChanges) {
+        if(entityPropertyChanges.isEmpty()) {
+            return;
+        }
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            // typically called from within another synchronization's beforeCommit,
+            // hence can only hook into the completion of the transaction
+            var journaled = journal(entityPropertyChanges, /*pending*/true);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if(status==STATUS_COMMITTED) {
+                        offer(entityPropertyChanges, journaled, /*pending*/journaled);
+                    } else if(journaled) {
+                        discard(entityPropertyChanges, /*pending*/true);
+                    }
+                }
+            });
+        } else {
+            offer(entityPropertyChanges, journal(entityPropertyChanges, /*pending*/false), /*pending*/false);
+        }
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of property changes not yet persisted.
+     */
+    public int getQueueDepth() {
+        return queue!=null
+                ? queue.size() + inFlight.size()
+                : 0;
+    }
+
+    /**
+     * Age of the oldest property change not yet persisted, or {@link Duration#ZERO} if there is none.
+     */
+    public Duration getLag() {
+        var oldest = !inFlight.isEmpty()
+                ? inFlight.get(0)
+                : queue!=null
+                    ? queue.peek()
+                    : null;
+        if(oldest==null
+                || oldest.getTimestamp()==null) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - oldest.getTimestamp().getTime()));
+    }
+
+    /**
+     * Number of audit trail entries persisted by the background worker.
+     */
+    public long getPersistedCount() {
+        return persistedCount.get();
+    }
+
+    /**
+     * Number of failed attempts to persist a batch.
+     */
+    public long getFailedBatchCount() {
+        return failedBatchCount.get();
+    }
+
+    /**
+     * Number of property changes given up on, that were written to the dead-letter file (or log).
+     */
+    public long getDeadLetterCount() {
+        return deadLetterCount.get();
+    }
+
+    // -- HELPER
+
+    /**
+     * Appends given changes to the journal if any.
+     * @param pending - whether the changes' transaction has yet to complete
+     * @return whether journaled
+     */
+    private boolean journal(final Can<EntityPropertyChange> entityPropertyChanges, final boolean pending) {
+        synchronized(lock) {
+            if(journal==null) {
+                return false;
+            }
+            var journaled = Try.run(()->journal.append(entityPropertyChanges))
+                .ifFailure(e->log.warn("failed to append to audit trail journal", e))
+                .isSuccess();
+            if(journaled
+                    && pending) {
+                pendingJournaledCount += entityPropertyChanges.size();
+            }
+            return journaled;
+        }
+    }
+
+    /**
+     * Marks given journaled changes as discarded, such that these are not recovered.
+     * @param pending - whether the changes were counted as pending
+     */
+    private void discard(final Can<EntityPropertyChange> entityPropertyChanges, final boolean pending) {
+        synchronized(lock) {
+            if(pending) {
+                pendingJournaledCount -= entityPropertyChanges.size();
+            }
+            Try.run(()->journal.discard(entityPropertyChanges))
+                .ifFailure(e->log.warn("failed to discard from audit trail journal", e));
+        }
+    }
+
+    /**
+     * @param journaled - whether the changes were journaled
+     * @param pending - whether the changes were counted as pending
+     */
+    private void offer(
+            final Can<EntityPropertyChange> entityPropertyChanges,
+            final boolean journaled,
+            final boolean pending) {
+        synchronized(lock) {
+            if(queue.remainingCapacity() >= entityPropertyChanges.size()) {
+                // no longer pending, but queued (the journal is not truncated before the queue is drained)
+                if(pending) {
+                    pendingJournaledCount -= entityPropertyChanges.size();
+                }
+                entityPropertyChanges.forEach(queue::add);
+                return;
+            }
+        }
+        log.debug("audit trail write-behind queue is full, persisting {} entries synchronously",
+                entityPropertyChanges.size());
+        persist(entityPropertyChanges)
+            .ifFailure(e->{
+                log.error("failed to persist {} audit trail entries", entityPropertyChanges.size(), e);
+                deadLetter(entityPropertyChanges);
+            });
+        if(journaled) {
+            // either persisted or dead-lettered, hence not to be recovered
+            discard(entityPropertyChanges, pending);
+        }
+    }
+
+    /**
+     * Persists all pending changes in batches, stopping at the first failure (to be retried on next run),
+     * unless that batch has used up its attempts, in which case it is dead-lettered.
+     */
+    private void drain() {
+        try {
+            while(true) {
+                if(inFlight.isEmpty()) {
+                    var batch = new ArrayList<EntityPropertyChange>(batchSize);
+                    // published before draining, such that the queue depth never drops to zero in between
+                    inFlight = batch;
+                    queue.drainTo(batch, batchSize);
+                    if(batch.isEmpty()) {
+                        inFlight = List.of();
+                        truncateJournalIfIdle();
+                        return;
+                    }
+                    inFlightFailedAttempts = 0;
+                }
+                var batch = inFlight;
+                var result = persist(Can.ofCollection(batch));
+                if(result.isFailure()) {
+                    failedBatchCount.incrementAndGet();
+                    if(++inFlightFailedAttempts < maxAttempts) {
+                        log.warn("failed to persist {} audit trail entries (attempt {} of {}), will retry "
+                                + "(queue depth {}, lag {})",
+                                batch.size(), inFlightFailedAttempts, maxAttempts, getQueueDepth(), getLag(),
+                                result.getFailure().orElse(null));
+                        return;
+                    }
+                    log.error("failed to persist {} audit trail entries (attempt {} of {}), giving up",
+                            batch.size(), inFlightFailedAttempts, maxAttempts, result.getFailure().orElse(null));
+                    deadLetter(Can.ofCollection(batch));
+                } else {
+                    persistedCount.addAndGet(batch.size());
+                    log.debug("persisted {} audit trail entries (queue depth {}, lag {})",
+                            batch.size(), getQueueDepth(), getLag());
+                }
+                synchronized(lock) {
+                    inFlight = List.of();
+                }
+            }
+        } catch (Throwable e) {
+            // don't let the scheduled task die
+            log.error("audit trail write-behind failed", e);
+        }
+    }
+
+    /**
+     * Appends given changes to the dead-letter file if any, otherwise (or if that fails) logs them,
+     * in journal format, such that these can be replayed manually.
+     */
+    private void deadLetter(final Can<EntityPropertyChange> entityPropertyChanges) {
+        deadLetterCount.addAndGet(entityPropertyChanges.size());
+        synchronized(lock) {
+            if(deadLetters!=null
+                    && Try.run(()->deadLetters.append(entityPropertyChanges))
+                        .ifFailure(e->log.error("failed to append to audit trail dead-letter file", e))
+                        .isSuccess()) {
+                return;
+            }
+        }
+        entityPropertyChanges.forEach(change->
+            log.error("audit trail dead letter: {}", AuditTrailJournal.encodeChange(change)));
+    }
+
+    private Try<Void> persist(final Can<EntityPropertyChange> entityPropertyChanges) {
+        return interactionService.runAnonymousAndCatch(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->
+                    auditTrailEntryRepository.createFor(entityPropertyChanges))
+            .ifFailureFail());
+    }
+
+    private void truncateJournalIfIdle() {
+        if(journal==null) {
+            return;
+        }
+        synchronized(lock) {
+            if(queue.isEmpty()
+                    && inFlight.isEmpty()
+                    && pendingJournaledCount==0) {
+                Try.run(journal::truncate)
+                    .ifFailure(e->log.warn("failed to truncate audit trail journal", e));
+            }
+        }
+    }
+
+}
@@ -24,8 +24,6 @@
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import org.apache.causeway.commons.collections.Can;
-
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -33,6 +31,7 @@
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
 import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.extensions.audittrail.applib.CausewayModuleExtAuditTrailApplib;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry;
@@ -45,6 +44,11 @@
  * entry to the database (the {@link AuditTrailEntry} entity) each time a
  * user either logs on or logs out, or if their session expires.
  *
+ * <p>
+ *     If write-behind is enabled, the entries are instead persisted asynchronously
+ *     by the {@link AuditTrailWriteBehindQueue}.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
 @Service
@@ -60,6 +64,7 @@ public class EntityPropertyChangeSubscriberForAuditTrail implements EntityProper
     final TransactionService transactionService;
     final AuditTrailEntryRepository auditTrailEntryRepository;
     final CausewayConfiguration causewayConfiguration;
+    final AuditTrailWriteBehindQueue auditTrailWriteBehindQueue;
 
     @Override
     public boolean isEnabled() {
@@ -71,14 +76,22 @@ public void onChanging(final EntityPropertyChange entityPropertyChange) {
         if (!isEnabled()) {
             return;
         }
+        if (auditTrailWriteBehindQueue.isEnabled()) {
+            auditTrailWriteBehindQueue.enqueue(Can.ofSingleton(entityPropertyChange));
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChange);
     }
 
     @Override
-    public void onChanging(Can<EntityPropertyChange> entityPropertyChanges) {
+    public void onChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
         if (!isEnabled()) {
             return;
         }
+        if (auditTrailWriteBehindQueue.isEnabled()) {
+            auditTrailWriteBehindQueue.enqueue(entityPropertyChanges);
+            return;
+        }
         auditTrailEntryRepository.createFor(entityPropertyChanges);
     }
 
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.commons.collections.Can;
+
+class AuditTrailJournal_Test {
+
+    @TempDir Path journalDirectory;
+
+    @Test
+    void roundtrip() throws Exception {
+        var change1 = change(1, "a\tb\nc", null);
+        var change2 = change(2, null, "ü");
+
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            journal.append(Can.of(change1, change2));
+        }
+
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            var recovered = journal.recover();
+            assertEquals(List.of(change1, change2), recovered);
+            assertEquals("a\tb\nc", recovered.get(0).getPreValue());
+            assertNull(recovered.get(0).getPostValue());
+            assertEquals(change1.getTimestamp(), recovered.get(0).getTimestamp());
+            assertEquals(change1.getTarget(), recovered.get(0).getTarget());
+        }
+    }
+
+    @Test
+    void truncate_discardsEntries() throws Exception {
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            journal.append(Can.of(change(1, "x", "y")));
+            journal.truncate();
+            assertTrue(journal.recover().isEmpty());
+        }
+    }
+
+    @Test
+    void discard_excludesEntriesFromRecovery() throws Exception {
+        var change1 = change(1, "x", "y");
+        var change2 = change(2, "x", "y");
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            journal.append(Can.of(change1, change2));
+            journal.discard(Can.of(change1));
+        }
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            assertEquals(List.of(change2), journal.recover());
+        }
+    }
+
+    @Test
+    void recover_skipsCorruptEntries() throws Exception {
+        var change1 = change(1, "x", "y");
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            journal.append(Can.of(change1));
+        }
+        // simulate a partially written line
+        Files.writeString(journalDirectory.resolve(AuditTrailJournal.FILE_NAME),
+                "abc\t", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            assertEquals(List.of(change1), journal.recover());
+        }
+    }
+
+    // -- HELPER
+
+    private static EntityPropertyChange change(final int sequence, final String preValue, final String postValue) {
+        return EntityPropertyChange.of(
+                UUID.randomUUID(),
+                sequence,
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "" + sequence),
+                "test.Customer#name",
+                "name",
+                preValue,
+                postValue,
+                "sven",
+                new Timestamp(1_700_000_000_123L));
+    }
+
+}
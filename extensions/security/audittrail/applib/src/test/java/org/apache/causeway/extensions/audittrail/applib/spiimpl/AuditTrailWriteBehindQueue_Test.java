@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.causeway.extensions.audittrail.applib.spiimpl;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepository;
+
+class AuditTrailWriteBehindQueue_Test {
+
+    @TempDir Path journalDirectory;
+
+    private InteractionService interactionService;
+    private AuditTrailWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        var settings = causewayConfiguration.getExtensions().getAuditTrail().getWriteBehind();
+        settings.setEnabled(true);
+        settings.setFlushInterval(Duration.ofMillis(10));
+        settings.setMaxAttempts(3);
+        settings.setJournalDirectory(Optional.of(journalDirectory.toString()));
+
+        interactionService = mock(InteractionService.class);
+        queue = new AuditTrailWriteBehindQueue(
+                interactionService,
+                mock(TransactionService.class),
+                mock(AuditTrailEntryRepository.class),
+                causewayConfiguration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void failingBatch_isDeadLettered_afterMaxAttempts() throws Exception {
+        when(interactionService.runAnonymousAndCatch(any()))
+            .thenReturn(Try.failure(new IllegalStateException("database down")));
+        queue.init();
+
+        var change = change(1);
+        queue.enqueue(Can.of(change));
+        awaitDrained();
+
+        assertEquals(3, queue.getFailedBatchCount());
+        assertEquals(1, queue.getDeadLetterCount());
+        assertEquals(0, queue.getPersistedCount());
+        try(var deadLetters = AuditTrailJournal.openDeadLetters(journalDirectory)) {
+            assertEquals(List.of(change), deadLetters.recover());
+        }
+    }
+
+    @Test
+    void succeedingBatch_isPersisted() throws Exception {
+        when(interactionService.runAnonymousAndCatch(any()))
+            .thenReturn(Try.failure(new IllegalStateException("database down")))
+            .thenReturn(Try.success(null));
+        queue.init();
+
+        queue.enqueue(Can.of(change(1), change(2)));
+        awaitDrained();
+
+        assertEquals(1, queue.getFailedBatchCount());
+        assertEquals(0, queue.getDeadLetterCount());
+        assertEquals(2, queue.getPersistedCount());
+        try(var deadLetters = AuditTrailJournal.openDeadLetters(journalDirectory)) {
+            assertTrue(deadLetters.recover().isEmpty());
+        }
+        Mockito.verify(interactionService, Mockito.times(2)).runAnonymousAndCatch(any());
+    }
+
+    @Test
+    void changes_areJournaledBeforeCommit_andDiscardedOnRollback() throws Exception {
+        when(interactionService.runAnonymousAndCatch(any()))
+            .thenReturn(Try.success(null));
+        queue.init();
+
+        var committed = change(1);
+        var rolledBack = change(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            queue.enqueue(Can.of(committed));
+            // journaled, but not enqueued, as not yet committed
+            assertEquals(0, queue.getQueueDepth());
+            assertEquals(List.of(committed), recoverJournal());
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            queue.enqueue(Can.of(rolledBack));
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        awaitDrained();
+
+        assertEquals(1, queue.getPersistedCount());
+        assertTrue(recoverJournal().isEmpty());
+    }
+
+    // -- HELPER
+
+    private static void completeTransaction(final int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization->synchronization.afterCompletion(status));
+    }
+
+    private List<EntityPropertyChange> recoverJournal() throws Exception {
+        try(var journal = AuditTrailJournal.open(journalDirectory)) {
+            return journal.recover();
+        }
+    }
+
+    private void awaitDrained() throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 10_000L;
+        while(queue.getQueueDepth()>0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    private static EntityPropertyChange change(final int sequence) {
+        return EntityPropertyChange.of(
+                UUID.randomUUID(),
+                sequence,
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "" + sequence),
+                "test.Customer#name",
+                "name",
+                "x",
+                "y",
+                "sven",
+                new Timestamp(1_700_000_000_123L));
+    }
+
+}
@@ -20,7 +20,10 @@
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.causeway.applib.annotation.Programmatic;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
@@ -94,6 +97,20 @@ public static abstract class ActionDomainEvent extends CausewayModuleExtSecmanAp
      */
     private PermissionsEvaluationService permissionsEvaluationService;
 
+    /**
+     * Memoizes evaluations per permission mode and feature, as this set is immutable.
+     *
+     * <p>
+     *     Bounded by the number of features of the application, evaluated for any given user.
+     * </p>
+     *
+     * <p>
+     *     Value sets are shared across threads, hence (as being transient, lazily created) this is only published
+     *     once fully built (and not modifiable any more), with concurrent maps per mode.
+     * </p>
+     */
+    private transient volatile Map<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>> evaluationsByMode;
+
     // -- constructor
 
     public ApplicationPermissionValueSet(
@@ -137,6 +154,15 @@ public boolean grants(final ApplicationFeatureId featureId, final ApplicationPer
     public Evaluation evaluate(
             final ApplicationFeatureId featureId,
             final ApplicationPermissionMode mode) {
+        return evaluationsFor(mode)
+                .computeIfAbsent(featureId, __->evaluateUncached(featureId, mode));
+    }
+
+    // -- HELPER
+
+    private Evaluation evaluateUncached(
+            final ApplicationFeatureId featureId,
+            final ApplicationPermissionMode mode) {
 
         for (var pathId : featureId.getPathIds()) {
             var permissionValues = permissionsByFeature.get(pathId);
@@ -148,6 +174,21 @@ public Evaluation evaluate(
         return new Evaluation(null, false);
     }
 
+    private Map<ApplicationFeatureId, Evaluation> evaluationsFor(final ApplicationPermissionMode mode) {
+        var evaluationsByMode = this.evaluationsByMode;
+        if(evaluationsByMode == null) {
+            // benign race (at worst some evaluations are discarded); transient, hence lazily (re-)created
+            var newEvaluationsByMode = new EnumMap<ApplicationPermissionMode, Map<ApplicationFeatureId, Evaluation>>(
+                    ApplicationPermissionMode.class);
+            for(var permissionMode : ApplicationPermissionMode.values()) {
+                newEvaluationsByMode.put(permissionMode, new ConcurrentHashMap<>());
+            }
+            evaluationsByMode = Collections.unmodifiableMap(newEvaluationsByMode);
+            this.evaluationsByMode = evaluationsByMode;
+        }
+        return evaluationsByMode.get(mode);
+    }
+
     // -- equals, hashCode, toString
     @Override
     public boolean equals(final Object o) {
@@ -18,9 +18,15 @@
  */
 package org.apache.causeway.extensions.secman.integration.authorizor;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -28,8 +34,12 @@
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.annotation.InteractionScope;
@@ -39,15 +49,24 @@
 import org.apache.causeway.applib.services.metamodel.MetaModelService;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.authentication.logout.LogoutMenu;
 import org.apache.causeway.core.security.authorization.Authorizor;
+import org.apache.causeway.core.transaction.changetracking.events.BulkRemoveEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
 import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode;
 import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.tenancy.dom.ApplicationTenancy;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
 import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUserRepository;
 
 import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * <p>
@@ -71,10 +90,17 @@ public class AuthorizorSecman implements Authorizor {
 
     @Inject ApplicationUserRepository applicationUserRepository;
     @Inject Provider<PermissionCache> cache;
+    @Inject PermissionCacheApplicationWide applicationWideCache;
     @Inject MetaModelService metaModelService;
 
     private _Lazy<Identifier> logoutIdentifier = _Lazy.threadSafe(this::logoutIdentifier);
 
+    /**
+     * Interned feature ids, such that their parent path ids are computed only once per {@link Identifier}.
+     * Bounded by the number of features of the application.
+     */
+    private final Map<Identifier, ApplicationFeatureId> featureIdByIdentifier = new ConcurrentHashMap<>();
+
     private Identifier logoutIdentifier() {
         return Identifier.actionIdentifier(metaModelService.lookupLogicalTypeByClass(LogoutMenu.class).orElseThrow(), "logout");
     }
@@ -102,16 +128,24 @@ private boolean grants(
             final Identifier identifier,
             final ApplicationPermissionMode permissionMode) {
 
-        var userName = authentication.getUser().getName();
-        var permissionSetIfAny = cache.get()
-                .computeIfAbsent(userName, ()->
+        var user = authentication.getUser();
+        var userName = user.getName();
+        final Supplier<Optional<ApplicationPermissionValueSet>> lookup = ()->
                 applicationUserRepository
                 .findByUsername(userName)
-                .map(ApplicationUser::getPermissionSet));
+                .map(ApplicationUser::getPermissionSet);
+
+        // when impersonating, the permission set depends on the impersonated roles, hence not cached application-wide
+        var permissionSetIfAny = applicationWideCache.isEnabled()
+                && !user.isImpersonating()
+                ? applicationWideCache
+                    .computeIfAbsent(PermissionCacheKey.of(userName, user.getMultiTenancyToken()), lookup)
+                : cache.get()
+                    .computeIfAbsent(userName, lookup);
 
         return permissionSetIfAny
         .map(permissionSet->permissionSet.grants(
-                ApplicationFeatureId.fromIdentifier(identifier),
+                featureIdByIdentifier.computeIfAbsent(identifier, ApplicationFeatureId::fromIdentifier),
                 permissionMode))
         .orElse(false);
     }
@@ -137,4 +171,171 @@ Optional<ApplicationPermissionValueSet> computeIfAbsent(
 
     }
 
+    @Value(staticConstructor = "of")
+    static class PermissionCacheKey {
+        private final @NonNull String userName;
+        private final @Nullable String multiTenancyToken;
+    }
+
+    /**
+     * Caches permission sets across interactions, if enabled via
+     * {@link CausewayConfiguration.Extensions.Secman.PermissionCache#isEnabled()}.
+     * <p>
+     * Bounded in size (evicting the least recently used entry), with entries expiring after a configurable duration.
+     * All entries are invalidated, whenever any secman user, role, permission or tenancy
+     * is persisted, updated or removed (and again once the corresponding transaction has completed).
+     * <p>
+     * Each entry records the generation of the cache it was looked up in, and is only ever read back within that same
+     * generation; so an entry looked up concurrently with an invalidation is never served, even if put afterwards.
+     */
+    @Component
+    @Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecman.PermissionCacheApplicationWide")
+    @Log4j2
+    static class PermissionCacheApplicationWide {
+
+        @Value
+        private static class Entry {
+            private final Optional<ApplicationPermissionValueSet> permissionSet;
+            /** of the cache, as it was before the permission set was looked up */
+            private final long generation;
+            private final long expiresAtMillis;
+        }
+
+        /** access ordered, hence least recently used first; guarded by itself */
+        private final Map<PermissionCacheKey, Entry> entriesByKey;
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicLong hitCount = new AtomicLong();
+        private final AtomicLong missCount = new AtomicLong();
+
+        private final boolean enabled;
+        private final long expiryDurationMillis;
+        private final int maxSizeInEntries;
+
+        @Inject
+        PermissionCacheApplicationWide(final CausewayConfiguration causewayConfiguration) {
+            var config = causewayConfiguration.getExtensions().getSecman().getPermissionCache();
+            this.enabled = config.isEnabled();
+            this.expiryDurationMillis = TimeUnit.MINUTES.toMillis(config.getExpiryDurationInMinutes());
+            this.maxSizeInEntries = config.getMaxSizeInEntries();
+            this.entriesByKey = Collections.synchronizedMap(
+                    new LinkedHashMap<PermissionCacheKey, Entry>(16, 0.75f, true) {
+                        private static final long serialVersionUID = 1L;
+                        @Override
+                        protected boolean removeEldestEntry(final Map.Entry<PermissionCacheKey, PermissionCacheApplicationWide.Entry> eldest) {
+                            return size() > maxSizeInEntries;
+                        }
+                    });
+        }
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        long getHitCount() {
+            return hitCount.get();
+        }
+
+        long getMissCount() {
+            return missCount.get();
+        }
+
+        Optional<ApplicationPermissionValueSet> computeIfAbsent(
+                final @NonNull PermissionCacheKey key,
+                final Supplier<Optional<ApplicationPermissionValueSet>> lookup) {
+
+            final long now = System.currentTimeMillis();
+            var entry = entriesByKey.get(key);
+            if(entry != null
+                    && entry.getExpiresAtMillis() > now
+                    // not invalidated since the permission set was looked up (even if put after the invalidation)
+                    && entry.getGeneration() == generation.get()) {
+                hitCount.incrementAndGet();
+                return entry.getPermissionSet();
+            }
+            missCount.incrementAndGet();
+
+            // stale entries, because invalidated while looking up (or before being put), are never read
+            final long generationBeforeLookup = generation.get();
+            var permissionSet = lookup.get();
+            if(generationBeforeLookup == generation.get()) {
+                entriesByKey.put(key, new Entry(permissionSet, generationBeforeLookup, now + expiryDurationMillis));
+            }
+
+            if(log.isDebugEnabled()) {
+                log.debug("permission cache miss for {} (hits: {}, misses: {})",
+                        key.getUserName(), hitCount.get(), missCount.get());
+            }
+            return permissionSet;
+        }
+
+        void invalidateAll() {
+            generation.incrementAndGet();
+            entriesByKey.clear();
+        }
+
+        @EventListener(PostStoreEvent.class)
+        public void onPostStore(final PostStoreEvent event) {
+            onChanged(event.getPersistableObject());
+        }
+
+        @EventListener(PreRemoveEvent.class)
+        public void onPreRemove(final PreRemoveEvent event) {
+            onChanged(event.getPersistableObject());
+        }
+
+        /**
+         * Instances deleted in bulk don't trigger a {@link PreRemoveEvent} each.
+         */
+        @EventListener(BulkRemoveEvent.class)
+        public void onBulkRemove(final BulkRemoveEvent event) {
+            if(!isSecmanEntityType(event.getEntityType())) {
+                return;
+            }
+            onChanged();
+        }
+
+        // -- HELPER
+
+        private void onChanged(final Object entity) {
+            if(!isSecmanEntity(entity)) {
+                return;
+            }
+            onChanged();
+        }
+
+        private void onChanged() {
+            if(!enabled) {
+                return;
+            }
+            invalidateAll();
+            // other interactions might have re-populated the cache, before the change got committed
+            if(TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(final int status) {
+                        invalidateAll();
+                    }
+                });
+            }
+        }
+
+        private static boolean isSecmanEntity(final Object entity) {
+            return entity instanceof ApplicationUser
+                    || entity instanceof ApplicationRole
+                    || entity instanceof ApplicationPermission
+                    || entity instanceof ApplicationTenancy;
+        }
+
+        /**
+         * Whether instances of given type (including subtypes) might be secman entities.
+         */
+        private static boolean isSecmanEntityType(final Class<?> entityType) {
+            return Stream.of(ApplicationUser.class, ApplicationRole.class,
+                        ApplicationPermission.class, ApplicationTenancy.class)
+                    .anyMatch(secmanType->secmanType.isAssignableFrom(entityType)
+                            || entityType.isAssignableFrom(secmanType));
+        }
+
+    }
+
 }
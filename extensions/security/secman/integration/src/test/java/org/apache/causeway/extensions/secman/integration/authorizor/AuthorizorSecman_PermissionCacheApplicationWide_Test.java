@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.transaction.changetracking.events.BulkRemoveEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PostStoreEvent;
+import org.apache.causeway.core.transaction.changetracking.events.PreRemoveEvent;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman.PermissionCacheApplicationWide;
+import org.apache.causeway.extensions.secman.integration.authorizor.AuthorizorSecman.PermissionCacheKey;
+
+class AuthorizorSecman_PermissionCacheApplicationWide_Test {
+
+    PermissionCacheApplicationWide cache;
+
+    AtomicInteger lookupCount;
+    Supplier<Optional<ApplicationPermissionValueSet>> lookup;
+
+    @BeforeEach
+    void setup() {
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        causewayConfiguration.getExtensions().getSecman().getPermissionCache().setEnabled(true);
+        causewayConfiguration.getExtensions().getSecman().getPermissionCache().setMaxSizeInEntries(2);
+        cache = new PermissionCacheApplicationWide(causewayConfiguration);
+
+        lookupCount = new AtomicInteger();
+        lookup = ()->{
+            lookupCount.incrementAndGet();
+            return Optional.of(new ApplicationPermissionValueSet(List.of(), null));
+        };
+    }
+
+    @Test
+    void hits_across_lookups() {
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keyed_by_tenancy() {
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", "/uk"), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", "/nl"), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void bounded_in_size() {
+        cache.computeIfAbsent(PermissionCacheKey.of("dick", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("bob", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("joe", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("joe", null), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void evicts_least_recently_used() {
+        cache.computeIfAbsent(PermissionCacheKey.of("dick", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("bob", null), lookup);
+        cache.computeIfAbsent(PermissionCacheKey.of("dick", null), lookup); // bob now least recently used
+        cache.computeIfAbsent(PermissionCacheKey.of("joe", null), lookup);  // evicts bob
+
+        cache.computeIfAbsent(PermissionCacheKey.of("dick", null), lookup);
+        assertThat(lookupCount.get()).isEqualTo(3);
+
+        cache.computeIfAbsent(PermissionCacheKey.of("bob", null), lookup);
+        assertThat(lookupCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void not_served_when_invalidated_during_lookup() {
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), ()->{
+            cache.invalidateAll();
+            return lookup.get();
+        });
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidated_when_secman_entity_changes() {
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        cache.onPostStore(PostStoreEvent.of(Mockito.mock(ApplicationUser.class)));
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        cache.onPreRemove(PreRemoveEvent.of(Mockito.mock(ApplicationPermission.class)));
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void invalidated_when_secman_entities_are_removed_in_bulk() {
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        cache.onBulkRemove(BulkRemoveEvent.of(ApplicationRole.class));
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        cache.onBulkRemove(BulkRemoveEvent.of(String.class));
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void not_invalidated_when_other_entity_changes() {
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        cache.onPostStore(PostStoreEvent.of(new Object()));
+        cache.computeIfAbsent(PermissionCacheKey.of("sven", null), lookup);
+
+        assertThat(lookupCount.get()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.permissions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValue;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionValueSet;
+import org.apache.causeway.extensions.secman.applib.permission.spi.PermissionsEvaluationService;
+
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newMember;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newNamespace;
+import static org.apache.causeway.applib.services.appfeat.ApplicationFeatureId.newType;
+import static org.apache.causeway.core.config.CausewayConfiguration.Extensions.Secman.PermissionsEvaluationPolicy.ALLOW_BEATS_VETO;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.CHANGING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionMode.VIEWING;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.ALLOW;
+import static org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermissionRule.VETO;
+
+class ApplicationPermissionValueSet_evaluate_Test {
+
+    PermissionsEvaluationService evaluator;
+    ApplicationPermissionValueSet permissionSet;
+
+    @BeforeEach
+    void setup() {
+        evaluator = spy(PermissionsEvaluationServiceForSecman.builder()
+                .applicationFeatureIdTransformer(new ApplicationFeatureIdTransformerIdentity())
+                .policy(ALLOW_BEATS_VETO)
+                .build());
+
+        permissionSet = new ApplicationPermissionValueSet(
+                List.of(
+                    new ApplicationPermissionValue(newNamespace("customer"), ALLOW, VIEWING),
+                    new ApplicationPermissionValue(newType("customer.Customer"), ALLOW, CHANGING),
+                    new ApplicationPermissionValue(newMember("customer.Customer#secret"), VETO, VIEWING)),
+                evaluator);
+    }
+
+    @Test
+    void evaluates_per_feature_and_mode() {
+        assertThat(permissionSet.grants(newMember("customer.Customer#lastName"), CHANGING)).isTrue();
+        assertThat(permissionSet.grants(newMember("customer.Customer#secret"), VIEWING)).isFalse();
+        assertThat(permissionSet.grants(newMember("customer.Order#number"), VIEWING)).isTrue();
+        assertThat(permissionSet.grants(newMember("customer.Order#number"), CHANGING)).isFalse();
+        assertThat(permissionSet.grants(newMember("other.Order#number"), VIEWING)).isFalse();
+    }
+
+    @Test
+    void memoizes_evaluation_per_feature_and_mode() {
+        // first evaluation walks the path ids, until matched
+        var first = permissionSet.evaluate(newMember("customer.Customer#lastName"), CHANGING);
+        final int evaluations = evaluationCount();
+        assertThat(evaluations).isPositive();
+
+        // equal feature id, same mode: served from the memo
+        var second = permissionSet.evaluate(newMember("customer.Customer#lastName"), CHANGING);
+        assertThat(second).isSameAs(first);
+        assertThat(evaluationCount()).isEqualTo(evaluations);
+
+        // other mode is evaluated separately
+        assertThat(permissionSet.grants(newMember("customer.Customer#lastName"), VIEWING)).isTrue();
+        assertThat(evaluationCount()).isGreaterThan(evaluations);
+    }
+
+    // -- HELPER
+
+    private int evaluationCount() {
+        return mockingDetails(evaluator).getInvocations().size();
+    }
+
+}
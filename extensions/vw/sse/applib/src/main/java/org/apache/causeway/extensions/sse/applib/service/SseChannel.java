@@ -43,4 +43,11 @@ public interface SseChannel {
 
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Non-blocking alternative to {@link #awaitClose()}:
+     * registers given callback to be run once this channel is closed,
+     * or runs it immediately, if already closed.
+     */
+    void whenClosed(Runnable callback);
+
 }
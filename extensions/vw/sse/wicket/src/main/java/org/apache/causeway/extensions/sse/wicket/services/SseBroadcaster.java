@@ -0,0 +1,368 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Named;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.value.Markup;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
+import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+import org.apache.causeway.extensions.sse.wicket.CausewayModuleExtSseWicket;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fans out the events of {@link SseChannel}s to their (HTTP) subscribers, without ever blocking
+ * the firing thread.
+ * <p>
+ * Each event is marshalled once per channel, then queued for each of the channel's subscribers.
+ * Each subscriber has its own bounded event queue, which is drained by a small dedicated
+ * dispatch executor, writing through the servlet's non-blocking {@link ServletOutputStream}
+ * (only ever writing while the stream {@link ServletOutputStream#isReady() is ready}, and otherwise
+ * resuming once the container signals that it is writable again).
+ * A slow or stalled client hence never holds up any of the other subscribers.
+ * Subscribers that fall behind by more than {@link #QUEUE_CAPACITY} events,
+ * or that are not writable for longer than {@link #STALL_TIMEOUT_MILLIS}, are dropped.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(SseBroadcaster.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class SseBroadcaster {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleExtSseWicket.NAMESPACE + ".SseBroadcaster";
+
+    /**
+     * Max number of events queued per subscriber, any subscriber that falls further behind is dropped.
+     */
+    public static final int QUEUE_CAPACITY = 64;
+
+    /**
+     * Max time a subscriber may not be writable (while having events queued), before it is dropped.
+     */
+    public static final long STALL_TIMEOUT_MILLIS = 30_000;
+
+    /**
+     * Number of threads writing events to subscribers.
+     */
+    public static final int DISPATCH_THREADS = 2;
+
+    private final ExecutorService dispatchExecutor =
+            Executors.newFixedThreadPool(DISPATCH_THREADS, SseServiceDefault.daemonThreadFactory("causeway-sse-dispatch-"));
+    private final Markup.JaxbToStringAdapter marshaller = new Markup.JaxbToStringAdapter(); // is thread-safe
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong droppedSubscriberCount = new AtomicLong();
+
+    /**
+     * Subscribes given (already started) {@link AsyncContext} to the events of given {@link SseChannel},
+     * until either the channel or the async context completes.
+     */
+    public void subscribe(final SseChannel channel, final AsyncContext asyncContext) {
+        final ServletOutputStream out;
+        try {
+            out = asyncContext.getResponse().getOutputStream();
+        } catch (IOException | IllegalStateException e) {
+            log.warn("failed to subscribe to server-sent events", e);
+            asyncContext.complete();
+            return;
+        }
+        var subscriber = new Subscriber(asyncContext, out);
+        subscribers.add(subscriber);
+        asyncContext.addListener(subscriber);
+        out.setWriteListener(subscriber);
+        channel.listenWhile(source->{
+            var event = marshalled(source);
+            return event != null
+                    ? subscriber.offer(event)
+                    : true; // skip the event, but continue listening
+        });
+        channel.whenClosed(subscriber::closeWhenDrained);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    // -- METRICS
+
+    /**
+     * Number of currently connected subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Number of events currently queued, summed over all subscribers.
+     */
+    public int getQueueDepth() {
+        return subscribers.stream()
+                .mapToInt(Subscriber::queueDepth)
+                .sum();
+    }
+
+    /**
+     * Number of events currently queued for the subscriber that is furthest behind.
+     */
+    public int getMaxQueueDepth() {
+        return subscribers.stream()
+                .mapToInt(Subscriber::queueDepth)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Number of subscribers dropped so far, because they could not keep up.
+     */
+    public long getDroppedSubscriberCount() {
+        return droppedSubscriberCount.get();
+    }
+
+    // -- MARSHALLING
+
+    /**
+     * The last event marshalled, as the channel fires each event to all of its subscribers in turn.
+     */
+    private volatile MarshalledEvent lastMarshalled;
+
+    @Value
+    private static class MarshalledEvent {
+        private final String payload;
+        private final byte[] bytes;
+    }
+
+    /**
+     * Marshals the event once for all subscribers of the channel, rather than once per subscriber.
+     * @return {@code null} if the event could not be marshalled
+     */
+    private byte[] marshalled(final SseSource source) {
+        var payload = _Strings.nullToEmpty(source.getPayload());
+        var last = lastMarshalled;
+        if(last != null
+                && (last.getPayload() == payload
+                    || last.getPayload().equals(payload))) {
+            return last.getBytes();
+        }
+        try {
+            var bytes = ("data: " + marshaller.marshal(Markup.valueOf(payload)) + "\n\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            lastMarshalled = new MarshalledEvent(payload, bytes);
+            return bytes;
+        } catch (Exception e) {
+            log.warn("failed to marshal server-sent event", e);
+            return null;
+        }
+    }
+
+    // -- SUBSCRIBER
+
+    private class Subscriber implements AsyncListener, WriteListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out; // guarded by this (non-blocking, once the write listener is set)
+        private final BlockingQueue<byte[]> events = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean drainScheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean closeRequested;
+        /** when the output stream was found not to be ready, or zero if it was ready when last written to */
+        private volatile long notReadySinceNanos;
+
+        Subscriber(final AsyncContext asyncContext, final ServletOutputStream out) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        int queueDepth() {
+            return events.size();
+        }
+
+        /**
+         * Called on the firing thread, hence must not block.
+         * @return whether to continue listening
+         */
+        boolean offer(final byte[] event) {
+            if(closed.get()) {
+                return false; // stop listening
+            }
+            if(isStalled()) {
+                log.warn("dropping server-sent events subscriber, that is not writable for more than {}ms",
+                        STALL_TIMEOUT_MILLIS);
+                drop();
+                return false; // stop listening
+            }
+            if(!events.offer(event)) {
+                log.warn("dropping server-sent events subscriber, that is more than {} events behind", QUEUE_CAPACITY);
+                drop();
+                return false; // stop listening
+            }
+            scheduleDrain();
+            return true; // continue listening
+        }
+
+        void closeWhenDrained() {
+            closeRequested = true;
+            scheduleDrain();
+        }
+
+        private boolean isStalled() {
+            var notReadySince = notReadySinceNanos;
+            return notReadySince != 0L
+                    && System.nanoTime() - notReadySince > TimeUnit.MILLISECONDS.toNanos(STALL_TIMEOUT_MILLIS);
+        }
+
+        private void drop() {
+            droppedSubscriberCount.incrementAndGet();
+            close();
+        }
+
+        private void scheduleDrain() {
+            if(!drainScheduled.compareAndSet(false, true)) {
+                return; // already scheduled, will pick up the new event
+            }
+            try {
+                dispatchExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close(); // shutting down
+            }
+        }
+
+        private void drain() {
+            try {
+                writeWhileReady();
+            } finally {
+                drainScheduled.set(false);
+            }
+            // events might have been offered after the last poll, but before the flag was reset;
+            // if not ready, the container calls onWritePossible instead
+            if(!events.isEmpty()
+                    && notReadySinceNanos == 0L) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Never blocks, as only writing while the output stream is ready.
+         */
+        private synchronized void writeWhileReady() {
+            if(closed.get()) {
+                return;
+            }
+            try {
+                boolean written = false;
+                while(!events.isEmpty()) {
+                    if(!out.isReady()) {
+                        markNotReady(); // the container calls onWritePossible, once writable again
+                        return;
+                    }
+                    var event = events.poll();
+                    if(event != null) {
+                        out.write(event);
+                        written = true;
+                    }
+                }
+                if(written) {
+                    if(!out.isReady()) {
+                        markNotReady();
+                        return;
+                    }
+                    out.flush();
+                }
+                notReadySinceNanos = 0L;
+                if(closeRequested) {
+                    close();
+                }
+            } catch (Exception e) {
+                log.warn("failed to write server-sent events", e);
+                close(); // client went away
+            }
+        }
+
+        private void markNotReady() {
+            if(notReadySinceNanos == 0L) {
+                notReadySinceNanos = System.nanoTime();
+            }
+        }
+
+        void close() {
+            if(!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(this);
+            events.clear();
+            try {
+                // Completes the asynchronous operation that was started on the request
+                // that was used to initialize this AsyncContext.
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed or timed out
+            }
+        }
+
+        // -- WRITE LISTENER
+
+        @Override public void onWritePossible() throws IOException {
+            notReadySinceNanos = 0L;
+            if(!events.isEmpty()
+                    || closeRequested) {
+                scheduleDrain();
+            }
+        }
+        @Override public void onError(final Throwable t) { close(); }
+
+        // -- ASYNC LISTENER
+
+        @Override public void onComplete(final AsyncEvent event) throws IOException { close(); }
+        @Override public void onTimeout(final AsyncEvent event) throws IOException { close(); }
+        @Override public void onError(final AsyncEvent event) throws IOException { close(); }
+        @Override public void onStartAsync(final AsyncEvent event) throws IOException { /* no-op */ }
+
+    }
+
+}
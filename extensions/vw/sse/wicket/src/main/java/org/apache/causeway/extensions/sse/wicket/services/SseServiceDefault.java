@@ -28,9 +28,13 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -74,6 +78,17 @@ public class SseServiceDefault implements SseService {
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    /**
+     * Runs the (typically long running) {@link SseSource}s,
+     * so these don't occupy the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     */
+    private final ExecutorService sourceExecutor = Executors.newCachedThreadPool(daemonThreadFactory("causeway-sse-source-"));
+
+    @PreDestroy
+    public void shutdown() {
+        sourceExecutor.shutdownNow();
+    }
+
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
@@ -85,7 +100,7 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        var executor = ForkJoinPool.commonPool();
+        var executor = sourceExecutor;
 
         switch(executionBehavior) {
         case SIMPLE:
@@ -108,6 +123,18 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
 
     // -- HELPER
 
+    /**
+     * Daemon threads with given name prefix.
+     */
+    static ThreadFactory daemonThreadFactory(final String namePrefix) {
+        var threadCounter = new AtomicInteger();
+        return runnable->{
+            var thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private void run(SseSource task) {
 
         var sourceType = task.getClass();
@@ -201,6 +228,7 @@ private static class EventStreamDefault implements SseChannel {
 
         private final CountDownLatch latch = new CountDownLatch(1);
         private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> closeCallbacks = new ConcurrentLinkedQueue<>();
 
         @Override
         public void fire(SseSource source) {
@@ -250,6 +278,26 @@ public void close() {
                 listeners.clear();
                 latch.countDown();
             }
+            runCloseCallbacks();
+        }
+
+        @Override
+        public void whenClosed(Runnable callback) {
+            closeCallbacks.add(callback);
+            if(!isActive()) {
+                runCloseCallbacks();
+            }
+        }
+
+        private void runCloseCallbacks() {
+            Runnable callback;
+            while((callback = closeCallbacks.poll())!=null) {
+                try {
+                    callback.run();
+                } catch (Exception e) {
+                    log.warn("close callback failed on event stream {}", id, e);
+                }
+            }
         }
 
         private boolean isActive() {
@@ -21,7 +21,6 @@
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
@@ -31,11 +30,10 @@
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import org.apache.causeway.applib.value.Markup;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.context._Context;
-import org.apache.causeway.extensions.sse.applib.service.SseChannel;
 import org.apache.causeway.extensions.sse.applib.service.SseService;
+import org.apache.causeway.extensions.sse.wicket.services.SseBroadcaster;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -53,11 +51,13 @@ public class ServerSentEventsServlet extends HttpServlet {
     private static final long serialVersionUID = 1L;
 
     @Autowired private SseService sseService;
+    @Autowired private SseBroadcaster sseBroadcaster;
 
     @Override
     public void init() throws ServletException {
         super.init();
         Objects.requireNonNull(sseService, "sseService");
+        Objects.requireNonNull(sseBroadcaster, "sseBroadcaster");
     }
 
     @Override
@@ -84,15 +84,9 @@ protected void doGet(final HttpServletRequest request, final HttpServletResponse
             return;
         }
 
+        // non-blocking: events are written by the broadcaster's dispatch threads
         asyncContext(request)
-        .ifPresent(asyncContext->{
-
-            // javac explicitly requires curly-braces here (to tell it we want a Runnable)
-            ForkJoinPool.commonPool().submit(()->{
-                fork(asyncContext, eventStream);
-            });
-
-        });
+        .ifPresent(asyncContext->sseBroadcaster.subscribe(eventStream, asyncContext));
 
     }
 
@@ -117,56 +111,6 @@ private boolean flushBuffer(final HttpServletResponse response) {
         return false;
     }
 
-    private void fork(final AsyncContext asyncContext, final SseChannel eventStream) {
-
-        var response = asyncContext.getResponse();
-        var marshaller = new Markup.JaxbToStringAdapter();
-
-        eventStream.listenWhile(source->{
-
-            if(ForkJoinPool.commonPool().isShutdown()) {
-                return false; // stop listening
-            }
-
-            try {
-
-                var writer = response.getWriter(); // don't close the writer, its likely to be reused
-                if(writer==null) {
-                    return false; // stop listening
-                }
-
-                var payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
-
-                writer
-                .append("data: ")
-                .append(payload)
-                .append("\n\n")
-                .flush();
-
-                return true; // continue listening
-
-            } catch (Exception e) {
-                log.warn("failed to run the fork task", e);
-                return false; // stop listening
-            }
-
-        });
-
-        // now we wait until the eventStream closes
-        try {
-            eventStream.awaitClose();
-        } catch (InterruptedException e) {
-            log.warn("Interrupted!", e);
-            // Restore interrupted state...
-            Thread.currentThread().interrupt();
-        }
-
-        // Completes the asynchronous operation that was started on the request
-        // that was used to initialize this AsyncContext.
-        asyncContext.complete();
-
-    }
-
     private Optional<Class<?>> parseEventStreamType(final HttpServletRequest request) {
         var eventStreamId = request.getParameter("eventStream");
         if(_Strings.isNullOrEmpty(eventStreamId)) {
@@ -19,6 +19,8 @@
 package org.apache.causeway.extensions.tabular.excel.exporter;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
@@ -27,17 +29,27 @@
 import org.apache.causeway.core.metamodel.tabular.simple.CollectionContentsExporter;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
+import lombok.SneakyThrows;
+
 @Component
 public class CollectionContentsAsExcelExporter
 implements CollectionContentsExporter {
 
-    @Override
+    @Override @SneakyThrows
     public void createExport(final DataTable dataTable, final File tempFile,
             final @Nullable CollectionContentsExporter.AccessMode accessMode) {
+        try(var fos = new FileOutputStream(tempFile)) {
+            createExport(dataTable, fos, accessMode);
+        }
+    }
+
+    @Override
+    public void createExport(final DataTable dataTable, final OutputStream out,
+            final @Nullable CollectionContentsExporter.AccessMode accessMode) {
         ExcelExporter.of(accessMode!=null
                 ? accessMode
                 : CollectionContentsExporter.AccessMode.USER)
-            .accept(dataTable, tempFile);
+            .accept(dataTable, out);
     }
 
     @Override
@@ -18,8 +18,7 @@
  */
 package org.apache.causeway.extensions.tabular.excel.exporter;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -34,8 +33,8 @@
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import org.springframework.lang.Nullable;
 
@@ -45,13 +44,20 @@
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.tabular.simple.CollectionContentsExporter;
+import org.apache.causeway.core.metamodel.tabular.simple.DataRow;
 import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
 @RequiredArgsConstructor
-class ExcelExporter implements BiConsumer<DataTable, File> {
+class ExcelExporter implements BiConsumer<DataTable, OutputStream> {
+
+    /**
+     * Number of rows kept in memory, any rows beyond are flushed (compressed) to disk,
+     * such that memory use does not grow with the number of rows exported.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
 
     /**
      * If a cell's cardinality exceeds this threshold, truncate with '... has more' label at the end.
@@ -79,14 +85,21 @@ static ExcelExporter of(final CollectionContentsExporter.AccessMode accessMode)
         }
     }
 
+    /**
+     * Streams the workbook to given {@link OutputStream}, which is not closed by this method.
+     */
     @Override @SneakyThrows
-    public void accept(final DataTable table, final File tempFile) {
-        try(final Workbook wb = new XSSFWorkbook()) {
+    public void accept(final DataTable table, final OutputStream out) {
+        final SXSSFWorkbook wb = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        wb.setCompressTempFiles(true);
+        try(wb) {
             final String sheetName = table.getTableFriendlyName();
 
             Row row;
 
-            var sheet = wb.createSheet(sheetName);
+            final SXSSFSheet sheet = wb.createSheet(sheetName);
+            // column widths are calculated incrementally, as rows get flushed
+            sheet.trackAllColumnsForAutoSizing();
 
             var cellStyleProvider = new CellStyleProvider(wb);
 
@@ -118,23 +131,23 @@ public void accept(final DataTable table, final File tempFile) {
             autoSizeRow(row, maxLinesInRow.getResult().orElse(1),
                     wb.getFontAt(cellStyleProvider.secondaryHeaderStyle().getFontIndex()));
 
-            var dataRows = table.getDataRows();
-
-            // detail rows
-            for (var dataRow : dataRows) {
-                row = rowFactory.newRow();
-                i=0;
-                maxLinesInRow = _Reduction.of(1, Math::max); // row auto-size calculation
-                for(var column : dataColumns) {
-                    final Cell cell = row.createCell((short) i++);
-                    var cellElements = dataRow.getCellElements(column, interactionInitiatedBy)
-                            .filter(managedObject->managedObject.getPojo()!=null);
-                    final int linesWritten = setCellValue(cellElements,
-                            cell,
-                            cellStyleProvider);
-                    maxLinesInRow.accept(linesWritten);
+            // detail rows (streamed, if the table's data-elements are)
+            try(var dataRows = table.streamDataRows()) {
+                for (var dataRow : (Iterable<DataRow>) dataRows::iterator) {
+                    row = rowFactory.newRow();
+                    i=0;
+                    maxLinesInRow = _Reduction.of(1, Math::max); // row auto-size calculation
+                    for(var column : dataColumns) {
+                        final Cell cell = row.createCell((short) i++);
+                        var cellElements = dataRow.getCellElements(column, interactionInitiatedBy)
+                                .filter(managedObject->managedObject.getPojo()!=null);
+                        final int linesWritten = setCellValue(cellElements,
+                                cell,
+                                cellStyleProvider);
+                        maxLinesInRow.accept(linesWritten);
+                    }
+                    autoSizeRow(row, maxLinesInRow.getResult().orElse(1), null);
                 }
-                autoSizeRow(row, maxLinesInRow.getResult().orElse(1), null);
             }
 
             // column auto-size
@@ -143,9 +156,9 @@ public void accept(final DataTable table, final File tempFile) {
             // freeze panes
             sheet.createFreezePane(0, 2);
 
-            try(var fos = new FileOutputStream(tempFile)) {
-                wb.write(fos);
-            }
+            wb.write(out);
+        } finally {
+            wb.dispose(); // deletes the temporary files backing the flushed rows
         }
     }
 
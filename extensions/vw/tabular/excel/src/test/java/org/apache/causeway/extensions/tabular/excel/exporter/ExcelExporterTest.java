@@ -0,0 +1,121 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.tabular.excel.exporter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.inject.Named;
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.causeway.applib.ViewModel;
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
+import org.apache.causeway.core.metamodel.execution.MemberExecutorService;
+import org.apache.causeway.core.metamodel.tabular.simple.CollectionContentsExporter.AccessMode;
+import org.apache.causeway.core.metamodel.tabular.simple.DataTable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+
+class ExcelExporterTest implements HasMetaModelContext {
+
+    @BeforeEach
+    final void setUp() throws Exception {
+        var memberExecutorService = Mockito.mock(MemberExecutorService.class);
+        MetaModelContext_forTesting.builder()
+            .singleton(memberExecutorService)
+            .build();
+    }
+
+    @Named("ExcelExporterTest.Customer")
+    @AllArgsConstructor
+    public static class Customer implements ViewModel {
+
+        @Property
+        @Getter @Setter
+        private String memento;
+
+        @Override
+        public String viewModelMemento() {
+            return memento;
+        }
+
+    }
+
+    @Test @SneakyThrows
+    void streamedRows_areWrittenInSequence_beyondTheRowAccessWindow() {
+        final int rowCount = 1000; // exceeds the window of rows kept in memory
+        var rowsAdapted = new AtomicInteger();
+        var streamClosed = new AtomicInteger();
+
+        var dataTable = DataTable.forDomainType(Customer.class)
+                .setDataElementStream(()->IntStream.range(0, rowCount)
+                        .mapToObj(i->{
+                            rowsAdapted.incrementAndGet();
+                            return getObjectManager().adapt(new Customer("cus-" + i));
+                        })
+                        .onClose(streamClosed::incrementAndGet));
+
+        var out = new ByteArrayOutputStream();
+        ExcelExporter.of(AccessMode.PASS_THROUGH).accept(dataTable, out);
+
+        assertEquals(rowCount, rowsAdapted.get());
+        assertEquals(1, streamClosed.get());
+
+        try(var workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            var sheet = workbook.getSheetAt(0);
+            // 2 header rows
+            assertEquals(rowCount + 2, sheet.getPhysicalNumberOfRows());
+            assertEquals("Memento", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("cus-0", sheet.getRow(2).getCell(0).getStringCellValue());
+            assertEquals("cus-999", sheet.getRow(rowCount + 1).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test @SneakyThrows
+    void exporter_writesToGivenStream_withoutClosingIt() {
+        var dataTable = DataTable.forDomainType(Customer.class);
+        dataTable.setDataElementPojos(List.of(new Customer("cus-0")));
+
+        var closed = new AtomicInteger();
+        var out = new ByteArrayOutputStream() {
+            @Override public void close() { closed.incrementAndGet(); }
+        };
+        new CollectionContentsAsExcelExporter().createExport(dataTable, out, AccessMode.PASS_THROUGH);
+
+        assertEquals(0, closed.get());
+        try(var workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("cus-0", workbook.getSheetAt(0).getRow(2).getCell(0).getStringCellValue());
+        }
+    }
+
+}
@@ -25,6 +25,7 @@
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Priority;
@@ -39,22 +40,25 @@
 import org.apache.causeway.applib.exceptions.unrecoverable.RepositoryException;
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.applib.services.wrapper.WrapperFactory;
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.internal.base._Casts;
-import org.apache.causeway.commons.internal.base._NullSafe;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.context.HasMetaModelContext;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.object.MmEntityUtils;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
+import org.apache.causeway.core.transaction.changetracking.events.BulkRemoveEvent;
 import org.apache.causeway.persistence.commons.CausewayModulePersistenceCommons;
 
 import lombok.Getter;
@@ -82,6 +86,7 @@
     final FactoryService factoryService;
     final WrapperFactory wrapperFactory;
     final TransactionService transactionService;
+    final EventBusService eventBusService;
     final CausewayConfiguration causewayConfiguration;
 
     @Getter(onMethod_ = {@Override})
@@ -89,6 +94,7 @@
 
     private ThreadLocal<Boolean> suppressFlush = ThreadLocal.withInitial(() -> Boolean.FALSE);
     private boolean autoFlush;
+    private int streamFetchSize;
 
     @PostConstruct
     public void init() {
@@ -96,6 +102,7 @@ public void init() {
                 causewayConfiguration.getPersistence().getCommons().getRepositoryService().isDisableAutoFlush() ||
                 causewayConfiguration.getCore().getRuntimeServices().getRepositoryService().isDisableAutoFlush();
         this.autoFlush = !disableAutoFlush;
+        this.streamFetchSize = causewayConfiguration.getPersistence().getCommons().getRepositoryService().getStreamFetchSize();
     }
 
     @Override
@@ -194,17 +201,66 @@ public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T>
 
     @Override
     public <T> List<T> allMatches(final Class<T> ofType, final Predicate<? super T> predicate, final long start, final long count) {
-        return _NullSafe.stream(allInstances(ofType, start, count))
-                .filter(predicate)
-                .collect(Collectors.toCollection(ArrayList::new));
+        // non-matching instances are not retained
+        try(var instances = streamMatches(Query.<T>allInstances(ofType)
+                .withRange(QueryRange.of(start, count)))) {
+            return instances
+                    .filter(predicate)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
     }
 
     @Override
     public <T> List<T> allMatches(final Query<T> query) {
+        flushIfRequired();
+        return submitQuery(query);
+    }
+
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query) {
+        return streamMatches(query, streamFetchSize);
+    }
+
+    @Override
+    public <T> Stream<T> streamMatches(final Query<T> query, final int fetchSize) {
+        flushIfRequired();
+        var resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return Stream.empty();
+        }
+
+        return resultTypeSpec.entityFacetElseFail()
+                .streamByQuery(query, fetchSize)
+                .map(MmUnwrapUtils::single)
+                .map(_Casts::<T>uncheckedCast);
+    }
+
+    @Override
+    public long count(final Query<?> query) {
+        flushIfRequired();
+        var resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
+
+        if(resultTypeSpec==null) {
+            return 0L;
+        }
+
+        var range = query.getRange();
+        var countIgnoringRange = resultTypeSpec.entityFacetElseFail().countByQuery(query);
+        var countFromStart = Math.max(0L, countIgnoringRange - range.getStart());
+        return range.hasLimit()
+                ? Math.min(countFromStart, range.getLimit())
+                : countFromStart;
+    }
+
+    private void flushIfRequired() {
         if(autoFlush && !FlushMgmt.isAutoFlushSuppressed() && !suppressFlush.get()) {
             transactionService.flushTransaction();
         }
-        return submitQuery(query);
     }
 
     <T> List<T> submitQuery(final Query<T> query) {
@@ -224,7 +280,7 @@ <T> List<T> submitQuery(final Query<T> query) {
 
     @Override
     public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
+        final List<T> instances = firstMatches(type, predicate, 2);
         if (instances.size() > 1) {
             throw new RepositoryException("Found more than one instance of " + type + " matching filter " + predicate);
         }
@@ -233,7 +289,7 @@ public <T> Optional<T> uniqueMatch(final Class<T> type, final Predicate<T> predi
 
     @Override
     public <T> Optional<T> uniqueMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query); // No need to fetch more than 2.
+        final List<T> instances = allMatches(withLimitAtMost(query, 2)); // No need to fetch more than 2.
         if (instances.size() > 1) {
             throw new RepositoryException("Found more that one instance for query:" + query.getDescription());
         }
@@ -242,13 +298,13 @@ public <T> Optional<T> uniqueMatch(final Query<T> query) {
 
     @Override
     public <T> Optional<T> firstMatch(final Class<T> type, final Predicate<T> predicate) {
-        final List<T> instances = allMatches(type, predicate);
+        final List<T> instances = firstMatches(type, predicate, 1);
         return firstInstanceElseEmpty(instances);
     }
 
     @Override
     public <T> Optional<T> firstMatch(final Query<T> query) {
-        final List<T> instances = allMatches(query);
+        final List<T> instances = allMatches(withLimitAtMost(query, 1));
         return firstInstanceElseEmpty(instances);
     }
 
@@ -281,12 +337,60 @@ public <T> T detach(final T entity) {
 
     @Override
     public <T> void removeAll(final Class<T> cls) {
-        allInstances(cls).forEach(this::remove);
+        removeAll(Query.<T>allInstances(cls));
+    }
+
+    @Override
+    public <T> long removeAll(final Query<T> query) {
+        if(!query.getRange().isUnconstrained()) {
+            throw _Exceptions.illegalArgument("a range is not supported when removing all matches of %s",
+                    query.getDescription());
+        }
+        var resultTypeSpec = getSpecificationLoader()
+                .specForType(query.getResultType())
+                .orElse(null);
 
+        if(resultTypeSpec==null) {
+            return 0L;
+        }
+
+        if(EntityChangePublishingFacet.isPublishingEnabled(resultTypeSpec)) {
+            // entity changes are only published for instances removed one by one
+            var instances = allMatches(query);
+            instances.forEach(this::remove);
+            return instances.size();
+        }
+
+        // pending changes are not seen otherwise
+        transactionService.flushTransaction();
+        var deleteCount = resultTypeSpec.entityFacetElseFail().deleteByQuery(query);
+        // no PreRemoveEvent is posted for instances deleted in bulk, so caches are told about the type instead
+        eventBusService.post(BulkRemoveEvent.of(query.getResultType()));
+        return deleteCount;
     }
 
     // -- HELPER
 
+    /**
+     * Stops fetching (further) instances once given {@code limit} of matches is reached.
+     */
+    private <T> List<T> firstMatches(final Class<T> type, final Predicate<T> predicate, final long limit) {
+        try(var instances = streamMatches(Query.<T>allInstances(type))) {
+            return instances
+                    .filter(predicate)
+                    .limit(limit)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static <T> Query<T> withLimitAtMost(final Query<T> query, final long limit) {
+        var range = query.getRange();
+        return range.hasLimit()
+                && range.getLimit() <= limit
+                ? query
+                : query.withRange(range.withLimit(limit));
+    }
+
     private static <T> Optional<T> firstInstanceElseEmpty(final List<T> instances) {
         return instances.size() == 0
                 ? Optional.empty()
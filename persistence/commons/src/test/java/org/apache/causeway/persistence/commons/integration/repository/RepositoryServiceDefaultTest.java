@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.repository;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.services.eventbus.EventBusService;
+import org.apache.causeway.applib.services.factory.FactoryService;
+import org.apache.causeway.applib.services.wrapper.WrapperFactory;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.core.transaction.changetracking.events.BulkRemoveEvent;
+
+class RepositoryServiceDefaultTest {
+
+    static class Customer {}
+
+    private EntityFacet entityFacet;
+    private EventBusService eventBusService;
+    private RepositoryServiceDefault repositoryService;
+
+    @BeforeEach
+    void setUp() {
+        var causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        causewayConfiguration.getPersistence().getCommons().getRepositoryService().setStreamFetchSize(7);
+
+        entityFacet = mock(EntityFacet.class);
+        var spec = mock(ObjectSpecification.class);
+        when(spec.entityFacetElseFail()).thenReturn(entityFacet);
+        var specLoader = mock(SpecificationLoader.class);
+        when(specLoader.specForType(Customer.class)).thenReturn(Optional.of(spec));
+        var metaModelContext = mock(MetaModelContext.class);
+        when(metaModelContext.getSpecificationLoader()).thenReturn(specLoader);
+        eventBusService = mock(EventBusService.class);
+
+        repositoryService = new RepositoryServiceDefault(
+                mock(FactoryService.class),
+                mock(WrapperFactory.class),
+                mock(TransactionService.class),
+                eventBusService,
+                causewayConfiguration,
+                metaModelContext);
+        repositoryService.init();
+    }
+
+    @Test
+    void streamMatches_usesConfiguredFetchSize() {
+        var query = Query.allInstances(Customer.class);
+        when(entityFacet.streamByQuery(any(), anyInt())).thenAnswer(__->Stream.empty());
+
+        repositoryService.streamMatches(query).close();
+        verify(entityFacet).streamByQuery(query, 7);
+
+        repositoryService.streamMatches(query, 100).close();
+        verify(entityFacet).streamByQuery(query, 100);
+    }
+
+    @Test
+    void removeAll_inBulk_postsBulkRemoveEvent() {
+        when(entityFacet.deleteByQuery(any())).thenReturn(3L);
+        var query = Query.named(Customer.class, "findInactive");
+
+        assertEquals(3L, repositoryService.removeAll(query));
+        verify(entityFacet).deleteByQuery(query);
+        verify(eventBusService).post(BulkRemoveEvent.of(Customer.class));
+    }
+
+    @Test
+    void count_appliesRangeToTotal() {
+        when(entityFacet.countByQuery(any())).thenReturn(10L);
+        var query = Query.allInstances(Customer.class);
+
+        assertEquals(10L, repositoryService.count(query));
+        assertEquals(3L, repositoryService.count(query.withLimit(3)));
+        assertEquals(2L, repositoryService.count(query.withStart(8)));
+        assertEquals(2L, repositoryService.count(query.withRange(8, 5)));
+        assertEquals(0L, repositoryService.count(query.withStart(12)));
+    }
+
+}
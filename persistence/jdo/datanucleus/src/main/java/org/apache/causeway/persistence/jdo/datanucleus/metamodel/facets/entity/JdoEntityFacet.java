@@ -19,17 +19,24 @@
 package org.apache.causeway.persistence.jdo.datanucleus.metamodel.facets.entity;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.inject.Inject;
 import javax.jdo.FetchGroup;
 import javax.jdo.JDOHelper;
 import javax.jdo.PersistenceManager;
 
+import org.datanucleus.PropertyNames;
 import org.datanucleus.api.jdo.JDOQuery;
 import org.datanucleus.enhancement.Persistable;
 import org.datanucleus.store.rdbms.RDBMSPropertyNames;
@@ -215,6 +222,49 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Can<Optional<Object>> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        Collection<?> entityPojos;
+        try {
+
+            var persistenceManager = getPersistenceManager();
+            var objectIds = bookmarks
+                    .map(bookmark->persistenceManager.newObjectIdInstance(
+                            entityClass,
+                            primaryKeyTypeForDecoding().destring(bookmark.getIdentifier())))
+                    .toList();
+
+            var fetchPlan = persistenceManager.getFetchPlan();
+            fetchPlan.addGroup(FetchGroup.DEFAULT);
+            entityPojos = persistenceManager.getObjectsById(objectIds, true);
+
+        } catch (final RuntimeException e) {
+
+            var recognition = exceptionRecognizerService.recognize(e);
+            if(recognition.isPresent()) {
+                if(recognition.get().getCategory() == Category.NOT_FOUND) {
+                    // at least one is missing, fall back to one by one, so we know which
+                    return EntityFacet.super.fetchByBookmarks(bookmarks);
+                }
+            }
+
+            throw e;
+        }
+
+        _Assert.assertEquals(bookmarks.size(), _NullSafe.size(entityPojos));
+
+        return _NullSafe.stream(entityPojos)
+                .map(Optional::<Object>ofNullable)
+                .collect(Can.toCan());
+    }
+
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
@@ -224,6 +274,152 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
 
         var range = query.getRange();
 
+        var resultList = fetchWithinTransaction(prepareQuery(query, 0).getExecuteMethod());
+
+        if(range.hasLimit()) {
+            _Assert.assertTrue(resultList.size()<=range.getLimit());
+        }
+
+        return resultList;
+    }
+
+    @Override
+    public Stream<ManagedObject> streamByQuery(final @NonNull Query<?> query, final int fetchSize) {
+
+        if(!txService.currentTransactionState().isInProgress()) {
+            // results can only be loaded lazily within a transaction
+            return fetchByQuery(query).stream();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to stream Query: {} (fetch size {})", query.getDescription(), fetchSize);
+        }
+
+        var preparedQuery = prepareQuery(query, fetchSize);
+
+        // don't ask the result list for its size, as that would load all results
+        var resultIterator = _NullSafe.stream(preparedQuery.getExecuteMethod().get()).iterator();
+        return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(resultIterator, Spliterator.ORDERED),
+                    false)
+                .map(fetchedObject->adapt(objectLifecyclePublisher, fetchedObject))
+                .onClose(preparedQuery.getCloseMethod());
+    }
+
+    @Override
+    public long countByQuery(final @NonNull Query<?> query) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("about to count Query: {}", query.getDescription());
+        }
+
+        var persistenceManager = getPersistenceManager();
+
+        if(query instanceof AllInstancesQuery) {
+
+            var queryEntityType = query.getResultType();
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(queryEntityType, entityClass);
+
+            var countQuery = persistenceManager.newQuery(queryEntityType);
+            countQuery.setResult("count(this)");
+            countQuery.setUnique(true);
+
+            return countWithinTransaction(countQuery::execute);
+
+        } else if(query instanceof NamedQuery) {
+
+            var applibNamedQuery = (NamedQuery<?>) query;
+
+            var namedQuery = persistenceManager.newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName())
+                    .setNamedParameters(new HashMap<>(applibNamedQuery.getParametersByName()));
+
+            if(!isCountable(namedQuery)) {
+                // cannot be turned into a count query, so at least don't adapt the results
+                log.warn("counting named query '{}' by fetching all its rows, "
+                        + "as it is not JDOQL or has a result, grouping or range clause",
+                        applibNamedQuery.getName());
+                return countWithinTransaction(()->_NullSafe.size(namedQuery.executeResultList()));
+            }
+
+            // ordering does not affect the count, but would not be valid SQL along with it
+            namedQuery.setOrdering(null);
+            namedQuery.setResult("count(this)");
+            namedQuery.setUnique(true);
+
+            return countWithinTransaction(namedQuery::execute);
+        }
+
+        throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                query.getClass(),
+                query.getDescription());
+    }
+
+    /**
+     * Deletes in bulk, bypassing lifecycle callbacks, unless the entity type's mapping
+     * requires object by object deletion (see {@link _MetadataUtil#isBulkDeletable}).
+     * <p>
+     * Pending changes are flushed first. Afterwards given entity type is evicted from the L1 and L2 cache.
+     */
+    @Override
+    public long deleteByQuery(final @NonNull Query<?> query) {
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+        var persistenceManager = getPersistenceManager();
+
+        if(!_MetadataUtil.isBulkDeletable(persistenceManager, query.getResultType())) {
+            return EntityFacet.super.deleteByQuery(query);
+        }
+
+        var bulkDelete = "DELETE FROM " + query.getResultType().getName();
+
+        if(query instanceof AllInstancesQuery) {
+
+            log.debug("about to bulk delete: {}", bulkDelete);
+
+            return bulkDeleteWithinTransaction(persistenceManager, bulkDelete, Map.of());
+
+        } else if(query instanceof NamedQuery) {
+
+            var applibNamedQuery = (NamedQuery<?>) query;
+            var namedQuery = persistenceManager.newNamedQuery(applibNamedQuery.getResultType(), applibNamedQuery.getName());
+
+            if(!isBulkDeletable(namedQuery)) {
+                return EntityFacet.super.deleteByQuery(query);
+            }
+
+            var filter = ((JDOQuery<?>) namedQuery).getInternalQuery().getFilter();
+            if(filter!=null) {
+                bulkDelete += " WHERE " + filter;
+            }
+
+            log.debug("about to bulk delete: {}", bulkDelete);
+
+            return bulkDeleteWithinTransaction(persistenceManager, bulkDelete, applibNamedQuery.getParametersByName());
+        }
+
+        throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
+                query.getClass(),
+                query.getDescription());
+    }
+
+    @lombok.Value
+    private static class PreparedQuery {
+        private final Supplier<List<?>> executeMethod;
+        private final Runnable closeMethod;
+    }
+
+    /**
+     * @param fetchSize - if positive, prepares the query for its results to be streamed,
+     *      that is, loaded lazily in batches of given size and not retained by the result list
+     */
+    private PreparedQuery prepareQuery(final Query<?> query, final int fetchSize) {
+
+        var range = query.getRange();
+
         if(query instanceof AllInstancesQuery) {
 
             var queryFindAllInstances = (AllInstancesQuery<?>) query;
@@ -241,13 +437,12 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 typedQuery.range(range.getStart(), range.getEnd());
             }
 
-            var resultList = fetchWithinTransaction(typedQuery::executeList);
-
-            if(range.hasLimit()) {
-                _Assert.assertTrue(resultList.size()<=range.getLimit());
+            if(fetchSize>0) {
+                typedQuery.getFetchPlan().setFetchSize(fetchSize);
+                typedQuery.extensions(STREAMING_EXTENSIONS);
             }
 
-            return resultList;
+            return new PreparedQuery(typedQuery::executeList, typedQuery::closeAll);
 
         } else if(query instanceof NamedQuery) {
 
@@ -266,6 +461,11 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 namedQuery.range(range.getStart(), range.getEnd());
             }
 
+            if(fetchSize>0) {
+                namedQuery.getFetchPlan().setFetchSize(fetchSize);
+                namedQuery.extensions(STREAMING_EXTENSIONS);
+            }
+
             // inject services into query params; not sure if required (might be redundant)
             {
                 var injector = getServiceInjector();
@@ -283,13 +483,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             Supplier<List<?>> executeMethod = hasResultPhrase(namedQuery)
                     ? namedQuery::executeResultList     // eg SELECT DISTINCT this.paymentMethod FROM IncomingInvoice WHERE ...
                     : namedQuery::executeList;          // eg SELECT FROM IncomingInvoice WHERE ...
-            var resultList = fetchWithinTransaction(executeMethod);
-
-            if(range.hasLimit()) {
-                _Assert.assertTrue(resultList.size()<=range.getLimit());
-            }
-
-            return resultList;
+            return new PreparedQuery(executeMethod, namedQuery::closeAll);
         }
 
         throw _Exceptions.unsupportedOperation("query type %s (%s) not supported by this persistence implementation",
@@ -297,6 +491,40 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 query.getDescription());
     }
 
+    /**
+     * Results are neither retained by the (lazily loading) result list,
+     * nor loaded at commit if not consumed.
+     */
+    private static final Map<String, Object> STREAMING_EXTENSIONS = Map.of(
+            org.datanucleus.store.query.Query.EXTENSION_RESULT_CACHE_TYPE, "none",
+            org.datanucleus.store.query.Query.EXTENSION_LOAD_RESULTS_AT_COMMIT, "false");
+
+    /**
+     * Whether given JDOQL query can be turned into a bulk delete, solely consisting of
+     * its candidate class and filter (with implicit parameters).
+     */
+    private static boolean isBulkDeletable(final javax.jdo.Query<?> namedQuery) {
+        if(!isJdoql(namedQuery)) {
+            return false;
+        }
+        var internalQuery = ((JDOQuery<?>) namedQuery).getInternalQuery();
+        return internalQuery.getResult() == null
+                && internalQuery.getFrom() == null
+                && internalQuery.getGrouping() == null
+                && internalQuery.getRange() == null
+                && internalQuery.getImportsDeclaration() == null
+                && internalQuery.getExplicitParametersDeclaration() == null
+                && internalQuery.getExplicitVariablesDeclaration() == null;
+    }
+
+    private static boolean isJdoql(final javax.jdo.Query<?> namedQuery) {
+        if (namedQuery instanceof JDOQuery) {
+            JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
+            return javax.jdo.Query.JDOQL.equals(jdoQuery.getInternalQuery().getLanguage());
+        }
+        return false;
+    }
+
     private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         if (namedQuery instanceof JDOQuery) {
             JDOQuery<?> jdoQuery = (JDOQuery<?>) namedQuery;
@@ -305,6 +533,20 @@ private static boolean hasResultPhrase(final javax.jdo.Query<?> namedQuery) {
         return false;
     }
 
+    /**
+     * Whether given query can be turned into a count query by setting its result clause.
+     */
+    static boolean isCountable(final javax.jdo.Query<?> namedQuery) {
+        if(!isJdoql(namedQuery)) {
+            return false;
+        }
+        var internalQuery = ((JDOQuery<?>) namedQuery).getInternalQuery();
+        return internalQuery.getResult() == null
+                && internalQuery.getGrouping() == null
+                && internalQuery.getHaving() == null
+                && internalQuery.getRange() == null;
+    }
+
     @Override
     public void persist(final Object pojo) {
         // guard against misuse
@@ -414,6 +656,41 @@ private Can<ManagedObject> fetchWithinTransaction(final Supplier<List<?>> fetche
                 .getValue().orElseThrow();
     }
 
+    private long countWithinTransaction(final Supplier<Object> counter) {
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(
+                ()->((Number) counter.get()).longValue())
+                .ifFailureFail()
+                .getValue().orElseThrow();
+    }
+
+    private long bulkDeleteWithinTransaction(
+            final PersistenceManager persistenceManager,
+            final String bulkDelete,
+            final Map<String, Object> namedParameters) {
+        return getTransactionalProcessor().callWithinCurrentTransactionElseCreateNew(()->{
+            persistenceManager.flush();
+            // DELETE statements are only accepted by the JDOQL parser, if explicitly allowed
+            var allowAllBefore = persistenceManager.getProperties().get(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL);
+            persistenceManager.setProperty(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL, true);
+            try {
+                var deleteQuery = persistenceManager.newQuery(javax.jdo.Query.JDOQL, bulkDelete);
+                // parameters set using setNamedParameters(...) are not picked up for bulk statements
+                var deleteCount = ((Number) deleteQuery.executeWithMap(new HashMap<>(namedParameters))).longValue();
+                // neither the L1 nor the L2 cache are aware of the deleted rows
+                persistenceManager.evictAll(true, entityClass);
+                persistenceManager.getPersistenceManagerFactory().getDataStoreCache().evictAll(true, entityClass);
+                return deleteCount;
+            } finally {
+                persistenceManager.setProperty(PropertyNames.PROPERTY_QUERY_JDOQL_ALLOWALL,
+                        allowAllBefore!=null
+                            ? allowAllBefore
+                            : false);
+            }
+        })
+        .ifFailureFail()
+        .getValue().orElseThrow();
+    }
+
     private ManagedObject adapt(
             final ObjectLifecyclePublisher objectLifecyclePublisher,
             final Object fetchedObject) {
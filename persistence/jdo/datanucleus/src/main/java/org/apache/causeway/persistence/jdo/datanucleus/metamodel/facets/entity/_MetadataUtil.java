@@ -26,6 +26,7 @@
 
 import org.datanucleus.api.jdo.JDOPersistenceManagerFactory;
 import org.datanucleus.identity.SCOID;
+import org.datanucleus.metadata.AbstractMemberMetaData;
 
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._NullSafe;
@@ -58,8 +59,43 @@ EntityOrmMetadata ormMetadataFor(
                 typeMetadata);
     }
 
+    /**
+     * Whether instances of given entity type can be deleted by a set-based DELETE statement,
+     * which (unlike deleting object by object) does not take care of
+     * <ul>
+     * <li>rows in join tables or secondary tables,</li>
+     * <li>the elements of collections, maps or arrays,</li>
+     * <li>dependent objects,</li>
+     * <li>rows in the tables of super- or subclasses.</li>
+     * </ul>
+     */
+    boolean isBulkDeletable(
+            final @NonNull PersistenceManager persistenceManager,
+            final @NonNull Class<?> entityClass) {
+
+        var pmf = (JDOPersistenceManagerFactory) persistenceManager.getPersistenceManagerFactory();
+        var nucleusContext = pmf.getNucleusContext();
+        var metaDataManager = nucleusContext.getMetaDataManager();
+        var clr = nucleusContext.getClassLoaderResolver(Thread.currentThread().getContextClassLoader());
+
+        var classMetaData = metaDataManager.getMetaDataForClass(entityClass, clr);
+        if(classMetaData==null
+                || classMetaData.getSuperAbstractClassMetaData()!=null
+                || _NullSafe.size(metaDataManager.getSubclassesForClass(entityClass.getName(), true))>0) {
+            return false;
+        }
+        return _NullSafe.stream(classMetaData.getManagedMembers())
+                .noneMatch(_MetadataUtil::requiresObjectByObjectDeletion);
+    }
+
     // -- HELPER
 
+    private boolean requiresObjectByObjectDeletion(final AbstractMemberMetaData memberMetaData) {
+        return memberMetaData.hasContainer() // whether mapped by join table or foreign key
+                || memberMetaData.getJoinMetaData()!=null // secondary table
+                || memberMetaData.isDependent();
+    }
+
     private Can<ColumnOrmMetadata> columns(final TypeMetadata typeMetadata) {
         return _NullSafe.stream(typeMetadata.getMembers())
                 .map(_MetadataUtil::column)
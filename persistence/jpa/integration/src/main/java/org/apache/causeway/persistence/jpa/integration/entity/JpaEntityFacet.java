@@ -19,11 +19,22 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.persistence.EntityManager;
+import javax.persistence.NamedQueries;
 import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
 
 import org.springframework.data.jpa.repository.JpaContext;
 import org.springframework.lang.Nullable;
@@ -31,11 +42,13 @@
 import org.apache.causeway.applib.query.AllInstancesQuery;
 import org.apache.causeway.applib.query.NamedQuery;
 import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.repository.EntityState;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.beans.PersistenceStack;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
@@ -59,9 +72,20 @@
     @Inject private JpaContext jpaContext;
     @Inject private IdStringifierLookupService idStringifierLookupService;
 
+    /**
+     * Suffix of the (optional) named query, that counts the rows of the named query
+     * of same name without the suffix, taking the same parameters.
+     */
+    public static final String COUNT_QUERY_SUFFIX = ".count";
+
     private final Class<?> entityClass;
     private PrimaryKeyType<?> primaryKeyType;
 
+    /** JPQL of all named queries declared via annotations on any entity, by name */
+    private final _Lazy<Map<String, String>> namedQueryJpqlByName = _Lazy.threadSafe(this::declaredNamedQueries);
+    /** to warn only once per named query */
+    private final Set<String> namedQueriesCountedByFetching = ConcurrentHashMap.newKeySet();
+
     protected JpaEntityFacet(
             final FacetHolder holder,
             final Class<?> entityClass) {
@@ -114,12 +138,195 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    @Override
+    public Can<Optional<Object>> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        if(bookmarks.size()<2) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        var entityManager = getEntityManager();
+        var idAttributeName = singleIdAttributeName(entityManager).orElse(null);
+        if(idAttributeName==null) {
+            // composite primary keys cannot be matched with a single IN clause
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+
+        log.debug("fetchEntities; bookmarks={}", bookmarks);
+
+        /* results are matched to bookmarks by their canonical (stringified) primary key,
+         * which is robust against the identifier type reported by the persistence provider */
+        Can<Object> primaryKeys = bookmarks
+                .map(bookmark->primaryKeyType.destring(bookmark.getIdentifier()));
+        var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        var entitiesByPrimaryKey = new HashMap<String, Object>();
+
+        primaryKeys.distinct()
+        .partitionInnerBound(IN_CLAUSE_MAX_SIZE)
+        .forEach(primaryKeyChunk->{
+            var cb = entityManager.getCriteriaBuilder();
+            var cr = cb.createQuery(entityClass);
+            Root<?> root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+                .where(root.get(idAttributeName).in(primaryKeyChunk.toList()));
+
+            entityManager.createQuery(cr)
+                .getResultStream()
+                .forEach(entity->entitiesByPrimaryKey.put(
+                        primaryKeyType.enstringWithCast(persistenceUnitUtil.getIdentifier(entity)),
+                        entity));
+        });
+
+        return primaryKeys
+                .map(primaryKey->Optional.ofNullable(
+                        entitiesByPrimaryKey.get(primaryKeyType.enstringWithCast(primaryKey))));
+    }
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
 
     @Override
     public Can<ManagedObject> fetchByQuery(final Query<?> query) {
+        var entitySpec = getEntitySpecification();
+        return Can.ofStream(
+                typedQueryFor(query, true)
+                        .getResultStream()
+                        .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+    }
+
+    @Override
+    public Stream<ManagedObject> streamByQuery(final @NonNull Query<?> query, final int fetchSize) {
+        var typedQuery = typedQueryFor(query, true)
+                .setHint(HINT_JDBC_FETCH_SIZE, fetchSize);
+        var entitySpec = getEntitySpecification();
+        return typedQuery.getResultStream()
+                .map(entity -> ManagedObject.adaptSingular(entitySpec, entity));
+    }
+
+    @Override
+    public long countByQuery(final @NonNull Query<?> query) {
+
+        if (query instanceof AllInstancesQuery) {
+
+            // guard against misuse
+            _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+            var entityManager = getEntityManager();
+
+            var cb = entityManager.getCriteriaBuilder();
+            var cr = cb.createQuery(Long.class);
+            cr.select(cb.count(cr.from(entityClass)));
+
+            return entityManager.createQuery(cr).getSingleResult();
+        }
+
+        if (query instanceof NamedQuery) {
+
+            var applibNamedQuery = (NamedQuery<?>) query;
+            var countQueryName = applibNamedQuery.getName() + COUNT_QUERY_SUFFIX;
+
+            if(namedQueryJpqlByName.get().containsKey(countQueryName)) {
+                var countQuery = getEntityManager()
+                        .createNamedQuery(countQueryName, Long.class);
+                applibNamedQuery
+                        .getParametersByName()
+                        .forEach(countQuery::setParameter);
+                return countQuery.getSingleResult();
+            }
+
+            if(namedQueriesCountedByFetching.add(applibNamedQuery.getName())) {
+                log.warn("no named query '{}' declared, hence counting named query '{}' "
+                        + "by fetching all its rows", countQueryName, applibNamedQuery.getName());
+            }
+        }
+
+        // named queries cannot be turned into a count query portably, so at least don't adapt the results
+        return typedQueryFor(query, false)
+                .getResultStream()
+                .count();
+    }
+
+    /**
+     * Deletes in bulk, bypassing the persistence context and hence any lifecycle callbacks,
+     * unless the entity type's mapping requires object by object deletion
+     * (see {@link _JpaBulkDeleteUtil#isBulkDeletable}).
+     * <p>
+     * Pending changes are flushed first. Afterwards managed instances of given entity type get detached
+     * and are evicted from the shared cache.
+     */
+    @Override
+    public long deleteByQuery(final @NonNull Query<?> query) {
+
+        // guard against misuse
+        _Assert.assertTypeIsInstanceOf(query.getResultType(), entityClass);
+
+        var entityManager = getEntityManager();
+
+        if(!_JpaBulkDeleteUtil.isBulkDeletable(entityManager, entityClass)) {
+            return EntityFacet.super.deleteByQuery(query);
+        }
+
+        if (query instanceof AllInstancesQuery) {
+            log.debug("deleteAll; entityClass={}", entityClass);
+            entityManager.flush();
+            var deleteCount = _JpaBulkDeleteUtil.deleteAll(entityManager, entityClass);
+            _JpaBulkDeleteUtil.evictAll(entityManager, entityClass);
+            return deleteCount;
+        }
+
+        var idAttributeName = singleIdAttributeName(entityManager).orElse(null);
+        if(idAttributeName==null) {
+            // composite primary keys cannot be matched with a single IN clause
+            return EntityFacet.super.deleteByQuery(query);
+        }
+
+        log.debug("deleteAll; query={}", query.getDescription());
+
+        // named queries cannot be turned into a delete statement portably, so select the primary keys first
+        entityManager.flush();
+        var deleteCount = _JpaBulkDeleteUtil.deleteAllById(entityManager, entityClass, idAttributeName,
+                primaryKeysFor(entityManager, query, idAttributeName),
+                IN_CLAUSE_MAX_SIZE);
+        _JpaBulkDeleteUtil.evictAll(entityManager, entityClass);
+        return deleteCount;
+    }
+
+    /**
+     * Selects the primary keys only, if given query is a named query, whose JPQL can be projected
+     * onto the primary key, otherwise falls back to fetching the entities.
+     */
+    private Stream<Object> primaryKeysFor(
+            final EntityManager entityManager,
+            final Query<?> query,
+            final String idAttributeName) {
+
+        if (query instanceof NamedQuery) {
+
+            var applibNamedQuery = (NamedQuery<?>) query;
+            var idProjection = Optional.ofNullable(namedQueryJpqlByName.get().get(applibNamedQuery.getName()))
+                    .flatMap(jpql->_JpaBulkDeleteUtil.idProjectionOf(jpql, idAttributeName))
+                    .orElse(null);
+
+            if(idProjection!=null) {
+                var idQuery = entityManager.createQuery(idProjection);
+                applibNamedQuery
+                        .getParametersByName()
+                        .forEach(idQuery::setParameter);
+                return _Casts.uncheckedCast(idQuery.getResultStream());
+            }
+
+            log.debug("cannot project named query '{}' onto its primary key, "
+                    + "hence fetching its entities", applibNamedQuery.getName());
+        }
+
+        var persistenceUnitUtil = getPersistenceUnitUtil(entityManager);
+        return typedQueryFor(query, false)
+                .getResultStream()
+                .map(persistenceUnitUtil::getIdentifier);
+    }
+
+    private TypedQuery<?> typedQueryFor(final Query<?> query, final boolean applyRange) {
 
         var range = query.getRange();
 
@@ -141,17 +348,11 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             var typedQuery = entityManager
                     .createQuery(cr);
 
-            if (range.hasOffset()) {
-                typedQuery.setFirstResult(range.getStartAsInt());
-            }
-            if (range.hasLimit()) {
-                typedQuery.setMaxResults(range.getLimitAsInt());
+            if (applyRange) {
+                applyRange(typedQuery, range);
             }
 
-            var entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    typedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return typedQuery;
 
         } else if (query instanceof NamedQuery) {
 
@@ -163,11 +364,8 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
             var namedQuery = entityManager
                     .createNamedQuery(applibNamedQuery.getName(), queryResultType);
 
-            if (range.hasOffset()) {
-                namedQuery.setFirstResult(range.getStartAsInt());
-            }
-            if (range.hasLimit()) {
-                namedQuery.setMaxResults(range.getLimitAsInt());
+            if (applyRange) {
+                applyRange(namedQuery, range);
             }
 
             applibNamedQuery
@@ -175,10 +373,7 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                     .forEach((paramName, paramValue) ->
                             namedQuery.setParameter(paramName, paramValue));
 
-            var entitySpec = getEntitySpecification();
-            return Can.ofStream(
-                    namedQuery.getResultStream()
-                            .map(entity -> ManagedObject.adaptSingular(entitySpec, entity)));
+            return namedQuery;
 
         }
 
@@ -186,6 +381,33 @@ public Can<ManagedObject> fetchByQuery(final Query<?> query) {
                 "Support for Query of type %s not implemented.", query.getClass());
     }
 
+    /**
+     * Not using {@link EntityManager#createNamedQuery(String)} to probe for a named query,
+     * as a failure to find it marks the current transaction for rollback (EclipseLink).
+     * Hence named queries declared in {@code orm.xml} are not found.
+     */
+    private Map<String, String> declaredNamedQueries() {
+        return getEntityManager().getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .flatMap(entityType->Stream.concat(
+                        Stream.of(entityType.getAnnotationsByType(javax.persistence.NamedQuery.class)),
+                        Stream.ofNullable(entityType.getAnnotation(NamedQueries.class))
+                            .flatMap(namedQueries->Stream.of(namedQueries.value()))))
+                .collect(Collectors.toMap(
+                        javax.persistence.NamedQuery::name,
+                        javax.persistence.NamedQuery::query,
+                        (left, right)->left));
+    }
+
+    private static void applyRange(final TypedQuery<?> typedQuery, final QueryRange range) {
+        if (range.hasOffset()) {
+            typedQuery.setFirstResult(range.getStartAsInt());
+        }
+        if (range.hasLimit()) {
+            typedQuery.setMaxResults(range.getLimitAsInt());
+        }
+    }
+
     @Override
     public void persist(final Object pojo) {
         if (pojo == null) {
@@ -270,6 +492,28 @@ public <T> T detach(final T pojo) {
     private final EntityOrmMetadata ormMetadata =
             _MetadataUtil.ormMetadataFor(getEntityManager(), entityClass);
 
+    /**
+     * Maximum number of primary keys per IN clause,
+     * some databases limit the number of elements (eg. Oracle at 1000).
+     */
+    private static final int IN_CLAUSE_MAX_SIZE = 500;
+
+    /**
+     * Query hint for the JDBC fetch size (as understood by EclipseLink), ignored by other providers.
+     */
+    private static final String HINT_JDBC_FETCH_SIZE = "eclipselink.jdbc.fetch-size";
+
+    private Optional<String> singleIdAttributeName(final EntityManager entityManager) {
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()) {
+            return Optional.empty();
+        }
+        return entityType.getSingularAttributes().stream()
+                .filter(SingularAttribute::isId)
+                .map(SingularAttribute::getName)
+                .findFirst();
+    }
+
     // -- DEPENDENCIES
 
     protected EntityManager getEntityManager() {
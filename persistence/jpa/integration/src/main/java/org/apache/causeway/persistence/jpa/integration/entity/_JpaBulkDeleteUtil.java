@@ -0,0 +1,219 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.persistence.CascadeType;
+import javax.persistence.EntityManager;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+import javax.persistence.SecondaryTable;
+import javax.persistence.SecondaryTables;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.UnitOfWork;
+
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Set-based deletion, bypassing the persistence context (and hence any lifecycle callbacks).
+ * <p>
+ * Callers must check, whether the entity type {@link #isBulkDeletable(EntityManager, Class) is bulk deletable}
+ * and must {@link #evictAll(EntityManager, Class) evict} afterwards,
+ * as neither the persistence context nor the shared cache are aware of the deleted rows.
+ */
+@UtilityClass
+class _JpaBulkDeleteUtil {
+
+    /**
+     * Matches the select clause of a JPQL query, that selects a single identification variable,
+     * eg. {@code SELECT DISTINCT b FROM Book b ...}.
+     */
+    private final Pattern SELECT_ENTITY = Pattern.compile(
+            "^\\s*SELECT\\s+(DISTINCT\\s+)?([A-Za-z_$][\\w$]*)\\s+FROM\\s", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Matches a trailing (top level) order by clause.
+     */
+    private final Pattern TRAILING_ORDER_BY = Pattern.compile(
+            "\\s+ORDER\\s+BY\\s+[^)]*$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Derives from given JPQL query, that selects entities, a query that selects their primary keys only,
+     * eg. {@code SELECT b FROM Book b WHERE b.price < :price ORDER BY b.name} becomes
+     * {@code SELECT b.id FROM Book b WHERE b.price < :price}.
+     * @return empty if the select clause is not recognized
+     */
+    Optional<String> idProjectionOf(
+            final String jpql,
+            final String idAttributeName) {
+        var selectMatcher = SELECT_ENTITY.matcher(jpql);
+        if(!selectMatcher.find()) {
+            return Optional.empty();
+        }
+        var distinct = selectMatcher.group(1)!=null
+                ? "DISTINCT "
+                : "";
+        var idProjection = selectMatcher.replaceFirst(Matcher.quoteReplacement(
+                "SELECT " + distinct + selectMatcher.group(2) + "." + idAttributeName + " FROM "));
+        // ordering is meaningless for deletion, and may not refer to a column that is not selected
+        return Optional.of(TRAILING_ORDER_BY.matcher(idProjection).replaceFirst(""));
+    }
+
+    /**
+     * Whether instances of given entity type can be deleted by a set-based DELETE statement,
+     * which (unlike deleting object by object) does not take care of
+     * <ul>
+     * <li>cascading removal and orphan removal,</li>
+     * <li>element collections and join tables (or foreign keys of the elements of a collection),</li>
+     * <li>secondary tables,</li>
+     * <li>rows in the tables of super- or subclasses.</li>
+     * </ul>
+     */
+    boolean isBulkDeletable(
+            final EntityManager entityManager,
+            final Class<?> entityClass) {
+        var metamodel = entityManager.getMetamodel();
+        var entityType = metamodel.getEntities().stream()
+                .filter(type->type.getJavaType().equals(entityClass))
+                .findFirst()
+                .orElse(null);
+        if(entityType==null
+                || entityType.getSupertype() instanceof EntityType
+                || metamodel.getEntities().stream()
+                    .anyMatch(type->type!=entityType
+                            && entityClass.isAssignableFrom(type.getJavaType()))
+                || entityClass.isAnnotationPresent(SecondaryTable.class)
+                || entityClass.isAnnotationPresent(SecondaryTables.class)) {
+            return false;
+        }
+        return entityType.getAttributes().stream()
+                .noneMatch(_JpaBulkDeleteUtil::requiresObjectByObjectDeletion);
+    }
+
+    /**
+     * Deletes all instances of given entity type (including subtypes) using a single DELETE statement.
+     * @return the number of instances deleted
+     */
+    <T> int deleteAll(
+            final EntityManager entityManager,
+            final Class<T> entityClass) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cd = cb.createCriteriaDelete(entityClass);
+        cd.from(entityClass);
+        return entityManager.createQuery(cd).executeUpdate();
+    }
+
+    /**
+     * Deletes the instances of given entity type with given primary keys,
+     * using a DELETE statement per chunk of (at most) {@code inClauseMaxSize} primary keys.
+     * @return the number of instances deleted
+     */
+    <T> int deleteAllById(
+            final EntityManager entityManager,
+            final Class<T> entityClass,
+            final String idAttributeName,
+            final Stream<Object> primaryKeys,
+            final int inClauseMaxSize) {
+        var deleteCount = 0;
+        for(var primaryKeyChunk : primaryKeys
+                .collect(Can.toCan())
+                .distinct()
+                .partitionInnerBound(inClauseMaxSize)) {
+            var cb = entityManager.getCriteriaBuilder();
+            var cd = cb.createCriteriaDelete(entityClass);
+            var root = cd.from(entityClass);
+            cd.where(root.get(idAttributeName).in(primaryKeyChunk.toList()));
+            deleteCount += entityManager.createQuery(cd).executeUpdate();
+        }
+        return deleteCount;
+    }
+
+    /**
+     * Detaches the managed instances of given entity type (including subtypes)
+     * and evicts them from the shared cache, such that no instance deleted in bulk is handed out afterwards.
+     * <p>
+     * Any pending changes must have been flushed before the bulk delete,
+     * as those of detached instances are discarded.
+     */
+    void evictAll(
+            final EntityManager entityManager,
+            final Class<?> entityClass) {
+        var unitOfWork = entityManager.unwrap(UnitOfWork.class);
+        if(unitOfWork instanceof UnitOfWorkImpl) {
+            // JPA has no means to detach the instances of a single type only, so we ask EclipseLink for its clones;
+            // copied, as detaching modifies the clone mapping
+            var managedInstances = new ArrayList<Object>(((UnitOfWorkImpl) unitOfWork).getCloneMapping().keySet());
+            managedInstances.stream()
+                    .filter(entityClass::isInstance)
+                    .forEach(entityManager::detach);
+        } else {
+            entityManager.clear();
+        }
+        entityManager.getEntityManagerFactory().getCache().evict(entityClass);
+    }
+
+    // -- HELPER
+
+    private boolean requiresObjectByObjectDeletion(final Attribute<?, ?> attribute) {
+        if(attribute.isCollection()) {
+            // whether mapped by join table, collection table or foreign key of the elements
+            return true;
+        }
+        switch (attribute.getPersistentAttributeType()) {
+        case ONE_TO_ONE:
+        case MANY_TO_ONE:
+            return isRemovalCascaded(attribute.getJavaMember());
+        default:
+            return false;
+        }
+    }
+
+    private boolean isRemovalCascaded(final Member member) {
+        if(!(member instanceof AnnotatedElement)) {
+            return true; // unknown, so don't risk it
+        }
+        var oneToOne = ((AnnotatedElement) member).getAnnotation(OneToOne.class);
+        if(oneToOne!=null) {
+            return oneToOne.orphanRemoval()
+                    || isRemovalCascaded(oneToOne.cascade());
+        }
+        var manyToOne = ((AnnotatedElement) member).getAnnotation(ManyToOne.class);
+        return manyToOne!=null
+                && isRemovalCascaded(manyToOne.cascade());
+    }
+
+    private boolean isRemovalCascaded(final CascadeType[] cascadeTypes) {
+        return Stream.of(cascadeTypes)
+                .anyMatch(cascadeType->cascadeType==CascadeType.REMOVE
+                        || cascadeType==CascadeType.ALL);
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.integration.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Id;
+import javax.persistence.OneToOne;
+import javax.persistence.Persistence;
+
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.base._Casts;
+
+/**
+ * Compares the number of DELETE statements issued against an in-memory H2 database.
+ */
+class _JpaBulkDeleteUtil_Test {
+
+    @Entity
+    public static class Customer {
+        @Id private Long id;
+        private String name;
+        public Customer() {}
+        Customer(final long id) {
+            this.id = id;
+            this.name = "Customer " + id;
+        }
+    }
+
+    @Entity
+    public static class Invoice {
+        @Id private Long id;
+        @ElementCollection private List<String> lines = new ArrayList<>();
+        public Invoice() {}
+        Invoice(final long id) {
+            this.id = id;
+        }
+    }
+
+    @Entity
+    public static class Account {
+        @Id private Long id;
+        @OneToOne(orphanRemoval = true) private Customer holder;
+        public Account() {}
+    }
+
+    private final AtomicInteger deleteStatementCount = DeleteStatementCounter.deleteStatementCount;
+    private EntityManagerFactory emf;
+
+    @BeforeEach
+    void setUp() {
+        emf = Persistence.createEntityManagerFactory("jpa-bulk-delete-test");
+        inTransaction(em->{
+            em.createQuery("DELETE FROM _JpaBulkDeleteUtil_Test$Customer").executeUpdate();
+            em.createQuery("DELETE FROM _JpaBulkDeleteUtil_Test$Invoice").executeUpdate();
+        });
+        deleteStatementCount.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emf.close();
+    }
+
+    @Test
+    void deleteAll_usesSingleStatement() {
+        persistCustomers(50);
+
+        inTransaction(em->
+            assertEquals(50, _JpaBulkDeleteUtil.deleteAll(em, Customer.class)));
+
+        assertEquals(1, deleteStatementCount.get());
+        assertEquals(0L, countCustomers());
+    }
+
+    @Test
+    void removeOneByOne_usesStatementPerInstance() {
+        persistCustomers(50);
+
+        inTransaction(em->
+            em.createQuery("SELECT c FROM _JpaBulkDeleteUtil_Test$Customer c", Customer.class)
+                .getResultList()
+                .forEach(em::remove));
+
+        assertEquals(50, deleteStatementCount.get());
+        assertEquals(0L, countCustomers());
+    }
+
+    @Test
+    void deleteAllById_usesStatementPerChunk() {
+        persistCustomers(10);
+
+        inTransaction(em->
+            assertEquals(7, _JpaBulkDeleteUtil.deleteAllById(em, Customer.class, "id",
+                    Stream.<Object>of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 7L), 3)));
+
+        assertEquals(3, deleteStatementCount.get());
+        assertEquals(3L, countCustomers());
+    }
+
+    @Test
+    void idProjectionOf_selectsPrimaryKeysOnly() {
+        assertEquals(Optional.of("SELECT b.id FROM Book b WHERE b.price < :price"),
+                _JpaBulkDeleteUtil.idProjectionOf("SELECT b FROM Book b WHERE b.price < :price ORDER BY b.name", "id"));
+        assertEquals(Optional.of("SELECT DISTINCT p.id FROM Inventory i, IN(i.products) p"),
+                _JpaBulkDeleteUtil.idProjectionOf("select distinct p from Inventory i, IN(i.products) p", "id"));
+        assertEquals(Optional.of("SELECT b.id FROM Book b WHERE b.id IN (SELECT x.id FROM Book x ORDER BY x.name)"),
+                _JpaBulkDeleteUtil.idProjectionOf("SELECT b FROM Book b WHERE b.id IN (SELECT x.id FROM Book x ORDER BY x.name)", "id"));
+    }
+
+    @Test
+    void idProjectionOf_rejectsUnrecognizedSelectClause() {
+        assertTrue(_JpaBulkDeleteUtil.idProjectionOf("SELECT b.name FROM Book b", "id").isEmpty());
+        assertTrue(_JpaBulkDeleteUtil.idProjectionOf("SELECT NEW Dto(b.name) FROM Book b", "id").isEmpty());
+        assertTrue(_JpaBulkDeleteUtil.idProjectionOf("UPDATE Book b SET b.price = 0", "id").isEmpty());
+    }
+
+    @Test
+    void deleteAllById_withIdProjection_doesNotFetchEntities() {
+        persistCustomers(10);
+
+        inTransaction(em->{
+            var idQuery = em.createQuery(_JpaBulkDeleteUtil.idProjectionOf(
+                    "SELECT c FROM _JpaBulkDeleteUtil_Test$Customer c WHERE c.id > :min ORDER BY c.name", "id")
+                    .orElseThrow());
+            idQuery.setParameter("min", 7L);
+            assertEquals(3, _JpaBulkDeleteUtil.deleteAllById(em, Customer.class, "id",
+                    _Casts.uncheckedCast(idQuery.getResultStream()), 100));
+        });
+
+        assertEquals(1, deleteStatementCount.get());
+        assertEquals(7L, countCustomers());
+    }
+
+    @Test
+    void evictAll_detachesInstancesDeletedInBulk() {
+        persistCustomers(3);
+        inTransaction(em->em.persist(new Invoice(1L)));
+
+        inTransaction(em->{
+            var customer = em.find(Customer.class, 1L);
+            var invoice = em.find(Invoice.class, 1L);
+            _JpaBulkDeleteUtil.deleteAll(em, Customer.class);
+            _JpaBulkDeleteUtil.evictAll(em, Customer.class);
+
+            assertFalse(em.contains(customer));
+            assertNull(em.find(Customer.class, 1L));
+            // instances of other types stay attached
+            assertTrue(em.contains(invoice));
+        });
+    }
+
+    @Test
+    void isBulkDeletable_unlessMappingRequiresObjectByObjectDeletion() {
+        var em = emf.createEntityManager();
+        try {
+            assertTrue(_JpaBulkDeleteUtil.isBulkDeletable(em, Customer.class));
+            // element collection
+            assertFalse(_JpaBulkDeleteUtil.isBulkDeletable(em, Invoice.class));
+            // orphan removal
+            assertFalse(_JpaBulkDeleteUtil.isBulkDeletable(em, Account.class));
+        } finally {
+            em.close();
+        }
+    }
+
+    // -- HELPER
+
+    private void persistCustomers(final int count) {
+        inTransaction(em->LongStream.rangeClosed(1, count)
+                .mapToObj(Customer::new)
+                .forEach(em::persist));
+    }
+
+    private long countCustomers() {
+        var em = emf.createEntityManager();
+        try {
+            return em.createQuery("SELECT COUNT(c) FROM _JpaBulkDeleteUtil_Test$Customer c", Long.class)
+                    .getSingleResult();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void inTransaction(final Consumer<EntityManager> consumer) {
+        var em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            consumer.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Counts the DELETE statements logged by EclipseLink.
+     */
+    public static class DeleteStatementCounter extends AbstractSessionLog {
+        static final AtomicInteger deleteStatementCount = new AtomicInteger();
+        @Override
+        public void log(final SessionLogEntry entry) {
+            if(SessionLog.SQL.equals(entry.getNameSpace())
+                    && entry.getMessage()!=null
+                    && entry.getMessage().trim().toUpperCase().startsWith("DELETE")) {
+                deleteStatementCount.incrementAndGet();
+            }
+        }
+    }
+
+}
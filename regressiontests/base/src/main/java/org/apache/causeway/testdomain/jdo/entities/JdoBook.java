@@ -23,6 +23,7 @@
 import javax.jdo.annotations.Column;
 import javax.jdo.annotations.Discriminator;
 import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Queries;
 import javax.jdo.annotations.Query;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
@@ -79,12 +80,21 @@
 //@NamedQuery(
 //name = "JdoInventory.findAffordableProducts",
 //query = "SELECT p FROM JdoInventory i, IN(i.products) p WHERE p.price <= :priceUpperBound")
-@Query(
-      name = "findAffordableBooks",
-      language = "JDOQL",
-      value = "SELECT "
-              + "FROM org.apache.causeway.testdomain.jdo.entities.JdoBook "
-              + "WHERE price <= :priceUpperBound")
+@Queries({
+    @Query(
+          name = "findAffordableBooks",
+          language = "JDOQL",
+          value = "SELECT "
+                  + "FROM org.apache.causeway.testdomain.jdo.entities.JdoBook "
+                  + "WHERE price <= :priceUpperBound"),
+    @Query(
+          name = "findAffordableBooksOrderedByName",
+          language = "JDOQL",
+          value = "SELECT "
+                  + "FROM org.apache.causeway.testdomain.jdo.entities.JdoBook "
+                  + "WHERE price <= :priceUpperBound "
+                  + "ORDER BY name ASC")
+})
 
 @XmlJavaTypeAdapter(PersistentEntityAdapter.class)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
@@ -25,6 +25,7 @@
 import javax.jdo.annotations.DatastoreIdentity;
 import javax.jdo.annotations.IdGeneratorStrategy;
 import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Query;
 
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.Property;
@@ -35,6 +36,12 @@
 
 @PersistenceCapable
 @DatastoreIdentity(strategy=IdGeneratorStrategy.IDENTITY, column="id")
+@Query(
+        name = "findByCommentPrefix",
+        language = "JDOQL",
+        value = "SELECT "
+                + "FROM org.apache.causeway.testdomain.jdo.entities.JdoProductComment "
+                + "WHERE comment.startsWith(:prefix)")
 @Named("testdomain.jdo.ProductComment")
 @DomainObject
 public class JdoProductComment implements OnUpdatedByAndAt {
@@ -26,6 +26,7 @@
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
+import javax.persistence.NamedQuery;
 import javax.persistence.Transient;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
@@ -61,6 +62,9 @@
 @EntityListeners(CausewayEntityListener.class)
 @DiscriminatorValue("Book")
 @Named("testdomain.jpa.Book")
+@NamedQuery(
+        name = "JpaBook.findAffordableBooks",
+        query = "SELECT b FROM JpaBook b WHERE b.price <= :priceUpperBound")
 @DomainObject(
         entityChangePublishing = Publishing.ENABLED
 
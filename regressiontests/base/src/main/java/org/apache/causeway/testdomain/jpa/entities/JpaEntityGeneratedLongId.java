@@ -23,6 +23,7 @@
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.NamedQuery;
 
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.Property;
@@ -36,6 +37,9 @@
 
 @Entity
 @Named("testdomain.jpa.GeneratedLongId")
+@NamedQuery(
+        name = "JpaEntityGeneratedLongId.findByNamePrefix",
+        query = "SELECT e FROM JpaEntityGeneratedLongId e WHERE e.name LIKE :prefix ORDER BY e.name")
 @DomainObject(
         entityChangePublishing = Publishing.DISABLED)
 @NoArgsConstructor
@@ -27,6 +27,7 @@
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -47,9 +48,17 @@
 @Named("testdomain.jpa.Inventory")
 @DomainObject(
         entityChangePublishing = Publishing.ENABLED)
-@NamedQuery(
-        name = "JpaInventory.findAffordableProducts",
-        query = "SELECT p FROM JpaInventory i, IN(i.products) p WHERE p.price <= :priceUpperBound")
+@NamedQueries({
+    @NamedQuery(
+            name = "JpaInventory.findAffordableProducts",
+            query = "SELECT p FROM JpaInventory i, IN(i.products) p WHERE p.price <= :priceUpperBound"),
+    @NamedQuery(
+            name = "JpaInventory.findAffordableProducts.count",
+            query = "SELECT COUNT(p) FROM JpaInventory i, IN(i.products) p WHERE p.price <= :priceUpperBound"),
+    @NamedQuery(
+            name = "JpaInventory.findProductsOrderedByName",
+            query = "SELECT p FROM JpaInventory i, IN(i.products) p ORDER BY p.name"),
+})
 @XmlJavaTypeAdapter(PersistentEntityAdapter.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
@@ -105,6 +105,15 @@ public List<InteractionDemoItem> getItems() {
         return lazyItems.get();
     }
 
+    @XmlTransient
+    private final _Lazy<InteractionDemoPagedItems> lazyPagedItems = _Lazy.threadSafe(()->
+        InteractionDemoPagedItems.ofSize(20));
+
+    @Collection
+    public List<InteractionDemoItem> getPagedItems() {
+        return lazyPagedItems.get();
+    }
+
     // -- ACTIONS WITH VARIOUS SEMANTICS
 
     @Action(semantics = SemanticsOf.SAFE)
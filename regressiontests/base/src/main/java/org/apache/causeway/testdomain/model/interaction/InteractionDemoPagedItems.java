@@ -0,0 +1,79 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.model.interaction;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.causeway.applib.query.PageableList;
+import org.apache.causeway.applib.query.QueryRange;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory {@link PageableList}, that counts how often its elements are paged, counted
+ * or loaded, as if these were round trips to a database.
+ */
+@RequiredArgsConstructor(staticName = "ofSize")
+public class InteractionDemoPagedItems
+extends AbstractList<InteractionDemoItem>
+implements PageableList<InteractionDemoItem> {
+
+    private final int size;
+
+    @Getter private final AtomicInteger pageCount = new AtomicInteger();
+    @Getter private final AtomicInteger countCount = new AtomicInteger();
+    @Getter private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Override
+    public List<InteractionDemoItem> page(final QueryRange range) {
+        pageCount.incrementAndGet();
+        return IntStream.range(
+                    Math.min(range.getStartAsInt(), size),
+                    range.hasLimit()
+                        ? Math.min(range.getEndAsInt(), size)
+                        : size)
+                .mapToObj(InteractionDemoPagedItems::item)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int size() {
+        countCount.incrementAndGet();
+        return size;
+    }
+
+    @Override
+    public InteractionDemoItem get(final int index) {
+        loadCount.incrementAndGet();
+        return item(index);
+    }
+
+    // -- HELPER
+
+    private static InteractionDemoItem item(final int index) {
+        return InteractionDemoItem.of("item-" + index, LocalDate.of(2022, 01, 01).plusDays(index));
+    }
+
+}
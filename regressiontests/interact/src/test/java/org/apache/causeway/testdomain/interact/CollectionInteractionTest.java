@@ -19,6 +19,7 @@
 package org.apache.causeway.testdomain.interact;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -26,14 +27,22 @@
 import org.springframework.test.context.TestPropertySource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.core.config.metamodel.facets.AssociationLayoutConfigOptions;
 import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.object.MmSortUtils;
 import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
+import org.apache.causeway.core.metamodel.tabular.DataColumn;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
 import org.apache.causeway.testdomain.conf.Configuration_headless;
 import org.apache.causeway.testdomain.model.interaction.Configuration_usingInteractionDomain;
 import org.apache.causeway.testdomain.model.interaction.InteractionDemo;
+import org.apache.causeway.testdomain.model.interaction.InteractionDemoItem;
+import org.apache.causeway.testdomain.model.interaction.InteractionDemoPagedItems;
 import org.apache.causeway.testdomain.util.interaction.InteractionTestAbstract;
 
 @SpringBootTest(
@@ -93,6 +102,58 @@ void multiSelect() {
 
     }
 
+    @Test
+    void pageableList_isPagedAndCountedAtSource() {
+
+        var collTester =
+                testerFactory.collectionTester(InteractionDemo.class, "pagedItems", Where.ANYWHERE);
+        collTester.assertVisibilityIsNotVetoed();
+
+        var owner = collTester.getManagedCollectionIfAny().orElseThrow().getOwner();
+        var pagedItems = (InteractionDemoPagedItems)((InteractionDemo)owner.getPojo()).getPagedItems();
+
+        var table = collTester.tableTester().getDataTable();
+
+        assertEquals(20, table.getFilteredElementCount());
+
+        var page = table.getDataRowsFilteredAndSorted(QueryRange.of(5, 5));
+        assertEquals(
+                List.of("item-5", "item-6", "item-7", "item-8", "item-9"),
+                page.map(this::itemName).toList());
+        assertEquals(List.of(5, 6, 7, 8, 9), page.map(DataRow::getRowIndex).toList());
+
+        // selection of a row of the page
+        page.getElseFail(1).getSelectToggle().setValue(true);
+        assertEquals(Set.of(6), table.getSelectedRowIndexes());
+
+        // recreation from memento re-evaluates the collection, restoring the selection
+        var recreatedTable = table.createMemento().getDataTableModel(owner);
+        assertEquals(Set.of(6), recreatedTable.getSelectedRowIndexes());
+        assertEquals("item-6", itemName(recreatedTable.getDataRowsSelected().getValue().getFirstElseFail()));
+
+        assertEquals(1, pagedItems.getCountCount().get());
+        assertEquals(2, pagedItems.getPageCount().get());
+        assertEquals(0, pagedItems.getLoadCount().get(), "expected no elements to be loaded");
+
+        // sorting requires all elements, which are then loaded once
+        var nameColumnIndex = table.getDataColumns().getValue().stream()
+                .map(DataColumn::getColumnId)
+                .collect(Collectors.toList())
+                .indexOf("name");
+        table.getColumnSort().setValue(
+                new DataTableInteractive.ColumnSort(nameColumnIndex, MmSortUtils.SortDirection.DESCENDING));
+        var sortedPage = table.getDataRowsFilteredAndSorted(QueryRange.of(0, 2));
+        assertEquals(List.of("item-9", "item-8"), sortedPage.map(this::itemName).toList());
+        assertEquals(2, pagedItems.getPageCount().get());
+        assertTrue(pagedItems.getLoadCount().get() > 0);
+        // rows already paged in, are reused
+        assertTrue(table.lookupDataRow(6).orElseThrow().getSelectToggle().getValue());
+    }
+
+    private String itemName(final DataRow dataRow) {
+        return ((InteractionDemoItem)dataRow.getRowElement().getPojo()).getName();
+    }
+
     @Test
     void columns() {
         testerFactory.getMetaModelContext().getConfiguration().getApplib().getAnnotation()
@@ -19,6 +19,8 @@
 package org.apache.causeway.testdomain.persistence.jdo;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -123,6 +125,46 @@ void sampleInventory_shouldSupportNamedQueriesThroughApplib() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportStreaming() {
+
+        try(var books = repositoryService.streamMatches(Query.allInstances(JdoBook.class), 1)) {
+            testFixtures.assertInventoryHasBooks(books.collect(Collectors.toList()), 1, 2, 3);
+        }
+
+        try(var books = repositoryService.streamMatches(Query.allInstances(JdoBook.class)
+                .withLimit(2))) {
+            assertEquals(2, books.count());
+        }
+
+        try(var books = repositoryService.streamMatches(
+                Query.named(JdoBook.class, "findAffordableBooksOrderedByName")
+                    .withParameter("priceUpperBound", 60.))) {
+            assertEquals(
+                    List.of("Dune", "The Foundation"),
+                    books.map(JdoBook::getName).collect(Collectors.toList()));
+        }
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldSupportCounting() {
+
+        assertEquals(3L, repositoryService.count(Query.allInstances(JdoBook.class)));
+        assertEquals(2L, repositoryService.count(Query.allInstances(JdoBook.class)
+                .withLimit(2)));
+        assertEquals(1L, repositoryService.count(Query.allInstances(JdoBook.class)
+                .withRange(2, 5)));
+
+        assertEquals(2L, repositoryService.count(
+                Query.named(JdoBook.class, "findAffordableBooks")
+                    .withParameter("priceUpperBound", 60.)));
+
+        // the ordering is dropped, when turned into a count query
+        assertEquals(2L, repositoryService.count(
+                Query.named(JdoBook.class, "findAffordableBooksOrderedByName")
+                    .withParameter("priceUpperBound", 60.)));
+    }
+
 //    @Test @Order(4)
 //    void sampleInventory_shouldSupportNamedQueriesDirectly() {
 //
@@ -0,0 +1,138 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jdo;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJdo;
+import org.apache.causeway.testdomain.jdo.RegressionTestWithJdoFixtures;
+import org.apache.causeway.testdomain.jdo.entities.JdoBook;
+import org.apache.causeway.testdomain.jdo.entities.JdoProduct;
+import org.apache.causeway.testdomain.jdo.entities.JdoProductComment;
+import org.apache.causeway.testdomain.util.dto.BookDto;
+import org.apache.causeway.testdomain.util.event.LifecycleEventSubscriberJdoForTesting;
+import org.apache.causeway.testdomain.util.kv.KVStoreForTesting;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJdo.class,
+                LifecycleEventSubscriberJdoForTesting.class
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JdoRemoveAllTest"
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JdoRemoveAllTest extends RegressionTestWithJdoFixtures {
+
+    @Inject private KVStoreForTesting kvStore;
+
+    @Test
+    void removeAll_byNamedQuery_shouldDeleteInBulk_whenNotPublishing() {
+
+        run(()->{
+            var product = repositoryService.allInstances(JdoBook.class).get(0);
+            Stream.of("a1", "a2", "b1")
+                .map(text->{
+                    var comment = new JdoProductComment();
+                    comment.setProduct(product);
+                    comment.setComment(text);
+                    return comment;
+                })
+                .forEach(repositoryService::persist);
+        });
+
+        run(()->{
+            var removed = repositoryService.removeAll(
+                    Query.named(JdoProductComment.class, "findByCommentPrefix")
+                        .withParameter("prefix", "a"));
+
+            assertEquals(2L, removed);
+            assertEquals(List.of("b1"), commentsOf(repositoryService.allInstances(JdoProductComment.class)));
+
+            // comments reference products, which are about to be removed by the fixture
+            repositoryService.removeAll(JdoProductComment.class);
+            assertTrue(repositoryService.allInstances(JdoProductComment.class).isEmpty());
+        });
+    }
+
+    @Test
+    void removeAll_byNamedQuery_shouldRemoveOneByOne_whenPublishing() {
+
+        LifecycleEventSubscriberJdoForTesting.clearPublishedEvents(kvStore);
+
+        run(()->{
+            var removed = repositoryService.removeAll(
+                    Query.named(JdoBook.class, "findAffordableBooks")
+                        .withParameter("priceUpperBound", 60.));
+
+            assertEquals(2L, removed);
+        });
+
+        // lifecycle callbacks were triggered for each instance removed
+        assertEquals(Set.of("Dune", "The Foundation"), removedBookNames());
+    }
+
+    @Test
+    void removeAll_shouldRemoveOneByOne_whenMappingIsNotBulkDeletable() {
+
+        LifecycleEventSubscriberJdoForTesting.clearPublishedEvents(kvStore);
+
+        run(()->{
+            // JdoProduct is not publishing, but maps a collection and has a subclass (JdoBook)
+            var removed = repositoryService.removeAll(Query.allInstances(JdoProduct.class));
+
+            assertEquals(3L, removed);
+            assertTrue(repositoryService.allInstances(JdoProduct.class).isEmpty());
+        });
+
+        // lifecycle callbacks were triggered for each instance removed
+        assertEquals(Set.of("Dune", "The Foundation", "The Time Machine"), removedBookNames());
+    }
+
+    // -- HELPER
+
+    private Set<String> removedBookNames() {
+        return LifecycleEventSubscriberJdoForTesting
+                .getPublishedEventsJdo(kvStore, JdoBook.RemovingLifecycleEvent.class)
+                .map(BookDto::getName)
+                .toSet();
+    }
+
+    private static List<String> commentsOf(final List<JdoProductComment> comments) {
+        return comments.stream()
+                .map(JdoProductComment::getComment)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.core.metamodel.object.PackedManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMemento;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.JpaInventoryManager;
+import org.apache.causeway.testdomain.jpa.RegressionTestWithJpaFixtures;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.util.dto.BookDto;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaBookmarkLookupAllTest"
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JpaBookmarkLookupAllTest extends RegressionTestWithJpaFixtures {
+
+    @Test
+    void lookupAll_shouldPreserveOrder_forMixedEntitiesAndViewModels() {
+
+        var bookmarks = call(()->{
+            var books = bookBookmarksOrderedByName(); // Dune, The Foundation, The Time Machine
+            var viewModel = bookmarkService.bookmarkForElseFail(
+                    factoryService.viewModel(JpaInventoryManager.class));
+            return Arrays.asList(
+                    books.get(2), viewModel, books.get(0), null, books.get(1), books.get(0));
+        });
+
+        run(()->{
+            var pojos = bookmarkService.lookupAll(bookmarks);
+
+            assertEquals(bookmarks.size(), pojos.size());
+            assertEquals("The Time Machine", bookNameOf(pojos.get(0)));
+            assertTrue(pojos.get(1).orElseThrow() instanceof JpaInventoryManager);
+            assertEquals("Dune", bookNameOf(pojos.get(2)));
+            assertTrue(pojos.get(3).isEmpty());
+            assertEquals("The Foundation", bookNameOf(pojos.get(4)));
+            assertEquals("Dune", bookNameOf(pojos.get(5)));
+        });
+    }
+
+    @Test
+    void lookupAll_shouldReportMissingEntitiesAsEmpty() {
+
+        var missing = call(()->bookmarkService.bookmarkForElseFail(
+                testFixtures.addBook(BookDto.sample().asBuilder()
+                        .isbn("ISBN-X")
+                        .name("Removed")
+                        .build())));
+        run(()->repositoryService.removeAndFlush(bookmarkService.lookup(missing).orElseThrow()));
+
+        var bookmarks = call(()->{
+            var books = bookBookmarksOrderedByName();
+            return List.of(books.get(0), missing, books.get(2));
+        });
+
+        run(()->{
+            var pojos = bookmarkService.lookupAll(bookmarks);
+
+            assertEquals(3, pojos.size());
+            assertEquals("Dune", bookNameOf(pojos.get(0)));
+            assertTrue(pojos.get(1).isEmpty());
+            assertEquals("The Time Machine", bookNameOf(pojos.get(2)));
+
+            var objects = objectManager.loadObjects(Can.ofCollection(bookmarks));
+
+            assertEquals(3, objects.size());
+            assertTrue(objects.getElseFail(1).getPojo()==null);
+            assertEquals("The Time Machine", ((JpaBook)objects.getElseFail(2).getPojo()).getName());
+        });
+    }
+
+    @Test
+    void demementify_shouldPreserveOrder_forCollectionOfEntities() {
+
+        run(()->{
+            var books = repositoryService.allInstances(JpaBook.class).stream()
+                    .sorted(Comparator.comparing(JpaBook::getName).reversed())
+                    .map(objectManager::adapt)
+                    .collect(Can.toCan());
+            var elementSpec = books.getFirstElseFail().getSpecification();
+
+            var mementos = books.stream()
+                    .map(objectManager::mementifyElseFail)
+                    .collect(Collectors.<ObjectMemento, ArrayList<ObjectMemento>>toCollection(ArrayList::new));
+
+            var recovered = objectManager.demementify(
+                    ObjectMementoCollection.of(mementos, elementSpec.getLogicalType()));
+
+            assertTrue(recovered.getSpecialization().isPacked());
+            assertEquals(
+                    List.of("The Time Machine", "The Foundation", "Dune"),
+                    ((PackedManagedObject)recovered).unpack()
+                        .map(object->((JpaBook)object.getPojo()).getName())
+                        .toList());
+        });
+    }
+
+    // -- HELPER
+
+    private List<Bookmark> bookBookmarksOrderedByName() {
+        return repositoryService.allInstances(JpaBook.class).stream()
+                .sorted(Comparator.comparing(JpaBook::getName))
+                .map(bookmarkService::bookmarkForElseFail)
+                .collect(Collectors.toList());
+    }
+
+    private static String bookNameOf(final Optional<Object> pojo) {
+        return ((JpaBook)pojo.orElseThrow()).getName();
+    }
+
+}
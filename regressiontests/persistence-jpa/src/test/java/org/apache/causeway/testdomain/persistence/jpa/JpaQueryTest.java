@@ -19,6 +19,8 @@
 package org.apache.causeway.testdomain.persistence.jpa;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -163,6 +165,45 @@ void sampleInventory_shouldSupportJpaCriteria() {
         testFixtures.assertInventoryHasBooks(affordableBooks, 1, 2);
     }
 
+    @Test @Order(6)
+    void sampleInventory_shouldSupportStreaming() {
+
+        try(var books = repositoryService.streamMatches(Query.allInstances(JpaBook.class), 1)) {
+            testFixtures.assertInventoryHasBooks(books.collect(Collectors.toList()), 1, 2, 3);
+        }
+
+        try(var books = repositoryService.streamMatches(Query.allInstances(JpaBook.class)
+                .withLimit(2))) {
+            assertEquals(2, books.count());
+        }
+
+        try(var products = repositoryService.streamMatches(
+                Query.named(JpaProduct.class, "JpaInventory.findProductsOrderedByName"))) {
+            assertEquals(
+                    List.of("Dune", "The Foundation", "The Time Machine"),
+                    products.map(JpaProduct::getName).collect(Collectors.toList()));
+        }
+    }
+
+    @Test @Order(7)
+    void sampleInventory_shouldSupportCounting() {
+
+        assertEquals(3L, repositoryService.count(Query.allInstances(JpaBook.class)));
+        assertEquals(2L, repositoryService.count(Query.allInstances(JpaBook.class)
+                .withLimit(2)));
+        assertEquals(1L, repositoryService.count(Query.allInstances(JpaBook.class)
+                .withRange(2, 5)));
+
+        // counted by the companion named query 'JpaInventory.findAffordableProducts.count'
+        assertEquals(2L, repositoryService.count(
+                Query.named(JpaBook.class, "JpaInventory.findAffordableProducts")
+                    .withParameter("priceUpperBound", 60.)));
+
+        // no companion count query, hence counted by fetching
+        assertEquals(3L, repositoryService.count(
+                Query.named(JpaProduct.class, "JpaInventory.findProductsOrderedByName")));
+    }
+
     @Test @Order(99) @Disabled("broken won't fix")
     void previousTest_shouldHaveRolledBack() {
         assertEquals(0, repositoryService.allInstances(JpaInventory.class).size());
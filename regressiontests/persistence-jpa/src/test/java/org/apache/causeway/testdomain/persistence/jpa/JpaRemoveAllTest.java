@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testdomain.persistence.jpa;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.query.Query;
+import org.apache.causeway.core.config.presets.CausewayPresets;
+import org.apache.causeway.testdomain.conf.Configuration_usingJpa;
+import org.apache.causeway.testdomain.jpa.RegressionTestWithJpaFixtures;
+import org.apache.causeway.testdomain.jpa.entities.JpaBook;
+import org.apache.causeway.testdomain.jpa.entities.JpaEntityGeneratedLongId;
+import org.apache.causeway.testdomain.util.dto.BookDto;
+import org.apache.causeway.testdomain.util.event.LifecycleEventSubscriberJpaForTesting;
+import org.apache.causeway.testdomain.util.kv.KVStoreForTesting;
+
+@SpringBootTest(
+        classes = {
+                Configuration_usingJpa.class,
+                LifecycleEventSubscriberJpaForTesting.class
+        },
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:JpaRemoveAllTest"
+        })
+@TestPropertySource(CausewayPresets.UseLog4j2Test)
+class JpaRemoveAllTest extends RegressionTestWithJpaFixtures {
+
+    @Inject private KVStoreForTesting kvStore;
+
+    @Test
+    void removeAll_byNamedQuery_shouldDeleteInBulk_whenNotPublishing() {
+
+        run(()->{
+            repositoryService.removeAll(JpaEntityGeneratedLongId.class);
+            Stream.of("a1", "a2", "b1")
+                .map(JpaEntityGeneratedLongId::new)
+                .forEach(repositoryService::persist);
+        });
+
+        run(()->{
+            var heldOnTo = repositoryService.allInstances(JpaEntityGeneratedLongId.class);
+            assertEquals(3, heldOnTo.size());
+
+            var removed = repositoryService.removeAll(
+                    Query.named(JpaEntityGeneratedLongId.class, "JpaEntityGeneratedLongId.findByNamePrefix")
+                        .withParameter("prefix", "a%"));
+
+            assertEquals(2L, removed);
+            assertTrue(heldOnTo.stream()
+                    .noneMatch(entity->repositoryService.getEntityState(entity).isAttached()));
+            assertEquals(List.of("b1"), namesOf(JpaEntityGeneratedLongId.class));
+
+            repositoryService.removeAll(JpaEntityGeneratedLongId.class);
+            assertTrue(namesOf(JpaEntityGeneratedLongId.class).isEmpty());
+        });
+    }
+
+    @Test
+    void removeAll_byNamedQuery_shouldRemoveOneByOne_whenPublishing() {
+
+        LifecycleEventSubscriberJpaForTesting.clearPublishedEvents(kvStore);
+
+        run(()->{
+            var removed = repositoryService.removeAll(
+                    Query.named(JpaBook.class, "JpaBook.findAffordableBooks")
+                        .withParameter("priceUpperBound", 60.));
+
+            assertEquals(2L, removed);
+            assertEquals(List.of("The Time Machine"), namesOf(JpaBook.class));
+        });
+
+        // lifecycle callbacks were triggered for each instance removed
+        assertEquals(Set.of("Dune", "The Foundation"),
+                LifecycleEventSubscriberJpaForTesting
+                    .getPublishedEventsJpa(kvStore, JpaBook.RemovingLifecycleEvent.class)
+                    .map(BookDto::getName)
+                    .toSet());
+    }
+
+    // -- HELPER
+
+    private List<String> namesOf(final Class<?> entityClass) {
+        return repositoryService.allInstances(entityClass).stream()
+                .map(entity->entity instanceof JpaBook
+                        ? ((JpaBook) entity).getName()
+                        : ((JpaEntityGeneratedLongId) entity).getName())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+}
@@ -48,8 +48,10 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.collections._ContentHashCache;
 import org.apache.causeway.core.config.CausewayConfiguration;
 
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 
@@ -81,7 +83,8 @@ public AdocToHtmlConverter createAdocToHtmlConverter(final CausewayConfiguration
                         .showTitle(true)
                         .sourceHighlighter("prism")
                         .build())
-                .build());
+                .build(),
+                config.getValueTypes().getAsciidoc().getHtmlCacheMaxWeightInBytes());
     }
 
     public static final class AdocToHtmlConverter {
@@ -90,15 +93,34 @@ public static AdocToHtmlConverter instance() {
             return instance;
         }
 
-        private static AdocToHtmlConverter instance;
+        private static volatile AdocToHtmlConverter instance;
+
+        private static final long DEFAULT_HTML_CACHE_MAX_WEIGHT_IN_BYTES = 16L * 1024 * 1024; // 16 MiB
 
         private final @NonNull Asciidoctor asciidoctor;
         private final @NonNull Options options;
 
+        /**
+         * Rendered HTML, keyed by the AsciiDoc source's content hash, shared by all viewers.
+         * <p>
+         * Exposed for monitoring, eg. its size, weight and hit/miss counts.
+         *
+         * @see CausewayConfiguration.ValueTypes.Asciidoc#getHtmlCacheMaxWeightInBytes()
+         */
+        @Getter private final _ContentHashCache htmlCache;
+
         public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull final Options options) {
+            this(asciidoctor, options, DEFAULT_HTML_CACHE_MAX_WEIGHT_IN_BYTES);
+        }
+
+        public AdocToHtmlConverter(
+                @NonNull final Asciidoctor asciidoctor,
+                @NonNull final Options options,
+                final long htmlCacheMaxWeightInBytes) {
             super();
             this.asciidoctor = asciidoctor;
             this.options = options;
+            this.htmlCache = _ContentHashCache.ofMaxWeightInBytes(htmlCacheMaxWeightInBytes);
             instance = this;
         }
 
@@ -115,7 +137,11 @@ public AdocToHtmlConverter(@NonNull final Asciidoctor asciidoctor, @NonNull fina
         public String adocToHtml(final @Nullable String adoc) {
             return _Strings.isEmpty(adoc)
                     ? ""
-                    : asciidoctor.convert(adoc, options);
+                    : htmlCache.computeIfAbsent(adoc, this::convert);
+        }
+
+        private String convert(final String adoc) {
+            return asciidoctor.convert(adoc, options);
         }
 
     }
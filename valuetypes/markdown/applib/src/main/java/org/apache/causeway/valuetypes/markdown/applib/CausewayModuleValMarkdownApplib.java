@@ -18,12 +18,23 @@
  */
 package org.apache.causeway.valuetypes.markdown.applib;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import org.apache.causeway.valuetypes.markdown.applib.value.Converter;
+
 /**
  * @since 2.0 {@index}
  */
 @Configuration
 public class CausewayModuleValMarkdownApplib {
     public static final String NAMESPACE = "causeway.value.markdown";
+
+    public CausewayModuleValMarkdownApplib(
+            @Value("${causeway.value-types.markdown.html-cache-max-weight-in-bytes:"
+                    + Converter.DEFAULT_HTML_CACHE_MAX_WEIGHT_IN_BYTES + "}")
+            final long htmlCacheMaxWeightInBytes) {
+        Converter.configureHtmlCache(htmlCacheMaxWeightInBytes);
+    }
+
 }
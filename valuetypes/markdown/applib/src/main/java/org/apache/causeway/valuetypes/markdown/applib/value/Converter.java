@@ -26,6 +26,8 @@
 import com.vladsch.flexmark.parser.Parser;
 import com.vladsch.flexmark.util.data.MutableDataSet;
 
+import org.apache.causeway.commons.internal.collections._ContentHashCache;
+
 /**
  * @since 2.0 {@index}
  */
@@ -42,19 +44,48 @@ public final class Converter {
      * @see <a href="https://prismjs.com/">prismjs.com</a>
      */
     public static String mdToHtml(final String markdown) {
-        if(markdownSupport==null) {
-            markdownSupport = new MarkdownSupport();
+        return htmlCache.computeIfAbsent(markdown, MarkdownSupport.INSTANCE::toHtml);
+    }
+
+    // -- HTML CACHE
+
+    public static final long DEFAULT_HTML_CACHE_MAX_WEIGHT_IN_BYTES = 16L * 1024 * 1024; // 16 MiB
+
+    /**
+     * Rendered HTML, keyed by the Markdown source's content hash, shared by all viewers.
+     */
+    private static volatile _ContentHashCache htmlCache = _ContentHashCache.ofMaxWeightInBytes(DEFAULT_HTML_CACHE_MAX_WEIGHT_IN_BYTES);
+
+    /**
+     * The cache of rendered HTML, exposed for monitoring, eg. its size, weight and hit/miss counts.
+     */
+    public static _ContentHashCache htmlCache() {
+        return htmlCache;
+    }
+
+    /**
+     * Replaces the cache of rendered HTML with an empty one, bounded by given {@code maxWeightInBytes}
+     * (<code>0</code> disables caching).
+     * Called on application start-up, as configured via
+     * {@literal causeway.value-types.markdown.html-cache-max-weight-in-bytes}.
+     */
+    public static void configureHtmlCache(final long maxWeightInBytes) {
+        if(htmlCache.getMaxWeightInBytes()!=maxWeightInBytes) {
+            htmlCache = _ContentHashCache.ofMaxWeightInBytes(maxWeightInBytes);
         }
-        return markdownSupport.toHtml(markdown);
     }
 
     // -- HELPER
 
-    private static MarkdownSupport markdownSupport;
-
+    /**
+     * Thread-safe, as flexmark's parser and renderer are immutable once built.
+     */
     private static class MarkdownSupport {
-        private Parser parser;
-        private HtmlRenderer renderer;
+        // lazily initialized on first use (holder class idiom)
+        static final MarkdownSupport INSTANCE = new MarkdownSupport();
+
+        private final Parser parser;
+        private final HtmlRenderer renderer;
 
         public MarkdownSupport() {
             MutableDataSet options = new MutableDataSet();
@@ -45,4 +45,5 @@
     requires spring.context;
     requires com.graphqljava;
     requires com.graphqljava.extendedscalars;
+    requires org.dataloader;
 }
\ No newline at end of file
@@ -58,7 +58,8 @@ public RichActionInvokeTarget(
 
     @Override
     protected Object fetchData(final DataFetchingEnvironment dataFetchingEnvironment) {
-        return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context).getTargetPojo();
+        return BookmarkedPojo.sourceFrom(dataFetchingEnvironment, context)
+                .thenApply(BookmarkedPojo::getTargetPojo);
     }
 
 }
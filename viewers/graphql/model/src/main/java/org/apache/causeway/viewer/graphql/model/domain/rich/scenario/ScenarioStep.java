@@ -31,6 +31,7 @@
 import org.apache.causeway.viewer.graphql.model.domain.common.SchemaStrategy;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainObject;
 import org.apache.causeway.viewer.graphql.model.domain.common.query.CommonDomainService;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
 
 public class ScenarioStep
         extends ElementCustom
@@ -87,6 +88,8 @@ protected void addDataFetchersForChildren() {
 
     @Override
     protected DataFetchingEnvironment fetchData(DataFetchingEnvironment environment) {
+        // the previous step must have been resolved in full, eg. its objects saved using "saveAs"
+        BookmarkedPojo.resolvePendingLookups(environment);
         return environment;
     }
 
@@ -18,17 +18,50 @@
  */
 package org.apache.causeway.viewer.graphql.model.fetcher;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.MappedBatchLoader;
+
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.bookmark.BookmarkService;
 import org.apache.causeway.viewer.graphql.model.context.Context;
 
+/**
+ * Holds on to the {@link Bookmark} of a domain object, looking up the domain object (pojo) only once,
+ * no matter how many of its fields are resolved.
+ * <p>
+ * As all fields of a GraphQL operation are resolved within the same interaction,
+ * the memoized pojo is attached to that interaction's persistence context.
+ * <p>
+ * If a {@link DataLoader} is registered (see {@link #registerDataLoader(DataLoaderRegistry, GraphQLContext, BookmarkService)}),
+ * the domain objects of all bookmarks requested while resolving one level of the operation are looked up together,
+ * using a single {@link BookmarkService#lookupAll(List)}; any domain object already looked up during the request is
+ * not looked up again.
+ * <p>
+ * Fields waiting on such a lookup are resolved in the order requested (the data loader does not share futures
+ * between requests for the same bookmark); fields of a domain object already looked up are resolved straight away.
+ */
 public class BookmarkedPojo {
 
+    public static final String DATA_LOADER_NAME = "causeway.bookmarkedPojo";
+    private static final String TARGET_POJO_BY_BOOKMARK_KEY = "causeway.bookmarkedPojo.targetPojoByBookmark";
+
     private final Bookmark bookmark;
     private final BookmarkService bookmarkService;
 
+    private volatile Object targetPojo; // memoized, read by any of the resolving threads
+
     public BookmarkedPojo(
             final Bookmark bookmark,
             final BookmarkService bookmarkService) {
@@ -37,6 +70,15 @@ public BookmarkedPojo(
         this.bookmarkService = bookmarkService;
     }
 
+    private BookmarkedPojo(
+            final Bookmark bookmark,
+            final BookmarkService bookmarkService,
+            final Object targetPojo) {
+
+        this(bookmark, bookmarkService);
+        this.targetPojo = targetPojo;
+    }
+
     public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment) {
         var source = dataFetchingEnvironment.getSource();
         return source instanceof BookmarkedPojo
@@ -44,14 +86,80 @@ public static Object sourceFrom(DataFetchingEnvironment dataFetchingEnvironment)
                 : source;
     }
 
-    public static BookmarkedPojo sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
+    /**
+     * Completes once the domain object has been looked up, batched with all the others requested while resolving
+     * the current level (or straight away and looked up lazily, if no {@link DataLoader} is registered).
+     */
+    public static CompletableFuture<BookmarkedPojo> sourceFrom(DataFetchingEnvironment dataFetchingEnvironment, Context context) {
         var sourcePojo = sourceFrom(dataFetchingEnvironment);
-        return context.bookmarkService.bookmarkFor(sourcePojo)
-                .map(bookmark -> new BookmarkedPojo(bookmark, context.bookmarkService))
-                .orElseThrow();
+        var bookmarkService = context.bookmarkService;
+        var bookmark = bookmarkService.bookmarkFor(sourcePojo).orElseThrow();
+
+        DataLoader<Bookmark, Object> dataLoader = dataFetchingEnvironment.getDataLoader(DATA_LOADER_NAME);
+        if(dataLoader == null) {
+            return CompletableFuture.completedFuture(new BookmarkedPojo(bookmark, bookmarkService));
+        }
+        Map<Bookmark, Object> targetPojoByBookmark = dataFetchingEnvironment.getGraphQlContext().get(TARGET_POJO_BY_BOOKMARK_KEY);
+        var lookedUp = targetPojoByBookmark.get(bookmark);
+        if(lookedUp != null) {
+            return CompletableFuture.completedFuture(new BookmarkedPojo(bookmark, bookmarkService, lookedUp));
+        }
+        return dataLoader.load(bookmark)
+                .thenApply(targetPojo -> new BookmarkedPojo(
+                        bookmark, bookmarkService, Optional.ofNullable(targetPojo).orElseThrow()));
+    }
+
+    /**
+     * Registers a new (request scoped) {@link DataLoader}, that batches the lookup of domain objects.
+     */
+    public static void registerDataLoader(
+            final DataLoaderRegistry dataLoaderRegistry,
+            final GraphQLContext graphQLContext,
+            final BookmarkService bookmarkService) {
+        var targetPojoByBookmark = new ConcurrentHashMap<Bookmark, Object>();
+        graphQLContext.put(TARGET_POJO_BY_BOOKMARK_KEY, targetPojoByBookmark);
+        dataLoaderRegistry.register(DATA_LOADER_NAME, DataLoaderFactory.newMappedDataLoader(
+                batchLoader(bookmarkService, targetPojoByBookmark),
+                DataLoaderOptions.newOptions().setCachingEnabled(false)));
+    }
+
+    static MappedBatchLoader<Bookmark, Object> batchLoader(
+            final BookmarkService bookmarkService,
+            final Map<Bookmark, Object> targetPojoByBookmark) {
+        return bookmarks -> {
+            var bookmarkList = List.copyOf(bookmarks);
+            var targetPojos = bookmarkService.lookupAll(bookmarkList);
+            for (int i = 0; i < bookmarkList.size(); i++) {
+                var bookmark = bookmarkList.get(i);
+                targetPojos.get(i).ifPresent(targetPojo -> targetPojoByBookmark.put(bookmark, targetPojo));
+            }
+            // missing ones are mapped to null
+            return CompletableFuture.completedFuture(targetPojoByBookmark);
+        };
+    }
+
+    /**
+     * Resolves all lookups requested so far, including those requested in turn while resolving them.
+     * <p>
+     * Fields that depend on the (side effects of the) resolution of previous fields, such as the steps of a
+     * scenario, call this before being resolved themselves.
+     */
+    public static void resolvePendingLookups(final DataFetchingEnvironment dataFetchingEnvironment) {
+        var dataLoaderRegistry = dataFetchingEnvironment.getDataLoaderRegistry();
+        if(dataLoaderRegistry == null) {
+            return;
+        }
+        while(dataLoaderRegistry.dispatchDepth() > 0) {
+            dataLoaderRegistry.dispatchAll();
+        }
     }
 
     public Object getTargetPojo() {
-        return bookmarkService.lookup(bookmark).orElseThrow();
+        var targetPojo = this.targetPojo;
+        if(targetPojo == null) {
+            // benign race, at worst looked up more than once
+            targetPojo = this.targetPojo = bookmarkService.lookup(bookmark).orElseThrow();
+        }
+        return targetPojo;
     }
 }
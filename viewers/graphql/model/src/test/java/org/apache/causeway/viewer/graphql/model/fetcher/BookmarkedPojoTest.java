@@ -0,0 +1,187 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.graphql.model.fetcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.viewer.graphql.model.context.Context;
+
+class BookmarkedPojoTest {
+
+    private final Object customer1 = new Object();
+    private final Object customer2 = new Object();
+    private final Object deletedCustomer = new Object();
+
+    private final Bookmark bookmark1 = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+    private final Bookmark bookmark2 = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "2");
+    private final Bookmark bookmark3 = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "3");
+
+    private BookmarkService bookmarkService;
+    private Context context;
+    private DataLoaderRegistry dataLoaderRegistry;
+    private GraphQLContext graphQLContext;
+
+    @BeforeEach
+    void setUp() {
+        bookmarkService = Mockito.mock(BookmarkService.class);
+        Mockito.when(bookmarkService.bookmarkFor(customer1)).thenReturn(Optional.of(bookmark1));
+        Mockito.when(bookmarkService.bookmarkFor(customer2)).thenReturn(Optional.of(bookmark2));
+        Mockito.when(bookmarkService.bookmarkFor(deletedCustomer)).thenReturn(Optional.of(bookmark3));
+
+        var customerByBookmark = Map.of(bookmark1, customer1, bookmark2, customer2);
+        Mockito.when(bookmarkService.lookup(any(Bookmark.class)))
+            .thenAnswer(invocation->Optional.ofNullable(customerByBookmark.get(invocation.getArgument(0))));
+        Mockito.when(bookmarkService.lookupAll(anyList()))
+            .thenAnswer(invocation->invocation.<List<Bookmark>>getArgument(0).stream()
+                    .map(bookmark->Optional.ofNullable(customerByBookmark.get(bookmark)))
+                    .collect(Collectors.toList()));
+
+        context = new Context(bookmarkService, null, null, null, null, null, null, null);
+        dataLoaderRegistry = new DataLoaderRegistry();
+        graphQLContext = GraphQLContext.newContext().build();
+        BookmarkedPojo.registerDataLoader(dataLoaderRegistry, graphQLContext, bookmarkService);
+    }
+
+    @Test
+    void lookups_areBatchedUsingDataLoader() {
+        var future1 = BookmarkedPojo.sourceFrom(environmentFor(customer1), context);
+        var future2 = BookmarkedPojo.sourceFrom(environmentFor(customer2), context);
+        var future1Again = BookmarkedPojo.sourceFrom(environmentFor(customer1), context);
+        assertFalse(future1.isDone());
+
+        dataLoaderRegistry.dispatchAll();
+
+        assertSame(customer1, future1.join().getTargetPojo());
+        assertSame(customer2, future2.join().getTargetPojo());
+        assertSame(customer1, future1Again.join().getTargetPojo());
+        verify(bookmarkService, times(1)).lookupAll(List.of(bookmark1, bookmark2));
+        verify(bookmarkService, never()).lookup(any(Bookmark.class));
+    }
+
+    @Test
+    void lookups_areResolvedInOrderRequested() {
+        var resolved = new ArrayList<String>();
+        BookmarkedPojo.sourceFrom(environmentFor(customer1), context).thenRun(()->resolved.add("first"));
+        BookmarkedPojo.sourceFrom(environmentFor(customer1), context).thenRun(()->resolved.add("second"));
+        BookmarkedPojo.sourceFrom(environmentFor(customer1), context).thenRun(()->resolved.add("third"));
+
+        dataLoaderRegistry.dispatchAll();
+
+        assertEquals(List.of("first", "second", "third"), resolved);
+    }
+
+    @Test
+    void alreadyLookedUp_isResolvedStraightAway() {
+        BookmarkedPojo.sourceFrom(environmentFor(customer1), context);
+        dataLoaderRegistry.dispatchAll();
+
+        var future = BookmarkedPojo.sourceFrom(environmentFor(customer1), context);
+
+        assertTrue(future.isDone());
+        assertSame(customer1, future.join().getTargetPojo());
+        verify(bookmarkService, times(1)).lookupAll(anyList());
+    }
+
+    @Test
+    void pendingLookups_areResolvedInFull() {
+        var nested = new CompletableFuture<BookmarkedPojo>();
+        BookmarkedPojo.sourceFrom(environmentFor(customer1), context)
+            .thenRun(()->BookmarkedPojo.sourceFrom(environmentFor(customer2), context)
+                    .thenAccept(nested::complete));
+
+        BookmarkedPojo.resolvePendingLookups(environmentFor(customer1));
+
+        assertSame(customer2, nested.join().getTargetPojo());
+        verify(bookmarkService, times(2)).lookupAll(anyList());
+    }
+
+    @Test
+    void missing_completesExceptionally() {
+        var future = BookmarkedPojo.sourceFrom(environmentFor(deletedCustomer), context);
+
+        dataLoaderRegistry.dispatchAll();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertThrows(CompletionException.class, future::join);
+    }
+
+    @Test
+    void withoutDataLoader_looksUpLazily_andOnlyOnce() {
+        var environment = Mockito.mock(DataFetchingEnvironment.class);
+        Mockito.doReturn(customer1).when(environment).getSource();
+
+        var future = BookmarkedPojo.sourceFrom(environment, context);
+        assertTrue(future.isDone());
+        verify(bookmarkService, never()).lookup(any(Bookmark.class));
+
+        var bookmarkedPojo = future.join();
+        assertSame(customer1, bookmarkedPojo.getTargetPojo());
+        assertSame(customer1, bookmarkedPojo.getTargetPojo());
+        verify(bookmarkService, times(1)).lookup(bookmark1);
+    }
+
+    @Test
+    void sourceFrom_unwrapsBookmarkedPojo() {
+        var bookmarkedPojo = new BookmarkedPojo(bookmark2, bookmarkService);
+        var environment = Mockito.mock(DataFetchingEnvironment.class);
+        Mockito.doReturn(bookmarkedPojo).when(environment).getSource();
+
+        assertSame(customer2, BookmarkedPojo.sourceFrom(environment));
+    }
+
+    // -- HELPER
+
+    private DataFetchingEnvironment environmentFor(final Object source) {
+        var environment = Mockito.mock(DataFetchingEnvironment.class);
+        Mockito.doReturn(source).when(environment).getSource();
+        Mockito.doReturn(dataLoaderRegistry.getDataLoader(BookmarkedPojo.DATA_LOADER_NAME))
+            .when(environment).getDataLoader(BookmarkedPojo.DATA_LOADER_NAME);
+        Mockito.doReturn(dataLoaderRegistry).when(environment).getDataLoaderRegistry();
+        Mockito.doReturn(graphQLContext).when(environment).getGraphQlContext();
+        return environment;
+    }
+
+}
@@ -34,6 +34,7 @@
     requires org.apache.causeway.core.config;
     requires org.apache.causeway.core.metamodel;
     requires org.apache.causeway.incubator.viewer.graphql.model;
+    requires org.dataloader;
     requires org.reactivestreams;
     requires reactor.core;
     requires spring.beans;
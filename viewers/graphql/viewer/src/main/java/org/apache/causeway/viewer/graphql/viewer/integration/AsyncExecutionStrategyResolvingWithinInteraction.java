@@ -20,10 +20,10 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import graphql.ExecutionResult;
 import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.ExecutionContext;
 import graphql.execution.ExecutionStrategyParameters;
-import graphql.execution.FieldValueInfo;
 
 import org.springframework.stereotype.Service;
 
@@ -31,6 +31,13 @@
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.viewer.graphql.applib.auth.UserMementoProvider;
 
+/**
+ * Executes each GraphQL operation within a single interaction (and hence a single transaction),
+ * resolving all of its fields within that same interaction.
+ * <p>
+ * The interaction is opened when executing the root of the operation only; nested objects are
+ * executed (by graphql-java) using this same strategy, but join the already open interaction.
+ */
 @Service
 public class AsyncExecutionStrategyResolvingWithinInteraction extends AsyncExecutionStrategy {
 
@@ -47,20 +54,24 @@ public AsyncExecutionStrategyResolvingWithinInteraction(
     }
 
     @Override
-    protected CompletableFuture<FieldValueInfo> resolveFieldWithInfo(
+    public CompletableFuture<ExecutionResult> execute(
             final ExecutionContext executionContext,
             final ExecutionStrategyParameters parameters) {
 
+        if(!parameters.getPath().isRootPath()) {
+            return super.execute(executionContext, parameters);
+        }
+
         var userMemento = userMementoProvider.userMemento(executionContext, parameters);
 
         if (userMemento != null) {
             return interactionService.call(
                     InteractionContext.builder().user(userMemento).build(),
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
+                    () -> super.execute(executionContext, parameters)
             );
         } else {
             return interactionService.callAnonymous(
-                    () -> super.resolveFieldWithInfo(executionContext, parameters)
+                    () -> super.execute(executionContext, parameters)
             );
         }
     }
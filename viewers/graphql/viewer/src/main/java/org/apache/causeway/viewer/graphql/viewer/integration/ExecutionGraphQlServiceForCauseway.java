@@ -28,12 +28,18 @@
 import org.springframework.graphql.execution.GraphQlSource;
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.viewer.graphql.model.fetcher.BookmarkedPojo;
+
 import lombok.RequiredArgsConstructor;
 
 import reactor.core.publisher.Mono;
 
 /**
  * Defers calling of {@link GraphQlSourceForCauseway#schema()} until after the metamodel is fully introspected.
+ * <p>
+ * Also registers the (request scoped) {@link BookmarkedPojo#registerDataLoader data loader}
+ * that batches the lookup of bookmarked domain objects.
  */
 @Service()
 @RequiredArgsConstructor(onConstructor_ = {@Inject})
@@ -41,6 +47,7 @@ public class ExecutionGraphQlServiceForCauseway implements ExecutionGraphQlServi
 
     private final BatchLoaderRegistry batchLoaderRegistry;
     private final GraphQlSource graphQlSource;
+    private final BookmarkService bookmarkService;
 
     DefaultExecutionGraphQlService delegate;
 
@@ -49,6 +56,8 @@ public Mono<ExecutionGraphQlResponse> execute(final ExecutionGraphQlRequest requ
         if(delegate == null) {
             delegate = new DefaultExecutionGraphQlService(graphQlSource);
             delegate.addDataLoaderRegistrar(batchLoaderRegistry);
+            delegate.addDataLoaderRegistrar((registry, graphQLContext) ->
+                    BookmarkedPojo.registerDataLoader(registry, graphQLContext, bookmarkService));
         }
         return delegate.execute(request);
     }
@@ -108,6 +108,8 @@ public String toString() {
 
     public static class Header<X> {
         public static final Header<String> IF_MATCH = new Header<String>("If-Match", Parser.forString());
+        public static final Header<String> IF_NONE_MATCH = new Header<String>("If-None-Match", Parser.forString());
+        public static final Header<String> RANGE = new Header<String>("Range", Parser.forString());
         public static final Header<List<MediaType>> ACCEPT = new Header<List<MediaType>>("Accept", Parser.forListOfJaxRsMediaTypes());
 
         private final String name;
@@ -125,6 +125,16 @@ public Response layout(
     })
     public Response propertyDetails(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
 
+    /**
+     * The raw content of a {@link org.apache.causeway.applib.value.Blob} or {@link org.apache.causeway.applib.value.Clob} property
+     * (the latter encoded as UTF-8), supporting single byte-range requests.
+     */
+    @GET
+    @Path("/{domainType}/{instanceId}/properties/{propertyId}/attachment")
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.WILDCARD })
+    public Response propertyAttachment(@PathParam("domainType") String domainType, @PathParam("instanceId") final String instanceId, @PathParam("propertyId") final String propertyId);
+
     @PUT
     @Path("/{domainType}/{instanceId}/properties/{propertyId}")
     @Consumes({ MediaType.WILDCARD })
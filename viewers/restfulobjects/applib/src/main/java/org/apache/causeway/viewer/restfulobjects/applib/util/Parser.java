@@ -180,6 +180,16 @@ public String asString(final Boolean t) {
     public static Parser<Integer> forInteger() {
         return new Parser<Integer>() {
 
+            @Override
+            public Integer valueOf(final JsonRepresentation jsonRepresentation) {
+                // simple query args are already parsed as numbers
+                if (jsonRepresentation != null
+                        && jsonRepresentation.isInt()) {
+                    return jsonRepresentation.asInt();
+                }
+                return super.valueOf(jsonRepresentation);
+            }
+
             @Override
             public Integer valueOf(final String str) {
                 if (str == null) {
@@ -364,12 +374,12 @@ public static Parser<String> forETag() {
 
             @Override
             public String valueOf(final String str) {
-                return null;
+                return str;
             }
 
             @Override
             public String asString(final String t) {
-                return null;
+                return t;
             }};
     }
 
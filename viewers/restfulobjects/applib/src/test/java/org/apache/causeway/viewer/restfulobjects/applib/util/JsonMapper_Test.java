@@ -0,0 +1,58 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.applib.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+class JsonMapper_Test {
+
+    @Test
+    void writeToOutputStream_isSameAsWriteToString() throws Exception {
+        var representation = JsonRepresentation.newMap("title", "Fred Smith é");
+        representation.mapPutJsonRepresentation("links", JsonRepresentation.newArray());
+
+        for(var prettyPrinting : JsonMapper.PrettyPrinting.values()) {
+            var jsonMapper = JsonMapper.instance(prettyPrinting);
+            var outputStream = new ClosingAwareOutputStream();
+            jsonMapper.write(representation, outputStream);
+
+            assertEquals(jsonMapper.write(representation), outputStream.toString(StandardCharsets.UTF_8));
+            assertFalse(outputStream.closed);
+        }
+    }
+
+    // -- HELPER
+
+    private static class ClosingAwareOutputStream extends ByteArrayOutputStream {
+        boolean closed;
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+}
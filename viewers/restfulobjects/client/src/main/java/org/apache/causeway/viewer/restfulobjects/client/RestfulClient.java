@@ -19,8 +19,21 @@
 package org.apache.causeway.viewer.restfulobjects.client;
 
 import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import javax.ws.rs.client.Client;
@@ -41,6 +54,7 @@
 import org.apache.causeway.viewer.restfulobjects.client.log.ClientConversationLogger;
 
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -93,6 +107,7 @@ public class RestfulClient implements AutoCloseable {
     private final RestfulClientConfig clientConfig;
     private final AuthorizationHeaderFactory authorizationHeaderFactory;
     private final Client client;
+    private final ExecutorService asyncExecutor;
 
     /**
      * @param clientConfig - used to derive authorization (either BASIC or OAUTH)
@@ -133,7 +148,11 @@ private RestfulClient(
         this.clientConfig = clientConfig;
         this.authorizationHeaderFactory = authorizationHeaderFactory;
 
-        final ClientBuilder clientBuilder = configRefiner.apply(ClientBuilder.newBuilder());
+        this.asyncExecutor = new LazyExecutorService(Math.max(1, clientConfig.getMaxConcurrentRequests()));
+
+        final ClientBuilder clientBuilder = configRefiner.apply(
+                ClientBuilder.newBuilder()
+                .executorService(asyncExecutor));
         this.client = clientBuilder.build();
 
         registerDefaultJsonProvider();
@@ -149,8 +168,13 @@ public Client getJaxRsClient() {
         return client;
     }
 
+    /**
+     * Shuts down the thread pool used for asynchronous requests (if it was created at all),
+     * cancelling any of those still pending, then closes the underlying JAX-RS {@link Client}.
+     */
     @Override
     public void close() {
+        asyncExecutor.shutdownNow();
         if (client == null) {
             return;
         }
@@ -203,6 +227,53 @@ public <T> Try<T> digestValue(final Response response, final ValueSemanticsProvi
                 .mapSuccessAsNullable(valDecomposition->valSemantics.compose(valDecomposition));
     }
 
+    // -- ASYNC RESPONSE PROCESSING
+
+    /**
+     * Asynchronous variant of {@link #digest(Response, Class)}, for example:
+     * <blockquote><pre>{@code
+CompletionStage<Try<MyObject>> digest = client.digestAsync(
+    client.request("services/myService/actions/lookupMyObjectById/invoke").rx().post(args),
+    MyObject.class);
+}</pre></blockquote>
+     * A failure of the request itself (eg. a connection timeout) is digested as a failure as well.
+     */
+    public <T> CompletionStage<Try<T>> digestAsync(final CompletionStage<Response> responseStage, final Class<T> entityType) {
+        return responseStage.handle((response, failure)->digestOrFailure(response, failure, entityType));
+    }
+
+    /**
+     * Pipelines the requests for given {@code elements}, with at most
+     * {@link RestfulClientConfig#getMaxConcurrentRequests()} of those in flight at any time,
+     * and digests their responses as they arrive (that is, in order of completion).
+     * <p>
+     * For example:
+     * <blockquote><pre>{@code
+client.batchInvoke(
+        ids,
+        id->client.request("services/myService/actions/lookupMyObjectById/invoke")
+                .rx()
+                .post(client.arguments().addActionParameter("id", id).build()),
+        MyObject.class,
+        (id, digest)->...)
+    .toCompletableFuture()
+    .join();
+}</pre></blockquote>
+     *
+     * @param invoker - issues the asynchronous request for an element
+     * @param onDigest - called with each element and the digest of its response;
+     *      calls may come from different threads, but are never concurrent
+     * @return completes once all responses have been digested, or exceptionally if {@code onDigest} throws
+     */
+    public <E, T> CompletionStage<Void> batchInvoke(
+            final @NonNull Iterable<E> elements,
+            final @NonNull Function<E, CompletionStage<Response>> invoker,
+            final @NonNull Class<T> entityType,
+            final @NonNull BiConsumer<E, Try<T>> onDigest) {
+        return new BatchInvocation<>(elements.iterator(), invoker, entityType, onDigest)
+                .start(Math.max(1, clientConfig.getMaxConcurrentRequests()));
+    }
+
     // -- UTILITY
 
     /**
@@ -239,6 +310,183 @@ private void registerConversationFilters() {
         .forEach(client::register);
     }
 
+    // -- HELPER ASYNC
+
+    private <T> Try<T> digestOrFailure(final Response response, final Throwable failure, final Class<T> entityType) {
+        if(failure!=null) {
+            return Try.failure(failure instanceof CompletionException
+                    && failure.getCause()!=null
+                        ? failure.getCause()
+                        : failure);
+        }
+        return digest(response, entityType);
+    }
+
+    private static ThreadFactory newAsyncThreadFactory() {
+        var threadCount = new AtomicInteger();
+        return runnable->{
+            var thread = new Thread(runnable, "RestfulClient-async-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Runs up to {@code concurrency} lanes, each of which invokes the next pending element,
+     * once the response of its previous one has been digested.
+     */
+    @RequiredArgsConstructor
+    private final class BatchInvocation<E, T> {
+
+        private final Iterator<E> elements;
+        private final Function<E, CompletionStage<Response>> invoker;
+        private final Class<T> entityType;
+        private final BiConsumer<E, Try<T>> onDigest;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private int lanesRunning; // guarded by elements
+
+        CompletionStage<Void> start(final int concurrency) {
+            synchronized(elements) {
+                lanesRunning = concurrency;
+            }
+            for(int i = 0; i < concurrency; i++) {
+                runLane();
+            }
+            return done;
+        }
+
+        /**
+         * Any unexpected failure (eg. thrown by the elements' iterator) completes the entire invocation
+         * exceptionally, rather than silently ending the lane and leaving {@link #done} incomplete.
+         */
+        private void runLane() {
+            try {
+                // loops rather than recurses, for as long as responses are available immediately
+                while(!done.isDone()) {
+                    final E element;
+                    synchronized(elements) {
+                        if(!elements.hasNext()) {
+                            if(--lanesRunning==0) {
+                                done.complete(null);
+                            }
+                            return;
+                        }
+                        element = elements.next();
+                    }
+                    var responseFuture = invoke(element);
+                    if(!responseFuture.isDone()) {
+                        responseFuture.whenComplete((response, failure)->{
+                            try {
+                                digest(element, response, failure);
+                                runLane();
+                            } catch (Throwable e) {
+                                done.completeExceptionally(e);
+                            }
+                        });
+                        return;
+                    }
+                    responseFuture.whenComplete((response, failure)->{
+                        try {
+                            digest(element, response, failure);
+                        } catch (Throwable e) {
+                            done.completeExceptionally(e);
+                        }
+                    });
+                }
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        }
+
+        private CompletableFuture<Response> invoke(final E element) {
+            try {
+                return invoker.apply(element).toCompletableFuture();
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private void digest(final E element, final Response response, final Throwable failure) {
+            var digest = digestOrFailure(response, failure, entityType);
+            synchronized(onDigest) {
+                try {
+                    onDigest.accept(element, digest);
+                } catch (Throwable e) {
+                    done.completeExceptionally(e);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Creates the underlying thread pool on first use only,
+     * that is, not at all for clients that never issue asynchronous requests.
+     */
+    @RequiredArgsConstructor
+    private static final class LazyExecutorService extends AbstractExecutorService {
+
+        private final int poolSize;
+        private ExecutorService delegate; // guarded by this
+        private boolean shutdown; // guarded by this
+
+        @Override
+        public void execute(final Runnable command) {
+            delegate().execute(command);
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+            if(delegate!=null) {
+                delegate.shutdown();
+            }
+        }
+
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            shutdown = true;
+            return delegate!=null
+                    ? delegate.shutdownNow()
+                    : List.of();
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown
+                    && (delegate==null
+                        || delegate.isTerminated());
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            final ExecutorService delegate;
+            synchronized(this) {
+                if(this.delegate==null) {
+                    return shutdown;
+                }
+                delegate = this.delegate;
+            }
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        private synchronized ExecutorService delegate() {
+            if(shutdown) {
+                throw new RejectedExecutionException("RestfulClient was closed");
+            }
+            if(delegate==null) {
+                delegate = Executors.newFixedThreadPool(poolSize, newAsyncThreadFactory());
+            }
+            return delegate;
+        }
+
+    }
+
     // -- HELPER OTHER
 
     private UriBuilder relativePathToUri(String path) {
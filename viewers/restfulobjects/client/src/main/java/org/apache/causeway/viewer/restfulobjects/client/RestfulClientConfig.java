@@ -116,6 +116,23 @@ public class RestfulClientConfig {
     @Builder.Default
     private long readTimeoutInMillis = 0L;
 
+    /**
+     * Set the maximum number of asynchronous requests in flight.
+     * <p>
+     * This is the number of threads the JAX-RS client uses for asynchronous invocations
+     * (eg. via {@link javax.ws.rs.client.Invocation.Builder#rx()}),
+     * and the concurrency of {@link RestfulClient#batchInvoke}.
+     * The size of the connection pool (if any) is specific to the JAX-RS implementation in use
+     * and should be at least this value; it can be configured by means of a {@code configRefiner},
+     * as passed in to {@link RestfulClient#ofConfig(RestfulClientConfig, java.util.function.UnaryOperator)}.
+     * <p>
+     * The default value is 8.
+     * @see javax.ws.rs.client.ClientBuilder#executorService(java.util.concurrent.ExecutorService)
+     */
+    @XmlElement(name="maxConcurrentRequests")
+    @Builder.Default
+    private int maxConcurrentRequests = 8;
+
     @XmlTransient
     @Builder.Default
     private final List<ClientConversationFilter> clientConversationFilters = new ArrayList<>();
@@ -0,0 +1,250 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.functional.Try;
+
+class RestfulClient_batchInvoke_Test {
+
+    private static final int LATENCY_MILLIS = 50;
+    private static final int REQUEST_COUNT = 24;
+    private static final int AWAIT_IN_FLIGHT_TIMEOUT_MILLIS = 5_000;
+
+    private ServerSocket serverSocket;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int inFlightToAwait = 1;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        serverExecutor.execute(this::acceptConnections);
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        serverSocket.close();
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void digestsAllResponses_withBoundedConcurrency() {
+        var digests = batchInvoke(4, IntStream.range(0, REQUEST_COUNT).boxed().collect(Collectors.toList()));
+
+        assertEquals(REQUEST_COUNT, digests.size());
+        digests.forEach(digest->assertTrue(digest.isSuccess()));
+        assertTrue(maxInFlight.get() <= 4, ()->"max in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    void requestsInFlight_reachConfiguredConcurrency() {
+        var elements = IntStream.range(0, REQUEST_COUNT).boxed().collect(Collectors.toList());
+
+        batchInvoke(1, elements);
+        assertEquals(1, maxInFlight.get());
+
+        // the server holds back its responses until 8 requests are in flight (or a timeout elapses)
+        maxInFlight.set(0);
+        inFlightToAwait = 8;
+        batchInvoke(8, elements);
+        assertEquals(8, maxInFlight.get());
+    }
+
+    @Test
+    void failingIterator_completesExceptionally() {
+        Iterable<Integer> elements = ()->new Iterator<Integer>() {
+            int next = 0;
+            @Override public boolean hasNext() {
+                return true;
+            }
+            @Override public Integer next() {
+                if(next==3) {
+                    throw new IllegalStateException("broken iterator");
+                }
+                return next++;
+            }
+        };
+        try(var client = newClient(serverSocket.getLocalPort(), 2)) {
+            var done = client.batchInvoke(
+                    elements,
+                    i->client.request("echo/" + i).rx().get(),
+                    String.class,
+                    (i, digest)->{})
+                .toCompletableFuture()
+                // rather than hanging forever
+                .orTimeout(10, TimeUnit.SECONDS);
+            var ex = assertThrows(CompletionException.class, done::join);
+            assertTrue(ex.getCause() instanceof IllegalStateException, ()->"cause: " + ex.getCause());
+        }
+    }
+
+    @Test
+    void failingDigestConsumer_completesExceptionally() {
+        try(var client = newClient(serverSocket.getLocalPort(), 2)) {
+            var done = client.batchInvoke(
+                    List.of(1, 2, 3),
+                    i->client.request("echo/" + i).rx().get(),
+                    String.class,
+                    (i, digest)->{ throw new IllegalStateException("failing consumer"); })
+                .toCompletableFuture();
+            var ex = assertThrows(CompletionException.class, done::join);
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    void failedRequests_areDigestedAsFailures() throws IOException {
+        var unusedPort = unusedPort();
+        var digests = new ArrayList<Try<String>>();
+        try(var client = newClient(unusedPort, 2)) {
+            client.batchInvoke(
+                    List.of(1, 2, 3),
+                    i->client.request("echo/" + i).rx().get(),
+                    String.class,
+                    (i, digest)->digests.add(digest))
+            .toCompletableFuture()
+            .join();
+        }
+        assertEquals(3, digests.size());
+        digests.forEach(digest->assertTrue(digest.isFailure()));
+    }
+
+    // -- HELPER
+
+    private List<Try<String>> batchInvoke(final int maxConcurrentRequests, final List<Integer> elements) {
+        var digests = new ArrayList<Try<String>>();
+        try(var client = newClient(serverSocket.getLocalPort(), maxConcurrentRequests)) {
+            client.batchInvoke(
+                    elements,
+                    i->client.request("echo/" + i).rx().get(),
+                    String.class,
+                    (i, digest)->digests.add(digest))
+            .toCompletableFuture()
+            .join();
+        }
+        return digests;
+    }
+
+    private RestfulClient newClient(final int port, final int maxConcurrentRequests) {
+        return RestfulClient.ofConfig(RestfulClientConfig.builder()
+                .restfulBaseUrl(String.format("http://127.0.0.1:%d/restful/", port))
+                .authenticationMode(AuthenticationMode.BASIC)
+                .basicAuthUser("sven")
+                .basicAuthPassword("pass")
+                .maxConcurrentRequests(maxConcurrentRequests)
+                .build());
+    }
+
+    private static int unusedPort() throws IOException {
+        try(var socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    // -- MINIMAL HTTP SERVER
+
+    private void acceptConnections() {
+        while(!serverSocket.isClosed()) {
+            try {
+                var socket = serverSocket.accept();
+                serverExecutor.execute(()->serveConnection(socket));
+            } catch (IOException e) {
+                return; // closed
+            }
+        }
+    }
+
+    /**
+     * Serves GET requests of a (keep-alive) connection:
+     * <code>/restful/echo/*</code> with a fixed latency, anything else with 404.
+     */
+    private void serveConnection(final Socket socket) {
+        try(socket;
+            var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            var out = socket.getOutputStream()) {
+            String requestLine;
+            while((requestLine = in.readLine())!=null) {
+                String headerLine;
+                while((headerLine = in.readLine())!=null
+                        && !headerLine.isEmpty()) {
+                    // ignore request headers
+                }
+                var path = requestLine.split(" ")[1];
+                var response = path.startsWith("/restful/echo/")
+                        ? echo()
+                        : "HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\n\r\n";
+                out.write(response.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // connection closed by client
+        }
+    }
+
+    private String echo() {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            var deadline = System.currentTimeMillis() + AWAIT_IN_FLIGHT_TIMEOUT_MILLIS;
+            while(maxInFlight.get() < inFlightToAwait
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        var body = "{\"type\":\"string\",\"value\":\"ok\"}";
+        return "HTTP/1.1 200 OK\r\n"
+                + "Content-Type: application/json;profile=\"urn:org.apache.causeway/v2\";repr-type=\"value\"\r\n"
+                + "Content-Length: " + body.length() + "\r\n"
+                + "\r\n"
+                + body;
+    }
+
+}
@@ -74,6 +74,13 @@ public interface IResourceContext extends HasMetaModelContext {
     List<List<String>> getFollowLinks();
     boolean isValidateOnly();
 
+    /**
+     * Server-side paging of lists and collections, if requested by the client.
+     */
+    default Optional<Paging> getPaging() {
+        return Optional.empty();
+    }
+
     default Restfulobjects config() {
         return getMetaModelContext().getConfiguration().getViewer().getRestfulobjects();
     }
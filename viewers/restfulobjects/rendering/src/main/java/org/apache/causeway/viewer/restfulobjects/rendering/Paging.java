@@ -0,0 +1,142 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.query.PageableList;
+import org.apache.causeway.applib.query.QueryRange;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Server-side paging of list and collection representations, as requested by a client via the
+ * {@link RequestParameter#PAGE x-ro-page} and {@link RequestParameter#PAGE_SIZE x-ro-page-size}
+ * query parameters.
+ * <p>
+ * Only collections, whose getter returns a {@link PageableList}, have their page fetched and counted
+ * at the source (the repository). Any other collection or (list) action result is produced in full
+ * by domain code, and paged before rendering, which bounds the size of the response only.
+ *
+ * @since 2.0 {@index}
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Paging {
+
+    /**
+     * 1-based
+     */
+    int page;
+    int pageSize;
+
+    public static Paging of(final int page, final int pageSize) {
+        if(page < 1) {
+            throw new IllegalArgumentException(
+                    String.format("%s must be at least 1, got %d", RequestParameter.PAGE.getName(), page));
+        }
+        if(pageSize < 1) {
+            throw new IllegalArgumentException(
+                    String.format("%s must be at least 1, got %d", RequestParameter.PAGE_SIZE.getName(), pageSize));
+        }
+        return new Paging(page, pageSize);
+    }
+
+    /**
+     * Only if at least one of the paging parameters is present, to not change the representations
+     * of clients not asking for paging; missing ones are defaulted.
+     */
+    public static Optional<Paging> parse(final @Nullable JsonRepresentation queryStringAsMap) {
+        if(queryStringAsMap==null
+                || !queryStringAsMap.isMap()
+                || !(queryStringAsMap.mapHas(RequestParameter.PAGE.getName())
+                        || queryStringAsMap.mapHas(RequestParameter.PAGE_SIZE.getName()))) {
+            return Optional.empty();
+        }
+        return Optional.of(of(
+                RequestParameter.PAGE.valueOf(queryStringAsMap),
+                RequestParameter.PAGE_SIZE.valueOf(queryStringAsMap)));
+    }
+
+    public long getOffset() {
+        return (long)(page - 1) * pageSize;
+    }
+
+    /**
+     * This page as {@link QueryRange}, to be pushed down into a repository query.
+     */
+    public QueryRange asQueryRange() {
+        return QueryRange.of(getOffset(), pageSize);
+    }
+
+    public int numPages(final int totalCount) {
+        return Math.max(1, (totalCount + pageSize - 1) / pageSize);
+    }
+
+    public boolean hasPrevious() {
+        return page > 1;
+    }
+
+    public boolean hasNext(final int totalCount) {
+        return getOffset() + pageSize < totalCount;
+    }
+
+    /**
+     * The elements of this page, as a view of the given list.
+     */
+    public <T> List<T> pageOf(final @NonNull List<T> elements) {
+        var from = (int) Math.min(getOffset(), elements.size());
+        var to = (int) Math.min(getOffset() + pageSize, elements.size());
+        return elements.subList(from, to);
+    }
+
+    /**
+     * The <code>pagination</code> representation, as per the RO spec.
+     */
+    public JsonRepresentation asJsonRepresentation(final int totalCount) {
+        var pagination = JsonRepresentation.newMap();
+        pagination.mapPutInt("page", page);
+        pagination.mapPutInt("pageSize", pageSize);
+        pagination.mapPutInt("numPages", numPages(totalCount));
+        pagination.mapPutInt("totalCount", totalCount);
+        return pagination;
+    }
+
+    /**
+     * Link arguments to request given page, on top of any other arguments.
+     */
+    public JsonRepresentation argumentsForPage(final int page, final @Nullable JsonRepresentation otherArguments) {
+        var arguments = otherArguments!=null
+                && otherArguments.isMap()
+                ? new JsonRepresentation(otherArguments.asJsonNode().deepCopy())
+                : JsonRepresentation.newMap();
+        arguments.mapPutInt(RequestParameter.PAGE.getName(), page);
+        arguments.mapPutInt(RequestParameter.PAGE_SIZE.getName(), pageSize);
+        return arguments;
+    }
+
+}
@@ -35,6 +35,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.DomainObjectReprRenderer;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.DomainTypeReprRenderer;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueEncoderService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.StreamingJsonArray;
 
 import lombok.Getter;
 
@@ -78,6 +79,15 @@ protected InteractionInitiatedBy getInteractionInitiatedBy() {
         return interactionInitiatedBy;
     }
 
+    /**
+     * Whether the representation is written directly to the response's output stream,
+     * in which case arrays of (potentially many) elements are rendered only once written,
+     * using a {@link StreamingJsonArray}.
+     */
+    protected boolean isStreamingOutput() {
+        return resourceContext.config().isStreamingOutput();
+    }
+
     public LinkFollowSpecs getLinkFollowSpecs() {
         return linkFollower;
     }
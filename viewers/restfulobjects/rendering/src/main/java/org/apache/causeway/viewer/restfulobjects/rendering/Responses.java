@@ -79,11 +79,18 @@ public static Response.ResponseBuilder ofOk(
                 .header("Date", dateFormat.format(now))
                 .type(mediaType)
                 .cacheControl(caching.getCacheControl())
-                .entity(JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
+                .entity(isStreamingOutput(renderer)
+                        ? JsonWriterUtil.streamingJsonFor(entityRepresentation, inferPrettyPrinting(renderer))
+                        : JsonWriterUtil.jsonFor(entityRepresentation, inferPrettyPrinting(renderer)));
 
         return response;
     }
 
+    private static boolean isStreamingOutput(final ReprRenderer<?> renderer) {
+        return renderer instanceof ReprRendererAbstract
+                && ((ReprRendererAbstract<?>) renderer).isStreamingOutput();
+    }
+
     private static Date now(final ReprRenderer<?> renderer) {
         if(renderer instanceof ReprRendererAbstract) {
             ((ReprRendererAbstract<?>)renderer).getResourceContext().getMetaModelContext().getServiceRegistry()
@@ -35,6 +35,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
 
 public class ActionResultReprRenderer
@@ -128,6 +129,10 @@ private void addResultTo(
         if(renderer != null) {
             renderer.render();
         }
+        if(renderer instanceof ListReprRenderer) {
+            resourceContext.getPaging()
+            .ifPresent(paging->addLinksToAdjacentPages(paging, ((ListReprRenderer) renderer).getTotalCount()));
+        }
     }
 
     private ReprRendererAbstract<?> buildResultRenderer(
@@ -147,7 +152,8 @@ private ReprRendererAbstract<?> buildResultRenderer(
                     new ListReprRenderer(resourceContext, null, representation).withElementRel(Rel.ELEMENT);
             listReprRenderer.with(collectionAdapters)
             .withReturnType(action.getReturnType())
-            .withElementType(returnedAdapter.getElementSpecification().orElse(null));
+            .withElementType(returnedAdapter.getElementSpecification().orElse(null))
+            .withPaging(resourceContext.getPaging().orElse(null));
 
             return listReprRenderer;
 
@@ -194,13 +200,7 @@ private void representationWithSelfFor(final ObjectAction action, final JsonRepr
 
         final LinkBuilder selfLinkBuilder = adapterLinkTo.memberBuilder(Rel.SELF, MemberType.ACTION, action, RepresentationType.ACTION_RESULT, "invoke");
 
-        // TODO: remove duplication with AbstractObjectMember#addLinkTo
-        final MemberType memberType = MemberType.of(action);
-        final Map<String, MutatorSpec> mutators = memberType.getMutators();
-
-        final String mutator = InvokeKeys.getKeyFor(action.getSemantics());
-        final MutatorSpec mutatorSpec = mutators.get(mutator);
-        selfLinkBuilder.withHttpMethod(mutatorSpec.httpMethod);
+        selfLinkBuilder.withHttpMethod(invokeHttpMethod());
 
         final JsonRepresentation selfLink = selfLinkBuilder.build();
 
@@ -214,4 +214,36 @@ private void representationWithSelfFor(final ObjectAction action, final JsonRepr
 
     }
 
+    private RestfulHttpMethod invokeHttpMethod() {
+        // TODO: remove duplication with AbstractObjectMember#addLinkTo
+        final MemberType memberType = MemberType.of(action);
+        final Map<String, MutatorSpec> mutators = memberType.getMutators();
+
+        final String mutator = InvokeKeys.getKeyFor(action.getSemantics());
+        final MutatorSpec mutatorSpec = mutators.get(mutator);
+        return mutatorSpec.httpMethod;
+    }
+
+    /**
+     * Links to re-invoke the action, requesting the previous and next page of its (list) result.
+     */
+    private void addLinksToAdjacentPages(final Paging paging, final int totalCount) {
+        if(selfLink == SelfLink.EXCLUDED) {
+            return;
+        }
+        if(paging.hasPrevious()) {
+            getLinks().arrayAdd(linkToPage(Rel.PREVIOUS, paging, paging.getPage() - 1));
+        }
+        if(paging.hasNext(totalCount)) {
+            getLinks().arrayAdd(linkToPage(Rel.NEXT, paging, paging.getPage() + 1));
+        }
+    }
+
+    private JsonRepresentation linkToPage(final Rel rel, final Paging paging, final int page) {
+        return adapterLinkTo.memberBuilder(rel, MemberType.ACTION, action, RepresentationType.ACTION_RESULT, "invoke")
+                .withHttpMethod(invokeHttpMethod())
+                .withArguments(paging.argumentsForPage(page, arguments))
+                .build();
+    }
+
 }
@@ -22,6 +22,8 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.lang.Nullable;
+
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
@@ -29,7 +31,9 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.StreamingJsonArray;
 
 public class ListReprRenderer
 extends ReprRendererAbstract<Stream<ManagedObject>> {
@@ -39,6 +43,7 @@
     private ObjectSpecification elementType;
     private ObjectSpecification returnType;
     private Rel elementRel;
+    private Paging paging;
 
     public ListReprRenderer(
             final IResourceContext resourceContext,
@@ -78,6 +83,26 @@ public ListReprRenderer withElementType(final ObjectSpecification elementType) {
         return this;
     }
 
+    /**
+     * Renders only the requested page of elements, along with a <code>pagination</code> summary.
+     * <p>
+     * The elements have been produced in full (by domain code) already,
+     * so this bounds the size of the representation only.
+     */
+    public ListReprRenderer withPaging(final @Nullable Paging paging) {
+        this.paging = paging;
+        return this;
+    }
+
+    /**
+     * Number of (visible) elements, irrespective of paging.
+     */
+    public int getTotalCount() {
+        return objectAdapters!=null
+                ? objectAdapters.size()
+                : 0;
+    }
+
     @Override
     public JsonRepresentation render() {
 
@@ -100,26 +125,36 @@ private void addValue() {
             return;
         }
 
-        final JsonRepresentation values = JsonRepresentation.newArray();
-
-        objectAdapters
-        .forEach(adapter->{
-            final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
-            values.arrayAdd(linkToObject);
-
-            final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
-            if (linkFollower.matches(linkToObject)) {
-                final DomainObjectReprRenderer renderer =
-                        new DomainObjectReprRenderer(
-                                getResourceContext(),
-                                linkFollower,
-                                JsonRepresentation.newMap());
-                final JsonRepresentation domainObject = renderer.with(adapter).render();
-                linkToObject.mapPutJsonRepresentation("value", domainObject);
-            }
-        });
-
-        representation.mapPutJsonRepresentation("value", values);
+        final List<ManagedObject> pageOfAdapters = paging!=null
+                ? paging.pageOf(objectAdapters)
+                : objectAdapters;
+
+        if(isStreamingOutput()) {
+            representation.mapPut("value", StreamingJsonArray.of(pageOfAdapters, this::renderElement));
+        } else {
+            final JsonRepresentation values = JsonRepresentation.newArray();
+            pageOfAdapters.forEach(adapter->values.arrayAdd(renderElement(adapter)));
+            representation.mapPutJsonRepresentation("value", values);
+        }
+        if(paging!=null) {
+            representation.mapPutJsonRepresentation("pagination", paging.asJsonRepresentation(getTotalCount()));
+        }
+    }
+
+    private JsonRepresentation renderElement(final ManagedObject adapter) {
+        final JsonRepresentation linkToObject = linkTo.with(adapter).builder(elementRel).build();
+
+        final LinkFollowSpecs linkFollower = getLinkFollowSpecs().follow("value");
+        if (linkFollower.matches(linkToObject)) {
+            final DomainObjectReprRenderer renderer =
+                    new DomainObjectReprRenderer(
+                            getResourceContext(),
+                            linkFollower,
+                            JsonRepresentation.newMap());
+            final JsonRepresentation domainObject = renderer.with(adapter).render();
+            linkToObject.mapPutJsonRepresentation("value", domainObject);
+        }
+        return linkToObject;
     }
 
     protected void addLinkToReturnType() {
@@ -19,11 +19,14 @@
 package org.apache.causeway.viewer.restfulobjects.rendering.domainobjects;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -33,7 +36,9 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkBuilder;
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.CollectionDescriptionReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.StreamingJsonArray;
 
 public class ObjectCollectionReprRenderer
 extends AbstractObjectMemberReprRenderer<OneToManyAssociation> {
@@ -89,21 +94,52 @@ public JsonRepresentation render() {
     // ///////////////////////////////////////////////////
 
     private void addValue(final LinkFollowSpecs linkFollower) {
+        final Paging paging = mode.isEventSerialization()
+                ? null
+                : resourceContext.getPaging().orElse(null);
+
+        if(paging!=null) {
+            ManagedCollection.of(objectAdapter, objectMember, where)
+            .getPageableListOrElements()
+            .accept(
+                    pageableList->{
+                        // fetch and count just the requested page at the source (the repository)
+                        var objectManager = objectMember.getElementType().getObjectManager();
+                        var pageOfAdapters = pageableList.page(paging.asQueryRange()).stream()
+                                .map(objectManager::adapt)
+                                .collect(Collectors.toList());
+                        addValue(linkFollower, pageOfAdapters, true);
+                        addPagination(paging, pageableList.size());
+                    },
+                    elementAdapters->{
+                        addValue(linkFollower, paging.pageOf(elementAdapters.toList()), true);
+                        addPagination(paging, elementAdapters.size());
+                    });
+            return;
+        }
+
         var valueAdapter = objectMember.get(objectAdapter, getInteractionInitiatedBy());
         if (valueAdapter == null) {
             return;
         }
 
+        addValue(linkFollower,
+                CollectionFacet.streamAdapters(valueAdapter).collect(Collectors.toList()),
+                resourceContext.canEagerlyRender(valueAdapter));
+    }
+
+    private void addValue(
+            final LinkFollowSpecs linkFollower,
+            final List<ManagedObject> elementAdapters,
+            final boolean canEagerlyRender) {
+
         final LinkFollowSpecs followHref = linkFollower.follow("href");
         final boolean eagerlyRender = !followHref.isTerminated()
                 || (resourceContext.config().isHonorUiHints()
                         && Facets.defaultViewIsTable(objectMember)
-                        && resourceContext.canEagerlyRender(valueAdapter));
-
-        final List<JsonRepresentation> list = _Lists.newArrayList();
+                        && canEagerlyRender);
 
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
+        final Function<ManagedObject, JsonRepresentation> elementRenderer = elementAdapter->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
                     .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
             if(eagerlyRender) {
@@ -116,13 +152,37 @@ private void addValue(final LinkFollowSpecs linkFollower) {
 
                 valueLinkBuilder.withValue(domainObjectReprRenderer.render());
             }
+            return valueLinkBuilder.build();
+        };
+
+        if(isStreamingOutput()
+                && !mode.isEventSerialization()) {
+            representation.mapPut("value", StreamingJsonArray.of(elementAdapters, elementRenderer));
+            return;
+        }
 
-            list.add(valueLinkBuilder.build());
-        });
+        final List<JsonRepresentation> list = _Lists.newArrayList();
+        elementAdapters.forEach(elementAdapter->list.add(elementRenderer.apply(elementAdapter)));
 
         representation.mapPut("value", list);
     }
 
+    private void addPagination(final Paging paging, final int totalCount) {
+        representation.mapPutJsonRepresentation("pagination", paging.asJsonRepresentation(totalCount));
+        if(paging.hasPrevious()) {
+            getLinks().arrayAdd(linkToPage(Rel.PREVIOUS, paging, paging.getPage() - 1));
+        }
+        if(paging.hasNext(totalCount)) {
+            getLinks().arrayAdd(linkToPage(Rel.NEXT, paging, paging.getPage() + 1));
+        }
+    }
+
+    private JsonRepresentation linkToPage(final Rel rel, final Paging paging, final int page) {
+        return linkTo.memberBuilder(rel, objectMemberType, objectMember)
+                .withArguments(paging.argumentsForPage(page, null))
+                .build();
+    }
+
     // ///////////////////////////////////////////////////
     // details link
     // ///////////////////////////////////////////////////
@@ -18,6 +18,8 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.util;
 
+import javax.ws.rs.core.StreamingOutput;
+
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
@@ -35,6 +37,17 @@ public String jsonFor(final Object object, final JsonMapper.PrettyPrinting prett
         return JsonMapper.instance(prettyPrinting).write(object);
     }
 
+    /**
+     * Defers writing the JSON until the response is committed, writing directly to the response's
+     * {@link java.io.OutputStream}.
+     * <p>
+     * The object is typically a {@link org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation},
+     * whose elements of lists and collections are rendered only while being written (see {@link StreamingJsonArray}).
+     */
+    public StreamingOutput streamingJsonFor(final Object object, final JsonMapper.PrettyPrinting prettyPrinting) {
+        return outputStream->JsonMapper.instance(prettyPrinting).write(object, outputStream);
+    }
+
     public String jsonFor(final Object object, @Nullable final CausewaySystemEnvironment systemEnvironment) {
         var prettyPrinting = (systemEnvironment!=null && systemEnvironment.isPrototyping())
                 ? JsonMapper.PrettyPrinting.ENABLE
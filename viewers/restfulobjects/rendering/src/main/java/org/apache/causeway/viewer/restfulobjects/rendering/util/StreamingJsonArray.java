@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.util;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A JSON array, whose elements are rendered only once the array is written,
+ * one at a time, each directly to the {@link JsonGenerator}.
+ * <p>
+ * Put into a {@link JsonRepresentation} (via {@link JsonRepresentation#mapPut(String, Object)}),
+ * such that at most one element's representation is held in memory while writing,
+ * and the elements preceding it are already on their way to the client.
+ * Hence must be written within the interaction it was created in.
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects#isStreamingOutput()
+ */
+@RequiredArgsConstructor(staticName = "of")
+public final class StreamingJsonArray<T> implements JsonSerializable {
+
+    private final @NonNull Iterable<T> elements;
+    private final @NonNull Function<T, JsonRepresentation> elementRenderer;
+
+    @Override
+    public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+        gen.writeStartArray();
+        for(var element : elements) {
+            serializers.defaultSerializeValue(elementRenderer.apply(element), gen);
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(
+            final JsonGenerator gen,
+            final SerializerProvider serializers,
+            final TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+class PagingTest {
+
+    private final List<Integer> elements = IntStream.rangeClosed(1, 7).boxed().collect(Collectors.toList());
+
+    @Test
+    void absentParameters_meanNoPaging() {
+        assertFalse(Paging.parse(null).isPresent());
+        assertFalse(Paging.parse(JsonRepresentation.newMap("x-ro-follow-links", "value")).isPresent());
+    }
+
+    @Test
+    void missingParameter_isDefaulted() {
+        var paging = Paging.parse(JsonRepresentation.newMap().mapPutInt("x-ro-page", 2)).orElseThrow();
+        assertEquals(2, paging.getPage());
+        assertEquals(25, paging.getPageSize());
+    }
+
+    @Test
+    void invalidParameters_areRejected() {
+        assertThrows(IllegalArgumentException.class, ()->Paging.of(0, 10));
+        assertThrows(IllegalArgumentException.class, ()->Paging.of(1, 0));
+    }
+
+    @Test
+    void pages() {
+        var first = Paging.of(1, 3);
+        assertEquals(List.of(1, 2, 3), first.pageOf(elements));
+        assertFalse(first.hasPrevious());
+        assertTrue(first.hasNext(elements.size()));
+
+        var last = Paging.of(3, 3);
+        assertEquals(List.of(7), last.pageOf(elements));
+        assertTrue(last.hasPrevious());
+        assertFalse(last.hasNext(elements.size()));
+
+        assertEquals(List.of(), Paging.of(4, 3).pageOf(elements));
+    }
+
+    @Test
+    void asQueryRange_coversSamePageAsPageOf() {
+        var range = Paging.of(3, 3).asQueryRange();
+        assertEquals(6L, range.getStart());
+        assertEquals(3L, range.getLimit());
+        assertEquals(Paging.of(3, 3).pageOf(elements),
+                elements.subList(range.getStartAsInt(), Math.min(range.getEndAsInt(), elements.size())));
+    }
+
+    @Test
+    void pagination() {
+        var pagination = Paging.of(2, 3).asJsonRepresentation(elements.size());
+        assertEquals(2, pagination.getInt("page"));
+        assertEquals(3, pagination.getInt("pageSize"));
+        assertEquals(3, pagination.getInt("numPages"));
+        assertEquals(7, pagination.getInt("totalCount"));
+    }
+
+    @Test
+    void argumentsForPage_retainOtherArguments() {
+        var otherArguments = JsonRepresentation.newMap("name.value", "Fred");
+        var arguments = Paging.of(2, 3).argumentsForPage(3, otherArguments);
+        assertEquals("Fred", arguments.getString("name.value"));
+        assertEquals(3, arguments.getInt("x-ro-page"));
+        assertEquals(3, arguments.getInt("x-ro-page-size"));
+        // not modified
+        assertFalse(otherArguments.mapHas("x-ro-page"));
+    }
+
+}
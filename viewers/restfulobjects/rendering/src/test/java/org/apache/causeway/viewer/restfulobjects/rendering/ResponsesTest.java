@@ -0,0 +1,154 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.clock.VirtualClock;
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.causeway.viewer.restfulobjects.applib.util.JsonMapper;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueEncoderService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.StreamingJsonArray;
+
+import lombok.SneakyThrows;
+
+class ResponsesTest {
+
+    private CausewayConfiguration.Viewer.Restfulobjects config;
+    private IResourceContext resourceContext;
+
+    @BeforeEach
+    void setUp() {
+        config = new CausewayConfiguration(null, Optional.empty()).getViewer().getRestfulobjects();
+
+        var clockService = mock(ClockService.class);
+        when(clockService.getClock()).thenReturn(VirtualClock.system());
+        var serviceRegistry = mock(ServiceRegistry.class);
+        when(serviceRegistry.lookupServiceElseFail(ClockService.class)).thenReturn(clockService);
+        when(serviceRegistry.lookupServiceElseFail(JsonValueEncoderService.class))
+            .thenReturn(mock(JsonValueEncoderService.class));
+        var mmc = mock(MetaModelContext.class);
+        when(mmc.getServiceRegistry()).thenReturn(serviceRegistry);
+        when(mmc.getSystemEnvironment()).thenReturn(mock(CausewaySystemEnvironment.class));
+
+        resourceContext = mock(IResourceContext.class);
+        when(resourceContext.getMetaModelContext()).thenReturn(mmc);
+        when(resourceContext.config()).thenReturn(config);
+    }
+
+    @Test
+    void ofOk_whenStreamingOutputDisabled_hasStringEntity() {
+        var entity = Responses.ofOk(new ListOfElementsRenderer(resourceContext), Caching.NONE).build().getEntity();
+
+        assertTrue(entity instanceof String);
+        assertEquals(expectedJson(), readTree((String) entity));
+    }
+
+    @Test
+    @SneakyThrows
+    void ofOk_whenStreamingOutputEnabled_writesSameJsonToOutputStream() {
+        config.setStreamingOutput(true);
+
+        var entity = Responses.ofOk(new ListOfElementsRenderer(resourceContext), Caching.NONE).build().getEntity();
+
+        assertTrue(entity instanceof StreamingOutput);
+        var outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) entity).write(outputStream);
+        assertEquals(expectedJson(), readTree(outputStream.toString(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @SneakyThrows
+    void ofOk_whenStreamingOutputEnabled_rendersElementsOnlyWhenWritten() {
+        config.setStreamingOutput(true);
+        var renderer = new ListOfElementsRenderer(resourceContext);
+
+        var entity = Responses.ofOk(renderer, Caching.NONE).build().getEntity();
+        assertEquals(0, renderer.renderedElementCount);
+
+        ((StreamingOutput) entity).write(new ByteArrayOutputStream());
+        assertEquals(3, renderer.renderedElementCount);
+    }
+
+    // -- HELPER
+
+    /**
+     * Renders a list of 3 elements, each a map, like {@link ListReprRenderer} does.
+     */
+    private static class ListOfElementsRenderer extends ReprRendererAbstract<Void> {
+
+        int renderedElementCount;
+
+        ListOfElementsRenderer(final IResourceContext resourceContext) {
+            super(resourceContext, null, RepresentationType.LIST, JsonRepresentation.newMap());
+        }
+
+        @Override
+        public ListOfElementsRenderer with(final Void t) {
+            return this;
+        }
+
+        @Override
+        public JsonRepresentation render() {
+            var elements = List.of(1, 2, 3);
+            if(isStreamingOutput()) {
+                representation.mapPut("value", StreamingJsonArray.of(elements, this::renderElement));
+            } else {
+                var values = JsonRepresentation.newArray();
+                elements.forEach(element->values.arrayAdd(renderElement(element)));
+                representation.mapPutJsonRepresentation("value", values);
+            }
+            return representation;
+        }
+
+        private JsonRepresentation renderElement(final int element) {
+            renderedElementCount++;
+            return JsonRepresentation.newMap("title", "Element " + element);
+        }
+    }
+
+    private static String expectedJson() {
+        return readTree("{\"value\":[{\"title\":\"Element 1\"},{\"title\":\"Element 2\"},{\"title\":\"Element 3\"}]}");
+    }
+
+    @SneakyThrows
+    private static String readTree(final String json) {
+        return JsonMapper.instance().read(json).toString();
+    }
+
+}
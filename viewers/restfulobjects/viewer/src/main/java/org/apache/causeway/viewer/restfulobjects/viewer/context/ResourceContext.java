@@ -47,6 +47,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest.RequestParameter;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.causeway.viewer.restfulobjects.rendering.IResourceContext;
+import org.apache.causeway.viewer.restfulobjects.rendering.Paging;
 import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
 import org.apache.causeway.viewer.restfulobjects.rendering.domainobjects.ObjectAdapterLinkTo;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
@@ -74,6 +75,7 @@
 
     @Getter private List<List<String>> followLinks;
     @Getter private boolean validateOnly;
+    @Getter(onMethod_={@Override}) private Optional<Paging> paging;
 
     private final Where where;
     private final RepresentationService.Intent intent;
@@ -128,6 +130,16 @@ void init(final RepresentationType representationType) {
 
         this.followLinks = Collections.unmodifiableList(getArg(RequestParameter.FOLLOW_LINKS));
         this.validateOnly = getArg(RequestParameter.VALIDATE_ONLY);
+        this.paging = parsePaging();
+    }
+
+    private Optional<Paging> parsePaging() {
+        try {
+            return Paging.parse(getQueryStringAsJsonRepr());
+        } catch (IllegalArgumentException e) {
+            throw RestfulObjectsApplicationException.createWithMessage(HttpStatusCode.BAD_REQUEST,
+                    e.getMessage());
+        }
     }
 
     private void ensureDomainModelQueryParamSupported() {
@@ -20,6 +20,7 @@
 
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -31,9 +32,13 @@
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import org.apache.causeway.applib.annotation.Where;
@@ -43,6 +48,7 @@
 import org.apache.causeway.applib.layout.component.PropertyLayoutData;
 import org.apache.causeway.applib.layout.grid.Grid;
 import org.apache.causeway.applib.layout.links.Link;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.commons.io.UrlUtils;
 import org.apache.causeway.core.metamodel.consent.Consent;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
@@ -57,6 +63,7 @@
 import org.apache.causeway.viewer.restfulobjects.applib.Rel;
 import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulMediaType;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse;
 import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
 import org.apache.causeway.viewer.restfulobjects.applib.domainobjects.DomainObjectResource;
@@ -170,10 +177,21 @@ public Response object(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "GET /objects/{}/{}", domainType, instanceId, roEx));
+
+        // conditional GET, evaluated before rendering any members
+        var eTag = ObjectETagHelper.of(resourceContext, objectAdapter).eTag().orElse(null);
+        if(eTag!=null) {
+            var preconditionFailed = request.evaluatePreconditions(eTag);
+            if(preconditionFailed!=null) {
+                return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
+                        preconditionFailed.tag(eTag).build());
+            }
+        }
+
         var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "GET /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                withETag(domainResourceHelper.objectRepresentation(), eTag));
     }
 
     @Override
@@ -202,6 +220,9 @@ public Response object(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+        checkIfMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}", domainType, instanceId, roEx));
+
         final ObjectAdapterUpdateHelper updateHelper = new ObjectAdapterUpdateHelper(resourceContext, objectAdapter);
 
         if (!updateHelper.copyOverProperties(argRepr, ObjectAdapterUpdateHelper.Intent.UPDATE_EXISTING)) {
@@ -220,9 +241,10 @@ public Response object(
         }
 
         var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
+        var response = domainResourceHelper.objectRepresentation(); // flushes, so the version is up to date
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}", domainType, instanceId,
-                domainResourceHelper.objectRepresentation());
+                withETag(response, ObjectETagHelper.of(resourceContext, objectAdapter).eTag().orElse(null)));
     }
 
     @DELETE
@@ -418,6 +440,36 @@ public Response propertyDetails(
                 .propertyDetails(propertyId, ManagedMember.RepresentationMode.READ));
     }
 
+    @Override
+    @GET
+    @Path("/{domainType}/{instanceId}/properties/{propertyId}/attachment")
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.WILDCARD })
+    public Response propertyAttachment(
+            @PathParam("domainType") final String domainType,
+            @PathParam("instanceId") final String instanceId,
+            @PathParam("propertyId") final String propertyId) {
+
+        var resourceContext = createResourceContext(
+                RepresentationType.OBJECT_PROPERTY, Where.OBJECT_FORMS, RepresentationService.Intent.NOT_APPLICABLE);
+
+        var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
+                roEx->_EndpointLogging.error(log, "GET /objects/{}/{}/properties/{}/attachment", domainType, instanceId, propertyId, roEx));
+
+        var property = ObjectAdapterAccessHelper.of(resourceContext, objectAdapter)
+                .getPropertyThatIsVisibleForIntent(propertyId, AccessIntent.ACCESS);
+        var attachment = _Attachment.of(property.getPropertyValue().getPojo()).orElse(null);
+        if(attachment==null) {
+            throw _EndpointLogging.error(log, "GET /objects/{}/{}/properties/{}/attachment", domainType, instanceId, propertyId,
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.NOT_FOUND,
+                            "Property '%s' has no attachment", propertyId));
+        }
+
+        return _EndpointLogging.response(log, "GET /objects/{}/{}/properties/{}/attachment", domainType, instanceId, propertyId,
+                attachmentResponse(attachment, httpHeaders.getHeaderString(RestfulRequest.Header.RANGE.getName())));
+    }
+
     @Override
     @PUT
     @Path("/{domainType}/{instanceId}/properties/{propertyId}")
@@ -437,6 +489,8 @@ public Response modifyProperty(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        checkIfMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -474,6 +528,8 @@ public Response clearProperty(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
+        checkIfMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "DELETE /objects/{}/{}/properties/{}", domainType, instanceId, propertyId, roEx));
 
         PropertyInteraction.start(objectAdapter, propertyId, resourceContext.getWhere())
         .checkVisibility()
@@ -726,6 +782,8 @@ public Response invokeActionIdempotent(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
+        checkIfMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
         var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "PUT /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId,
@@ -754,6 +812,8 @@ public Response invokeAction(
 
         var objectAdapter = getObjectAdapterElseThrowNotFound(domainType, instanceId,
                 roEx->_EndpointLogging.error(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
+        checkIfMatchElseThrow(resourceContext, objectAdapter,
+                roEx->_EndpointLogging.error(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId, roEx));
         var domainResourceHelper = _DomainResourceHelper.ofObjectResource(resourceContext, objectAdapter);
 
         return _EndpointLogging.response(log, "POST /objects/{}/{}/actions/{}/invoke", domainType, instanceId, actionId,
@@ -775,4 +835,63 @@ public Response deleteInvokeActionNotAllowed(
                         "Deleting an action invocation resource is not allowed."));
     }
 
+    // -- HELPER
+
+    /**
+     * Optimistic concurrency: rejects the request, if the client's <code>If-Match</code> header
+     * does not match the current state of the object.
+     */
+    private void checkIfMatchElseThrow(
+            final ResourceContext resourceContext,
+            final ManagedObject objectAdapter,
+            final UnaryOperator<RestfulObjectsApplicationException> onRoException) {
+        var ifMatch = httpHeaders.getHeaderString(RestfulRequest.Header.IF_MATCH.getName());
+        if(!ObjectETagHelper.of(resourceContext, objectAdapter).matches(ifMatch)) {
+            throw onRoException.apply(
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.PRECONDITION_FAILED,
+                            "If-Match '%s' does not match the current state of '%s'",
+                            ifMatch, objectAdapter.getBookmark().map(Bookmark::stringify).orElse("?")));
+        }
+    }
+
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    /**
+     * Streams the attachment's content (or the requested range of it) directly to the response,
+     * rather than having it Base64 encoded into a JSON representation.
+     */
+    private static Response attachmentResponse(final _Attachment attachment, final @Nullable String rangeHeader) {
+        var contentLength = attachment.getContentLength();
+        var byteRange = _ByteRange.parse(rangeHeader, contentLength).orElse(null);
+        if(byteRange!=null
+                && !byteRange.isSatisfiable()) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(CONTENT_RANGE, byteRange.toContentRange())
+                    .build();
+        }
+        var offset = byteRange!=null ? byteRange.getFirst() : 0L;
+        var length = byteRange!=null ? byteRange.length() : contentLength;
+        var responseBuilder = Response
+                .status(byteRange!=null
+                        ? Response.Status.PARTIAL_CONTENT
+                        : Response.Status.OK)
+                .entity((StreamingOutput) outputStream->attachment.writeTo(outputStream, offset, length))
+                .type(attachment.getMimeType().getBaseType())
+                .header(ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_LENGTH, length)
+                .header(HttpHeaders.CONTENT_DISPOSITION, _ContentDisposition.attachment(attachment.getName()));
+        if(byteRange!=null) {
+            responseBuilder.header(CONTENT_RANGE, byteRange.toContentRange());
+        }
+        return responseBuilder.build();
+    }
+
+    private static Response withETag(final Response response, final @Nullable EntityTag eTag) {
+        return eTag!=null
+                ? Response.fromResponse(response).tag(eTag).build()
+                : response;
+    }
+
 }
@@ -0,0 +1,191 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulRequest;
+import org.apache.causeway.viewer.restfulobjects.viewer.context.ResourceContext;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Computes strong {@link EntityTag}s for domain object representations,
+ * to support conditional requests (<code>If-None-Match</code> and <code>If-Match</code>).
+ * <p>
+ * An {@link EntityTag} is only available for entities that are versioned
+ * (as per {@link org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet#versionOf(Object)}),
+ * and if no links are to be followed (whose targets are not covered by the version).
+ * <p>
+ * The tag's value has two parts, separated by a dash:
+ * <ul>
+ * <li>the object's <i>state</i>, hashed from its bookmark, version,
+ * the current user and the members visible to that user (in object forms);</li>
+ * <li>the <i>representation</i>, hashed from the former plus the acceptable media types (profile),
+ * the query string and the user's locale.</li>
+ * </ul>
+ * <code>If-None-Match</code> compares the whole tag,
+ * while <code>If-Match</code> only compares the state part,
+ * as a mutating request typically asks for a different representation than the one
+ * the tag was obtained from.
+ * <p>
+ * Properties that are derived from other objects (eg. titles of referenced entities)
+ * are not covered by the version.
+ * Nor are the contents of collections, that are rendered inline (eg. as tables, when honoring UI hints):
+ * adding or removing an element (or modifying one) does not necessarily change the owning object's version.
+ * Clients that rely on collection contents should request them via the collection resource.
+ */
+@RequiredArgsConstructor
+public class ObjectETagHelper {
+
+    private static final String SEPARATOR = "-";
+    private static final int HASH_LENGTH = 16; // bytes
+
+    public static ObjectETagHelper of(
+            final @NonNull ResourceContext resourceContext,
+            final @NonNull ManagedObject managedObject) {
+        return new ObjectETagHelper(resourceContext, managedObject);
+    }
+
+    private final ResourceContext resourceContext;
+    private final ManagedObject managedObject;
+
+    /**
+     * The strong validator of the current representation, if any.
+     */
+    public Optional<EntityTag> eTag() {
+        if(!resourceContext.getFollowLinks().isEmpty()) {
+            return Optional.empty();
+        }
+        return stateHash()
+                .map(stateHash->new EntityTag(
+                        stateHash + SEPARATOR + representationHash(stateHash)));
+    }
+
+    /**
+     * Whether given <code>If-Match</code> header (if any) matches the current state of the object.
+     * <p>
+     * Unversioned objects only match the wildcard <code>*</code>,
+     * as otherwise concurrent modifications could not be detected.
+     */
+    public boolean matches(final @Nullable String ifMatchHeader) {
+        if(_Strings.isNullOrEmpty(ifMatchHeader)) {
+            return true;
+        }
+        var candidates = parseIfMatch(ifMatchHeader);
+        if(candidates.contains("*")) {
+            return true;
+        }
+        return stateHash()
+                .map(stateHash->stateHash + SEPARATOR)
+                .map(prefix->candidates.stream().anyMatch(candidate->candidate.startsWith(prefix)))
+                .orElse(false);
+    }
+
+    // -- HELPER
+
+    private Optional<String> stateHash() {
+        var entityFacet = managedObject.getSpecification().entityFacet().orElse(null);
+        if(entityFacet==null) {
+            return Optional.empty();
+        }
+        var version = entityFacet.versionOf(managedObject.getPojo());
+        var bookmark = managedObject.getBookmark().orElse(null);
+        if(version==null
+                || bookmark==null) {
+            return Optional.empty();
+        }
+        var spec = managedObject.getSpecification();
+        var visibleMemberIds = Stream.<ObjectMember>concat(
+                    spec.streamAssociations(MixedIn.INCLUDED),
+                    spec.streamAnyActions(MixedIn.INCLUDED))
+                .filter(member->member.isVisible(managedObject,
+                        resourceContext.getInteractionInitiatedBy(),
+                        Where.OBJECT_FORMS).isAllowed())
+                .map(ObjectMember::getId)
+                .collect(Collectors.joining(","));
+        var user = resourceContext.getInteractionService().currentInteractionContext()
+                .map(InteractionContext::getUser)
+                .map(UserMemento::getName)
+                .orElse("");
+        return Optional.of(hash(
+                bookmark.stringify(),
+                version.toString(),
+                user,
+                visibleMemberIds));
+    }
+
+    private String representationHash(final String stateHash) {
+        return hash(
+                stateHash,
+                resourceContext.getAcceptableMediaTypes().toString(),
+                resourceContext.getQueryStringAsJsonRepr().toString(),
+                resourceContext.currentUserLocale().map(Object::toString).orElse(""));
+    }
+
+    private static String hash(final String... parts) {
+        var messageDigest = HashAlgorithm.SHA256.tryGetMessageDigest().valueAsNonNullElseFail();
+        for(var part : parts) {
+            messageDigest.update(part.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte)0);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(messageDigest.digest(), HASH_LENGTH));
+    }
+
+    /**
+     * Entity tags of an {@link RestfulRequest.Header#IF_MATCH} header,
+     * with quotes removed (weak tags never match, as If-Match requires strong comparison).
+     */
+    static List<String> parseIfMatch(final String ifMatchHeader) {
+        return _Strings.splitThenStream(ifMatchHeader, ",")
+                .map(String::trim)
+                .filter(_Strings::isNotEmpty)
+                .map(ObjectETagHelper::stripQuotes)
+                .collect(Collectors.toList());
+    }
+
+    private static String stripQuotes(final String tag) {
+        return tag.length()>=2
+                && tag.startsWith("\"")
+                && tag.endsWith("\"")
+                ? tag.substring(1, tag.length()-1)
+                : tag;
+    }
+
+}
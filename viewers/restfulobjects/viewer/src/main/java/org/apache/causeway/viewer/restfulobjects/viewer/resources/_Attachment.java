@@ -0,0 +1,142 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import javax.activation.MimeType;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.applib.value.Clob;
+import org.apache.causeway.commons.io.DataSource;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * The raw content of a {@link Blob} or {@link Clob} (the latter encoded as UTF-8),
+ * as to be written to the response, without ever copying the entire content into a new byte[].
+ * <p>
+ * File backed {@link Blob}s are written via {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class _Attachment {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @Getter private final String name;
+    @Getter private final MimeType mimeType;
+    private final DataSource content;
+    @Getter private final long contentLength;
+
+    /**
+     * @return empty if given pojo is neither a {@link Blob} nor a {@link Clob}
+     */
+    static Optional<_Attachment> of(final @Nullable Object pojo) {
+        if(pojo instanceof Blob) {
+            var blob = (Blob) pojo;
+            return Optional.of(new _Attachment(blob.getName(), blob.getMimeType(),
+                    blob.asDataSource(), blob.getContentLength()));
+        }
+        if(pojo instanceof Clob) {
+            var clob = (Clob) pojo;
+            // encoded while being written, hence we need an extra pass to know the encoded length upfront
+            var content = clob.asDataSourceUtf8();
+            var contentLength = content
+                    .tryReadAndApply(inputStream->inputStream.transferTo(OutputStream.nullOutputStream()))
+                    .valueAsNullableElseFail();
+            return Optional.of(new _Attachment(clob.getName(), clob.getMimeType(),
+                    content, contentLength!=null ? contentLength : 0L));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes {@code length} bytes of the content, starting at {@code offset}, to given {@link OutputStream}.
+     */
+    void writeTo(final OutputStream outputStream, final long offset, final long length) {
+        var file = content.getFile().orElse(null);
+        if(file!=null) {
+            transferTo(file.toPath(), outputStream, offset, length);
+            return;
+        }
+        content.tryReadAndAccept(inputStream->{
+            skipFully(inputStream, offset);
+            var buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+            var remaining = length;
+            while(remaining>0) {
+                var read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if(read<0) {
+                    break;
+                }
+                outputStream.write(buffer, 0, read);
+                remaining -= read;
+            }
+        })
+        .ifFailureFail();
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static void transferTo(
+            final Path path, final OutputStream outputStream, final long offset, final long length) {
+        // not closing the target channel, as that would close the response's OutputStream
+        var target = Channels.newChannel(outputStream);
+        try(var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var position = offset;
+            var remaining = Math.min(length, Math.max(channel.size() - offset, 0));
+            while(remaining>0) {
+                var transferred = channel.transferTo(position, remaining, target);
+                if(transferred<=0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static void skipFully(final InputStream inputStream, final long count) throws IOException {
+        var remaining = count;
+        while(remaining>0) {
+            var skipped = inputStream.skip(remaining);
+            if(skipped<=0) {
+                // skip is allowed to make no progress, in which case we have to read
+                if(inputStream.read()<0) {
+                    return;
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+}
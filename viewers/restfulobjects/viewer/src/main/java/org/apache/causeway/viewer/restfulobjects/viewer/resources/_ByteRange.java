@@ -0,0 +1,129 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * A single byte range as requested by an HTTP <code>Range</code> header (RFC 7233),
+ * resolved against the length of the content to be served.
+ * <p>
+ * Multiple ranges are not supported, in which case (as for any syntactically invalid header)
+ * the entire content is to be served, which RFC 7233 permits.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class _ByteRange {
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    /**
+     * First byte position (inclusive).
+     */
+    long first;
+
+    /**
+     * Last byte position (inclusive).
+     */
+    long last;
+
+    /**
+     * Length of the entire content.
+     */
+    long contentLength;
+
+    /**
+     * @return empty if the entire content is to be served
+     *      (no range requested, multiple ranges or a syntactically invalid header)
+     */
+    static Optional<_ByteRange> parse(final @Nullable String rangeHeader, final long contentLength) {
+        if(_Strings.isNullOrEmpty(rangeHeader)
+                || !rangeHeader.startsWith(BYTES_UNIT)) {
+            return Optional.empty();
+        }
+        var spec = rangeHeader.substring(BYTES_UNIT.length()).trim();
+        var dashIndex = spec.indexOf('-');
+        if(dashIndex<0
+                || spec.indexOf(',')>=0) {
+            return Optional.empty();
+        }
+        try {
+            var firstLiteral = spec.substring(0, dashIndex).trim();
+            var lastLiteral = spec.substring(dashIndex + 1).trim();
+            if(firstLiteral.isEmpty()) {
+                // suffix range, eg. 'bytes=-500' for the last 500 bytes
+                var suffixLength = Long.parseLong(lastLiteral);
+                if(suffixLength<0) {
+                    return Optional.empty();
+                }
+                return Optional.of(new _ByteRange(
+                        suffixLength==0
+                            ? contentLength // not satisfiable
+                            : Math.max(0, contentLength - suffixLength),
+                        contentLength - 1,
+                        contentLength));
+            }
+            var first = Long.parseLong(firstLiteral);
+            var last = lastLiteral.isEmpty()
+                    ? Long.MAX_VALUE
+                    : Long.parseLong(lastLiteral);
+            if(first<0
+                    || last<first) {
+                return Optional.empty();
+            }
+            return Optional.of(new _ByteRange(first, Math.min(last, contentLength - 1), contentLength));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether this range overlaps the content, otherwise
+     * <code>416 Range Not Satisfiable</code> is to be responded.
+     */
+    boolean isSatisfiable() {
+        return first < contentLength
+                && first <= last;
+    }
+
+    /**
+     * Number of bytes to be served.
+     */
+    long length() {
+        return last - first + 1;
+    }
+
+    /**
+     * Value of the <code>Content-Range</code> response header.
+     */
+    String toContentRange() {
+        return isSatisfiable()
+                ? String.format("bytes %d-%d/%d", first, last, contentLength)
+                : String.format("bytes */%d", contentLength);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.causeway.commons.internal.base._Strings;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Builds the value of a <code>Content-Disposition</code> response header as per RFC 6266,
+ * with the file name both as a plain ASCII <code>filename</code> (for legacy clients)
+ * and as an RFC 5987 encoded <code>filename*</code> (preserving non-ASCII characters).
+ * <p>
+ * Control characters (including CR and LF) are removed from the file name,
+ * such that it cannot be used to inject further headers.
+ */
+@UtilityClass
+class _ContentDisposition {
+
+    private static final String ATTR_CHARS_OTHER_THAN_ALPHA_OR_DIGIT = "!#$&+-.^_`|~";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    String attachment(final @NonNull String fileName) {
+        var name = withoutControlChars(fileName);
+        if(_Strings.isNullOrEmpty(name)) {
+            return "attachment";
+        }
+        return String.format("attachment; filename=\"%s\"; filename*=UTF-8''%s",
+                asciiFallback(name), percentEncoded(name));
+    }
+
+    // -- HELPER
+
+    private String withoutControlChars(final String str) {
+        var sb = new StringBuilder(str.length());
+        str.codePoints()
+            .filter(codePoint->!Character.isISOControl(codePoint))
+            .forEach(sb::appendCodePoint);
+        return sb.toString().trim();
+    }
+
+    /**
+     * Non-ASCII characters and those that would need escaping within a quoted-string are replaced by '_'.
+     */
+    private String asciiFallback(final String str) {
+        var sb = new StringBuilder(str.length());
+        str.codePoints()
+            .map(codePoint->codePoint>=0x20 && codePoint<0x7F && codePoint!='"' && codePoint!='\\'
+                    ? codePoint
+                    : '_')
+            .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * Percent-encodes the UTF-8 bytes of given string, except for RFC 5987 <code>attr-char</code>s.
+     */
+    private String percentEncoded(final String str) {
+        var sb = new StringBuilder(str.length() * 3);
+        for(var b : str.getBytes(StandardCharsets.UTF_8)) {
+            var c = (char) (b & 0xFF);
+            if((c>='a' && c<='z')
+                    || (c>='A' && c<='Z')
+                    || (c>='0' && c<='9')
+                    || ATTR_CHARS_OTHER_THAN_ALPHA_OR_DIGIT.indexOf(c)>=0) {
+                sb.append(c);
+            } else {
+                sb.append('%')
+                    .append(HEX_DIGITS[c >> 4])
+                    .append(HEX_DIGITS[c & 0x0F]);
+            }
+        }
+        return sb.toString();
+    }
+
+}
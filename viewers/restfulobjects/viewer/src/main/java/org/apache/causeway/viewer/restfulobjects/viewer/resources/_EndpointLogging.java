@@ -19,6 +19,7 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.apache.logging.log4j.Logger;
 
@@ -186,6 +187,8 @@ private void logResponse(final Logger log, final Response response) {
             log.debug(dto);
         } else if(_Collections.isAnyCollectionOrArrayType(dto.getClass())){
             log.debug("non-scalar content of type {}", dto.getClass());
+        } else if(dto instanceof StreamingOutput) {
+            log.debug("streaming content (not logged)");
         } else {
             Try.call(()->JaxbUtils.toStringUtf8(dto, opts->opts
                     .useContextCache(true)
@@ -0,0 +1,90 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.applib.value.Clob;
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.io.DataSource;
+
+class Attachment_writeTo_Test {
+
+    @Test
+    void blob() {
+        var attachment = _Attachment.of(Blob.of("data", CommonMimeType.BIN, new byte[] {0, 1, 2, 3, 4, 5})).orElseThrow();
+        assertEquals(6, attachment.getContentLength());
+        assertEquals("2,3,4", written(attachment, 2, 3));
+    }
+
+    @Test
+    void fileBackedBlob() {
+        var blob = Blob.tryRead("data", CommonMimeType.BIN.getMimeType(),
+                DataSource.ofBytes(new byte[] {0, 1, 2, 3, 4, 5}), 0)
+                .valueAsNonNullElseFail();
+        assertTrue(blob.asDataSource().getFile().isPresent());
+
+        var attachment = _Attachment.of(blob).orElseThrow();
+        assertEquals(6, attachment.getContentLength());
+        assertEquals("2,3,4", written(attachment, 2, 3));
+        assertEquals("4,5", written(attachment, 4, 10));
+    }
+
+    @Test
+    void clob_isEncodedAsUtf8() {
+        var text = "Grüße";
+        var utf8 = text.getBytes(StandardCharsets.UTF_8);
+        var attachment = _Attachment.of(Clob.of("greeting", CommonMimeType.TXT, text)).orElseThrow();
+        assertEquals(utf8.length, attachment.getContentLength());
+
+        var out = new ByteArrayOutputStream();
+        attachment.writeTo(out, 2, utf8.length - 2);
+        assertEquals("üße", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void otherTypes_haveNoAttachment() {
+        assertFalse(_Attachment.of("text").isPresent());
+        assertFalse(_Attachment.of(null).isPresent());
+    }
+
+    // -- HELPER
+
+    private static String written(final _Attachment attachment, final long offset, final long length) {
+        var out = new ByteArrayOutputStream();
+        attachment.writeTo(out, offset, length);
+        var sb = new StringBuilder();
+        for(var b : out.toByteArray()) {
+            if(sb.length()>0) {
+                sb.append(',');
+            }
+            sb.append(b);
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ByteRange_parse_Test {
+
+    @Test
+    void noRange_servesEntireContent() {
+        assertFalse(_ByteRange.parse(null, 100).isPresent());
+        assertFalse(_ByteRange.parse("items=0-10", 100).isPresent());
+        assertFalse(_ByteRange.parse("bytes=0-10,20-30", 100).isPresent());
+        assertFalse(_ByteRange.parse("bytes=10-5", 100).isPresent());
+        assertFalse(_ByteRange.parse("bytes=abc", 100).isPresent());
+    }
+
+    @Test
+    void closedRange() {
+        var range = _ByteRange.parse("bytes=10-19", 100).orElseThrow();
+        assertTrue(range.isSatisfiable());
+        assertEquals(10, range.length());
+        assertEquals("bytes 10-19/100", range.toContentRange());
+    }
+
+    @Test
+    void openRange_isClampedToContent() {
+        assertEquals("bytes 90-99/100", _ByteRange.parse("bytes=90-", 100).orElseThrow().toContentRange());
+        assertEquals("bytes 90-99/100", _ByteRange.parse("bytes=90-200", 100).orElseThrow().toContentRange());
+    }
+
+    @Test
+    void suffixRange() {
+        assertEquals("bytes 80-99/100", _ByteRange.parse("bytes=-20", 100).orElseThrow().toContentRange());
+        assertEquals("bytes 0-99/100", _ByteRange.parse("bytes=-200", 100).orElseThrow().toContentRange());
+    }
+
+    @Test
+    void unsatisfiableRange() {
+        var range = _ByteRange.parse("bytes=100-", 100).orElseThrow();
+        assertFalse(range.isSatisfiable());
+        assertEquals("bytes */100", range.toContentRange());
+        assertFalse(_ByteRange.parse("bytes=-0", 100).orElseThrow().isSatisfiable());
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContentDisposition_attachment_Test {
+
+    @Test
+    void asciiName() {
+        assertEquals("attachment; filename=\"report.pdf\"; filename*=UTF-8''report.pdf",
+                _ContentDisposition.attachment("report.pdf"));
+    }
+
+    @Test
+    void nonAsciiName_isPercentEncoded() {
+        assertEquals("attachment; filename=\"Gr__e 2024.txt\"; filename*=UTF-8''Gr%C3%BC%C3%9Fe%202024.txt",
+                _ContentDisposition.attachment("Grüße 2024.txt"));
+    }
+
+    @Test
+    void quotesAndBackslashes_areReplacedInFallback() {
+        assertEquals("attachment; filename=\"_a_b_.txt\"; filename*=UTF-8''%22a%5Cb%22.txt",
+                _ContentDisposition.attachment("\"a\\b\".txt"));
+    }
+
+    @Test
+    void controlChars_areStripped() {
+        assertEquals("attachment; filename=\"a.txtSet-Cookie: x=y\"; filename*=UTF-8''a.txtSet-Cookie%3A%20x%3Dy",
+                _ContentDisposition.attachment("a.txt\r\nSet-Cookie: x=y"));
+        assertEquals("attachment", _ContentDisposition.attachment("\r\n"));
+    }
+
+}
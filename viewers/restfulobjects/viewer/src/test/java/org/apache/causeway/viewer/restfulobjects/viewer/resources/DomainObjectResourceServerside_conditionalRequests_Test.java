@@ -0,0 +1,182 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.core.Variant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+/**
+ * Conditional requests against a versioned entity, as far as these are answered before rendering:
+ * <code>If-None-Match</code> on GET and <code>If-Match</code> on PUT.
+ */
+class DomainObjectResourceServerside_conditionalRequests_Test {
+
+    private static final String DOMAIN_TYPE = "test.Customer";
+    private static final String INSTANCE_ID = "1";
+
+    private final AtomicLong version = new AtomicLong(1);
+    private final Map<String, String> requestHeaders = new HashMap<>();
+    private DomainObjectResourceServerside resource;
+
+    @BeforeEach
+    void setUp() {
+        var pojo = new Object();
+
+        var entityFacet = mock(EntityFacet.class);
+        when(entityFacet.versionOf(pojo)).then(__->version.get());
+        var spec = mock(ObjectSpecification.class);
+        when(spec.entityFacet()).thenReturn(Optional.of(entityFacet));
+        var managedObject = mock(ManagedObject.class);
+        when(managedObject.getSpecialization()).thenReturn(ManagedObject.Specialization.ENTITY);
+        when(managedObject.getSpecification()).thenReturn(spec);
+        when(managedObject.getPojo()).thenReturn(pojo);
+        when(managedObject.getBookmark())
+            .thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier(DOMAIN_TYPE, INSTANCE_ID)));
+
+        var objectManager = mock(ObjectManager.class);
+        when(objectManager.loadObject(any(Bookmark.class))).thenReturn(Optional.of(managedObject));
+        var interactionService = mock(InteractionService.class);
+        when(interactionService.isInInteraction()).thenReturn(true);
+        var mmc = mock(MetaModelContext.class);
+        when(mmc.getObjectManager()).thenReturn(objectManager);
+        when(mmc.getInteractionService()).thenReturn(interactionService);
+        when(mmc.getConfiguration()).thenReturn(new CausewayConfiguration(null, Optional.empty()));
+
+        resource = new DomainObjectResourceServerside();
+        resource.metaModelContext = mmc;
+        resource.webAppContextPath = mock(WebAppContextPath.class);
+        resource.uriInfo = mock(UriInfo.class);
+        when(resource.uriInfo.getBaseUri()).thenReturn(URI.create("http://localhost:8080/restful/"));
+        resource.httpServletRequest = mock(HttpServletRequest.class);
+        when(resource.httpServletRequest.getParameterMap()).thenReturn(Map.of());
+        resource.httpHeaders = mock(HttpHeaders.class);
+        when(resource.httpHeaders.getAcceptableMediaTypes()).thenReturn(List.of());
+        when(resource.httpHeaders.getHeaderString(any())).then(invocation->
+            requestHeaders.get(invocation.<String>getArgument(0)));
+        resource.request = new IfNoneMatchRequest();
+    }
+
+    @Test
+    void get_withMatchingIfNoneMatch_isNotModified() {
+        var eTag = currentETag();
+
+        requestHeaders.put(HttpHeaders.IF_NONE_MATCH, eTag.toString());
+        var response = resource.object(DOMAIN_TYPE, INSTANCE_ID);
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        assertEquals(eTag, response.getEntityTag());
+    }
+
+    @Test
+    void eTag_changesWithVersion() {
+        var eTag = currentETag();
+        version.incrementAndGet();
+        assertNotEquals(eTag, currentETag());
+    }
+
+    @Test
+    void put_withStaleIfMatch_isPreconditionFailed() {
+        var staleETag = currentETag();
+        version.incrementAndGet();
+
+        requestHeaders.put(HttpHeaders.IF_MATCH, staleETag.toString());
+        var ex = assertThrows(RestfulObjectsApplicationException.class, ()->
+            resource.object(DOMAIN_TYPE, INSTANCE_ID,
+                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(HttpStatusCode.PRECONDITION_FAILED, ex.getHttpStatusCode());
+    }
+
+    // -- HELPER
+
+    /**
+     * The entity tag of the current representation, as answered to <code>If-None-Match: *</code>.
+     */
+    private EntityTag currentETag() {
+        requestHeaders.put(HttpHeaders.IF_NONE_MATCH, "*");
+        try {
+            var response = resource.object(DOMAIN_TYPE, INSTANCE_ID);
+            assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+            return response.getEntityTag();
+        } finally {
+            requestHeaders.remove(HttpHeaders.IF_NONE_MATCH);
+        }
+    }
+
+    /**
+     * Evaluates <code>If-None-Match</code> (for GET) as per RFC 7232, standing in for the JAX-RS runtime.
+     */
+    private class IfNoneMatchRequest implements Request {
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(final EntityTag eTag) {
+            var ifNoneMatch = requestHeaders.get(HttpHeaders.IF_NONE_MATCH);
+            if(ifNoneMatch==null) {
+                return null;
+            }
+            var matches = ifNoneMatch.equals("*")
+                    || ObjectETagHelper.parseIfMatch(ifNoneMatch).contains(eTag.getValue());
+            return matches
+                    ? Response.notModified(eTag)
+                    : null;
+        }
+        @Override public String getMethod() { return "GET"; }
+        @Override public Variant selectVariant(final List<Variant> variants) { throw new UnsupportedOperationException(); }
+        @Override public Response.ResponseBuilder evaluatePreconditions(final Date lastModified) { throw new UnsupportedOperationException(); }
+        @Override public Response.ResponseBuilder evaluatePreconditions(final Date lastModified, final EntityTag eTag) { throw new UnsupportedOperationException(); }
+        @Override public Response.ResponseBuilder evaluatePreconditions() { throw new UnsupportedOperationException(); }
+    }
+
+}
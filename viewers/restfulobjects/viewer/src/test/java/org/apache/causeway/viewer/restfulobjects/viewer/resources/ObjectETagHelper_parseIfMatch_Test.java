@@ -0,0 +1,49 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ObjectETagHelper_parseIfMatch_Test {
+
+    @Test
+    void single() {
+        assertEquals(List.of("abc-def"), ObjectETagHelper.parseIfMatch("\"abc-def\""));
+    }
+
+    @Test
+    void multiple() {
+        assertEquals(List.of("abc-def", "ghi-jkl"), ObjectETagHelper.parseIfMatch("\"abc-def\" , \"ghi-jkl\""));
+    }
+
+    @Test
+    void wildcard() {
+        assertEquals(List.of("*"), ObjectETagHelper.parseIfMatch("*"));
+    }
+
+    @Test
+    void weak_isKeptAsIs() {
+        assertEquals(List.of("W/\"abc-def\""), ObjectETagHelper.parseIfMatch("W/\"abc-def\""));
+    }
+
+}
@@ -22,12 +22,15 @@
 import java.util.Collections;
 import java.util.List;
 
+import javax.activation.MimeType;
+
 import org.apache.wicket.markup.html.form.upload.FileUpload;
 
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.applib.value.Clob;
+import org.apache.causeway.commons.io.DataSource;
 
 import lombok.NonNull;
 import lombok.SneakyThrows;
@@ -41,6 +44,7 @@ public ScalarConvertingModel<List<FileUpload>, Blob> blob(final @NonNull ScalarM
 
             private static final long serialVersionUID = 1L;
 
+            @SneakyThrows
             @Override
             protected Blob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
 
@@ -52,8 +56,13 @@ protected Blob toScalarValue(final @Nullable List<FileUpload> fileUploads) {
                 final FileUpload fileUpload = fileUploads.get(0);
                 final String contentType = fileUpload.getContentType();
                 final String clientFileName = fileUpload.getClientFileName();
-                final byte[] bytes = fileUpload.getBytes();
-                final Blob blob = new Blob(clientFileName, contentType, bytes);
+                // large uploads are spooled to a temporary file, rather than being read into a byte[]
+                final Blob blob = Blob.tryRead(
+                        clientFileName,
+                        new MimeType(contentType),
+                        DataSource.ofInputStreamSupplier(fileUpload::getInputStream),
+                        Blob.DEFAULT_IN_MEMORY_THRESHOLD_IN_BYTES)
+                        .valueAsNonNullElseFail();
                 return blob;
             }
 
@@ -19,6 +19,8 @@
 package org.apache.causeway.viewer.wicket.ui.actionresponse;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
@@ -26,6 +28,7 @@
 import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.handler.resource.ResourceStreamRequestHandler;
 import org.apache.wicket.request.resource.ContentDisposition;
+import org.apache.wicket.util.lang.Bytes;
 import org.apache.wicket.util.resource.AbstractResourceStream;
 import org.apache.wicket.util.resource.IResourceStream;
 import org.apache.wicket.util.resource.ResourceStreamNotFoundException;
@@ -62,9 +65,25 @@ private IResourceStream resourceStreamFor(final Blob blob) {
 
             private static final long serialVersionUID = 1L;
 
+            private transient InputStream inputStream;
+
             @Override
             public InputStream getInputStream() throws ResourceStreamNotFoundException {
-                return new ByteArrayInputStream(blob.getBytes());
+                // file backed blobs are streamed from their file, rather than being read into a byte[]
+                var file = blob.asDataSource().getFile().orElse(null);
+                try {
+                    inputStream = file!=null
+                            ? new FileInputStream(file)
+                            : new ByteArrayInputStream(blob.getBytes());
+                } catch (FileNotFoundException e) {
+                    throw new ResourceStreamNotFoundException(e);
+                }
+                return inputStream;
+            }
+
+            @Override
+            public Bytes length() {
+                return Bytes.bytes(blob.getContentLength());
             }
 
             @Override
@@ -74,6 +93,10 @@ public String getContentType() {
 
             @Override
             public void close() throws IOException {
+                if(inputStream!=null) {
+                    inputStream.close();
+                    inputStream = null;
+                }
             }
         };
         return resourceStream;
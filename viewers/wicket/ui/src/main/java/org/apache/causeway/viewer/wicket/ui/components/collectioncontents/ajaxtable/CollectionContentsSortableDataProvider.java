@@ -31,6 +31,7 @@
 import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.annotation.TableDecorator;
+import org.apache.causeway.applib.query.QueryRange;
 import org.apache.causeway.core.metamodel.facets.object.tabledec.TableDecoratorFacet;
 import org.apache.causeway.core.metamodel.object.MmSortUtils;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
@@ -79,9 +80,9 @@ public long size() {
 
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
-        var dataTable = getDataTableModel();
-        return dataTable.getDataRowsFilteredAndSorted().getValue()
-                .iterator(Math.toIntExact(skip), Math.toIntExact(limit));
+        return getDataTableModel()
+                .getDataRowsFilteredAndSorted(QueryRange.of(skip, limit))
+                .iterator();
     }
 
     // -- HELPER
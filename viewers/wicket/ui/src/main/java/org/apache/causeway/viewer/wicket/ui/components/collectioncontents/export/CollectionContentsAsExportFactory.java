@@ -18,15 +18,13 @@
  */
 package org.apache.causeway.viewer.wicket.ui.components.collectioncontents.export;
 
-import java.io.File;
+import java.io.OutputStream;
 
 import org.apache.wicket.Component;
-import org.apache.wicket.markup.html.link.DownloadLink;
 import org.apache.wicket.model.IModel;
 import org.apache.wicket.model.Model;
-import org.apache.wicket.util.file.Files;
 
-import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
 import org.apache.causeway.core.metamodel.tabular.simple.CollectionContentsExporter;
 import org.apache.causeway.viewer.commons.model.components.UiComponentType;
 import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModel;
@@ -34,12 +32,10 @@
 import org.apache.causeway.viewer.wicket.ui.ComponentFactory;
 import org.apache.causeway.viewer.wicket.ui.ComponentFactoryAbstract;
 import org.apache.causeway.viewer.wicket.ui.app.registry.ComponentFactoryKey;
-import org.apache.causeway.viewer.wicket.ui.components.download.FileDownloadLink;
-
-import lombok.SneakyThrows;
+import org.apache.causeway.viewer.wicket.ui.components.download.StreamDownloadLink;
 
 /**
- * {@link ComponentFactory} for {@link DownloadLink}.
+ * {@link ComponentFactory} for {@link StreamDownloadLink}.
  *
  * @since 2.0 {@index}
  */
@@ -51,7 +47,7 @@
     private final CollectionContentsExporter collectionContentsExporter;
 
     public CollectionContentsAsExportFactory(final CollectionContentsExporter collectionContentsExporter) {
-        super(UiComponentType.COLLECTION_CONTENTS_EXPORT, collectionContentsExporter.getClass().getName(), DownloadLink.class);
+        super(UiComponentType.COLLECTION_CONTENTS_EXPORT, collectionContentsExporter.getClass().getName(), StreamDownloadLink.class);
         this.collectionContentsExporter = collectionContentsExporter;
     }
 
@@ -73,9 +69,9 @@ public Component createComponent(final String id, final IModel<?> model) {
         var ext = mimeType.getProposedFileExtensions().getFirstElseFail();
         var fileName = collectionModel.getName().replaceAll(" ", "") + "." + ext;
 
-        var link = new FileDownloadLink(id,
+        var link = new ExportDownloadLink(id,
                 mimeType,
-                fileName, new FileModel(this, collectionModel, fileName));
+                fileName, this, collectionModel);
         return link;
     }
 
@@ -96,28 +92,26 @@ public int orderOfAppearanceInUiDropdown() {
 
     // --
 
-    static class FileModel implements IModel<File> {
+    static class ExportDownloadLink extends StreamDownloadLink {
         private static final long serialVersionUID = 1L;
         private ComponentFactoryKey key;
         private EntityCollectionModel model;
-        private String fileName;
 
-        FileModel(final CollectionContentsAsExportFactory x, final EntityCollectionModel model, final String fileName) {
+        ExportDownloadLink(
+                final String id,
+                final CommonMimeType mime,
+                final String fileName,
+                final CollectionContentsAsExportFactory x,
+                final EntityCollectionModel model) {
+            super(id, mime, fileName);
             this.key = x.key();
             this.model = model;
-            this.fileName = fileName;
         }
 
-        @Override @SneakyThrows
-        public File getObject() {
-            var tempFile = File.createTempFile(CollectionContentsAsExportFactory.class.getCanonicalName(), fileName);
-            Try.run(()->
-                exporter().createExport(model.getDataTableModel().export(), tempFile))
-            .ifFailure(__->{
-                Files.remove(tempFile); // cleanup after sad case
-            })
-            .ifFailureFail(); // rethrow
-            return tempFile;
+        @Override
+        protected void writeTo(final OutputStream out) {
+            exporter().createExport(model.getDataTableModel().export(), out,
+                    CollectionContentsExporter.AccessMode.USER);
         }
 
         private CollectionContentsExporter exporter() {
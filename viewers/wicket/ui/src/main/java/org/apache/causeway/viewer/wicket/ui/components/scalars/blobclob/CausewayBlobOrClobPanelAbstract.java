@@ -54,7 +54,7 @@ protected CausewayBlobOrClobPanelAbstract(final String id, final ScalarModel sca
     }
 
     protected abstract IModel<List<FileUpload>> fileUploadModel();
-    protected abstract IResource newResource(final T namedWithMimeType);
+    protected abstract IResource newResource(final IModel<T> namedWithMimeTypeModel);
 
     // -- INPUT FORMAT
 
@@ -105,7 +105,7 @@ private Optional<T> getBlobOrClobFromModel() {
 
     private Component createDownloadLink(final String id, final IModel<String> labelModel) {
         return getBlobOrClobFromModel()
-        .map(this::newResource)
+        .map(__->newResource(unwrapped))
         .map(resource->(MarkupContainer)Wkt.downloadLinkNoCache(id, resource))
         .<Component>map(linkContainer->{
             WktTooltips.addTooltip(linkContainer, translate("Download file"));
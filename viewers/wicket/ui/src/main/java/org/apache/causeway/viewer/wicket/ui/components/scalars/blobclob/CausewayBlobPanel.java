@@ -22,12 +22,12 @@
 
 import org.apache.wicket.markup.html.form.upload.FileUpload;
 import org.apache.wicket.model.IModel;
-import org.apache.wicket.request.resource.ByteArrayResource;
 import org.apache.wicket.request.resource.IResource;
 
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.viewer.wicket.model.models.FileUploadModels;
 import org.apache.causeway.viewer.wicket.model.models.ScalarModel;
+import org.apache.causeway.viewer.wicket.ui.util.BlobResource;
 
 /**
  * Panel for rendering scalars of type {@link org.apache.causeway.applib.value.Blob Causeway' applib.Blob}.
@@ -46,8 +46,8 @@ protected IModel<List<FileUpload>> fileUploadModel() {
     }
 
     @Override
-    protected IResource newResource(final Blob blob) {
-        return new ByteArrayResource(blob.getMimeType().getBaseType(), blob.getBytes(), blob.getName());
+    protected IResource newResource(final IModel<Blob> blobModel) {
+        return new BlobResource(blobModel);
     }
 
 }
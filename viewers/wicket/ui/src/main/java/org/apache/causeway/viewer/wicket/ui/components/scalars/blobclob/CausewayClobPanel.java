@@ -23,12 +23,12 @@
 
 import org.apache.wicket.markup.html.form.upload.FileUpload;
 import org.apache.wicket.model.IModel;
-import org.apache.wicket.request.resource.CharSequenceResource;
 import org.apache.wicket.request.resource.IResource;
 
 import org.apache.causeway.applib.value.Clob;
 import org.apache.causeway.viewer.wicket.model.models.FileUploadModels;
 import org.apache.causeway.viewer.wicket.model.models.ScalarModel;
+import org.apache.causeway.viewer.wicket.ui.util.BlobResource;
 
 /**
  * Panel for rendering scalars of type {@link Clob}.
@@ -52,8 +52,8 @@ protected IModel<List<FileUpload>> fileUploadModel() {
     }
 
     @Override
-    protected IResource newResource(final Clob clob) {
-        return new CharSequenceResource(clob.getMimeType().getBaseType(), clob.getChars(), clob.getName());
+    protected IResource newResource(final IModel<Clob> clobModel) {
+        return new BlobResource(clobModel);
     }
 
 }
@@ -0,0 +1,160 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.ui.util;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.resource.AbstractResource;
+import org.apache.wicket.request.resource.ContentDisposition;
+import org.apache.wicket.request.resource.PartWriterCallback;
+
+import org.apache.causeway.applib.value.Blob;
+import org.apache.causeway.applib.value.Clob;
+import org.apache.causeway.applib.value.NamedWithMimeType;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.io.DataSource;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+/**
+ * Serves a {@link Blob} (or a {@link Clob} encoded as UTF-8) as an attachment,
+ * honoring HTTP <code>Range</code> requests (single byte ranges).
+ * <p>
+ * Unlike Wicket's {@link org.apache.wicket.request.resource.ByteArrayResource},
+ * this allows clients to resume interrupted downloads of large attachments,
+ * and to fetch only parts of those (eg. for media playback),
+ * without sending the entire content again.
+ * <p>
+ * The content is not held by this resource, but is taken from given (detachable) model on each request,
+ * and then streamed via {@link DataSource}; in particular a {@link Clob} is encoded while being written,
+ * while a file backed {@link Blob} is written via
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+ *
+ * @since 2.0
+ */
+public class BlobResource extends AbstractResource {
+    private static final long serialVersionUID = 1L;
+
+    private final IModel<? extends NamedWithMimeType> blobOrClobModel;
+
+    public BlobResource(final @NonNull IModel<? extends NamedWithMimeType> blobOrClobModel) {
+        this.blobOrClobModel = blobOrClobModel;
+    }
+
+    @Override
+    protected ResourceResponse newResourceResponse(final Attributes attributes) {
+        var blobOrClob = blobOrClobModel.getObject();
+        if(blobOrClob==null) {
+            return new ResourceResponse()
+                    .setError(404);
+        }
+        var content = contentOf(blobOrClob);
+        var contentLength = contentLengthOf(blobOrClob, content);
+        var resourceResponse = new ResourceResponse()
+                .setContentType(blobOrClob.getMimeType().getBaseType())
+                .setContentLength(contentLength)
+                .setFileName(blobOrClob.getName())
+                .setContentDisposition(ContentDisposition.ATTACHMENT);
+        resourceResponse.setAcceptRange(ContentRangeType.BYTES);
+        if(resourceResponse.dataNeedsToBeWritten(attributes)) {
+            // range (if any) as parsed by AbstractResource#respond
+            var requestCycle = RequestCycle.get();
+            var startbyte = requestCycle.getMetaData(CONTENT_RANGE_STARTBYTE);
+            var endbyte = requestCycle.getMetaData(CONTENT_RANGE_ENDBYTE);
+            resourceResponse.setWriteCallback(new WriteCallback() {
+                @Override
+                public void writeData(final Attributes attributes) {
+                    var file = content.getFile().orElse(null);
+                    if(file!=null) {
+                        transferTo(file, attributes.getResponse().getOutputStream(),
+                                startbyte, endbyte, contentLength);
+                        return;
+                    }
+                    content.tryReadAndAccept(inputStream->
+                        new PartWriterCallback(inputStream, contentLength, startbyte, endbyte)
+                            .writeData(attributes))
+                    .ifFailureFail();
+                }
+            });
+        }
+        return resourceResponse;
+    }
+
+    // -- HELPER
+
+    /**
+     * Same range semantics as {@link PartWriterCallback}.
+     */
+    @SneakyThrows
+    private static void transferTo(
+            final File file,
+            final OutputStream outputStream,
+            final Long startbyte,
+            final Long endbyte,
+            final long contentLength) {
+        var position = startbyte!=null
+                ? startbyte
+                : 0L;
+        var lastbyte = endbyte!=null && endbyte!=-1
+                ? Math.min(endbyte, contentLength - 1)
+                : contentLength - 1;
+        // not closing the target channel, as that would close the response's OutputStream
+        var target = Channels.newChannel(outputStream);
+        try(var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            var remaining = lastbyte - position + 1;
+            while(remaining>0) {
+                var transferred = channel.transferTo(position, remaining, target);
+                if(transferred<=0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static DataSource contentOf(final NamedWithMimeType blobOrClob) {
+        if(blobOrClob instanceof Blob) {
+            return ((Blob) blobOrClob).asDataSource();
+        }
+        if(blobOrClob instanceof Clob) {
+            return ((Clob) blobOrClob).asDataSourceUtf8();
+        }
+        throw _Exceptions.unmatchedCase(blobOrClob);
+    }
+
+    private static long contentLengthOf(final NamedWithMimeType blobOrClob, final DataSource content) {
+        if(blobOrClob instanceof Blob) {
+            return ((Blob) blobOrClob).getContentLength();
+        }
+        // encoded while being written, hence we need an extra pass to know the encoded length upfront
+        var contentLength = content
+                .tryReadAndApply(inputStream->inputStream.transferTo(OutputStream.nullOutputStream()))
+                .valueAsNullableElseFail();
+        return contentLength!=null ? contentLength : 0L;
+    }
+
+}
@@ -21,6 +21,7 @@
 import static de.agilecoders.wicket.jquery.JQuery.$;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
@@ -85,6 +86,7 @@
 import org.apache.wicket.resource.JQueryPluginResourceReference;
 import org.apache.wicket.util.convert.IConverter;
 import org.apache.wicket.util.file.Files;
+import org.apache.wicket.util.resource.AbstractResourceStreamWriter;
 import org.apache.wicket.util.resource.FileResourceStream;
 import org.apache.wicket.validation.IValidationError;
 import org.apache.wicket.validation.ValidationError;
@@ -98,6 +100,7 @@
 import org.apache.causeway.applib.Identifier;
 import org.apache.causeway.applib.fa.FontAwesomeLayers;
 import org.apache.causeway.applib.value.NamedWithMimeType.CommonMimeType;
+import org.apache.causeway.commons.functional.ThrowingConsumer;
 import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.debug._Probe;
@@ -698,6 +701,30 @@ private FileResourceStream fileResourceStream(final File file, final CommonMimeT
         };
     }
 
+    /**
+     * Writes the download straight to the response {@link OutputStream}, without any intermediate file.
+     */
+    public void streamDownloadClickHandler(
+            final ThrowingConsumer<OutputStream> writer, final CommonMimeType mime, final String fileName) {
+        RequestCycle.get().scheduleRequestHandlerAfterCurrent(
+                new ResourceStreamRequestHandler(Wkt.streamResourceStream(writer, mime))
+                .setFileName(fileName)
+                .setContentDisposition(ContentDisposition.ATTACHMENT));
+    }
+
+    private AbstractResourceStreamWriter streamResourceStream(
+            final ThrowingConsumer<OutputStream> writer, final CommonMimeType mime) {
+        return new AbstractResourceStreamWriter() {
+            private static final long serialVersionUID = 1L;
+            @Override public void write(final OutputStream output) {
+                writer.accept(output);
+            }
+            @Override public String getContentType() {
+                return mime.getBaseType();
+            }
+        };
+    }
+
     // -- FILE UPLOAD
 
     public FileUploadField fileUploadField(